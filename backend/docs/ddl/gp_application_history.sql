@@ -0,0 +1,28 @@
+-- Application 历史事件（只追加）：Application / Material / 审核聚合状态 / MaterialScore 的每次状态变化
+-- 由 ApplicationHistoryRecorder 在写入事务提交前追加，与写入一同提交或回滚
+CREATE TABLE gp_application_event (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    application_id BIGINT      NOT NULL,
+    entity_type    VARCHAR(32) NOT NULL,
+    entity_id      BIGINT      NOT NULL,
+    action         VARCHAR(16) NOT NULL,
+    cause          VARCHAR(32) NOT NULL,
+    revision       BIGINT      NOT NULL,
+    -- 变更后的实体状态（JSON），action = REMOVE 时为空
+    payload        TEXT        NULL,
+    occurred_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_event_application (application_id, id)
+);
+
+-- Application 历史快照：每个 Application 每累计若干条事件保存一次完整状态（JSON）
+-- 时间点重建 = 不晚于该时间的最近快照 + 其后不晚于该时间的事件
+CREATE TABLE gp_application_snapshot (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    application_id BIGINT      NOT NULL,
+    last_event_id  BIGINT      NOT NULL,
+    taken_at       DATETIME(6) NOT NULL,
+    state          MEDIUMTEXT  NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_snapshot_application_taken_at (application_id, taken_at)
+);
@@ -0,0 +1,17 @@
+-- Application 全局视角读模型投影：每个 Application 一行
+-- 由 ApplicationOverviewProjector 在 Application / Material / ReviewRecord / MaterialScore 写入事务提交前同步覆盖
+-- 建表后执行一次全量重建：POST /applications/overview/rebuild
+CREATE TABLE gp_application_overview (
+    application_id       BIGINT         NOT NULL,
+    status               VARCHAR(20)    NOT NULL,
+    stage                VARCHAR(20)    NOT NULL,
+    overall_conclusion   VARCHAR(20)    NOT NULL,
+    total_approved_score DECIMAL(12, 2) NOT NULL,
+    missing_score_count  INT            NOT NULL,
+    revision             BIGINT         NOT NULL,
+    updated_at           DATETIME(6)    NOT NULL,
+    PRIMARY KEY (application_id),
+    -- 按状态 / 阶段过滤的 keyset 分页：等值条件 + application_id 范围，按索引顺序读取，无需排序
+    KEY idx_overview_status (status, application_id),
+    KEY idx_overview_stage (stage, application_id)
+);
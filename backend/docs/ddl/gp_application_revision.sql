@@ -0,0 +1,4 @@
+-- Application 修订号：Application 及其 Material、ReviewRecord、MaterialScore 每次写入时原子递增
+-- 用作解释模型缓存的变更令牌
+ALTER TABLE gp_application
+    ADD COLUMN revision BIGINT NOT NULL DEFAULT 0;
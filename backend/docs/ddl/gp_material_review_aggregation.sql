@@ -0,0 +1,25 @@
+-- 材料审核聚合状态：每个 (material_id, material_version) 一行
+-- 由 ReviewService.createReviewRecord 在同一事务内增量维护
+-- MaterialService 创建材料 / 产生新版本时为新版本插入空状态
+CREATE TABLE gp_material_review_aggregation (
+    id                 BIGINT      NOT NULL AUTO_INCREMENT,
+    material_id        BIGINT      NOT NULL,
+    material_version   INT         NOT NULL,
+    reviewer_count     INT         NOT NULL DEFAULT 0,
+    pass_count         INT         NOT NULL DEFAULT 0,
+    reject_count       INT         NOT NULL DEFAULT 0,
+    arbiter_decision   VARCHAR(20) NULL,
+    arbiter_decided_at DATETIME(6) NULL,
+    result             VARCHAR(20) NOT NULL,
+    updated_at         DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_material_version (material_id, material_version)
+);
+
+-- 增量折叠时按审核员查询上一条决策
+CREATE INDEX idx_review_record_material_version_reviewer
+    ON gp_review_record (material_id, material_version, reviewer_id);
+
+-- 审核聚合规则替换后按审核员查找需要重新折叠的材料
+CREATE INDEX idx_review_record_reviewer_material
+    ON gp_review_record (reviewer_id, material_id);
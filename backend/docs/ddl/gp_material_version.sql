@@ -0,0 +1,20 @@
+-- 材料版本历史：每个 (material_id, version) 一行，保存该版本的 content / attachment_ref / declared_score
+-- 由 MaterialService 在创建材料、修改内容、修订材料的同一事务内追加（修改前先补记当前版本，历史表上线前的材料由此获得基线）
+-- content_delta 为 Deflate 压缩后的编码：
+-- - 快照行（snapshot_version = version）：完整内容
+-- - 增量行：相对上一条历史行内容的 COPY / INSERT 操作序列，存储量与编辑量成正比
+-- 每个快照之后最多累计 gradpath.material-version.snapshot-interval - 1 个增量行，读取任意版本 = 该版本所在链的快照 + 其后的增量
+CREATE TABLE gp_material_version (
+    id               BIGINT         NOT NULL AUTO_INCREMENT,
+    material_id      BIGINT         NOT NULL,
+    application_id   BIGINT         NOT NULL,
+    version          INT            NOT NULL,
+    -- 本行所在增量链的快照版本号
+    snapshot_version INT            NOT NULL,
+    content_delta    MEDIUMBLOB     NOT NULL,
+    attachment_ref   VARCHAR(255)   NULL,
+    declared_score   DECIMAL(38, 2) NOT NULL,
+    created_at       DATETIME(6)    NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_material_version_material_version (material_id, version)
+);
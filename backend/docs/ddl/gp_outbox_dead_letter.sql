@@ -0,0 +1,14 @@
+-- 发件箱死信：同一 application_id 的评估连续失败 gradpath.outbox.retry.max-attempts 次后，其事件逐条移入此表，不再自动重试
+-- 排查原因后可按 application_id 重新追加一条 gp_outbox_event，由消费端重新评估
+CREATE TABLE gp_outbox_dead_letter (
+    id               BIGINT        NOT NULL AUTO_INCREMENT,
+    event_id         BIGINT        NOT NULL,
+    application_id   BIGINT        NOT NULL,
+    event_type       VARCHAR(32)   NOT NULL,
+    created_at       DATETIME(6)   NOT NULL,
+    attempts         INT           NOT NULL,
+    last_error       VARCHAR(1000) NULL,
+    dead_lettered_at DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_outbox_dead_letter_application (application_id, id)
+);
@@ -0,0 +1,19 @@
+-- 审核结果评估发件箱：ReviewRecord / MaterialScore 写入时在同一事务内追加
+-- 由 ApplicationEvaluationOutboxWorker 按 application_id 合并消费，消费成功后删除
+-- 评估失败时同一 application_id 的事件一起记录 attempts / next_attempt_at（指数退避），达到上限后移入 gp_outbox_dead_letter
+CREATE TABLE gp_outbox_event (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    application_id  BIGINT      NOT NULL,
+    event_type      VARCHAR(32) NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    attempts        INT         NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    KEY idx_outbox_application (application_id, id),
+    KEY idx_outbox_created_at (created_at)
+);
+
+-- 已有表的升级：
+-- ALTER TABLE gp_outbox_event
+--     ADD COLUMN attempts INT NOT NULL DEFAULT 0,
+--     ADD COLUMN next_attempt_at DATETIME(6) NULL;
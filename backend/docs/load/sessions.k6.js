@@ -0,0 +1,70 @@
+// GradPath 会话负载脚本（k6）
+// 模拟 2000 个并发的审核员 / 学生会话，对比平台线程与虚拟线程两种运行模式的吞吐与延迟。
+//
+// 运行：
+//   k6 run -e BASE_URL=http://localhost:8081 -e APP_IDS=1-500 docs/load/sessions.k6.js
+//
+// 环境变量：
+//   BASE_URL   服务地址
+//   APP_IDS    已存在的 applicationId 区间（如 1-500）
+//   VUS        并发会话数，默认 2000
+//   DURATION   稳态持续时间，默认 5m
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const [APP_MIN, APP_MAX] = (__ENV.APP_IDS || '1-500').split('-').map(Number);
+const VUS = Number(__ENV.VUS || 2000);
+const DURATION = __ENV.DURATION || '5m';
+
+export const options = {
+  scenarios: {
+    // 70% 学生：反复查看自己的进度
+    students: {
+      executor: 'ramping-vus',
+      exec: 'student',
+      startVUs: 0,
+      stages: [
+        { duration: '1m', target: Math.round(VUS * 0.7) },
+        { duration: DURATION, target: Math.round(VUS * 0.7) },
+        { duration: '30s', target: 0 },
+      ],
+    },
+    // 30% 审核员：翻列表、看详情
+    reviewers: {
+      executor: 'ramping-vus',
+      exec: 'reviewer',
+      startVUs: 0,
+      stages: [
+        { duration: '1m', target: Math.round(VUS * 0.3) },
+        { duration: DURATION, target: Math.round(VUS * 0.3) },
+        { duration: '30s', target: 0 },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    'http_req_duration{endpoint:dashboard}': ['p(95)<500'],
+  },
+};
+
+function randomAppId() {
+  return APP_MIN + Math.floor(Math.random() * (APP_MAX - APP_MIN + 1));
+}
+
+export function student() {
+  const id = randomAppId();
+  const res = http.get(`${BASE_URL}/applications/${id}/dashboard`, { tags: { endpoint: 'dashboard' } });
+  check(res, { 'dashboard 200': (r) => r.status === 200 });
+  http.get(`${BASE_URL}/applications/${id}/submission-check`, { tags: { endpoint: 'submission-check' } });
+  sleep(1 + Math.random() * 2);
+}
+
+export function reviewer() {
+  const page = http.get(`${BASE_URL}/applications/overview?limit=50`, { tags: { endpoint: 'overview' } });
+  check(page, { 'overview 200': (r) => r.status === 200 });
+  const id = randomAppId();
+  http.get(`${BASE_URL}/applications/${id}/review-summary`, { tags: { endpoint: 'review-summary' } });
+  http.get(`${BASE_URL}/applications/${id}/scores`, { tags: { endpoint: 'scores' } });
+  sleep(2 + Math.random() * 3);
+}
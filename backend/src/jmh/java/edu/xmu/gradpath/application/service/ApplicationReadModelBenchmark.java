@@ -0,0 +1,109 @@
+package edu.xmu.gradpath.application.service;
+
+import edu.xmu.gradpath.application.controller.dto.ApplicationDashboard;
+import edu.xmu.gradpath.application.controller.dto.ApplicationOverview;
+import edu.xmu.gradpath.application.controller.dto.ApplicationLifecycleSummary;
+import edu.xmu.gradpath.application.controller.dto.ApplicationOverviewPage;
+import edu.xmu.gradpath.application.controller.dto.ApplicationReviewSummary;
+import edu.xmu.gradpath.application.controller.dto.ApplicationScoreSummary;
+import edu.xmu.gradpath.application.controller.dto.ApplicationSubmissionCheckSummary;
+import edu.xmu.gradpath.application.domain.Application;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApplicationService 读模型构建基准
+ * 说明：
+ * - 数据来自 InMemoryReadModelFixture，不涉及数据库与缓存，测量的是取数编排与规则计算本身
+ * - 单 Application 的解释模型轮流读取全部 Application，避免只命中同一组对象
+ * - getApplicationOverviews 每次读取从头开始的一页（200 条）投影；overviewDerivation 对同一页按实时数据推导，用于对比
+ * - aggregations=false 时不预置审核聚合状态，读路径需要从审核日志折叠
+ * - 运行：mvn -Pbenchmarks test-compile exec:exec -Djmh.args="ApplicationReadModel"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplicationReadModelBenchmark {
+
+    private static final int OVERVIEW_PAGE_SIZE = 200;
+
+    @Param({"200", "2000"})
+    public int applications;
+
+    @Param({"5", "20"})
+    public int materialsPerApplication;
+
+    @Param({"2", "10"})
+    public int reviewsPerMaterial;
+
+    @Param({"true", "false"})
+    public boolean aggregations;
+
+    private ApplicationService applicationService;
+    private List<Application> overviewApplications;
+    private long nextApplicationId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryReadModelFixture fixture = new InMemoryReadModelFixture(
+                applications, materialsPerApplication, reviewsPerMaterial, aggregations);
+        applicationService = fixture.newApplicationService();
+        overviewApplications = fixture.firstApplications(OVERVIEW_PAGE_SIZE);
+    }
+
+    private Long nextApplicationId() {
+        nextApplicationId = nextApplicationId % applications + 1;
+        return nextApplicationId;
+    }
+
+    @Benchmark
+    public ApplicationReviewSummary reviewSummary() {
+        return applicationService.getReviewSummary(nextApplicationId());
+    }
+
+    @Benchmark
+    public ApplicationScoreSummary scoreSummary() {
+        return applicationService.getScoreSummary(nextApplicationId());
+    }
+
+    @Benchmark
+    public ApplicationSubmissionCheckSummary submissionCheckSummary() {
+        return applicationService.getSubmissionCheckSummary(nextApplicationId());
+    }
+
+    @Benchmark
+    public ApplicationLifecycleSummary lifecycleSummary() {
+        return applicationService.getLifecycleSummary(nextApplicationId());
+    }
+
+    @Benchmark
+    public ApplicationDashboard dashboard() {
+        return applicationService.getDashboard(nextApplicationId());
+    }
+
+    @Benchmark
+    public ApplicationOverviewPage overviewPage() {
+        return applicationService.getApplicationOverviews(null, OVERVIEW_PAGE_SIZE, null, null);
+    }
+
+    @Benchmark
+    public List<ApplicationOverview> overviewDerivation() {
+        return applicationService.deriveOverviews(overviewApplications);
+    }
+}
@@ -0,0 +1,156 @@
+package edu.xmu.gradpath.application.service;
+
+import edu.xmu.gradpath.application.controller.dto.ApplicationOverview;
+import edu.xmu.gradpath.application.domain.Application;
+import edu.xmu.gradpath.application.domain.ApplicationOverviewProjection;
+import edu.xmu.gradpath.application.domain.ApplicationStatus;
+import edu.xmu.gradpath.application.repository.InMemoryApplicationOverviewProjectionRepository;
+import edu.xmu.gradpath.application.repository.InMemoryApplicationRepository;
+import edu.xmu.gradpath.material.domain.Material;
+import edu.xmu.gradpath.material.domain.MaterialScore;
+import edu.xmu.gradpath.material.domain.ScoreMode;
+import edu.xmu.gradpath.material.repository.InMemoryMaterialRepository;
+import edu.xmu.gradpath.material.repository.InMemoryMaterialScoreRepository;
+import edu.xmu.gradpath.review.domain.MaterialReviewAggregation;
+import edu.xmu.gradpath.review.domain.ReviewDecision;
+import edu.xmu.gradpath.review.domain.ReviewRecord;
+import edu.xmu.gradpath.review.repository.InMemoryMaterialReviewAggregationRepository;
+import edu.xmu.gradpath.review.repository.InMemoryReviewRecordRepository;
+import edu.xmu.gradpath.review.service.ReviewAggregationPolicy;
+import edu.xmu.gradpath.review.service.ReviewAggregationPolicyRegistry;
+import edu.xmu.gradpath.review.service.ReviewPolicyProperties;
+import edu.xmu.gradpath.scoring.service.ScoringEngine;
+import edu.xmu.gradpath.scoring.service.ScoringRuleProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 读模型基准使用的内存仓库夹具
+ * 说明：
+ * - 按 applications × materialsPerApplication × reviewsPerMaterial 以固定种子生成数据
+ * - 仓库使用 in-memory 持久化模式的 InMemory*Repository，与应用以 in-memory profile 运行时相同
+ * - 实体对象在调用之间共享（读路径不修改实体）
+ * - 解释模型缓存使用 NoOpCacheManager，基准测量的是完整计算成本
+ * - gp_application_overview 投影在构建 ApplicationService 时按实时推导结果一次性写入
+ */
+final class InMemoryReadModelFixture {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 9, 0);
+    private static final ApplicationStatus[] STATUSES = {
+            ApplicationStatus.DRAFT,
+            ApplicationStatus.SUBMITTED,
+            ApplicationStatus.UNDER_REVIEW,
+            ApplicationStatus.APPROVED,
+            ApplicationStatus.REJECTED
+    };
+
+    private final InMemoryApplicationRepository applicationRepository = new InMemoryApplicationRepository();
+    private final InMemoryMaterialRepository materialRepository = new InMemoryMaterialRepository();
+    private final InMemoryReviewRecordRepository reviewRecordRepository = new InMemoryReviewRecordRepository();
+    private final InMemoryMaterialScoreRepository materialScoreRepository = new InMemoryMaterialScoreRepository(materialRepository);
+    private final InMemoryMaterialReviewAggregationRepository materialReviewAggregationRepository =
+            new InMemoryMaterialReviewAggregationRepository();
+    private final InMemoryApplicationOverviewProjectionRepository overviewProjectionRepository =
+            new InMemoryApplicationOverviewProjectionRepository();
+
+    /**
+     * @param applications Application 数量
+     * @param materialsPerApplication 每个 Application 的 Material 数量
+     * @param reviewsPerMaterial 每个 Material 当前版本的 ReviewRecord 数量
+     * @param materializeAggregations 是否预先写入审核聚合状态（false 时读路径从审核日志折叠）
+     */
+    InMemoryReadModelFixture(int applications,
+                             int materialsPerApplication,
+                             int reviewsPerMaterial,
+                             boolean materializeAggregations) {
+        Random random = new Random(20260101L);
+        long materialId = 0;
+        long reviewRecordId = 0;
+        for (long applicationId = 1; applicationId <= applications; applicationId++) {
+            Application application = Application.createDraft(applicationId);
+            ReflectionTestUtils.setField(application, "id", applicationId);
+            ReflectionTestUtils.setField(application, "status", STATUSES[(int) (applicationId % STATUSES.length)]);
+            applicationRepository.save(application);
+
+            for (int m = 0; m < materialsPerApplication; m++) {
+                materialId++;
+                ScoreMode scoreMode = m % 4 == 3 ? ScoreMode.NONE : ScoreMode.DECLARED;
+                Material material = new Material(applicationId, "category-" + (m % 5), "content", null,
+                        BigDecimal.valueOf(1 + random.nextInt(10)), scoreMode);
+                ReflectionTestUtils.setField(material, "id", materialId);
+                int version = random.nextInt(3) == 0 ? 2 : 1;
+                ReflectionTestUtils.setField(material, "version", version);
+                materialRepository.save(material);
+
+                List<ReviewRecord> records = new ArrayList<>(reviewsPerMaterial);
+                for (int r = 0; r < reviewsPerMaterial; r++) {
+                    long reviewerId = 1L + random.nextInt(Math.max(2, reviewsPerMaterial / 2) + 1);
+                    ReviewDecision decision = random.nextInt(5) == 0 ? ReviewDecision.REJECT : ReviewDecision.PASS;
+                    ReviewRecord record = new ReviewRecord(materialId, version, reviewerId, decision, null);
+                    ReflectionTestUtils.setField(record, "id", ++reviewRecordId);
+                    ReflectionTestUtils.setField(record, "createdAt", BASE_TIME.plusSeconds(reviewRecordId));
+                    records.add(record);
+                }
+                reviewRecordRepository.saveAll(records);
+
+                if (materializeAggregations) {
+                    MaterialReviewAggregation state = ReviewAggregationPolicy.defaults().fold(materialId, version, records);
+                    materialReviewAggregationRepository.save(state);
+                }
+
+                if (scoreMode == ScoreMode.DECLARED && random.nextInt(4) != 0) {
+                    MaterialScore score = new MaterialScore(materialId, version, BigDecimal.valueOf(1 + random.nextInt(10)));
+                    materialScoreRepository.save(score);
+                }
+            }
+        }
+    }
+
+    /**
+     * 基于夹具构建 ApplicationService，并写入全部 Application 的投影
+     */
+    ApplicationService newApplicationService() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ApplicationService applicationService = new ApplicationService(
+                applicationRepository,
+                materialRepository,
+                reviewRecordRepository,
+                materialScoreRepository,
+                materialReviewAggregationRepository,
+                new ApplicationSummaryCache(new NoOpCacheManager(), meterRegistry),
+                event -> {
+                },
+                meterRegistry,
+                new ReviewAggregationPolicyRegistry(new ReviewPolicyProperties(), event -> {
+                }),
+                new ScoringEngine(new ScoringRuleProperties(), event -> {
+                }),
+                new ReplicaLagGuard(false, Duration.ofSeconds(2)),
+                overviewProjectionRepository
+        );
+        List<Application> applications = applicationRepository.findAll();
+        List<ApplicationOverview> overviews = applicationService.deriveOverviews(applications);
+        for (int i = 0; i < applications.size(); i++) {
+            ApplicationOverviewProjection projection = new ApplicationOverviewProjection(applications.get(i).getId());
+            projection.apply(overviews.get(i), applications.get(i).getRevision());
+            overviewProjectionRepository.save(projection);
+        }
+        return applicationService;
+    }
+
+    /**
+     * 按 applicationId 升序的前 limit 个 Application
+     */
+    List<Application> firstApplications(int limit) {
+        return applicationRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(limit));
+    }
+}
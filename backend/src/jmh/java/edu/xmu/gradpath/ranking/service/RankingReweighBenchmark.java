@@ -0,0 +1,108 @@
+package edu.xmu.gradpath.ranking.service;
+
+import edu.xmu.gradpath.application.domain.Application;
+import edu.xmu.gradpath.application.repository.InMemoryApplicationRepository;
+import edu.xmu.gradpath.material.domain.Material;
+import edu.xmu.gradpath.material.domain.MaterialScore;
+import edu.xmu.gradpath.material.domain.ScoreMode;
+import edu.xmu.gradpath.material.repository.InMemoryMaterialRepository;
+import edu.xmu.gradpath.material.repository.InMemoryMaterialScoreRepository;
+import edu.xmu.gradpath.scoring.event.ScoringRulesChangedEvent;
+import edu.xmu.gradpath.scoring.service.ScoringEngine;
+import edu.xmu.gradpath.scoring.service.ScoringRuleProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分值类别规则替换后的排名重算
+ * 说明：
+ * - 每次调用替换一次规则（两套规则交替），测量 ScoringEngine.update 到排名重算完成的耗时
+ * - 排名条目由 in-memory 仓库全量重建得到，每个 Application 有 materialsPerApplication 份分布在 5 个类别的 DECLARED 材料
+ * - 目标：50000 个 Application 的重算远低于 1 秒
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RankingReweighBenchmark {
+
+    private static final String[] CATEGORIES = {"竞赛", "论文", "科研", "志愿服务", "资格"};
+
+    @Param({"50000"})
+    public int applications;
+
+    @Param({"4"})
+    public int materialsPerApplication;
+
+    private ScoringEngine scoringEngine;
+    private RankingService rankingService;
+    private ScoringRuleProperties[] rules;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        InMemoryApplicationRepository applicationRepository = new InMemoryApplicationRepository();
+        InMemoryMaterialRepository materialRepository = new InMemoryMaterialRepository();
+        InMemoryMaterialScoreRepository materialScoreRepository = new InMemoryMaterialScoreRepository(materialRepository);
+        Random random = new Random(20260101L);
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        long materialId = 0;
+        for (long applicationId = 1; applicationId <= applications; applicationId++) {
+            Application application = Application.createDraft(applicationId);
+            ReflectionTestUtils.setField(application, "id", applicationId);
+            ReflectionTestUtils.setField(application, "createdAt", base.plusSeconds(applicationId));
+            applicationRepository.save(application);
+            for (int m = 0; m < materialsPerApplication; m++) {
+                materialId++;
+                Material material = new Material(applicationId, CATEGORIES[random.nextInt(CATEGORIES.length)], "content", null,
+                        BigDecimal.valueOf(1 + random.nextInt(20)), ScoreMode.DECLARED);
+                ReflectionTestUtils.setField(material, "id", materialId);
+                materialRepository.save(material);
+                materialScoreRepository.save(new MaterialScore(materialId, 1, BigDecimal.valueOf(50 + random.nextInt(1950), 2)));
+            }
+        }
+
+        rules = new ScoringRuleProperties[]{rules("20", "1.2"), rules("30", "0.8")};
+        scoringEngine = new ScoringEngine(new ScoringRuleProperties(),
+                event -> rankingService.onScoringRulesChanged((ScoringRulesChangedEvent) event));
+        rankingService = new RankingService(applicationRepository, materialScoreRepository, scoringEngine,
+                List.of(RankingTieBreaker.CREATED_AT_ASC), new SimpleMeterRegistry());
+        rankingService.rebuild();
+    }
+
+    @Benchmark
+    public int replaceRules() {
+        scoringEngine.update(rules[next++ & 1]);
+        return rankingService.size();
+    }
+
+    private static ScoringRuleProperties rules(String cap, String weight) {
+        ScoringRuleProperties properties = new ScoringRuleProperties();
+        for (String category : CATEGORIES) {
+            ScoringRuleProperties.Rule rule = new ScoringRuleProperties.Rule();
+            rule.setCap(new BigDecimal(cap));
+            rule.setWeight(new BigDecimal(weight));
+            properties.getCategories().put(category, rule);
+        }
+        return properties;
+    }
+}
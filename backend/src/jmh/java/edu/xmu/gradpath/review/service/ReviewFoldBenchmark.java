@@ -0,0 +1,74 @@
+package edu.xmu.gradpath.review.service;
+
+import edu.xmu.gradpath.review.domain.MaterialReviewAggregation;
+import edu.xmu.gradpath.review.domain.ReviewDecision;
+import edu.xmu.gradpath.review.domain.ReviewRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
+
+/**
+ * 单个 Material 审核日志折叠：原始 stream 实现 vs 单遍 ReviewRecordFolder
+ * 说明：
+ * - recordsPerMaterial 覆盖常见（2）、偏多（10）与异常长（200）的审核日志
+ * - 日志包含两个版本、重复审核员与一名仲裁者，与线上数据形态一致
+ * - 建议配合 -prof gc 观察每次调用的分配量
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReviewFoldBenchmark {
+
+    private static final LongPredicate IS_ARBITER = reviewerId -> reviewerId == 1L;
+
+    @Param({"2", "10", "200"})
+    public int recordsPerMaterial;
+
+    private List<ReviewRecord> records;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(20260101L);
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        int reviewers = Math.max(2, recordsPerMaterial / 3);
+        records = new ArrayList<>(recordsPerMaterial);
+        for (int i = 0; i < recordsPerMaterial; i++) {
+            int version = i < recordsPerMaterial / 4 ? 1 : 2;
+            long reviewerId = 1L + random.nextInt(reviewers);
+            ReviewDecision decision = random.nextBoolean() ? ReviewDecision.PASS : ReviewDecision.REJECT;
+            ReviewRecord record = new ReviewRecord(7L, version, reviewerId, decision, null);
+            ReflectionTestUtils.setField(record, "id", (long) i + 1);
+            ReflectionTestUtils.setField(record, "createdAt", base.plusSeconds(i));
+            records.add(record);
+        }
+    }
+
+    @Benchmark
+    public MaterialReviewAggregation legacyStreams() {
+        return LegacyReviewRecordFolder.fold(7L, 2, records, IS_ARBITER);
+    }
+
+    @Benchmark
+    public MaterialReviewAggregation singlePass() {
+        return ReviewRecordFolder.fold(7L, 2, records, IS_ARBITER);
+    }
+}
@@ -1,9 +1,17 @@
 package edu.xmu.gradpath.application.controller;
 
 import edu.xmu.gradpath.application.domain.Application;
+import edu.xmu.gradpath.application.service.ApplicationOverviewProjector;
 import edu.xmu.gradpath.application.service.ApplicationService;
 import edu.xmu.gradpath.common.response.ApiResponse;
 import edu.xmu.gradpath.application.controller.dto.ApplicationQueryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -11,11 +19,19 @@ import org.springframework.web.bind.annotation.RestController;
 
 import edu.xmu.gradpath.application.controller.dto.ApplicationReviewSummary;
 import edu.xmu.gradpath.application.controller.dto.ApplicationLifecycleSummary;
-import edu.xmu.gradpath.application.controller.dto.ApplicationOverview;
+import edu.xmu.gradpath.application.controller.dto.ApplicationOverviewDriftReport;
+import edu.xmu.gradpath.application.controller.dto.ApplicationOverviewPage;
 import edu.xmu.gradpath.application.controller.dto.ApplicationSubmissionCheckSummary;
 import edu.xmu.gradpath.application.controller.dto.ApplicationScoreSummary;
 import edu.xmu.gradpath.application.controller.dto.ApplicationDashboard;
-import java.util.List;
+import edu.xmu.gradpath.application.domain.ApplicationStatus;
+import edu.xmu.gradpath.application.event.ApplicationEventStreamRegistry;
+import edu.xmu.gradpath.review.service.ReviewAggregationPolicyRegistry;
+import edu.xmu.gradpath.scoring.service.ScoringEngine;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @RestController
 @RequestMapping(
@@ -25,9 +41,24 @@ import java.util.List;
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final ApplicationEventStreamRegistry eventStreamRegistry;
+    private final ObjectMapper objectMapper;
+    private final ReviewAggregationPolicyRegistry policyRegistry;
+    private final ScoringEngine scoringEngine;
+    private final ApplicationOverviewProjector overviewProjector;
 
-    public ApplicationController(ApplicationService applicationService) {
+    public ApplicationController(ApplicationService applicationService,
+                                 ApplicationEventStreamRegistry eventStreamRegistry,
+                                 ObjectMapper objectMapper,
+                                 ReviewAggregationPolicyRegistry policyRegistry,
+                                 ScoringEngine scoringEngine,
+                                 ApplicationOverviewProjector overviewProjector) {
         this.applicationService = applicationService;
+        this.eventStreamRegistry = eventStreamRegistry;
+        this.objectMapper = objectMapper;
+        this.policyRegistry = policyRegistry;
+        this.scoringEngine = scoringEngine;
+        this.overviewProjector = overviewProjector;
     }
 
     /**
@@ -55,8 +86,12 @@ public class ApplicationController {
      */
     @GetMapping("/{id}")
     public ApiResponse<ApplicationQueryResponse> getById(
-            @PathVariable("id") Long applicationId
+            @PathVariable("id") Long applicationId,
+            ServletWebRequest webRequest
     ) {
+        if (notModified(applicationId, webRequest)) {
+            return null;
+        }
         Application application = applicationService.getById(applicationId);
         ApplicationQueryResponse resp = ApplicationQueryResponse.from(application);
         return ApiResponse.success(resp);
@@ -67,8 +102,12 @@ public class ApplicationController {
      */
     @GetMapping("/{id}/review-summary")
     public ApiResponse<ApplicationReviewSummary> getReviewSummary(
-            @PathVariable("id") Long applicationId
+            @PathVariable("id") Long applicationId,
+            ServletWebRequest webRequest
     ) {
+        if (notModified(applicationId, webRequest)) {
+            return null;
+        }
         ApplicationReviewSummary summary = applicationService.getReviewSummary(applicationId);
         return ApiResponse.success(summary);
     }
@@ -78,19 +117,86 @@ public class ApplicationController {
      */
     @GetMapping("/{id}/lifecycle-summary")
     public ApiResponse<ApplicationLifecycleSummary> getLifecycleSummary(
-            @PathVariable("id") Long applicationId
+            @PathVariable("id") Long applicationId,
+            ServletWebRequest webRequest
     ) {
+        if (notModified(applicationId, webRequest)) {
+            return null;
+        }
         ApplicationLifecycleSummary summary = applicationService.getLifecycleSummary(applicationId);
         return ApiResponse.success(summary);
     }
 
     /**
-     * 获取 Application 全局视角列表
+     * 获取 Application 全局视角列表（keyset 分页）
      */
     @GetMapping("/overview")
-    public ApiResponse<List<ApplicationOverview>> getApplicationOverviews() {
-        List<ApplicationOverview> overviews = applicationService.getApplicationOverviews();
-        return ApiResponse.success(overviews);
+    public ApiResponse<ApplicationOverviewPage> getApplicationOverviews(
+            @RequestParam(value = "afterId", required = false) Long afterId,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "status", required = false) ApplicationStatus status,
+            @RequestParam(value = "stage", required = false) ApplicationLifecycleSummary.ApplicationStage stage
+    ) {
+        ApplicationOverviewPage page = applicationService.getApplicationOverviews(afterId, limit, status, stage);
+        return ApiResponse.success(page);
+    }
+
+    /**
+     * 流式导出 Application 全局视角（NDJSON / CSV）
+     * 说明：
+     * - 按 keyset 分块读取投影，每块读取完成即写出，内存占用与总量无关
+     * - 表头在首次取数前写出，首字节立即返回
+     */
+    @GetMapping(
+            value = "/overview/export",
+            produces = {ApplicationOverviewExportWriter.NDJSON_MEDIA_TYPE, ApplicationOverviewExportWriter.CSV_MEDIA_TYPE}
+    )
+    public ResponseEntity<StreamingResponseBody> exportApplicationOverviews(
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "status", required = false) ApplicationStatus status,
+            @RequestParam(value = "stage", required = false) ApplicationLifecycleSummary.ApplicationStage stage
+    ) {
+        ApplicationOverviewExportWriter writer = new ApplicationOverviewExportWriter(objectMapper, format);
+        StreamingResponseBody body = out -> {
+            writer.writeHeader(out);
+            applicationService.forEachOverviewChunk(status, stage, chunk -> {
+                try {
+                    writer.writeChunk(out, chunk);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, writer.getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(writer.getFileName()).build().toString())
+                .body(body);
+    }
+
+    /**
+     * 从实时数据全量重建 Application 全局视角投影
+     * 返回重建的 Application 数量
+     */
+    @PostMapping("/overview/rebuild")
+    public ApiResponse<Integer> rebuildApplicationOverviews() {
+        return ApiResponse.success(overviewProjector.rebuild());
+    }
+
+    /**
+     * 对比 Application 全局视角投影与实时推导结果（只读）
+     */
+    @GetMapping("/overview/drift")
+    public ApiResponse<ApplicationOverviewDriftReport> checkApplicationOverviewDrift() {
+        return ApiResponse.success(overviewProjector.checkDrift(false));
+    }
+
+    /**
+     * 对比 Application 全局视角投影与实时推导结果，并重新投影有偏差的 Application
+     */
+    @PostMapping("/overview/drift/repair")
+    public ApiResponse<ApplicationOverviewDriftReport> repairApplicationOverviewDrift() {
+        return ApiResponse.success(overviewProjector.checkDrift(true));
     }
 
     /**
@@ -98,8 +204,12 @@ public class ApplicationController {
      */
     @GetMapping("/{id}/submission-check")
     public ApiResponse<ApplicationSubmissionCheckSummary> getSubmissionCheckSummary(
-            @PathVariable("id") Long applicationId
+            @PathVariable("id") Long applicationId,
+            ServletWebRequest webRequest
     ) {
+        if (notModified(applicationId, webRequest)) {
+            return null;
+        }
         ApplicationSubmissionCheckSummary summary = applicationService.getSubmissionCheckSummary(applicationId);
         return ApiResponse.success(summary);
     }
@@ -109,8 +219,12 @@ public class ApplicationController {
      */
     @GetMapping("/{id}/scores")
     public ApiResponse<ApplicationScoreSummary> getScoreSummary(
-            @PathVariable("id") Long applicationId
+            @PathVariable("id") Long applicationId,
+            ServletWebRequest webRequest
     ) {
+        if (notModified(applicationId, webRequest)) {
+            return null;
+        }
         ApplicationScoreSummary summary = applicationService.getScoreSummary(applicationId);
         return ApiResponse.success(summary);
     }
@@ -120,9 +234,46 @@ public class ApplicationController {
      */
     @GetMapping("/{id}/dashboard")
     public ApiResponse<ApplicationDashboard> getDashboard(
-            @PathVariable("id") Long applicationId
+            @PathVariable("id") Long applicationId,
+            ServletWebRequest webRequest
     ) {
+        if (notModified(applicationId, webRequest)) {
+            return null;
+        }
         ApplicationDashboard dashboard = applicationService.getDashboard(applicationId);
         return ApiResponse.success(dashboard);
     }
+
+    /**
+     * 订阅 Application 变更事件（Server-Sent Events）
+     * 说明：
+     * - 连接建立后先推送 ready 事件（携带当前修订号）
+     * - 之后每次审核记录、评分、材料修订或状态迁移提交后推送 application-changed 增量事件
+     * - 客户端收到事件后带 ETag 重新拉取所需解释模型，替代轮询 dashboard
+     */
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeEvents(
+            @PathVariable("id") Long applicationId
+    ) {
+        Long revision = applicationService.getRevision(applicationId);
+        return eventStreamRegistry.subscribe(applicationId, revision);
+    }
+
+    /**
+     * 条件请求判断：基于 Application 修订号与审核聚合规则、分值类别规则的代号生成强 ETag
+     * 说明：
+     * - 只查询修订号，命中 If-None-Match 时直接返回 304，不构建解释模型
+     * - 任一规则替换后代号变化，按旧规则计算的解释模型不会被 304 继续使用
+     * - Cache-Control: no-cache 要求客户端每次带 ETag 回源校验
+     * @return true 表示已写出 304，调用方应直接返回
+     */
+    private boolean notModified(Long applicationId, ServletWebRequest webRequest) {
+        Long revision = applicationService.getRevision(applicationId);
+        String etag = "\"app-" + applicationId + "-r" + revision + "-p" + policyRegistry.getGeneration()
+                + "-s" + scoringEngine.getRules().getGeneration() + "\"";
+        if (webRequest.getResponse() != null) {
+            webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        }
+        return webRequest.checkNotModified(etag);
+    }
 }
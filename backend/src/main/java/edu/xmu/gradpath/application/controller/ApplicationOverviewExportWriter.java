@@ -0,0 +1,87 @@
+package edu.xmu.gradpath.application.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.xmu.gradpath.application.controller.dto.ApplicationOverview;
+import edu.xmu.gradpath.common.exception.BizException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * ApplicationOverview 导出格式化
+ * 说明：
+ * - 支持 NDJSON（每行一个 JSON 对象）与 CSV（首行为表头）
+ * - 逐块写出并 flush，不缓存完整结果
+ */
+class ApplicationOverviewExportWriter {
+
+    static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    static final String CSV_MEDIA_TYPE = "text/csv";
+
+    private static final String CSV_HEADER =
+            "applicationId,applicationStatus,stage,overallConclusion,totalApprovedScore,missingScoringMaterialsCount\n";
+
+    private final ObjectMapper objectMapper;
+    private final boolean csv;
+
+    ApplicationOverviewExportWriter(ObjectMapper objectMapper, String format) {
+        this.objectMapper = objectMapper;
+        if ("csv".equalsIgnoreCase(format)) {
+            this.csv = true;
+        } else if (format == null || "ndjson".equalsIgnoreCase(format)) {
+            this.csv = false;
+        } else {
+            throw new BizException(400, "unsupported export format: " + format);
+        }
+    }
+
+    String getContentType() {
+        return csv ? CSV_MEDIA_TYPE + ";charset=UTF-8" : NDJSON_MEDIA_TYPE;
+    }
+
+    String getFileName() {
+        return csv ? "application-overviews.csv" : "application-overviews.ndjson";
+    }
+
+    /**
+     * 写出导出头（CSV 表头），在首次取数前调用以尽快返回首字节
+     */
+    void writeHeader(OutputStream out) throws IOException {
+        if (csv) {
+            out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+        }
+        out.flush();
+    }
+
+    void writeChunk(OutputStream out, List<ApplicationOverview> overviews) throws IOException {
+        for (ApplicationOverview overview : overviews) {
+            if (csv) {
+                out.write(toCsvLine(overview).getBytes(StandardCharsets.UTF_8));
+            } else {
+                out.write(objectMapper.writeValueAsBytes(overview));
+                out.write('\n');
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * 导出字段均为 ID、枚举与数值，不含分隔符，无需转义
+     */
+    private String toCsvLine(ApplicationOverview overview) {
+        BigDecimal totalApprovedScore = overview.getTotalApprovedScore();
+        return overview.getApplicationId() + ","
+                + nullToEmpty(overview.getApplicationStatus()) + ","
+                + nullToEmpty(overview.getStage()) + ","
+                + nullToEmpty(overview.getOverallConclusion()) + ","
+                + (totalApprovedScore == null ? "" : totalApprovedScore.toPlainString()) + ","
+                + overview.getMissingScoringMaterialsCount() + "\n";
+    }
+
+    private String nullToEmpty(Enum<?> value) {
+        return value == null ? "" : value.name();
+    }
+}
@@ -0,0 +1,60 @@
+package edu.xmu.gradpath.application.controller.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Application 全局视角投影偏差检查结果
+ * 说明：
+ * - missing：存在 Application 但没有投影行；mismatched：投影内容与实时推导结果不一致
+ * - repaired：检查时要求修复且已按实时推导结果覆盖的投影行数
+ * - sampleApplicationIds 只保留前若干个有偏差的 applicationId，便于排查
+ */
+public class ApplicationOverviewDriftReport {
+
+    private int checked;
+    private int missing;
+    private int mismatched;
+    private int repaired;
+    private List<Long> sampleApplicationIds = new ArrayList<>();
+
+    public int getChecked() {
+        return checked;
+    }
+
+    public void setChecked(int checked) {
+        this.checked = checked;
+    }
+
+    public int getMissing() {
+        return missing;
+    }
+
+    public void setMissing(int missing) {
+        this.missing = missing;
+    }
+
+    public int getMismatched() {
+        return mismatched;
+    }
+
+    public void setMismatched(int mismatched) {
+        this.mismatched = mismatched;
+    }
+
+    public int getRepaired() {
+        return repaired;
+    }
+
+    public void setRepaired(int repaired) {
+        this.repaired = repaired;
+    }
+
+    public List<Long> getSampleApplicationIds() {
+        return sampleApplicationIds;
+    }
+
+    public void setSampleApplicationIds(List<Long> sampleApplicationIds) {
+        this.sampleApplicationIds = sampleApplicationIds;
+    }
+}
@@ -0,0 +1,38 @@
+package edu.xmu.gradpath.application.controller.dto;
+
+import java.util.List;
+
+/**
+ * Application 全局视角读模型（分页）
+ * 基于 applicationId 的 keyset 分页：下一页请求携带 nextAfterId 作为 afterId
+ */
+public class ApplicationOverviewPage {
+
+    private List<ApplicationOverview> items;
+    private Long nextAfterId;
+    private boolean hasMore;
+
+    public List<ApplicationOverview> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ApplicationOverview> items) {
+        this.items = items;
+    }
+
+    public Long getNextAfterId() {
+        return nextAfterId;
+    }
+
+    public void setNextAfterId(Long nextAfterId) {
+        this.nextAfterId = nextAfterId;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -8,12 +8,15 @@ import java.util.List;
  * 申请分值汇总解释模型
  * 只读，不写库，不改状态
  * 用于查看某个 Application 下各材料当前版本的 approvedScore 并计算总分
+ * totalApprovedScore 为未封顶、未加权的原始总分；weightedTotalScore 按分值类别规则封顶、加权，是排名依据
  */
 public class ApplicationScoreSummary {
 
     private Long applicationId;
     private List<MaterialScoreItem> items;
     private BigDecimal totalApprovedScore;
+    private BigDecimal weightedTotalScore;
+    private List<CategoryScoreItem> categoryScores;
     private List<Long> missingScoreMaterialIds;
     private LocalDateTime generatedAt;
 
@@ -42,6 +45,22 @@ public class ApplicationScoreSummary {
         this.totalApprovedScore = totalApprovedScore;
     }
 
+    public BigDecimal getWeightedTotalScore() {
+        return weightedTotalScore;
+    }
+
+    public void setWeightedTotalScore(BigDecimal weightedTotalScore) {
+        this.weightedTotalScore = weightedTotalScore;
+    }
+
+    public List<CategoryScoreItem> getCategoryScores() {
+        return categoryScores;
+    }
+
+    public void setCategoryScores(List<CategoryScoreItem> categoryScores) {
+        this.categoryScores = categoryScores;
+    }
+
     public List<Long> getMissingScoreMaterialIds() {
         return missingScoreMaterialIds;
     }
@@ -109,4 +128,57 @@ public class ApplicationScoreSummary {
             this.hasScore = hasScore;
         }
     }
+
+    /**
+     * 类别分值项
+     * weightedScore 为单项四舍五入结果，weightedTotalScore 按未舍入值累加后再舍入，二者之和可能相差 0.01
+     */
+    public static class CategoryScoreItem {
+        private String category;
+        private BigDecimal approvedScore;
+        private BigDecimal cappedScore;
+        private BigDecimal weight;
+        private BigDecimal weightedScore;
+
+        // getter 和 setter
+        public String getCategory() {
+            return category;
+        }
+
+        public void setCategory(String category) {
+            this.category = category;
+        }
+
+        public BigDecimal getApprovedScore() {
+            return approvedScore;
+        }
+
+        public void setApprovedScore(BigDecimal approvedScore) {
+            this.approvedScore = approvedScore;
+        }
+
+        public BigDecimal getCappedScore() {
+            return cappedScore;
+        }
+
+        public void setCappedScore(BigDecimal cappedScore) {
+            this.cappedScore = cappedScore;
+        }
+
+        public BigDecimal getWeight() {
+            return weight;
+        }
+
+        public void setWeight(BigDecimal weight) {
+            this.weight = weight;
+        }
+
+        public BigDecimal getWeightedScore() {
+            return weightedScore;
+        }
+
+        public void setWeightedScore(BigDecimal weightedScore) {
+            this.weightedScore = weightedScore;
+        }
+    }
 }
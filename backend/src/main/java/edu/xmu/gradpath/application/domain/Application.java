@@ -36,6 +36,13 @@ public class Application {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 修订号：Application 及其 Material、ReviewRecord、MaterialScore 每次写入时递增
+     * 只能通过 ApplicationRepository.incrementRevision 原子递增，实体保存时不会覆盖
+     */
+    @Column(nullable = false, updatable = false)
+    private Long revision = 0L;
+
     protected Application() {
         // JPA only
     }
@@ -97,4 +104,8 @@ public class Application {
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
+
+    public Long getRevision() {
+        return revision;
+    }
 }
\ No newline at end of file
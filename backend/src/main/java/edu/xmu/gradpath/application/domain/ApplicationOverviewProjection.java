@@ -0,0 +1,175 @@
+package edu.xmu.gradpath.application.domain;
+
+import edu.xmu.gradpath.application.controller.dto.ApplicationLifecycleSummary;
+import edu.xmu.gradpath.application.controller.dto.ApplicationOverview;
+import edu.xmu.gradpath.application.controller.dto.ApplicationReviewSummary;
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Application 全局视角读模型的投影（每个 Application 一行）
+ * 说明：
+ * - 由 ApplicationOverviewProjector 在写入事务提交前按实时推导结果整体覆盖，不承载任何业务规则
+ * - 主键即 applicationId；overview 列表查询只读本表
+ * - revision 为投影时的 Application 修订号，用于判断投影是否落后
+ * - 主键由调用方指定，实现 Persistable 使新建的投影直接 insert，不先按主键查询一次
+ */
+@Entity
+@Table(name = "gp_application_overview")
+public class ApplicationOverviewProjection implements Persistable<Long> {
+
+    /**
+     * 申请 ID
+     */
+    @Id
+    @Column(name = "application_id")
+    private Long id;
+
+    /**
+     * 申请状态
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ApplicationStatus status;
+
+    /**
+     * 申请阶段（由状态推导，单独存储以便按阶段走索引）
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ApplicationLifecycleSummary.ApplicationStage stage;
+
+    /**
+     * 审核总体结论
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "overall_conclusion", nullable = false)
+    private ApplicationReviewSummary.ApplicationConclusion overallConclusion;
+
+    /**
+     * 审核确认分值之和
+     */
+    @Column(name = "total_approved_score", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalApprovedScore;
+
+    /**
+     * 尚未确认分值的材料数量
+     */
+    @Column(name = "missing_score_count", nullable = false)
+    private int missingScoreCount;
+
+    /**
+     * 投影时的 Application 修订号
+     */
+    @Column(nullable = false)
+    private long revision;
+
+    /**
+     * 投影时间
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    protected ApplicationOverviewProjection() {
+        // JPA only
+    }
+
+    public ApplicationOverviewProjection(Long applicationId) {
+        this.id = applicationId;
+    }
+
+    /**
+     * 以实时推导结果覆盖投影
+     * @param overview 实时推导的 ApplicationOverview
+     * @param revision 推导时的 Application 修订号
+     */
+    public void apply(ApplicationOverview overview, long revision) {
+        this.status = overview.getApplicationStatus();
+        this.stage = overview.getStage();
+        this.overallConclusion = overview.getOverallConclusion();
+        this.totalApprovedScore = overview.getTotalApprovedScore();
+        this.missingScoreCount = overview.getMissingScoringMaterialsCount();
+        this.revision = revision;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 投影内容是否与实时推导结果一致（分值按数值比较）
+     */
+    public boolean matches(ApplicationOverview overview) {
+        return status == overview.getApplicationStatus()
+                && stage == overview.getStage()
+                && overallConclusion == overview.getOverallConclusion()
+                && totalApprovedScore != null && overview.getTotalApprovedScore() != null
+                && totalApprovedScore.compareTo(overview.getTotalApprovedScore()) == 0
+                && missingScoreCount == overview.getMissingScoringMaterialsCount();
+    }
+
+    /**
+     * 转换为对外的 ApplicationOverview
+     */
+    public ApplicationOverview toOverview() {
+        ApplicationOverview overview = new ApplicationOverview();
+        overview.setApplicationId(id);
+        overview.setApplicationStatus(status);
+        overview.setStage(stage);
+        overview.setOverallConclusion(overallConclusion);
+        overview.setTotalApprovedScore(totalApprovedScore);
+        overview.setMissingScoringMaterialsCount(missingScoreCount);
+        return overview;
+    }
+
+    public Long getApplicationId() {
+        return id;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public ApplicationLifecycleSummary.ApplicationStage getStage() {
+        return stage;
+    }
+
+    public ApplicationReviewSummary.ApplicationConclusion getOverallConclusion() {
+        return overallConclusion;
+    }
+
+    public BigDecimal getTotalApprovedScore() {
+        return totalApprovedScore;
+    }
+
+    public int getMissingScoreCount() {
+        return missingScoreCount;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,39 @@
+package edu.xmu.gradpath.application.event;
+
+/**
+ * Application 变更类型
+ * 说明：
+ * - 用于推送给订阅端的增量通知，客户端据此决定刷新哪些解释模型
+ */
+public enum ApplicationChangeType {
+
+    /**
+     * 创建 Application 草稿（修订号不变）
+     */
+    CREATED,
+
+    /**
+     * Application 状态迁移（submit / startReview / review / evaluateAfterReview）
+     */
+    STATUS_CHANGED,
+
+    /**
+     * Material 新增、内容更新或删除
+     */
+    MATERIAL_CHANGED,
+
+    /**
+     * Material 版本修订（旧版本的 ReviewRecord 与 MaterialScore 不再生效）
+     */
+    MATERIAL_REVISED,
+
+    /**
+     * 新增 ReviewRecord
+     */
+    REVIEW_RECORDED,
+
+    /**
+     * 新增 MaterialScore
+     */
+    SCORE_RECORDED
+}
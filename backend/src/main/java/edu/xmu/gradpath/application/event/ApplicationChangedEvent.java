@@ -0,0 +1,55 @@
+package edu.xmu.gradpath.application.event;
+
+import edu.xmu.gradpath.application.domain.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application 变更事件
+ * 说明：
+ * - 由 ApplicationService.markChanged（以及 createDraft）在写事务内发布
+ * - 只携带增量信息（变更类型、最新修订号、最新状态），不携带解释模型本身
+ * - 客户端收到后可带 ETag 回源拉取对应解释模型
+ */
+public class ApplicationChangedEvent {
+
+    private final Long applicationId;
+    private final ApplicationChangeType type;
+    private final Long revision;
+    private final ApplicationStatus status;
+    private final LocalDateTime occurredAt;
+
+    public ApplicationChangedEvent(Long applicationId,
+                                   ApplicationChangeType type,
+                                   Long revision,
+                                   ApplicationStatus status) {
+        this.applicationId = applicationId;
+        this.type = type;
+        this.revision = revision;
+        this.status = status;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public ApplicationChangeType getType() {
+        return type;
+    }
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    /**
+     * 仅 STATUS_CHANGED 时有值，其余变更类型为 null
+     */
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
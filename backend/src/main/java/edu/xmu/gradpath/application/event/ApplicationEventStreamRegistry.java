@@ -0,0 +1,296 @@
+package edu.xmu.gradpath.application.event;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Application 变更事件的 SSE 订阅注册表
+ * 说明：
+ * - 基于 Servlet 异步请求，空闲连接不占用请求线程，仅保留一个 SseEmitter 对象
+ * - 事务提交后才推送，回滚的写入不会产生通知
+ * - 每个订阅各自排队、各自发送：发送任务在有界的发送线程池上执行，同一订阅同时只有一个发送任务，事件按提交顺序送达；
+ *   慢客户端只占用自己的发送任务，不影响其他订阅与其他 Application
+ * - 单次发送超过 gradpath.sse.send-timeout、待发送事件超过 gradpath.sse.max-pending-events、发送失败或客户端断开时移除订阅，
+ *   被移除的订阅不再分配发送任务；卡住的那次写入由容器的写超时（Tomcat connectionTimeout）结束，随后连接被关闭
+ */
+@Component
+public class ApplicationEventStreamRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationEventStreamRegistry.class);
+
+    static final String CHANGED_EVENT_NAME = "application-changed";
+    static final String READY_EVENT_NAME = "ready";
+
+    private final Map<Long, Set<Subscriber>> subscribersByApplicationId = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor sender;
+
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final int maxPendingEvents;
+
+    public ApplicationEventStreamRegistry(
+            @Value("${gradpath.sse.timeout:30m}") Duration timeout,
+            @Value("${gradpath.sse.send-timeout:10s}") Duration sendTimeout,
+            @Value("${gradpath.sse.send-threads:8}") int sendThreads,
+            @Value("${gradpath.sse.max-pending-events:100}") int maxPendingEvents,
+            MeterRegistry meterRegistry
+    ) {
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.maxPendingEvents = maxPendingEvents;
+        AtomicInteger threadIndex = new AtomicInteger();
+        // 每个订阅最多一个排队中的发送任务，队列容量即可同时等待发送的订阅数
+        this.sender = new ThreadPoolExecutor(sendThreads, sendThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(10_000), runnable -> {
+                    Thread thread = new Thread(runnable, "application-sse-sender-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        Gauge.builder("gradpath.sse.subscribers", this, ApplicationEventStreamRegistry::getSubscriberCount)
+                .description("open application event stream connections")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 订阅某个 Application 的变更事件
+     * @param applicationId 申请 ID
+     * @param revision 订阅时的修订号，随 ready 事件下发，客户端据此判断本地数据是否已过期
+     * @return SseEmitter
+     */
+    public SseEmitter subscribe(Long applicationId, Long revision) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = register(applicationId, emitter);
+        // ready 与变更事件经同一队列发送，保证 ready 最先送达
+        subscriber.enqueue(SseEmitter.event()
+                .name(READY_EVENT_NAME)
+                .data(Map.of("applicationId", applicationId, "revision", revision), MediaType.APPLICATION_JSON));
+        return emitter;
+    }
+
+    /**
+     * 登记一个订阅连接
+     */
+    Subscriber register(Long applicationId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(applicationId, emitter);
+        // 在 compute 内加入，避免与 remove 并发时加入到已被移除的集合
+        subscribersByApplicationId.compute(applicationId, (id, subscribers) -> {
+            Set<Subscriber> target = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        return subscriber;
+    }
+
+    /**
+     * 事务提交后推送变更事件
+     * 说明：
+     * - 无事务上下文时（fallbackExecution）立即推送
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        Set<Subscriber> subscribers = subscribersByApplicationId.get(event.getApplicationId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(SseEmitter.event()
+                    .name(CHANGED_EVENT_NAME)
+                    .id(String.valueOf(event.getRevision()))
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    /**
+     * 定时发送注释心跳
+     * 说明：
+     * - 防止代理因空闲断开连接，同时及时发现已断开的客户端并释放订阅
+     * - 仍有待发送事件的订阅不追加心跳
+     */
+    @Scheduled(fixedDelayString = "${gradpath.sse.heartbeat-interval:25s}")
+    public void heartbeat() {
+        subscribersByApplicationId.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            if (subscriber.pending.isEmpty()) {
+                subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        }));
+    }
+
+    /**
+     * 移除单次发送超过 send-timeout 的订阅
+     */
+    @Scheduled(fixedDelayString = "${gradpath.sse.send-timeout-check-interval:1s}")
+    public void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        subscribersByApplicationId.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            long startedAt = subscriber.sendStartedAt;
+            if (startedAt != 0L && now - startedAt > sendTimeoutNanos) {
+                subscriber.drop(new TimeoutException("sse send timed out"));
+            }
+        }));
+    }
+
+    /**
+     * 当前订阅连接数
+     */
+    public int getSubscriberCount() {
+        return subscribersByApplicationId.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribersByApplicationId.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribersByApplicationId.clear();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed.set(true);
+        subscribersByApplicationId.computeIfPresent(subscriber.applicationId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * 单个订阅连接：独立的待发送队列，同一时刻最多一个发送任务
+     */
+    final class Subscriber {
+
+        private final Long applicationId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Exception dropCause;
+
+        /**
+         * 当前发送开始的时间（System.nanoTime），未在发送时为 0
+         */
+        private volatile long sendStartedAt;
+
+        private Subscriber(Long applicationId, SseEmitter emitter) {
+            this.applicationId = applicationId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (pendingCount.incrementAndGet() > maxPendingEvents) {
+                drop(new IOException("too many pending sse events"));
+                return;
+            }
+            pending.add(event);
+            schedule();
+        }
+
+        boolean isClosed() {
+            return closed.get();
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                drop(e);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    Exception failure = null;
+                    sendStartedAt = System.nanoTime();
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        failure = e;
+                    } finally {
+                        sendStartedAt = 0L;
+                    }
+                    if (failure != null) {
+                        drop(failure);
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+            if (closed.get()) {
+                // 发送期间被判定超时时，由发送线程在写入结束后关闭连接
+                Exception cause = dropCause;
+                if (cause != null) {
+                    completeWithError(cause);
+                }
+            } else if (!pending.isEmpty()) {
+                // 释放发送权后又有新事件到达，重新调度
+                schedule();
+            }
+        }
+
+        /**
+         * 移除订阅并关闭连接
+         * 说明：
+         * - 关闭连接与正在进行的写入互斥；写入进行中时（超时检查触发）不在调用线程上等待，由发送线程写入结束后关闭
+         */
+        private void drop(Exception cause) {
+            if (closed.get()) {
+                return;
+            }
+            dropCause = cause;
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            log.debug("drop sse subscriber of application {}: {}", applicationId, cause.getMessage());
+            remove(this);
+            pending.clear();
+            if (sendStartedAt == 0L) {
+                completeWithError(cause);
+            }
+        }
+
+        private void completeWithError(Exception cause) {
+            try {
+                emitter.completeWithError(cause);
+            } catch (RuntimeException ignored) {
+                // 连接已结束
+            }
+        }
+    }
+}
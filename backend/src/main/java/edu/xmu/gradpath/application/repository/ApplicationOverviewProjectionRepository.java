@@ -0,0 +1,32 @@
+package edu.xmu.gradpath.application.repository;
+
+import edu.xmu.gradpath.application.controller.dto.ApplicationLifecycleSummary;
+import edu.xmu.gradpath.application.domain.ApplicationOverviewProjection;
+import edu.xmu.gradpath.application.domain.ApplicationStatus;
+import edu.xmu.gradpath.common.persistence.EntityRepository;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+/**
+ * Application 全局视角读模型投影仓库
+ * 说明：
+ * - 三种 keyset 分页查询分别对应主键、(status, application_id)、(stage, application_id) 索引，均为单条索引范围查询
+ */
+public interface ApplicationOverviewProjectionRepository extends EntityRepository<ApplicationOverviewProjection> {
+
+    /**
+     * keyset 分页：查询 applicationId 大于游标的投影，按 applicationId 升序
+     */
+    List<ApplicationOverviewProjection> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * keyset 分页：按状态过滤
+     */
+    List<ApplicationOverviewProjection> findByStatusAndIdGreaterThanOrderByIdAsc(ApplicationStatus status, Long afterId, Limit limit);
+
+    /**
+     * keyset 分页：按阶段过滤
+     */
+    List<ApplicationOverviewProjection> findByStageAndIdGreaterThanOrderByIdAsc(ApplicationLifecycleSummary.ApplicationStage stage, Long afterId, Limit limit);
+}
@@ -2,11 +2,78 @@ package edu.xmu.gradpath.application.repository;
 
 import edu.xmu.gradpath.application.domain.Application;
 import edu.xmu.gradpath.application.domain.ApplicationStatus;
-import org.springframework.data.jpa.repository.JpaRepository;
+import edu.xmu.gradpath.common.persistence.EntityRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface ApplicationRepository extends JpaRepository<Application, Long> {
+public interface ApplicationRepository extends EntityRepository<Application> {
 
     Optional<Application> findByUserIdAndStatus(Long userId, ApplicationStatus status);
+
+    /**
+     * keyset 分页：查询 id 大于游标的 Application，按 id 升序
+     */
+    List<Application> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * 查询全部 Application 的 ID 与创建时间（用于排名重建，不加载整个实体）
+     */
+    @Query("select a.id as id, a.createdAt as createdAt from Application a")
+    List<ApplicationCreatedAt> findAllCreatedAt();
+
+    /**
+     * 只查询 Application 修订号（用于条件请求，避免加载整个聚合）
+     */
+    @Query("select a.revision from Application a where a.id = :applicationId")
+    Optional<Long> findRevisionById(@Param("applicationId") Long applicationId);
+
+    /**
+     * 尝试锁定 Application 行（SELECT ... FOR UPDATE SKIP LOCKED），用于串行化同一 Application 的异步评估
+     * 已被其他事务锁定时返回空（不等待），调用方稍后重试
+     * @param applicationId 申请 ID
+     * @return 锁定成功时返回 applicationId
+     */
+    @Query(value = "select id from gp_application where id = :applicationId for update skip locked", nativeQuery = true)
+    Optional<Long> tryLockById(@Param("applicationId") Long applicationId);
+
+    /**
+     * 锁定 Application 行（SELECT ... FOR UPDATE），用于串行化同一 Application 的写事务
+     * 必须在读取该 Application 的任何数据之前调用，锁持有到事务结束
+     * @param applicationId 申请 ID
+     * @return Application 存在时返回 applicationId
+     */
+    @Query(value = "select id from gp_application where id = :applicationId for update", nativeQuery = true)
+    Optional<Long> lockById(@Param("applicationId") Long applicationId);
+
+    /**
+     * 批量锁定 Application 行（按 id 升序加锁，避免并发批次互相死锁）
+     * @param applicationIds 申请 ID 集合
+     * @return 存在并已锁定的 applicationId
+     */
+    @Query(value = "select id from gp_application where id in (:applicationIds) order by id for update", nativeQuery = true)
+    List<Long> lockByIdIn(@Param("applicationIds") Collection<Long> applicationIds);
+
+    /**
+     * 原子递增 Application 修订号
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Application a set a.revision = a.revision + 1 where a.id = :applicationId")
+    int incrementRevision(@Param("applicationId") Long applicationId);
+
+    /**
+     * Application ID 与创建时间投影
+     */
+    interface ApplicationCreatedAt {
+
+        Long getId();
+
+        LocalDateTime getCreatedAt();
+    }
 }
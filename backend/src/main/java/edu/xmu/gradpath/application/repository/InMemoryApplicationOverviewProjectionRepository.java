@@ -0,0 +1,56 @@
+package edu.xmu.gradpath.application.repository;
+
+import edu.xmu.gradpath.application.controller.dto.ApplicationLifecycleSummary;
+import edu.xmu.gradpath.application.domain.ApplicationOverviewProjection;
+import edu.xmu.gradpath.application.domain.ApplicationStatus;
+import edu.xmu.gradpath.common.persistence.InMemoryRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * ApplicationOverviewProjectionRepository 的内存实现（in-memory 持久化模式）
+ * 说明：
+ * - status / stage 随投影覆盖而变化，不能作为二级索引键；keyset 分页直接遍历按 id 有序的主存储并过滤
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryApplicationOverviewProjectionRepository extends InMemoryRepository<ApplicationOverviewProjection>
+        implements ApplicationOverviewProjectionRepository {
+
+    public InMemoryApplicationOverviewProjectionRepository() {
+        super(ApplicationOverviewProjection.class);
+    }
+
+    @Override
+    public List<ApplicationOverviewProjection> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit) {
+        return page(afterId, limit, projection -> true);
+    }
+
+    @Override
+    public List<ApplicationOverviewProjection> findByStatusAndIdGreaterThanOrderByIdAsc(ApplicationStatus status, Long afterId, Limit limit) {
+        return page(afterId, limit, projection -> projection.getStatus() == status);
+    }
+
+    @Override
+    public List<ApplicationOverviewProjection> findByStageAndIdGreaterThanOrderByIdAsc(ApplicationLifecycleSummary.ApplicationStage stage, Long afterId, Limit limit) {
+        return page(afterId, limit, projection -> projection.getStage() == stage);
+    }
+
+    private List<ApplicationOverviewProjection> page(Long afterId, Limit limit, Predicate<ApplicationOverviewProjection> filter) {
+        List<ApplicationOverviewProjection> result = new ArrayList<>();
+        for (ApplicationOverviewProjection projection : rows.tailMap(afterId, false).values()) {
+            if (limit.isLimited() && result.size() >= limit.max()) {
+                break;
+            }
+            if (filter.test(projection)) {
+                result.add(projection);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,144 @@
+package edu.xmu.gradpath.application.repository;
+
+import edu.xmu.gradpath.application.domain.Application;
+import edu.xmu.gradpath.application.domain.ApplicationStatus;
+import edu.xmu.gradpath.common.persistence.InMemoryRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ApplicationRepository 的内存实现（in-memory 持久化模式）
+ * 说明：
+ * - 二级索引：userId
+ * - keyset 分页直接遍历按 id 有序的主存储
+ * - 修订号递增在锁内完成，保证并发写入下单调递增且不丢失
+ * - lockById 以每个 Application 一把 ReentrantLock 模拟行锁：持有到当前事务结束（事务同步 afterCompletion 释放），
+ *   同一线程可重入；不在事务内调用时加锁后立即释放
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryApplicationRepository extends InMemoryRepository<Application> implements ApplicationRepository {
+
+    private final Index<Application> byUserId = index(Application::getUserId);
+    private final Field revisionField;
+    private final ReentrantLock revisionLock = new ReentrantLock();
+    private final ConcurrentHashMap<Long, ReentrantLock> rowLocks = new ConcurrentHashMap<>();
+
+    public InMemoryApplicationRepository() {
+        super(Application.class);
+        revisionField = ReflectionUtils.findField(Application.class, "revision");
+        ReflectionUtils.makeAccessible(revisionField);
+    }
+
+    @Override
+    public Optional<Application> findByUserIdAndStatus(Long userId, ApplicationStatus status) {
+        for (Application application : byUserId.find(userId)) {
+            if (application.getStatus() == status) {
+                return Optional.of(application);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Application> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit) {
+        List<Application> result = new ArrayList<>();
+        for (Application application : rows.tailMap(afterId, false).values()) {
+            if (limit.isLimited() && result.size() >= limit.max()) {
+                break;
+            }
+            result.add(application);
+        }
+        return result;
+    }
+
+    @Override
+    public List<ApplicationCreatedAt> findAllCreatedAt() {
+        List<ApplicationCreatedAt> result = new ArrayList<>(rows.size());
+        for (Application application : rows.values()) {
+            Long id = application.getId();
+            LocalDateTime createdAt = application.getCreatedAt();
+            result.add(new ApplicationCreatedAt() {
+                @Override
+                public Long getId() {
+                    return id;
+                }
+
+                @Override
+                public LocalDateTime getCreatedAt() {
+                    return createdAt;
+                }
+            });
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Long> findRevisionById(Long applicationId) {
+        return findById(applicationId).map(Application::getRevision);
+    }
+
+    @Override
+    public Optional<Long> tryLockById(Long applicationId) {
+        // 单进程内只有一个发件箱消费者，不需要行锁语义
+        return rows.containsKey(applicationId) ? Optional.of(applicationId) : Optional.empty();
+    }
+
+    @Override
+    public Optional<Long> lockById(Long applicationId) {
+        if (!rows.containsKey(applicationId)) {
+            return Optional.empty();
+        }
+        ReentrantLock lock = rowLocks.computeIfAbsent(applicationId, id -> new ReentrantLock());
+        lock.lock();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lock.unlock();
+                }
+            });
+        } else {
+            lock.unlock();
+        }
+        return Optional.of(applicationId);
+    }
+
+    @Override
+    public List<Long> lockByIdIn(Collection<Long> applicationIds) {
+        List<Long> locked = new ArrayList<>();
+        for (Long applicationId : new TreeSet<>(applicationIds)) {
+            lockById(applicationId).ifPresent(locked::add);
+        }
+        return locked;
+    }
+
+    @Override
+    public int incrementRevision(Long applicationId) {
+        Application application = rows.get(applicationId);
+        if (application == null) {
+            return 0;
+        }
+        revisionLock.lock();
+        try {
+            ReflectionUtils.setField(revisionField, application, application.getRevision() + 1);
+        } finally {
+            revisionLock.unlock();
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,325 @@
+package edu.xmu.gradpath.application.service;
+
+import edu.xmu.gradpath.application.controller.dto.ApplicationOverview;
+import edu.xmu.gradpath.application.controller.dto.ApplicationOverviewDriftReport;
+import edu.xmu.gradpath.application.domain.Application;
+import edu.xmu.gradpath.application.domain.ApplicationOverviewProjection;
+import edu.xmu.gradpath.application.event.ApplicationChangedEvent;
+import edu.xmu.gradpath.application.repository.ApplicationOverviewProjectionRepository;
+import edu.xmu.gradpath.application.repository.ApplicationRepository;
+import edu.xmu.gradpath.review.event.ReviewAggregationPolicyChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Application 全局视角投影（gp_application_overview）的维护者
+ * 说明：
+ * - 同步监听 ApplicationChangedEvent（Application 状态迁移，以及 MaterialService / ReviewService / MaterialScoreService
+ *   的写入都经过 ApplicationService.markChanged 发布），在发布方事务提交前按实时推导结果覆盖投影，投影与写入一同提交或回滚
+ * - 同一事务内的多次变更合并为一次投影（每个 Application 一行，固定 5 次查询），无事务时立即投影
+ * - 投影行记录推导时的修订号，修订号更大的投影不会被较旧的推导覆盖
+ * - 写路径在第一次读取前锁定 Application 行（ApplicationService.getForUpdate），同一 Application 的写事务串行：
+ *   推导读到的是前一个写事务已提交的数据，修订号更大的投影不会缺少修订号更小的写入
+ * - 审核聚合策略替换会改变审核结论的口径，替换后在后台线程全量重建（不占用替换请求的线程，连续替换合并为一次重建）；
+ *   分值类别规则不影响投影中的未加权总分
+ * - 绕过业务服务的批量写入（如 datagen）之后需调用 rebuild；checkDrift 对比投影与实时推导结果，可选择就地修复
+ * - 推导绕过解释模型的进程内缓存：投影在写事务内推导，既不能读到写入前缓存的结果，也不能把未提交的结果放进缓存
+ */
+@Component
+public class ApplicationOverviewProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationOverviewProjector.class);
+
+    /**
+     * 全量重建与偏差检查每块处理的 Application 数量（每块一个事务）
+     */
+    private static final int CHUNK_SIZE = 500;
+
+    /**
+     * 偏差报告中保留的 applicationId 样本数量
+     */
+    private static final int DRIFT_SAMPLE_SIZE = 20;
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationOverviewProjectionRepository projectionRepository;
+    private final ApplicationService applicationService;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate snapshotTransaction;
+
+    /**
+     * 串行化全量重建与偏差检查
+     */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * 后台全量重建（审核聚合策略替换后触发）
+     */
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "application-overview-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 是否已有排队中、尚未开始的后台重建
+     */
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    public ApplicationOverviewProjector(ApplicationRepository applicationRepository,
+                                        ApplicationOverviewProjectionRepository projectionRepository,
+                                        ApplicationService applicationService,
+                                        PlatformTransactionManager transactionManager) {
+        this.applicationRepository = applicationRepository;
+        this.projectionRepository = projectionRepository;
+        this.applicationService = applicationService;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * 记录本事务内发生变更的 Application，提交前统一投影
+     */
+    @EventListener
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Map<Long, Long> revisions = new HashMap<>();
+            revisions.put(event.getApplicationId(), event.getRevision());
+            writeTransaction.executeWithoutResult(status -> project(revisions));
+            return;
+        }
+        PendingProjection pending = (PendingProjection) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingProjection();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.add(event.getApplicationId(), event.getRevision());
+    }
+
+    /**
+     * 审核聚合策略替换后在后台全量重建
+     * 说明：
+     * - 已有排队中的重建时不再重复提交；重建开始后到达的替换会再排队一次，保证最终按最新策略重建
+     */
+    @EventListener
+    public void onReviewAggregationPolicyChanged(ReviewAggregationPolicyChangedEvent event) {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildQueued.set(false);
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.error("application overview projection rebuild after review policy change failed", e);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 按 applicationId 分块全量重建投影
+     * 说明：
+     * - 每块在独立事务内读取 Application、推导并覆盖投影，不持有跨块的事务
+     * - 重建期间在线写入维护的投影修订号更大时保留在线结果
+     * @return 重建的 Application 数量
+     */
+    public int rebuild() {
+        rebuildLock.lock();
+        try {
+            long startedAt = System.nanoTime();
+            long afterId = 0L;
+            int rebuilt = 0;
+            List<Application> chunk;
+            do {
+                long cursor = afterId;
+                chunk = writeTransaction.execute(status -> {
+                    List<Application> applications = applicationRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(CHUNK_SIZE));
+                    overwrite(applications, revisionsOf(applications));
+                    return applications;
+                });
+                if (!chunk.isEmpty()) {
+                    afterId = chunk.get(chunk.size() - 1).getId();
+                    rebuilt += chunk.size();
+                }
+            } while (chunk.size() == CHUNK_SIZE);
+            log.info("application overview projection rebuilt: {} applications in {} ms",
+                    rebuilt, (System.nanoTime() - startedAt) / 1_000_000);
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 对比投影与实时推导结果
+     * 说明：
+     * - 每块在只读、可重复读的快照事务内同时读取投影与实时数据；投影与写入同事务提交，快照内二者应一致
+     * - repair 为 true 时，有偏差的 Application 在新的写事务内重新投影
+     * @param repair 是否修复有偏差的投影
+     * @return 偏差检查结果
+     */
+    public ApplicationOverviewDriftReport checkDrift(boolean repair) {
+        rebuildLock.lock();
+        try {
+            ApplicationOverviewDriftReport report = new ApplicationOverviewDriftReport();
+            long afterId = 0L;
+            int checked = 0;
+            List<Application> chunk;
+            do {
+                long cursor = afterId;
+                List<Application> drifted = new ArrayList<>();
+                chunk = snapshotTransaction.execute(status -> {
+                    List<Application> applications = applicationRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(CHUNK_SIZE));
+                    drifted.addAll(compare(applications, report));
+                    return applications;
+                });
+                if (repair && !drifted.isEmpty()) {
+                    // 修复时重新读取 Application，使用其最新修订号
+                    Map<Long, Long> revisions = new HashMap<>();
+                    for (Application application : drifted) {
+                        revisions.put(application.getId(), null);
+                    }
+                    writeTransaction.executeWithoutResult(status -> project(revisions));
+                    report.setRepaired(report.getRepaired() + drifted.size());
+                }
+                if (!chunk.isEmpty()) {
+                    afterId = chunk.get(chunk.size() - 1).getId();
+                    checked += chunk.size();
+                }
+            } while (chunk.size() == CHUNK_SIZE);
+            report.setChecked(checked);
+            if (report.getMissing() > 0 || report.getMismatched() > 0) {
+                log.warn("application overview projection drift: {} missing, {} mismatched of {} checked, {} repaired",
+                        report.getMissing(), report.getMismatched(), checked, report.getRepaired());
+            }
+            return report;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private List<Application> compare(List<Application> applications, ApplicationOverviewDriftReport report) {
+        Map<Long, ApplicationOverviewProjection> projections = loadProjections(applications);
+        List<ApplicationOverview> overviews = applicationService.deriveOverviews(applications);
+        List<Application> drifted = new ArrayList<>();
+        for (int i = 0; i < applications.size(); i++) {
+            Application application = applications.get(i);
+            ApplicationOverviewProjection projection = projections.get(application.getId());
+            if (projection == null) {
+                report.setMissing(report.getMissing() + 1);
+            } else if (!projection.matches(overviews.get(i))) {
+                report.setMismatched(report.getMismatched() + 1);
+            } else {
+                continue;
+            }
+            drifted.add(application);
+            if (report.getSampleApplicationIds().size() < DRIFT_SAMPLE_SIZE) {
+                report.getSampleApplicationIds().add(application.getId());
+            }
+        }
+        return drifted;
+    }
+
+    /**
+     * 按最新数据投影指定的 Application（需在写事务内调用）
+     * @param revisions applicationId -> 变更后的修订号（为 null 时使用实体上的修订号）
+     */
+    private void project(Map<Long, Long> revisions) {
+        List<Application> applications = applicationRepository.findAllById(revisions.keySet());
+        overwrite(applications, revisions);
+    }
+
+    private void overwrite(List<Application> applications, Map<Long, Long> revisions) {
+        if (applications.isEmpty()) {
+            return;
+        }
+        Map<Long, ApplicationOverviewProjection> projections = loadProjections(applications);
+        List<ApplicationOverview> overviews = applicationService.deriveOverviews(applications);
+        List<ApplicationOverviewProjection> changed = new ArrayList<>(applications.size());
+        for (int i = 0; i < applications.size(); i++) {
+            Application application = applications.get(i);
+            Long revision = revisions.get(application.getId());
+            long effectiveRevision = revision != null ? revision : application.getRevision();
+            ApplicationOverviewProjection projection = projections.get(application.getId());
+            if (projection == null) {
+                projection = new ApplicationOverviewProjection(application.getId());
+            } else if (projection.getRevision() > effectiveRevision) {
+                continue;
+            }
+            projection.apply(overviews.get(i), effectiveRevision);
+            changed.add(projection);
+        }
+        projectionRepository.saveAll(changed);
+    }
+
+    private Map<Long, ApplicationOverviewProjection> loadProjections(List<Application> applications) {
+        List<Long> applicationIds = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            applicationIds.add(application.getId());
+        }
+        Map<Long, ApplicationOverviewProjection> projections = new HashMap<>();
+        for (ApplicationOverviewProjection projection : projectionRepository.findAllById(applicationIds)) {
+            projections.put(projection.getApplicationId(), projection);
+        }
+        return projections;
+    }
+
+    private static Map<Long, Long> revisionsOf(List<Application> applications) {
+        Map<Long, Long> revisions = new HashMap<>();
+        for (Application application : applications) {
+            revisions.put(application.getId(), application.getRevision());
+        }
+        return revisions;
+    }
+
+    /**
+     * 单个事务内待投影的 Application（保留每个 Application 最大的修订号）
+     */
+    private final class PendingProjection implements TransactionSynchronization {
+
+        private final Map<Long, Long> revisions = new LinkedHashMap<>();
+
+        void add(Long applicationId, Long revision) {
+            Long previous = revisions.get(applicationId);
+            if (!revisions.containsKey(applicationId) || previous == null
+                    || (revision != null && revision > previous)) {
+                revisions.put(applicationId, revision);
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            project(revisions);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ApplicationOverviewProjector.this);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package edu.xmu.gradpath.application.service;
+
+import edu.xmu.gradpath.application.controller.dto.ApplicationLifecycleSummary;
+import edu.xmu.gradpath.application.controller.dto.ApplicationReviewSummary;
+import edu.xmu.gradpath.application.controller.dto.ApplicationScoreSummary;
+import edu.xmu.gradpath.application.domain.Application;
+import edu.xmu.gradpath.material.domain.Material;
+import edu.xmu.gradpath.material.domain.MaterialScore;
+import edu.xmu.gradpath.review.domain.MaterialReviewAggregation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Application 读模型计算上下文（单次请求内有效）
+ * 说明：
+ * - 承载一次加载的 Application 聚合：Application + Material + 审核聚合状态 + MaterialScore
+ * - Material、审核聚合状态与 MaterialScore 按需加载，且每个上下文至多加载一次
+ * - 解释模型命中 ApplicationSummaryCache 时，对应数据不会被加载
+ * - 缓存已构建的解释模型，组合读模型之间互相复用时不再重复取数与重复计算
+ * - 仅供 ApplicationService 内部使用，不跨请求共享，不做线程安全保证
+ */
+class ApplicationReadContext {
+
+    private final Application application;
+    private final Supplier<List<Material>> materialsLoader;
+
+    private final Function<List<Material>, Map<Long, MaterialReviewAggregation>> aggregationsLoader;
+    private final Function<List<Material>, Map<Long, List<MaterialScore>>> scoresLoader;
+
+    private List<Material> materials;
+    private Map<Long, MaterialReviewAggregation> aggregationsByMaterialId;
+    private Map<Long, List<MaterialScore>> scoresByMaterialId;
+
+    private ApplicationReviewSummary reviewSummary;
+    private ApplicationScoreSummary scoreSummary;
+    private ApplicationLifecycleSummary lifecycleSummary;
+
+    ApplicationReadContext(Application application,
+                           Supplier<List<Material>> materialsLoader,
+                           Function<List<Material>, Map<Long, MaterialReviewAggregation>> aggregationsLoader,
+                           Function<List<Material>, Map<Long, List<MaterialScore>>> scoresLoader) {
+        this.application = application;
+        this.materialsLoader = materialsLoader;
+        this.aggregationsLoader = aggregationsLoader;
+        this.scoresLoader = scoresLoader;
+    }
+
+    Application getApplication() {
+        return application;
+    }
+
+    Long getApplicationId() {
+        return application.getId();
+    }
+
+    /**
+     * 该 Application 下的 Material 列表（首次访问时加载）
+     */
+    List<Material> getMaterials() {
+        if (materials == null) {
+            materials = materialsLoader.get();
+        }
+        return materials;
+    }
+
+    /**
+     * materialId -> 当前版本审核聚合状态（首次访问时加载）
+     */
+    Map<Long, MaterialReviewAggregation> getAggregationsByMaterialId() {
+        if (aggregationsByMaterialId == null) {
+            aggregationsByMaterialId = aggregationsLoader.apply(getMaterials());
+        }
+        return aggregationsByMaterialId;
+    }
+
+    /**
+     * materialId -> 当前版本 MaterialScore 列表（首次访问时加载）
+     */
+    Map<Long, List<MaterialScore>> getScoresByMaterialId() {
+        if (scoresByMaterialId == null) {
+            scoresByMaterialId = scoresLoader.apply(getMaterials());
+        }
+        return scoresByMaterialId;
+    }
+
+    ApplicationReviewSummary getReviewSummary() {
+        return reviewSummary;
+    }
+
+    void setReviewSummary(ApplicationReviewSummary reviewSummary) {
+        this.reviewSummary = reviewSummary;
+    }
+
+    ApplicationScoreSummary getScoreSummary() {
+        return scoreSummary;
+    }
+
+    void setScoreSummary(ApplicationScoreSummary scoreSummary) {
+        this.scoreSummary = scoreSummary;
+    }
+
+    ApplicationLifecycleSummary getLifecycleSummary() {
+        return lifecycleSummary;
+    }
+
+    void setLifecycleSummary(ApplicationLifecycleSummary lifecycleSummary) {
+        this.lifecycleSummary = lifecycleSummary;
+    }
+}
@@ -1,6 +1,10 @@
 package edu.xmu.gradpath.application.service;
 
 import edu.xmu.gradpath.application.domain.Application;
+import edu.xmu.gradpath.application.domain.ApplicationOverviewProjection;
+import edu.xmu.gradpath.application.event.ApplicationChangeType;
+import edu.xmu.gradpath.application.event.ApplicationChangedEvent;
+import edu.xmu.gradpath.application.repository.ApplicationOverviewProjectionRepository;
 import edu.xmu.gradpath.application.repository.ApplicationRepository;
 import edu.xmu.gradpath.common.exception.BizException;
 import edu.xmu.gradpath.application.domain.ApplicationStatus;
@@ -9,135 +13,90 @@ import edu.xmu.gradpath.material.domain.MaterialScore;
 import edu.xmu.gradpath.material.domain.ScoreMode;
 import edu.xmu.gradpath.material.repository.MaterialRepository;
 import edu.xmu.gradpath.material.repository.MaterialScoreRepository;
+import edu.xmu.gradpath.review.domain.MaterialReviewAggregation;
+import edu.xmu.gradpath.review.domain.ReviewAggregationResult;
 import edu.xmu.gradpath.review.domain.ReviewDecision;
 import edu.xmu.gradpath.review.domain.ReviewRecord;
+import edu.xmu.gradpath.review.event.ReviewAggregationPolicyChangedEvent;
+import edu.xmu.gradpath.review.repository.MaterialReviewAggregationRepository;
 import edu.xmu.gradpath.review.repository.ReviewRecordRepository;
+import edu.xmu.gradpath.review.service.ReviewAggregationPolicy;
+import edu.xmu.gradpath.review.service.ReviewAggregationPolicyRegistry;
+import edu.xmu.gradpath.scoring.service.CategoryScoreResult;
+import edu.xmu.gradpath.scoring.service.CategoryScores;
+import edu.xmu.gradpath.scoring.service.ScoringEngine;
+import edu.xmu.gradpath.scoring.service.ScoringRuleSet;
 import edu.xmu.gradpath.application.controller.dto.ApplicationReviewSummary;
 import edu.xmu.gradpath.application.controller.dto.ApplicationLifecycleSummary;
 import edu.xmu.gradpath.application.controller.dto.ApplicationOverview;
+import edu.xmu.gradpath.application.controller.dto.ApplicationOverviewPage;
 import edu.xmu.gradpath.application.controller.dto.ApplicationSubmissionCheckSummary;
 import edu.xmu.gradpath.application.controller.dto.ApplicationScoreSummary;
 import edu.xmu.gradpath.application.controller.dto.ApplicationDashboard;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 @Service
 public class ApplicationService {
 
-    /**
-     * 审核聚合结果枚举
-     * 仅供 Service 内部使用，不暴露给外部
-     */
-    private enum ReviewAggregationResult {
-
-        /**
-         * 不完整：当前审核事实不足以支持确定性结论
-         */
-        INCOMPLETE,
-
-        /**
-         * 全部通过：至少存在一条 ReviewRecord，且所有 decision = PASS
-         */
-        ALL_PASS,
-
-        /**
-         * 存在拒绝：存在任意一条 decision = REJECT
-         */
-        HAS_REJECT,
-
-        /**
-         * 冲突：同时存在 PASS 与 REJECT，且当前规则未定义裁决方式
-         */
-        CONFLICT
-    }
-
     private final ApplicationRepository applicationRepository;
     private final MaterialRepository materialRepository;
     private final ReviewRecordRepository reviewRecordRepository;
     private final MaterialScoreRepository materialScoreRepository;
+    private final MaterialReviewAggregationRepository materialReviewAggregationRepository;
+    private final ApplicationSummaryCache summaryCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final ReviewAggregationPolicyRegistry policyRegistry;
+    private final ScoringEngine scoringEngine;
+    private final ReplicaLagGuard replicaLagGuard;
+    private final ApplicationOverviewProjectionRepository overviewProjectionRepository;
 
     /**
-     * 最小审核员数量
-     */
-    private static final int MIN_REVIEWERS = 2;
-
-    /**
-     * Material 不完整原因枚举
-     */
-    private enum MaterialIncompleteReason {
-        NO_REVIEWS,            // 折叠后 reviewerCount == 0
-        NOT_ENOUGH_REVIEWERS   // 0 < reviewerCount < MIN_REVIEWERS
-    }
-
-    /**
-     * 审核员角色枚举
-     */
-    private enum ReviewerRole {
-        NORMAL, ARBITER
-    }
-
-    /**
-     * 审核聚合信息
-     */
-    private static class ReviewAggregationInfo {
-        private final ReviewAggregationResult result;
-        private final MaterialIncompleteReason incompleteReason;
-        private final int reviewerCount;
-
-        public ReviewAggregationInfo(ReviewAggregationResult result, MaterialIncompleteReason incompleteReason, int reviewerCount) {
-            this.result = result;
-            this.incompleteReason = incompleteReason;
-            this.reviewerCount = reviewerCount;
-        }
-
-        public ReviewAggregationResult getResult() {
-            return result;
-        }
-
-        public MaterialIncompleteReason getIncompleteReason() {
-            return incompleteReason;
-        }
-
-        public int getReviewerCount() {
-            return reviewerCount;
-        }
-    }
-
-    /**
-     * Application 审核阻塞原因枚举
-     */
-    private enum ApplicationReviewBlockReason {
-        INSUFFICIENT_REVIEWERS,
-        CONFLICTING_REVIEWS
-    }
-
-    /**
-     * 仲裁审核员集合
+     * Overview 分页默认条数与上限
      */
-    private static final java.util.Set<Long> ARBITER_REVIEWER_IDS = java.util.Set.of(1L);
+    private static final int DEFAULT_OVERVIEW_PAGE_SIZE = 50;
+    private static final int MAX_OVERVIEW_PAGE_SIZE = 200;
 
     /**
-     * 获取审核员角色
-     * @param reviewerId 审核员 ID
-     * @return ReviewerRole
+     * Overview 导出时每块读取的条数
      */
-    private ReviewerRole getReviewerRole(Long reviewerId) {
-        if (ARBITER_REVIEWER_IDS.contains(reviewerId)) {
-            return ReviewerRole.ARBITER;
-        }
-        return ReviewerRole.NORMAL;
-    }
+    private static final int OVERVIEW_EXPORT_CHUNK_SIZE = 500;
 
-    public ApplicationService(ApplicationRepository applicationRepository, MaterialRepository materialRepository, ReviewRecordRepository reviewRecordRepository, MaterialScoreRepository materialScoreRepository) {
+    public ApplicationService(ApplicationRepository applicationRepository, MaterialRepository materialRepository, ReviewRecordRepository reviewRecordRepository, MaterialScoreRepository materialScoreRepository, MaterialReviewAggregationRepository materialReviewAggregationRepository, ApplicationSummaryCache summaryCache, ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry, ReviewAggregationPolicyRegistry policyRegistry, ScoringEngine scoringEngine, ReplicaLagGuard replicaLagGuard, ApplicationOverviewProjectionRepository overviewProjectionRepository) {
         this.applicationRepository = applicationRepository;
         this.materialRepository = materialRepository;
         this.reviewRecordRepository = reviewRecordRepository;
         this.materialScoreRepository = materialScoreRepository;
+        this.materialReviewAggregationRepository = materialReviewAggregationRepository;
+        this.summaryCache = summaryCache;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.policyRegistry = policyRegistry;
+        this.scoringEngine = scoringEngine;
+        this.replicaLagGuard = replicaLagGuard;
+        this.overviewProjectionRepository = overviewProjectionRepository;
     }
 
     /**
@@ -159,6 +118,7 @@ public class ApplicationService {
 
         Application draft = Application.createDraft(userId);
         applicationRepository.save(draft);
+        eventPublisher.publishEvent(new ApplicationChangedEvent(draft.getId(), ApplicationChangeType.CREATED, draft.getRevision(), draft.getStatus()));
         return draft.getId();
     }
 
@@ -168,7 +128,7 @@ public class ApplicationService {
     @Transactional
     public Long submit(Long userId, Long applicationId) {
 
-        Application application = getById(applicationId);
+        Application application = getForUpdate(applicationId);
 
         // MVP 阶段：不做完整鉴权，但至少防止提交他人申请
         if (!application.getUserId().equals(userId)) {
@@ -182,8 +142,8 @@ public class ApplicationService {
             );
         }
 
-        // 提交前进行校验
-        ApplicationSubmissionCheckSummary check = getSubmissionCheckSummary(applicationId);
+        // 提交前进行校验（复用已加载的 Application）
+        ApplicationSubmissionCheckSummary check = submissionCheckSummaryOf(loadReadContext(application));
         if (!check.getCanSubmit()) {
             // 构建错误信息
             StringBuilder errorMessage = new StringBuilder("cannot submit");
@@ -206,6 +166,7 @@ public class ApplicationService {
 
         application.markSubmitted();
         applicationRepository.save(application);
+        markStatusChanged(application);
 
         return application.getId();
     }
@@ -219,7 +180,7 @@ public class ApplicationService {
     @Transactional
     public void startReview(Long applicationId) {
 
-        Application application = getById(applicationId);
+        Application application = getForUpdate(applicationId);
 
         if (application.getStatus() != ApplicationStatus.SUBMITTED) {
             throw new BizException(
@@ -230,6 +191,7 @@ public class ApplicationService {
 
         application.markUnderReview();
         applicationRepository.save(application);
+        markStatusChanged(application);
     }
 
     /**
@@ -240,7 +202,7 @@ public class ApplicationService {
     @Transactional
     public void review(Long applicationId, boolean approved) {
 
-        Application application = getById(applicationId);
+        Application application = getForUpdate(applicationId);
 
         if (application.getStatus() != ApplicationStatus.UNDER_REVIEW) {
             throw new BizException(
@@ -252,6 +214,7 @@ public class ApplicationService {
         applyReviewResult(application, approved);
 
         applicationRepository.save(application);
+        markStatusChanged(application);
     }
 
     /**
@@ -269,93 +232,372 @@ public class ApplicationService {
     }
 
     /**
-     * 聚合某个 Material 的 ReviewRecord 语义
-     * @param reviewRecords ReviewRecord 列表
-     * @param materialVersion Material 当前版本
-     * @return ReviewAggregationInfo
+     * 基于聚合状态计算 Material 当前适用规则下的聚合结果
+     * 说明：
+     * - 规则按材料类别取自 ReviewAggregationPolicyRegistry，读写两条路径共用
+     * @param material Material
+     * @param state 材料审核聚合状态
+     * @return 材料级聚合结果
      */
-    private ReviewAggregationInfo aggregateReviewResults(List<ReviewRecord> reviewRecords, Integer materialVersion) {
-        // 过滤出 materialVersion == material.version 的记录
-        List<ReviewRecord> filteredRecords = reviewRecords.stream()
-                .filter(record -> Objects.equals(record.getMaterialVersion(), materialVersion))
-                .toList();
+    private ReviewAggregationResult evaluateAggregation(Material material, MaterialReviewAggregation state) {
+        return policyRegistry.policyFor(material.getCategory()).resolve(state);
+    }
 
-        // 对同一审核员在同一 MaterialVersion 下的多条 ReviewRecord 做折叠（last-write-wins）
-        List<ReviewRecord> foldedRecords = filteredRecords.stream()
-                // 对 reviewerId 做非空保护
-                .filter(record -> {
-                    if (record.getReviewerId() == null) {
-                        throw new BizException(400, "reviewerId missing in review record");
-                    }
-                    return true;
-                })
-                // 按 reviewerId 分组
-                .collect(java.util.stream.Collectors.groupingBy(ReviewRecord::getReviewerId))
-                // 每组只保留 createdAt 最新的一条
-                .values().stream()
-                .flatMap(group -> group.stream()
-                        .max(java.util.Comparator.comparing(ReviewRecord::getCreatedAt, java.util.Comparator.nullsLast(java.util.Comparator.naturalOrder())))
-                        .stream())
-                .toList();
-
-        // reviewerCount = foldedRecords.size()
-        int reviewerCount = foldedRecords.size();
-
-        // 仲裁优先逻辑
-        List<ReviewRecord> arbiterRecords = foldedRecords.stream()
-                .filter(record -> getReviewerRole(record.getReviewerId()) == ReviewerRole.ARBITER)
-                .toList();
-
-        if (!arbiterRecords.isEmpty()) {
-            // 取 arbiterRecords 中 createdAt 最新的一条
-            ReviewRecord latestArbiterRecord = arbiterRecords.stream()
-                    .max(java.util.Comparator.comparing(
-                            ReviewRecord::getCreatedAt,
-                            java.util.Comparator.nullsLast(java.util.Comparator.naturalOrder())
-                    ))
-                    .orElseThrow();
-
-            if (latestArbiterRecord != null) {
-                // 仲裁存在时，不再进入 MIN_REVIEWERS 与 CONFLICT 判定逻辑（仲裁直接裁决）
-                if (latestArbiterRecord.getDecision() == ReviewDecision.REJECT) {
-                    return new ReviewAggregationInfo(ReviewAggregationResult.HAS_REJECT, null, reviewerCount);
-                } else {
-                    return new ReviewAggregationInfo(ReviewAggregationResult.ALL_PASS, null, reviewerCount);
-                }
+    /**
+     * 将一条新的 ReviewRecord 增量折叠进材料审核聚合状态
+     * 说明：
+     * - 必须在 ReviewRecord 落库之前、同一事务内调用
+     * - 对聚合状态行加写锁，串行化同一材料版本的并发审核
+     * - 历史数据尚无聚合状态时，先由完整审核日志重建一次
+     * - 仲裁身份与聚合结果按材料类别适用的规则判断；规则在加锁之后读取，
+     *   与规则替换后的重新折叠（同样先加锁）不会交错成按旧仲裁集合折叠
+     * @param material 审核对象 Material
+     * @param reviewRecord 即将保存的 ReviewRecord
+     */
+    @Transactional
+    public void foldReviewIntoAggregation(Material material, ReviewRecord reviewRecord) {
+        if (reviewRecord.getReviewerId() == null) {
+            throw new BizException(400, "reviewerId missing in review record");
+        }
+        Long materialId = reviewRecord.getMaterialId();
+        Integer materialVersion = reviewRecord.getMaterialVersion();
+
+        Optional<MaterialReviewAggregation> locked = materialReviewAggregationRepository
+                .findForUpdateByMaterialIdAndMaterialVersion(materialId, materialVersion);
+        ReviewAggregationPolicy policy = policyRegistry.policyFor(material.getCategory());
+        MaterialReviewAggregation state = locked
+                .orElseGet(() -> policy.fold(materialId, materialVersion, reviewRecordRepository.findByMaterialId(materialId)));
+
+        // last-write-wins：同一审核员的上一条决策被本次决策覆盖
+        ReviewDecision previousDecision = reviewRecordRepository
+                .findFirstByMaterialIdAndMaterialVersionAndReviewerIdOrderByIdDesc(materialId, materialVersion, reviewRecord.getReviewerId())
+                .map(ReviewRecord::getDecision)
+                .orElse(null);
+        state.foldDecision(previousDecision, reviewRecord.getDecision());
+
+        if (policy.isArbiter(reviewRecord.getReviewerId())) {
+            state.recordArbiterDecision(reviewRecord.getDecision(), reviewRecord.getCreatedAt());
+        }
+
+        state.setResult(policy.resolve(state));
+        materialReviewAggregationRepository.save(state);
+    }
+
+    /**
+     * 将一批新的 ReviewRecord 增量折叠进对应材料版本的审核聚合状态（批量审核使用）
+     * 说明：
+     * - 必须在保存 ReviewRecord 之前、于同一事务内调用
+     * - 一次查询按 id 顺序锁定涉及材料的全部聚合状态行，一次查询取回这些材料的审核日志，折叠在内存中完成
+     * - 同一批次内同一审核员对同一材料版本的多条决策按提交顺序依次覆盖（last-write-wins）
+     * - 仲裁身份与聚合结果按各材料类别适用的规则判断
+     * @param reviewRecords 即将保存的 ReviewRecord（按提交顺序）
+     * @param materialsById 涉及的 Material（需包含 reviewRecords 中的全部材料）
+     */
+    @Transactional
+    public void foldReviewsIntoAggregations(List<ReviewRecord> reviewRecords, Map<Long, Material> materialsById) {
+        if (reviewRecords.isEmpty()) {
+            return;
+        }
+        Set<Long> materialIds = new java.util.TreeSet<>();
+        for (ReviewRecord reviewRecord : reviewRecords) {
+            if (reviewRecord.getReviewerId() == null) {
+                throw new BizException(400, "reviewerId missing in review record");
             }
+            materialIds.add(reviewRecord.getMaterialId());
         }
 
-        // 返回规则
-        if (reviewerCount == 0) {
-            return new ReviewAggregationInfo(ReviewAggregationResult.INCOMPLETE, MaterialIncompleteReason.NO_REVIEWS, reviewerCount);
-        } else if (reviewerCount < MIN_REVIEWERS) {
-            return new ReviewAggregationInfo(ReviewAggregationResult.INCOMPLETE, MaterialIncompleteReason.NOT_ENOUGH_REVIEWERS, reviewerCount);
-        } else {
-            boolean hasPass = false;
-            boolean hasReject = false;
-
-            // 检查是否存在 PASS 和 REJECT
-            for (ReviewRecord reviewRecord : foldedRecords) {
-                if (reviewRecord.getDecision() == ReviewDecision.PASS) {
-                    hasPass = true;
-                } else if (reviewRecord.getDecision() == ReviewDecision.REJECT) {
-                    hasReject = true;
-                }
+        // 1. 锁定已有聚合状态行（按 id 顺序加锁，避免并发批次互相死锁）
+        Map<MaterialVersionKey, MaterialReviewAggregation> states = new HashMap<>();
+        for (MaterialReviewAggregation state
+                : materialReviewAggregationRepository.findForUpdateByMaterialIdInOrderByIdAsc(materialIds)) {
+            states.put(new MaterialVersionKey(state.getMaterialId(), state.getMaterialVersion()), state);
+        }
+
+        // 2. 加锁后取回审核日志，得到每个审核员在每个材料版本上的最新决策
+        List<ReviewRecord> existingRecords = reviewRecordRepository.findByMaterialIdIn(materialIds);
+        Map<Long, List<ReviewRecord>> existingByMaterialId = new HashMap<>();
+        Map<ReviewerDecisionKey, ReviewRecord> latestByReviewer = new HashMap<>();
+        for (ReviewRecord record : existingRecords) {
+            existingByMaterialId.computeIfAbsent(record.getMaterialId(), id -> new ArrayList<>()).add(record);
+            latestByReviewer.merge(
+                    new ReviewerDecisionKey(record.getMaterialId(), record.getMaterialVersion(), record.getReviewerId()),
+                    record,
+                    (current, candidate) -> candidate.getId() > current.getId() ? candidate : current
+            );
+        }
+        Map<ReviewerDecisionKey, ReviewDecision> latestDecisions = new HashMap<>();
+        latestByReviewer.forEach((key, record) -> latestDecisions.put(key, record.getDecision()));
+
+        // 3. 按提交顺序折叠（历史数据尚无聚合状态时先由审核日志重建）
+        Map<MaterialVersionKey, MaterialReviewAggregation> touched = new java.util.LinkedHashMap<>();
+        for (ReviewRecord reviewRecord : reviewRecords) {
+            Long materialId = reviewRecord.getMaterialId();
+            Integer materialVersion = reviewRecord.getMaterialVersion();
+            ReviewAggregationPolicy policy = policyRegistry.policyFor(materialsById.get(materialId).getCategory());
+            MaterialVersionKey stateKey = new MaterialVersionKey(materialId, materialVersion);
+            MaterialReviewAggregation state = states.computeIfAbsent(stateKey, key -> policy.fold(
+                    materialId, materialVersion, existingByMaterialId.getOrDefault(materialId, new ArrayList<>())));
+
+            ReviewerDecisionKey reviewerKey = new ReviewerDecisionKey(materialId, materialVersion, reviewRecord.getReviewerId());
+            state.foldDecision(latestDecisions.get(reviewerKey), reviewRecord.getDecision());
+            latestDecisions.put(reviewerKey, reviewRecord.getDecision());
+
+            if (policy.isArbiter(reviewRecord.getReviewerId())) {
+                state.recordArbiterDecision(reviewRecord.getDecision(), reviewRecord.getCreatedAt());
             }
+            touched.put(stateKey, state);
+        }
+
+        for (MaterialReviewAggregation state : touched.values()) {
+            state.setResult(policyRegistry.policyFor(materialsById.get(state.getMaterialId()).getCategory()).resolve(state));
+        }
+        materialReviewAggregationRepository.saveAll(touched.values());
+    }
 
-            // 同时存在 PASS 和 REJECT → CONFLICT
-            if (hasPass && hasReject) {
-                return new ReviewAggregationInfo(ReviewAggregationResult.CONFLICT, null, reviewerCount);
+    /**
+     * 审核聚合规则替换后，按新规则重新折叠仲裁身份变化的审核员审核过的材料
+     * 说明：
+     * - 在规则替换线程内同步执行，并先于解释模型缓存清理与投影重建（最高优先级），
+     *   替换返回时被移除仲裁者的决策不再生效，新增仲裁者过去的审核也已计入
+     * - 按 id 顺序锁定这些材料全部版本的聚合状态行后，由审核日志整体重建计数、仲裁决策与结果
+     * - 材料已删除时跳过（其聚合状态随材料一并删除）
+     * @param event 审核聚合规则变更事件
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void onReviewAggregationPolicyChanged(ReviewAggregationPolicyChangedEvent event) {
+        if (event.getChangedArbiterReviewerIds().isEmpty()) {
+            return;
+        }
+        Set<Long> materialIds = new java.util.TreeSet<>(
+                reviewRecordRepository.findMaterialIdsByReviewerIdIn(event.getChangedArbiterReviewerIds()));
+        if (materialIds.isEmpty()) {
+            return;
+        }
+        List<MaterialReviewAggregation> states = materialReviewAggregationRepository.findForUpdateByMaterialIdInOrderByIdAsc(materialIds);
+        Map<Long, Material> materialsById = new HashMap<>();
+        for (Material material : materialRepository.findAllById(materialIds)) {
+            materialsById.put(material.getId(), material);
+        }
+        Map<Long, List<ReviewRecord>> recordsByMaterialId = new HashMap<>();
+        for (ReviewRecord record : reviewRecordRepository.findByMaterialIdIn(materialIds)) {
+            recordsByMaterialId.computeIfAbsent(record.getMaterialId(), id -> new ArrayList<>()).add(record);
+        }
+
+        List<MaterialReviewAggregation> refolded = new ArrayList<>();
+        for (MaterialReviewAggregation state : states) {
+            Material material = materialsById.get(state.getMaterialId());
+            if (material == null) {
+                continue;
             }
+            state.replaceWith(policyRegistry.policyFor(material.getCategory()).fold(
+                    state.getMaterialId(),
+                    state.getMaterialVersion(),
+                    recordsByMaterialId.getOrDefault(state.getMaterialId(), List.of())));
+            refolded.add(state);
+        }
+        materialReviewAggregationRepository.saveAll(refolded);
+    }
+
+    /**
+     * 材料版本键
+     */
+    private record MaterialVersionKey(Long materialId, Integer materialVersion) {
+    }
+
+    /**
+     * 审核员在某材料版本上的决策键
+     */
+    private record ReviewerDecisionKey(Long materialId, Integer materialVersion, Long reviewerId) {
+    }
 
-            // 存在 REJECT → HAS_REJECT
-            if (hasReject) {
-                return new ReviewAggregationInfo(ReviewAggregationResult.HAS_REJECT, null, reviewerCount);
+    /**
+     * 为 Material 的当前版本建立空的审核聚合状态
+     * 说明：
+     * - 在材料创建与产生新版本（修订 / 修改内容）时调用
+     * - 旧版本的聚合状态保留，不做删除
+     * @param material 已保存的 Material
+     */
+    @Transactional
+    public void resetReviewAggregation(Material material) {
+        if (materialReviewAggregationRepository
+                .findByMaterialIdAndMaterialVersion(material.getId(), material.getVersion())
+                .isPresent()) {
+            return;
+        }
+        materialReviewAggregationRepository.save(
+                MaterialReviewAggregation.empty(material.getId(), material.getVersion())
+        );
+    }
+
+    /**
+     * 删除 Material 全部版本的审核聚合状态（材料被删除时调用）
+     * @param materialId 材料 ID
+     */
+    @Transactional
+    public void dropReviewAggregation(Long materialId) {
+        materialReviewAggregationRepository.deleteByMaterialId(materialId);
+    }
+
+    /**
+     * 批量加载一组 Material 当前版本的审核聚合状态
+     * 说明：
+     * - 一次查询取回全部聚合状态行，版本在内存中过滤
+     * - 缺少聚合状态的历史材料，再用一次查询取回其审核日志并在内存中折叠
+     * @param materials Material 列表
+     * @return materialId -> 当前版本审核聚合状态
+     */
+    private Map<Long, MaterialReviewAggregation> loadAggregationsByMaterialId(List<Material> materials) {
+        Map<Long, MaterialReviewAggregation> aggregationsByMaterialId = new HashMap<>();
+        if (materials.isEmpty()) {
+            return aggregationsByMaterialId;
+        }
+
+        Map<Long, Integer> currentVersions = new HashMap<>();
+        for (Material material : materials) {
+            currentVersions.put(material.getId(), material.getVersion());
+        }
+
+        for (MaterialReviewAggregation state : materialReviewAggregationRepository.findByMaterialIdIn(currentVersions.keySet())) {
+            if (Objects.equals(state.getMaterialVersion(), currentVersions.get(state.getMaterialId()))) {
+                aggregationsByMaterialId.put(state.getMaterialId(), state);
+            }
+        }
+
+        List<Material> missing = new ArrayList<>();
+        for (Material material : materials) {
+            if (!aggregationsByMaterialId.containsKey(material.getId())) {
+                missing.add(material);
             }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, List<ReviewRecord>> recordsByMaterialId = loadReviewRecordsByMaterialId(missing);
+            for (Material material : missing) {
+                aggregationsByMaterialId.put(material.getId(), policyRegistry.policyFor(material.getCategory()).fold(
+                        material.getId(), material.getVersion(), recordsByMaterialId.get(material.getId())
+                ));
+            }
+        }
+        return aggregationsByMaterialId;
+    }
+
+    /**
+     * 批量加载一组 Material 的 ReviewRecord，并按 materialId 分组
+     * 说明：
+     * - 无论材料数量多少，只发出一次查询
+     * - 没有审核记录的材料对应空列表
+     * @param materials Material 列表
+     * @return materialId -> ReviewRecord 列表
+     */
+    private Map<Long, List<ReviewRecord>> loadReviewRecordsByMaterialId(List<Material> materials) {
+        Map<Long, List<ReviewRecord>> recordsByMaterialId = new HashMap<>();
+        if (materials.isEmpty()) {
+            return recordsByMaterialId;
+        }
 
-            // 否则 → ALL_PASS
-            return new ReviewAggregationInfo(ReviewAggregationResult.ALL_PASS, null, reviewerCount);
+        List<Long> materialIds = new ArrayList<>(materials.size());
+        for (Material material : materials) {
+            materialIds.add(material.getId());
+            recordsByMaterialId.put(material.getId(), new ArrayList<>());
         }
+
+        for (ReviewRecord record : reviewRecordRepository.findByMaterialIdIn(materialIds)) {
+            recordsByMaterialId
+                    .computeIfAbsent(record.getMaterialId(), id -> new ArrayList<>())
+                    .add(record);
+        }
+        return recordsByMaterialId;
+    }
+
+    /**
+     * 批量加载一组 Material 当前版本的 MaterialScore，并按 materialId 分组
+     * 说明：
+     * - 只发出一次查询，旧版本的裁决结果在内存中过滤掉
+     * - 每个材料对应的列表理论上至多一条，多条由调用方按数据异常处理
+     * @param materials Material 列表
+     * @return materialId -> 当前版本 MaterialScore 列表
+     */
+    private Map<Long, List<MaterialScore>> loadCurrentScoresByMaterialId(List<Material> materials) {
+        Map<Long, List<MaterialScore>> scoresByMaterialId = new HashMap<>();
+        if (materials.isEmpty()) {
+            return scoresByMaterialId;
+        }
+
+        Map<Long, Integer> currentVersions = new HashMap<>();
+        for (Material material : materials) {
+            currentVersions.put(material.getId(), material.getVersion());
+            scoresByMaterialId.put(material.getId(), new ArrayList<>());
+        }
+
+        for (MaterialScore score : materialScoreRepository.findByMaterialIdIn(currentVersions.keySet())) {
+            if (Objects.equals(score.getMaterialVersion(), currentVersions.get(score.getMaterialId()))) {
+                scoresByMaterialId.get(score.getMaterialId()).add(score);
+            }
+        }
+        return scoresByMaterialId;
+    }
+
+    /**
+     * 查询 Application 当前修订号（只读）
+     * 说明：
+     * - 单列查询，用于 ETag 等变更令牌，不加载 Material 等数据
+     * - 与解释模型走同一路由（启用只读副本时读副本），ETag 不会领先于响应体的数据
+     * @param applicationId 申请 ID
+     * @return 修订号
+     */
+    @Transactional(readOnly = true)
+    public Long getRevision(Long applicationId) {
+        replicaLagGuard.guardRead(applicationId);
+        return applicationRepository.findRevisionById(applicationId)
+                .orElseThrow(() ->
+                        new BizException(404, "application not found")
+                );
+    }
+
+    /**
+     * 标记 Application 已变更：原子递增修订号，清除其解释模型缓存，并发布变更事件
+     * 说明：
+     * - Application 状态迁移，以及其 Material、ReviewRecord、MaterialScore 的写入都必须调用
+     * - 即使清除早于事务提交，缓存条目也会因修订号不一致而失效，不会返回旧数据
+     * - 变更事件在事务提交后才推送给订阅端（见 ApplicationEventStreamRegistry）
+     * @param applicationId 申请 ID
+     * @param type 变更类型
+     */
+    @Transactional
+    public void markChanged(Long applicationId, ApplicationChangeType type) {
+        publishChanged(applicationId, type, null);
+    }
+
+    /**
+     * 标记 Application 状态已迁移（仅 ApplicationService 内部调用）
+     */
+    private void markStatusChanged(Application application) {
+        publishChanged(application.getId(), ApplicationChangeType.STATUS_CHANGED, application.getStatus());
+    }
+
+    private void publishChanged(Long applicationId, ApplicationChangeType type, ApplicationStatus status) {
+        applicationRepository.incrementRevision(applicationId);
+        summaryCache.evict(applicationId);
+        Long revision = applicationRepository.findRevisionById(applicationId).orElse(null);
+        eventPublisher.publishEvent(new ApplicationChangedEvent(applicationId, type, revision, status));
+    }
+
+    /**
+     * 为单个 Application 创建读模型计算上下文
+     * 说明：
+     * - Material、审核聚合状态与 MaterialScore 均在首次使用时批量加载
+     * - 同一上下文内的各解释模型共享这份数据
+     * @param application 已加载的 Application
+     * @return 计算上下文
+     */
+    private ApplicationReadContext loadReadContext(Application application) {
+        return new ApplicationReadContext(
+                application,
+                () -> materialRepository.findByApplicationId(application.getId()),
+                this::loadAggregationsByMaterialId,
+                this::loadCurrentScoresByMaterialId
+        );
     }
 
     /**
@@ -371,70 +613,118 @@ public class ApplicationService {
                 );
     }
 
+    /**
+     * 锁定并查询 Application（写路径使用）
+     * 说明：
+     * - 先对 Application 行加写锁（SELECT ... FOR UPDATE）再读取，同一 Application 的写事务在此串行；
+     *   后到的事务在前一个事务提交后才开始读取，提交前重建的投影与历史快照不会遗漏前一个事务的变更
+     * - 必须是写事务中对该 Application 数据的第一次读取：REPEATABLE_READ 下快照在第一次普通读取时建立；
+     *   需要先由 Material 找到 applicationId 的写路径以 READ_COMMITTED 运行，并且只做单列查询
+     * - 同一事务内重复调用可重入
+     */
+    @Transactional
+    public Application getForUpdate(Long applicationId) {
+        applicationRepository.lockById(applicationId)
+                .orElseThrow(() ->
+                        new BizException(404, "application not found")
+                );
+        return getById(applicationId);
+    }
+
+    /**
+     * 批量锁定并查询 Application（批量写路径使用，按 id 升序加锁）
+     * 说明：
+     * - 加锁规则同 getForUpdate；不存在的 ID 不出现在结果中，由调用方逐项处理
+     * @param applicationIds 申请 ID 集合
+     * @return applicationId -> Application
+     */
+    @Transactional
+    public Map<Long, Application> getAllForUpdate(Collection<Long> applicationIds) {
+        if (applicationIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return getByIds(applicationRepository.lockByIdIn(applicationIds));
+    }
+
+    /**
+     * 批量查询 Application（只读）
+     * 说明：
+     * - 一次查询，不存在的 ID 不出现在结果中，由调用方逐项处理
+     * @param applicationIds 申请 ID 集合
+     * @return applicationId -> Application
+     */
+    public Map<Long, Application> getByIds(Collection<Long> applicationIds) {
+        Map<Long, Application> applicationsById = new HashMap<>();
+        if (applicationIds.isEmpty()) {
+            return applicationsById;
+        }
+        for (Application application : applicationRepository.findAllById(applicationIds)) {
+            applicationsById.put(application.getId(), application);
+        }
+        return applicationsById;
+    }
+
     /**
      * 评估审核结果并更新 Application 状态
+     * 说明：
+     * - 由 ApplicationEvaluationOutboxWorker 异步调用，同一 Application 在合并窗口内的多次审核 / 评分只评估一次；
+     *   发件箱关闭（gradpath.outbox.enabled=false）时由 ApplicationEvaluationOutbox 在审核 / 评分事务内同步调用
      * @param applicationId 申请 ID
      */
     @Transactional
     public void evaluateAfterReview(Long applicationId) {
         // 加载 Application
-        Application application = getById(applicationId);
+        Application application = getForUpdate(applicationId);
+
+        if (application.getStatus() != ApplicationStatus.SUBMITTED
+                && application.getStatus() != ApplicationStatus.UNDER_REVIEW) {
+            return;
+        }
+
+        // 查询 Application 下的所有 Material
+        List<Material> materials = materialRepository.findByApplicationId(applicationId);
 
         // 如果当前 Application.status == SUBMITTED 且该 Application 已存在至少一条 ReviewRecord，迁移为 UNDER_REVIEW
         if (application.getStatus() == ApplicationStatus.SUBMITTED) {
             // 检查该 Application 是否存在至少一条 ReviewRecord
-            List<Material> materials = materialRepository.findByApplicationId(applicationId);
-            boolean hasReviewRecord = false;
-            
-            for (Material material : materials) {
-                List<ReviewRecord> reviewRecords = reviewRecordRepository.findByMaterialId(material.getId());
-                if (!reviewRecords.isEmpty()) {
-                    hasReviewRecord = true;
-                    break;
-                }
-            }
-            
+            List<Long> materialIds = materials.stream().map(Material::getId).toList();
+            boolean hasReviewRecord = !materialIds.isEmpty() && reviewRecordRepository.existsByMaterialIdIn(materialIds);
+
             if (hasReviewRecord) {
                 application.markUnderReview();
                 applicationRepository.save(application);
+                markStatusChanged(application);
             } else {
                 return;
             }
-        } else if (application.getStatus() != ApplicationStatus.UNDER_REVIEW) {
-            return;
         }
 
-        // 查询 Application 下的所有 Material
-        List<Material> materials = materialRepository.findByApplicationId(applicationId);
-
         // 若为空 → return
         if (materials.isEmpty()) {
             return;
         }
 
+        // 一次性加载全部材料当前版本的审核聚合状态
+        Map<Long, MaterialReviewAggregation> aggregationsByMaterialId = loadAggregationsByMaterialId(materials);
+
         // 标记是否所有 Material 都为 ALL_PASS
         boolean allAllPass = true;
 
-        // 遍历每个 Material，收集 ReviewAggregationInfo
-        List<ReviewAggregationInfo> aggregationInfos = new java.util.ArrayList<>();
-
+        // 遍历每个 Material
         for (Material material : materials) {
-            // 查询该 Material 的 ReviewRecord 列表
-            List<ReviewRecord> reviewRecords = reviewRecordRepository.findByMaterialId(material.getId());
-
-            // 聚合 ReviewRecord 语义
-            ReviewAggregationInfo info = aggregateReviewResults(reviewRecords, material.getVersion());
-            aggregationInfos.add(info);
+            // 基于聚合状态计算 ReviewRecord 语义
+            ReviewAggregationResult result = evaluateAggregation(material, aggregationsByMaterialId.get(material.getId()));
 
             // 任意 Material 聚合结果为 HAS_REJECT → Application = REJECTED
-            if (info.getResult() == ReviewAggregationResult.HAS_REJECT) {
+            if (result == ReviewAggregationResult.HAS_REJECT) {
                 application.markRejected();
                 applicationRepository.save(application);
+                markStatusChanged(application);
                 return;
             }
 
             // 检查是否所有 Material 都为 ALL_PASS
-            if (info.getResult() != ReviewAggregationResult.ALL_PASS) {
+            if (result != ReviewAggregationResult.ALL_PASS) {
                 allAllPass = false;
             }
         }
@@ -443,26 +733,7 @@ public class ApplicationService {
         if (allAllPass) {
             application.markApproved();
             applicationRepository.save(application);
-        } else {
-            // 计算内部阻塞原因
-            ApplicationReviewBlockReason blockReason = null;
-
-            // 优先级：冲突优先于人数不足
-            boolean hasConflict = aggregationInfos.stream()
-                    .anyMatch(info -> info.getResult() == ReviewAggregationResult.CONFLICT);
-
-            boolean hasIncomplete = aggregationInfos.stream()
-                    .anyMatch(info -> info.getResult() == ReviewAggregationResult.INCOMPLETE);
-
-            if (hasConflict) {
-                blockReason = ApplicationReviewBlockReason.CONFLICTING_REVIEWS;
-            } else if (hasIncomplete) {
-                blockReason = ApplicationReviewBlockReason.INSUFFICIENT_REVIEWERS;
-            }
-
-            // 记录阻塞原因（用于未来扩展，不落库）
-            // 可以在这里添加日志输出
-            // logger.info("Application {} under review due to: {}", applicationId, blockReason);
+            markStatusChanged(application);
         }
 
         // 其他情况 → Application 保持 UNDER_REVIEW
@@ -473,12 +744,40 @@ public class ApplicationService {
      * @param applicationId 申请 ID
      * @return 审核解释结果视图对象
      */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
     public ApplicationReviewSummary getReviewSummary(Long applicationId) {
-        // 加载 Application
-        Application application = getById(applicationId);
+        replicaLagGuard.guardRead(applicationId);
+        return reviewSummaryOf(loadReadContext(getById(applicationId)));
+    }
 
-        // 查询 Application 下的所有 Material
-        List<Material> materials = materialRepository.findByApplicationId(applicationId);
+    /**
+     * 从计算上下文获取审核解释结果（同一上下文内只构建一次，修订号未变时命中进程内缓存）
+     */
+    private ApplicationReviewSummary reviewSummaryOf(ApplicationReadContext context) {
+        if (context.getReviewSummary() == null) {
+            Long applicationId = context.getApplicationId();
+            Long revision = context.getApplication().getRevision();
+            ApplicationReviewSummary summary = summaryCache.getReviewSummary(applicationId, revision);
+            if (summary == null) {
+                summary = buildReviewSummary(context);
+                summaryCache.putReviewSummary(applicationId, revision, summary);
+            }
+            context.setReviewSummary(summary);
+        }
+        return context.getReviewSummary();
+    }
+
+    /**
+     * 基于计算上下文构建审核解释结果（不直接访问数据库）
+     * @param context Application 读模型计算上下文
+     * @return 审核解释结果视图对象
+     */
+    private ApplicationReviewSummary buildReviewSummary(ApplicationReadContext context) {
+        Application application = context.getApplication();
+        Long applicationId = application.getId();
+        List<Material> materials = context.getMaterials();
+        Map<Long, MaterialReviewAggregation> aggregationsByMaterialId = context.getAggregationsByMaterialId();
+        Map<Long, List<MaterialScore>> scoresByMaterialId = context.getScoresByMaterialId();
 
         // 构建审核解释结果
         ApplicationReviewSummary summary = new ApplicationReviewSummary();
@@ -493,11 +792,9 @@ public class ApplicationService {
             Integer materialVersion = material.getVersion();
             ScoreMode scoreMode = material.getScoreMode();
 
-            // 查询该 Material 的 ReviewRecord 列表
-            List<ReviewRecord> reviewRecords = reviewRecordRepository.findByMaterialId(materialId);
-
-            // 聚合 ReviewRecord 语义
-            ReviewAggregationInfo info = aggregateReviewResults(reviewRecords, materialVersion);
+            // 基于当前版本的审核聚合状态计算 ReviewRecord 语义（已批量加载）
+            MaterialReviewAggregation state = aggregationsByMaterialId.get(materialId);
+            ReviewAggregationResult result = evaluateAggregation(material, state);
 
             // 构建材料审核解释结果
             ApplicationReviewSummary.MaterialReviewSummary materialSummary = new ApplicationReviewSummary.MaterialReviewSummary();
@@ -506,7 +803,7 @@ public class ApplicationService {
             
             // 设置 aggregationResult
             ApplicationReviewSummary.AggregationResult aggregationResult;
-            switch (info.getResult()) {
+            switch (result) {
                 case ALL_PASS:
                     aggregationResult = ApplicationReviewSummary.AggregationResult.ALL_PASS;
                     break;
@@ -527,18 +824,18 @@ public class ApplicationService {
             // 设置 blockingReason
             ApplicationReviewSummary.BlockingReason blockingReason = null;
             if (aggregationResult != ApplicationReviewSummary.AggregationResult.ALL_PASS) {
-                if (info.getResult() == ReviewAggregationResult.INCOMPLETE) {
+                if (result == ReviewAggregationResult.INCOMPLETE) {
                     blockingReason = ApplicationReviewSummary.BlockingReason.NOT_ENOUGH_REVIEWERS;
-                } else if (info.getResult() == ReviewAggregationResult.CONFLICT) {
+                } else if (result == ReviewAggregationResult.CONFLICT) {
                     blockingReason = ApplicationReviewSummary.BlockingReason.CONFLICT;
-                } else if (info.getResult() == ReviewAggregationResult.HAS_REJECT) {
+                } else if (result == ReviewAggregationResult.HAS_REJECT) {
                     blockingReason = ApplicationReviewSummary.BlockingReason.HAS_REJECT;
                 }
             }
             materialSummary.setBlockingReason(blockingReason);
             
             // 设置 effectiveReviewerCount
-            materialSummary.setEffectiveReviewerCount(info.getReviewerCount());
+            materialSummary.setEffectiveReviewerCount(state.getReviewerCount());
 
             // 设置 scoreMode、hasScore 和 approvedScore
             materialSummary.setScoreMode(scoreMode);
@@ -548,8 +845,8 @@ public class ApplicationService {
                 materialSummary.setHasScore(false);
                 materialSummary.setApprovedScore(null);
             } else if (scoreMode == ScoreMode.DECLARED) {
-                // 若 scoreMode == DECLARED：查询 MaterialScore
-                List<MaterialScore> materialScores = materialScoreRepository.findByMaterialIdAndMaterialVersion(materialId, materialVersion);
+                // 若 scoreMode == DECLARED：取当前版本 MaterialScore（已批量加载）
+                List<MaterialScore> materialScores = scoresByMaterialId.get(materialId);
                 if (materialScores.isEmpty()) {
                     // 0 条：hasScore=false，approvedScore=null
                     materialSummary.setHasScore(false);
@@ -626,16 +923,45 @@ public class ApplicationService {
 
     /**
      * 获取申请生命周期语义解释
+     * 说明：
+     * - 与 getDashboard 相同，在一个只读、可重复读的快照事务内取数
      * @param applicationId 申请 ID
      * @return 生命周期语义解释视图对象
      */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
     public ApplicationLifecycleSummary getLifecycleSummary(Long applicationId) {
-        // 加载 Application
-        Application application = getById(applicationId);
-        ApplicationStatus status = application.getStatus();
+        replicaLagGuard.guardRead(applicationId);
+        return lifecycleSummaryOf(loadReadContext(getById(applicationId)));
+    }
+
+    /**
+     * 从计算上下文获取生命周期语义解释（同一上下文内只构建一次，修订号未变时命中进程内缓存）
+     */
+    private ApplicationLifecycleSummary lifecycleSummaryOf(ApplicationReadContext context) {
+        if (context.getLifecycleSummary() == null) {
+            Long applicationId = context.getApplicationId();
+            Long revision = context.getApplication().getRevision();
+            ApplicationLifecycleSummary summary = summaryCache.getLifecycleSummary(applicationId, revision);
+            if (summary == null) {
+                summary = buildLifecycleSummary(context);
+                summaryCache.putLifecycleSummary(applicationId, revision, summary);
+            }
+            context.setLifecycleSummary(summary);
+        }
+        return context.getLifecycleSummary();
+    }
+
+    /**
+     * 基于计算上下文构建生命周期语义解释
+     * @param context Application 读模型计算上下文
+     * @return 生命周期语义解释视图对象
+     */
+    private ApplicationLifecycleSummary buildLifecycleSummary(ApplicationReadContext context) {
+        Long applicationId = context.getApplicationId();
+        ApplicationStatus status = context.getApplication().getStatus();
         
-        // 获取审核解释结果
-        ApplicationReviewSummary reviewSummary = getReviewSummary(applicationId);
+        // 获取审核解释结果（复用上下文中已构建的结果）
+        ApplicationReviewSummary reviewSummary = reviewSummaryOf(context);
         
         // 构建生命周期语义解释
         ApplicationLifecycleSummary lifecycleSummary = new ApplicationLifecycleSummary();
@@ -708,38 +1034,140 @@ public class ApplicationService {
     }
 
     /**
-     * 获取所有 Application 的全局视角读模型
-     * @return ApplicationOverview 列表
+     * 分页获取 Application 的全局视角读模型
+     * 说明：
+     * - 读取 gp_application_overview 投影表，基于 applicationId 的 keyset 分页，每页一次索引范围查询
+     * - 投影由 ApplicationOverviewProjector 在写入事务内维护，与写入同时提交
+     * @param afterId 上一页最后一个 applicationId（首页传 null）
+     * @param limit 每页条数（为空时使用默认值，超过上限时截断）
+     * @param status 按状态过滤（可选）
+     * @param stage 按阶段过滤（可选，与 status 同时给出时取交集）
+     * @return 当前页的 ApplicationOverview 及下一页游标
      */
-    public java.util.List<ApplicationOverview> getApplicationOverviews() {
-        // 查询所有 Application
-        List<Application> applications = applicationRepository.findAll();
-        
-        // 为每个 Application 构建 ApplicationOverview
-        return applications.stream().map(application -> {
+    @Transactional(readOnly = true)
+    public ApplicationOverviewPage getApplicationOverviews(Long afterId,
+                                                           Integer limit,
+                                                           ApplicationStatus status,
+                                                           ApplicationLifecycleSummary.ApplicationStage stage) {
+        int pageSize = limit == null ? DEFAULT_OVERVIEW_PAGE_SIZE : limit;
+        if (pageSize <= 0) {
+            throw new BizException(400, "limit must be positive");
+        }
+        pageSize = Math.min(pageSize, MAX_OVERVIEW_PAGE_SIZE);
+        replicaLagGuard.guardListRead();
+        return loadOverviewPage(afterId, pageSize, status, stage);
+    }
+
+    /**
+     * 按 keyset 分块遍历全部 ApplicationOverview（用于流式导出）
+     * 说明：
+     * - 每块独立取数（与分页接口相同的单次投影查询），处理完即交给 consumer，不在内存中累积
+     * - 不持有跨块的数据库游标或连接，导出耗时不会占用连接池
+     * @param status 按状态过滤（可选）
+     * @param stage 按阶段过滤（可选）
+     * @param consumer 每块 ApplicationOverview 的消费者（按 applicationId 升序）
+     */
+    public void forEachOverviewChunk(ApplicationStatus status,
+                                     ApplicationLifecycleSummary.ApplicationStage stage,
+                                     Consumer<List<ApplicationOverview>> consumer) {
+        Long afterId = null;
+        ApplicationOverviewPage page;
+        do {
+            page = loadOverviewPage(afterId, OVERVIEW_EXPORT_CHUNK_SIZE, status, stage);
+            if (!page.getItems().isEmpty()) {
+                consumer.accept(page.getItems());
+            }
+            afterId = page.getNextAfterId();
+        } while (page.isHasMore());
+    }
+
+    private ApplicationOverviewPage loadOverviewPage(Long afterId,
+                                                     int pageSize,
+                                                     ApplicationStatus status,
+                                                     ApplicationLifecycleSummary.ApplicationStage stage) {
+        long cursor = afterId == null ? 0L : afterId;
+
+        ApplicationOverviewPage page = new ApplicationOverviewPage();
+        // 阶段由状态推导，二者同时给出且不一致时结果必为空
+        if (status != null && stage != null && deriveStage(status) != stage) {
+            page.setItems(new ArrayList<>());
+            page.setHasMore(false);
+            return page;
+        }
+
+        // keyset 查询当前页，多取一条用于判断是否还有下一页
+        Limit pageLimit = Limit.of(pageSize + 1);
+        List<ApplicationOverviewProjection> projections;
+        if (status != null) {
+            projections = overviewProjectionRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status, cursor, pageLimit);
+        } else if (stage != null) {
+            projections = overviewProjectionRepository.findByStageAndIdGreaterThanOrderByIdAsc(stage, cursor, pageLimit);
+        } else {
+            projections = overviewProjectionRepository.findByIdGreaterThanOrderByIdAsc(cursor, pageLimit);
+        }
+        boolean hasMore = projections.size() > pageSize;
+        if (hasMore) {
+            projections = projections.subList(0, pageSize);
+        }
+
+        List<ApplicationOverview> items = new ArrayList<>(projections.size());
+        for (ApplicationOverviewProjection projection : projections) {
+            items.add(projection.toOverview());
+        }
+        page.setItems(items);
+        page.setHasMore(hasMore);
+        if (hasMore) {
+            page.setNextAfterId(projections.get(projections.size() - 1).getApplicationId());
+        }
+        return page;
+    }
+
+    /**
+     * 按实时数据推导一批 Application 的 ApplicationOverview（投影的唯一数据来源，也用于投影偏差检查）
+     * 说明：
+     * - 固定 3 次查询：Material、审核聚合状态、MaterialScore，分组在内存中完成，复用解释模型的既有规则
+     * - 不开启事务，由调用方决定在写事务内（投影维护）还是只读快照内（重建、偏差检查）执行
+     * - 直接构建解释模型，不读取也不写入进程内缓存：写事务内的 Application 实体可能仍带着写入前的修订号（修订号由 JPQL 更新），
+     *   按修订号命中的缓存可能是写入前的结果；而按新修订号写入缓存会让其他读取看到未提交、可能回滚的结果
+     * @param applications 待推导的 Application
+     * @return 与入参顺序一致的 ApplicationOverview
+     */
+    public List<ApplicationOverview> deriveOverviews(List<Application> applications) {
+        List<Long> applicationIds = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            applicationIds.add(application.getId());
+        }
+        List<Material> batchMaterials = applicationIds.isEmpty()
+                ? new ArrayList<>()
+                : materialRepository.findByApplicationIdIn(applicationIds);
+        Map<Long, List<Material>> materialsByApplicationId = new HashMap<>();
+        for (Material material : batchMaterials) {
+            materialsByApplicationId
+                    .computeIfAbsent(material.getApplicationId(), id -> new ArrayList<>())
+                    .add(material);
+        }
+        Map<Long, MaterialReviewAggregation> aggregationsByMaterialId = loadAggregationsByMaterialId(batchMaterials);
+        Map<Long, List<MaterialScore>> scoresByMaterialId = loadCurrentScoresByMaterialId(batchMaterials);
+        Function<List<Material>, Map<Long, MaterialReviewAggregation>> batchAggregations = ignored -> aggregationsByMaterialId;
+        Function<List<Material>, Map<Long, List<MaterialScore>>> batchScores = ignored -> scoresByMaterialId;
+
+        List<ApplicationOverview> overviews = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            List<Material> materials = materialsByApplicationId.getOrDefault(application.getId(), new ArrayList<>());
+            ApplicationReadContext context = new ApplicationReadContext(application, () -> materials, batchAggregations, batchScores);
+            ApplicationReviewSummary reviewSummary = buildReviewSummary(context);
+            ApplicationScoreSummary scoreSummary = buildScoreSummary(context);
+
             ApplicationOverview overview = new ApplicationOverview();
-            Long applicationId = application.getId();
-            ApplicationStatus status = application.getStatus();
-            
-            // 设置 applicationId 和 applicationStatus
-            overview.setApplicationId(applicationId);
-            overview.setApplicationStatus(status);
-            
-            // 推导 stage（复用已有规则）
-            ApplicationLifecycleSummary.ApplicationStage stage = deriveStage(status);
-            overview.setStage(stage);
-            
-            // 获取 overallConclusion（复用已有规则）
-            ApplicationReviewSummary reviewSummary = getReviewSummary(applicationId);
+            overview.setApplicationId(application.getId());
+            overview.setApplicationStatus(application.getStatus());
+            overview.setStage(deriveStage(application.getStatus()));
             overview.setOverallConclusion(reviewSummary.getOverallConclusion());
-            
-            // 获取 totalApprovedScore 和 missingScoringMaterialsCount（复用 getScoreSummary）
-            ApplicationScoreSummary scoreSummary = getScoreSummary(applicationId);
             overview.setTotalApprovedScore(scoreSummary.getTotalApprovedScore());
             overview.setMissingScoringMaterialsCount(scoreSummary.getMissingScoreMaterialIds().size());
-            
-            return overview;
-        }).collect(java.util.stream.Collectors.toList());
+            overviews.add(overview);
+        }
+        return overviews;
     }
 
     /**
@@ -747,16 +1175,26 @@ public class ApplicationService {
      * @param applicationId 申请 ID
      * @return 提交校验解释视图对象
      */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
     public ApplicationSubmissionCheckSummary getSubmissionCheckSummary(Long applicationId) {
-        // 加载 Application
-        Application application = getById(applicationId);
-        ApplicationStatus status = application.getStatus();
+        replicaLagGuard.guardRead(applicationId);
+        return submissionCheckSummaryOf(loadReadContext(getById(applicationId)));
+    }
+
+    /**
+     * 基于计算上下文构建提交校验解释
+     * @param context Application 读模型计算上下文
+     * @return 提交校验解释视图对象
+     */
+    private ApplicationSubmissionCheckSummary submissionCheckSummaryOf(ApplicationReadContext context) {
+        Long applicationId = context.getApplicationId();
+        ApplicationStatus status = context.getApplication().getStatus();
         
-        // 查询该 Application 下的 Material
-        List<Material> materials = materialRepository.findByApplicationId(applicationId);
+        // 取该 Application 下的 Material（已在上下文中加载）
+        List<Material> materials = context.getMaterials();
         
-        // 获取生命周期语义解释
-        ApplicationLifecycleSummary lifecycleSummary = getLifecycleSummary(applicationId);
+        // 获取生命周期语义解释（复用上下文中已构建的结果）
+        ApplicationLifecycleSummary lifecycleSummary = lifecycleSummaryOf(context);
         
         // 构建提交校验项列表
         java.util.List<ApplicationSubmissionCheckSummary.SubmissionCheckItem> checks = new java.util.ArrayList<>();
@@ -857,17 +1295,44 @@ public class ApplicationService {
      * @param applicationId 申请 ID
      * @return 分值汇总解释视图对象
      */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
     public ApplicationScoreSummary getScoreSummary(Long applicationId) {
-        // 1. 查询 Application
-        Application application = getById(applicationId);
+        replicaLagGuard.guardRead(applicationId);
+        return scoreSummaryOf(loadReadContext(getById(applicationId)));
+    }
 
-        // 2. 查询该 Application 下所有 Material
-        List<Material> materials = materialRepository.findByApplicationId(applicationId);
+    /**
+     * 从计算上下文获取分值汇总解释（同一上下文内只构建一次，修订号未变时命中进程内缓存）
+     */
+    private ApplicationScoreSummary scoreSummaryOf(ApplicationReadContext context) {
+        if (context.getScoreSummary() == null) {
+            Long applicationId = context.getApplicationId();
+            Long revision = context.getApplication().getRevision();
+            ApplicationScoreSummary summary = summaryCache.getScoreSummary(applicationId, revision);
+            if (summary == null) {
+                summary = buildScoreSummary(context);
+                summaryCache.putScoreSummary(applicationId, revision, summary);
+            }
+            context.setScoreSummary(summary);
+        }
+        return context.getScoreSummary();
+    }
+
+    /**
+     * 基于计算上下文构建分值汇总解释（不直接访问数据库）
+     * @param context Application 读模型计算上下文
+     * @return 分值汇总解释视图对象
+     */
+    private ApplicationScoreSummary buildScoreSummary(ApplicationReadContext context) {
+        Long applicationId = context.getApplicationId();
+        List<Material> materials = context.getMaterials();
+        Map<Long, List<MaterialScore>> scoresByMaterialId = context.getScoresByMaterialId();
 
         // 3. 构建分值汇总
         List<ApplicationScoreSummary.MaterialScoreItem> items = new ArrayList<>();
         List<Long> missingScoreMaterialIds = new ArrayList<>();
-        BigDecimal totalApprovedScore = BigDecimal.ZERO;
+        // 按类别累加为 long（单位：分），封顶与加权由 ScoringEngine 的当前规则计算
+        CategoryScores categoryScores = scoringEngine.newScores();
 
         for (Material material : materials) {
             Long materialId = material.getId();
@@ -875,8 +1340,8 @@ public class ApplicationService {
             BigDecimal declaredScore = material.getDeclaredScore();
             ScoreMode scoreMode = material.getScoreMode();
 
-            // 查询该 materialId + version 对应的 MaterialScore
-            List<MaterialScore> materialScores = materialScoreRepository.findByMaterialIdAndMaterialVersion(materialId, materialVersion);
+            // 取该 materialId + version 对应的 MaterialScore（已批量加载）
+            List<MaterialScore> materialScores = scoresByMaterialId.get(materialId);
 
             ApplicationScoreSummary.MaterialScoreItem item = new ApplicationScoreSummary.MaterialScoreItem();
             item.setMaterialId(materialId);
@@ -898,7 +1363,7 @@ public class ApplicationService {
                     // 若查到 1 条 → hasScore=true，approvedScore=该条.approvedScore，累加到总分
                     item.setHasScore(true);
                     item.setApprovedScore(materialScores.get(0).getApprovedScore());
-                    totalApprovedScore = totalApprovedScore.add(materialScores.get(0).getApprovedScore());
+                    categoryScores.add(material.getCategory(), materialScores.get(0).getApprovedScore());
                 } else {
                     // 若查到 >1 条 → 抛 BizException(500) 明确数据异常
                     throw new BizException(500, "multiple material scores found for material id: " + materialId + ", version: " + materialVersion);
@@ -912,7 +1377,20 @@ public class ApplicationService {
         ApplicationScoreSummary summary = new ApplicationScoreSummary();
         summary.setApplicationId(applicationId);
         summary.setItems(items);
-        summary.setTotalApprovedScore(totalApprovedScore);
+        summary.setTotalApprovedScore(categoryScores.getTotal());
+        ScoringRuleSet rules = scoringEngine.getRules();
+        summary.setWeightedTotalScore(rules.weightedTotalScore(categoryScores));
+        List<ApplicationScoreSummary.CategoryScoreItem> categoryItems = new ArrayList<>();
+        for (CategoryScoreResult result : rules.breakdown(categoryScores)) {
+            ApplicationScoreSummary.CategoryScoreItem categoryItem = new ApplicationScoreSummary.CategoryScoreItem();
+            categoryItem.setCategory(result.category());
+            categoryItem.setApprovedScore(result.approvedScore());
+            categoryItem.setCappedScore(result.cappedScore());
+            categoryItem.setWeight(result.weight());
+            categoryItem.setWeightedScore(result.weightedScore());
+            categoryItems.add(categoryItem);
+        }
+        summary.setCategoryScores(categoryItems);
         summary.setMissingScoreMaterialIds(missingScoreMaterialIds);
         summary.setGeneratedAt(LocalDateTime.now());
 
@@ -921,17 +1399,24 @@ public class ApplicationService {
 
     /**
      * 获取申请统一进度解释
+     * 说明：
+     * - 在一个只读、可重复读的快照事务内完成全部查询：各解释模型基于同一已提交状态，整个请求只占用一个连接
+     * - 只读事务下 Hibernate 不 flush、不为加载的实体保留脏检查快照（in-memory 模式没有隔离，只保留事务边界）
      * @param applicationId 申请 ID
      * @return 申请统一进度解释视图对象
      */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
     public ApplicationDashboard getDashboard(Long applicationId) {
+        replicaLagGuard.guardRead(applicationId);
+
         // 1. 查询 Application（不存在 → BizException(404)）
         Application application = getById(applicationId);
 
-        // 2. 组装 dashboard，复用现有方法
-        ApplicationReviewSummary reviewSummary = getReviewSummary(applicationId);
-        ApplicationScoreSummary scoreSummary = getScoreSummary(applicationId);
-        ApplicationSubmissionCheckSummary submissionCheck = getSubmissionCheckSummary(applicationId);
+        // 2. 组装 dashboard：所有解释模型共享同一份快照与同一个计算上下文，聚合只加载一次
+        ApplicationReadContext context = loadReadContext(application);
+        ApplicationReviewSummary reviewSummary = timeSection("dashboard", "review", () -> reviewSummaryOf(context));
+        ApplicationScoreSummary scoreSummary = timeSection("dashboard", "score", () -> scoreSummaryOf(context));
+        ApplicationSubmissionCheckSummary submissionCheck = timeSection("dashboard", "submission-check", () -> submissionCheckSummaryOf(context));
 
         // 3. 构建并返回 dashboard
         ApplicationDashboard dashboard = new ApplicationDashboard();
@@ -944,5 +1429,18 @@ public class ApplicationService {
 
         return dashboard;
     }
-}
 
+    /**
+     * 记录组合读模型各部分耗时（指标 gradpath.read.section，标签 view / section）
+     * 说明：
+     * - 各部分在同一快照事务内依次执行；计算上下文按需加载，首个用到材料 / 聚合 / 分值的部分计入其加载耗时
+     */
+    private <T> T timeSection(String view, String section, Supplier<T> supplier) {
+        return Timer.builder("gradpath.read.section")
+                .description("time spent per section of composite application read models")
+                .tag("view", view)
+                .tag("section", section)
+                .register(meterRegistry)
+                .record(supplier);
+    }
+}
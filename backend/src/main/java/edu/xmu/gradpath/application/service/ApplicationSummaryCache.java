@@ -0,0 +1,118 @@
+package edu.xmu.gradpath.application.service;
+
+import edu.xmu.gradpath.application.controller.dto.ApplicationLifecycleSummary;
+import edu.xmu.gradpath.application.controller.dto.ApplicationReviewSummary;
+import edu.xmu.gradpath.application.controller.dto.ApplicationScoreSummary;
+import edu.xmu.gradpath.review.event.ReviewAggregationPolicyChangedEvent;
+import edu.xmu.gradpath.scoring.event.ScoringRulesChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Application 解释模型进程内缓存
+ * 说明：
+ * - 以 applicationId 为键，缓存值携带生成时的 Application 修订号
+ * - 读取时修订号不一致视为失效（stale），由调用方重新计算并回填
+ * - 写入路径通过 evict 精确清除某个 Application 的全部条目
+ * - 审核聚合规则或分值类别规则替换后清空全部条目（解释模型依赖规则计算，但规则变更不改变修订号）
+ * - 容量与过期策略见 CacheConfig，命中率等指标由 Actuator 的 cache.* 指标暴露
+ */
+@Component
+public class ApplicationSummaryCache {
+
+    public static final String REVIEW_SUMMARY = "applicationReviewSummary";
+    public static final String SCORE_SUMMARY = "applicationScoreSummary";
+    public static final String LIFECYCLE_SUMMARY = "applicationLifecycleSummary";
+
+    private final Cache reviewSummaries;
+    private final Cache scoreSummaries;
+    private final Cache lifecycleSummaries;
+    private final Counter staleCounter;
+
+    public ApplicationSummaryCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.reviewSummaries = cacheManager.getCache(REVIEW_SUMMARY);
+        this.scoreSummaries = cacheManager.getCache(SCORE_SUMMARY);
+        this.lifecycleSummaries = cacheManager.getCache(LIFECYCLE_SUMMARY);
+        this.staleCounter = Counter.builder("gradpath.summary.cache.stale")
+                .description("cached application summaries discarded because the application revision changed")
+                .register(meterRegistry);
+    }
+
+    public ApplicationReviewSummary getReviewSummary(Long applicationId, Long revision) {
+        return get(reviewSummaries, applicationId, revision, ApplicationReviewSummary.class);
+    }
+
+    public void putReviewSummary(Long applicationId, Long revision, ApplicationReviewSummary summary) {
+        reviewSummaries.put(applicationId, new Entry(revision, summary));
+    }
+
+    public ApplicationScoreSummary getScoreSummary(Long applicationId, Long revision) {
+        return get(scoreSummaries, applicationId, revision, ApplicationScoreSummary.class);
+    }
+
+    public void putScoreSummary(Long applicationId, Long revision, ApplicationScoreSummary summary) {
+        scoreSummaries.put(applicationId, new Entry(revision, summary));
+    }
+
+    public ApplicationLifecycleSummary getLifecycleSummary(Long applicationId, Long revision) {
+        return get(lifecycleSummaries, applicationId, revision, ApplicationLifecycleSummary.class);
+    }
+
+    public void putLifecycleSummary(Long applicationId, Long revision, ApplicationLifecycleSummary summary) {
+        lifecycleSummaries.put(applicationId, new Entry(revision, summary));
+    }
+
+    /**
+     * 清除某个 Application 的全部缓存条目
+     */
+    public void evict(Long applicationId) {
+        reviewSummaries.evict(applicationId);
+        scoreSummaries.evict(applicationId);
+        lifecycleSummaries.evict(applicationId);
+    }
+
+    /**
+     * 审核聚合规则替换后清空全部缓存条目
+     */
+    @EventListener
+    public void onReviewAggregationPolicyChanged(ReviewAggregationPolicyChangedEvent event) {
+        clear();
+    }
+
+    /**
+     * 分值类别规则替换后清空全部缓存条目
+     */
+    @EventListener
+    public void onScoringRulesChanged(ScoringRulesChangedEvent event) {
+        clear();
+    }
+
+    private void clear() {
+        reviewSummaries.clear();
+        scoreSummaries.clear();
+        lifecycleSummaries.clear();
+    }
+
+    private <T> T get(Cache cache, Long applicationId, Long revision, Class<T> type) {
+        Entry entry = cache.get(applicationId, Entry.class);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.revision().equals(revision)) {
+            staleCounter.increment();
+            cache.evict(applicationId);
+            return null;
+        }
+        return type.cast(entry.value());
+    }
+
+    /**
+     * 缓存条目：生成时的修订号 + 解释模型
+     */
+    private record Entry(Long revision, Object value) {
+    }
+}
@@ -0,0 +1,75 @@
+package edu.xmu.gradpath.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.xmu.gradpath.application.event.ApplicationChangedEvent;
+import edu.xmu.gradpath.common.persistence.ReplicaRouting;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 只读副本延迟保护（read-your-writes）
+ * 说明：
+ * - 记录每个 Application 最近一次写入的提交时间（写入路径都经过 markChanged，发布 ApplicationChangedEvent）
+ * - 写入提交后 lag-window 内，该 Application 的只读查询固定到主库；窗口应不小于副本的正常复制延迟
+ * - 分页列表不针对单个 Application：窗口内有任意写入时整页走主库
+ * - 记录只在本进程内有效：多实例部署时，写入与随后的读取落在不同实例上不受保护
+ * - 未启用只读副本时不做任何记录
+ */
+@Component
+public class ReplicaLagGuard {
+
+    private final boolean enabled;
+    private final long lagWindowNanos;
+    private final Cache<Long, Boolean> recentlyWritten;
+
+    private volatile long lastWriteNanos;
+
+    public ReplicaLagGuard(
+            @Value("${gradpath.datasource.replica.enabled:false}") boolean enabled,
+            @Value("${gradpath.datasource.replica.lag-window:2s}") Duration lagWindow
+    ) {
+        this.enabled = enabled;
+        this.lagWindowNanos = lagWindow.toNanos();
+        this.recentlyWritten = Caffeine.newBuilder()
+                .expireAfterWrite(lagWindow)
+                .maximumSize(100_000)
+                .build();
+        this.lastWriteNanos = System.nanoTime() - lagWindowNanos;
+    }
+
+    /**
+     * 写入提交后记录（无事务上下文时立即记录）
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        recentlyWritten.put(event.getApplicationId(), Boolean.TRUE);
+        lastWriteNanos = System.nanoTime();
+    }
+
+    /**
+     * 单个 Application 的只读查询：窗口内有写入时固定到主库
+     * @param applicationId 申请 ID
+     */
+    public void guardRead(Long applicationId) {
+        if (enabled && recentlyWritten.getIfPresent(applicationId) != null) {
+            ReplicaRouting.pinPrimary();
+        }
+    }
+
+    /**
+     * 跨 Application 的只读查询：窗口内有任意写入时固定到主库
+     */
+    public void guardListRead() {
+        if (enabled && System.nanoTime() - lastWriteNanos < lagWindowNanos) {
+            ReplicaRouting.pinPrimary();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package edu.xmu.gradpath.common.persistence;
+
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.ListPagingAndSortingRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * 各模块 Repository 的公共接口（主键为 Long）
+ * 说明：
+ * - 只暴露两种持久化模式都完整实现的方法：CRUD、排序与分页查询，以及 deleteAllInBatch
+ * - JPA 模式下由 SimpleJpaRepository 实现（同名同参的方法直接路由到它），in-memory 模式下由 InMemoryRepository 实现
+ * - 不继承 JpaRepository：按示例查询、flush 等 in-memory 模式无法等价实现的方法不在接口上，误用在编译期即可发现
+ * @param <T> 实体类型
+ */
+@NoRepositoryBean
+public interface EntityRepository<T> extends ListCrudRepository<T, Long>, ListPagingAndSortingRepository<T, Long> {
+
+    /**
+     * 一条语句批量删除给定实体（JPA 模式下不逐个加载、不触发实体回调）
+     */
+    void deleteAllInBatch(Iterable<T> entities);
+}
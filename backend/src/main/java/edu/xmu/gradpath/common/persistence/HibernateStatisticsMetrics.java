@@ -0,0 +1,50 @@
+package edu.xmu.gradpath.common.persistence;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 全局 Hibernate Statistics 指标（JPA 模式）
+ * 说明：
+ * - 需开启 hibernate.generate_statistics；未开启或没有 EntityManagerFactory（in-memory 模式）时不注册任何指标
+ * - 与 QueryStatsInterceptor 的按接口指标互补：这里是进程级累计值，包含后台任务（发件箱、排名重建等）
+ */
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public HibernateStatisticsMetrics(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null) {
+            return;
+        }
+        Statistics statistics = factory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+        counter(registry, statistics, "gradpath.hibernate.statements.prepared", "准备的 JDBC 语句数", Statistics::getPrepareStatementCount);
+        counter(registry, statistics, "gradpath.hibernate.queries.executed", "执行的 HQL / SQL 查询数", Statistics::getQueryExecutionCount);
+        counter(registry, statistics, "gradpath.hibernate.entities.loaded", "加载的实体数", Statistics::getEntityLoadCount);
+        counter(registry, statistics, "gradpath.hibernate.entities.fetched", "按关联或 id 单独抓取的实体数", Statistics::getEntityFetchCount);
+        counter(registry, statistics, "gradpath.hibernate.connections.obtained", "获取的 JDBC 连接数", Statistics::getConnectCount);
+    }
+
+    private static void counter(MeterRegistry registry, Statistics statistics, String name, String description,
+                                ToDoubleFunction<Statistics> value) {
+        FunctionCounter.builder(name, statistics, value)
+                .description(description)
+                .register(registry);
+    }
+}
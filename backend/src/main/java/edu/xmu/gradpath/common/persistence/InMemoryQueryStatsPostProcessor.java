@@ -0,0 +1,58 @@
+package edu.xmu.gradpath.common.persistence;
+
+import jakarta.persistence.Entity;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 为 InMemory*Repository 记录 QueryStats（in-memory 持久化模式）
+ * 说明：
+ * - 每次经由接口的 Repository 方法调用计为一条语句，返回的实体数计为实体加载数
+ * - Repository 内部的自调用（如 saveAll 调用 save）不经过代理，不重复计数，与 JPA 模式下一次批量访问的语义接近
+ * - 已被代理的 Bean（如 @Repository 异常转换）直接追加拦截器，否则以接口代理包装
+ */
+public class InMemoryQueryStatsPostProcessor implements BeanPostProcessor {
+
+    private static final MethodInterceptor RECORDER = invocation -> {
+        QueryStats.recordStatement();
+        Object result = invocation.proceed();
+        if (QueryStats.current() != null) {
+            QueryStats.recordEntityLoads(loadedEntities(result));
+        }
+        return result;
+    };
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!InMemoryRepository.class.isAssignableFrom(AopUtils.getTargetClass(bean))) {
+            return bean;
+        }
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, RECORDER);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice(RECORDER);
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    private static long loadedEntities(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return result != null && result.getClass().isAnnotationPresent(Entity.class) ? 1 : 0;
+    }
+}
@@ -0,0 +1,367 @@
+package edu.xmu.gradpath.common.persistence;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 基于并发 Map 的 EntityRepository 基类（in-memory 持久化模式）
+ * 说明：
+ * - 主存储为按 id 有序的 ConcurrentSkipListMap，id 由自增序列分配（语义同 IDENTITY），按 id 的 keyset 查询直接走有序视图
+ * - 子类通过 index 声明二级索引（如 applicationId、materialId），通过 unique 声明唯一约束，save / delete 时同步维护
+ * - 写入顺序为：唯一约束 → 二级索引 → 主存储；删除顺序相反。查询先查索引再回主存储，不会读到索引中已删除的行
+ * - 与 JPA 不同，返回的是存储中的同一实体实例，修改在 save 之前即对其他读者可见；事务回滚不会撤销已写入的数据
+ * - 索引与唯一约束的键字段（applicationId、materialId、materialVersion 等）在实体生命周期内不可变
+ * - 排序按实体字段名取值比较（见 comparator），分页在排序后的结果上截取
+ * @param <T> 实体类型（主键字段名为 id，类型为 Long）
+ */
+public abstract class InMemoryRepository<T> implements EntityRepository<T> {
+
+    protected final ConcurrentSkipListMap<Long, T> rows = new ConcurrentSkipListMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Class<T> entityType;
+    private final Field idField;
+    private final Map<String, Field> propertyFields = new ConcurrentHashMap<>();
+    private final List<Index<T>> indexes = new CopyOnWriteArrayList<>();
+    private final List<UniqueConstraint<T>> uniqueConstraints = new CopyOnWriteArrayList<>();
+
+    protected InMemoryRepository(Class<T> entityType) {
+        Field field = ReflectionUtils.findField(entityType, "id", Long.class);
+        if (field == null) {
+            throw new IllegalArgumentException(entityType.getName() + " has no Long id field");
+        }
+        ReflectionUtils.makeAccessible(field);
+        this.entityType = entityType;
+        this.idField = field;
+    }
+
+    /**
+     * 声明按某个 Long 字段的二级索引（同一键下按 id 升序）
+     */
+    protected final Index<T> index(Function<T, Long> key) {
+        Index<T> index = new Index<>(key, rows);
+        indexes.add(index);
+        return index;
+    }
+
+    /**
+     * 声明唯一约束，违反时与数据库一致抛出 DataIntegrityViolationException
+     */
+    protected final void unique(String name, Function<T, Object> key) {
+        uniqueConstraints.add(new UniqueConstraint<>(name, key));
+    }
+
+    protected final Long idOf(T entity) {
+        return (Long) ReflectionUtils.getField(idField, entity);
+    }
+
+    /**
+     * 按 id 升序返回给定 id 对应的实体（跳过不存在的 id）
+     */
+    protected final List<T> rowsOf(Collection<Long> ids) {
+        List<T> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T row = rows.get(id);
+            if (row != null) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public <S extends T> S save(S entity) {
+        Long id = idOf(entity);
+        if (id == null) {
+            id = sequence.incrementAndGet();
+            ReflectionUtils.setField(idField, entity, id);
+        } else {
+            sequence.accumulateAndGet(id, Math::max);
+        }
+        List<UniqueConstraint<T>> claimed = new ArrayList<>();
+        for (UniqueConstraint<T> constraint : uniqueConstraints) {
+            Long owner = constraint.claim(entity, id);
+            if (owner == null) {
+                claimed.add(constraint);
+            } else if (!owner.equals(id)) {
+                for (UniqueConstraint<T> previous : claimed) {
+                    previous.release(entity, id);
+                }
+                throw new DataIntegrityViolationException("duplicate entry for " + constraint.name);
+            }
+        }
+        for (Index<T> index : indexes) {
+            index.add(entity, id);
+        }
+        rows.put(id, entity);
+        return entity;
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        for (S entity : entities) {
+            saved.add(save(entity));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<T> findById(Long id) {
+        return Optional.ofNullable(rows.get(id));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return rows.containsKey(id);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return new ArrayList<>(rows.values());
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<Long> ids) {
+        List<T> result = new ArrayList<>();
+        for (Long id : ids) {
+            T row = rows.get(id);
+            if (row != null) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long count() {
+        return rows.size();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        T row = rows.get(id);
+        if (row != null) {
+            delete(row);
+        }
+    }
+
+    @Override
+    public void delete(T entity) {
+        Long id = idOf(entity);
+        if (id == null || rows.remove(id) == null) {
+            return;
+        }
+        for (Index<T> index : indexes) {
+            index.remove(entity, id);
+        }
+        for (UniqueConstraint<T> constraint : uniqueConstraints) {
+            constraint.release(entity, id);
+        }
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        for (Long id : ids) {
+            deleteById(id);
+        }
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        for (T entity : entities) {
+            delete(entity);
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        for (T row : rows.values()) {
+            delete(row);
+        }
+    }
+
+    @Override
+    public void deleteAllInBatch(Iterable<T> entities) {
+        deleteAll(entities);
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        List<T> result = findAll();
+        if (sort.isSorted()) {
+            result.sort(comparator(sort));
+        }
+        return result;
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAll(pageable.getSort()));
+        }
+        List<T> content = (pageable.getSort().isSorted() ? findAll(pageable.getSort()) : findAll()).stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, rows.size());
+    }
+
+    /**
+     * 按 Sort 逐个属性比较（属性为实体字段名，值需实现 Comparable）
+     * 说明：
+     * - NullHandling.NATIVE 与 MySQL 一致：null 视为最小值，升序排在最前、降序排在最后
+     * - 排序属性全部相等时按 id 升序，结果顺序稳定
+     */
+    private Comparator<T> comparator(Sort sort) {
+        Comparator<T> comparator = null;
+        for (Sort.Order order : sort) {
+            Field field = propertyField(order.getProperty());
+            Comparator<T> byProperty = (a, b) -> compareValues(
+                    ReflectionUtils.getField(field, a), ReflectionUtils.getField(field, b), order);
+            comparator = comparator == null ? byProperty : comparator.thenComparing(byProperty);
+        }
+        Comparator<T> byId = Comparator.comparing(this::idOf);
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Object a, Object b, Sort.Order order) {
+        if (a == null || b == null) {
+            if (a == b) {
+                return 0;
+            }
+            boolean nullFirst = switch (order.getNullHandling()) {
+                case NULLS_FIRST -> true;
+                case NULLS_LAST -> false;
+                case NATIVE -> order.isAscending();
+            };
+            return (a == null) == nullFirst ? -1 : 1;
+        }
+        int result = order.isIgnoreCase() && a instanceof String left && b instanceof String right
+                ? String.CASE_INSENSITIVE_ORDER.compare(left, right)
+                : ((Comparable) a).compareTo(b);
+        return order.isAscending() ? result : -result;
+    }
+
+    private Field propertyField(String property) {
+        return propertyFields.computeIfAbsent(property, name -> {
+            Field field = ReflectionUtils.findField(entityType, name);
+            if (field == null || !Comparable.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(field.getType()))) {
+                throw new PropertyReferenceException(name, TypeInformation.of(entityType), List.of());
+            }
+            ReflectionUtils.makeAccessible(field);
+            return field;
+        });
+    }
+
+    /**
+     * 二级索引：键 -> 按 id 升序的 id 集合
+     */
+    protected static final class Index<T> {
+
+        private final Function<T, Long> key;
+        private final ConcurrentSkipListMap<Long, T> rows;
+        private final ConcurrentHashMap<Long, ConcurrentSkipListSet<Long>> idsByKey = new ConcurrentHashMap<>();
+
+        private Index(Function<T, Long> key, ConcurrentSkipListMap<Long, T> rows) {
+            this.key = key;
+            this.rows = rows;
+        }
+
+        /**
+         * 某个键下的全部实体（按 id 升序）
+         */
+        public List<T> find(Long value) {
+            ConcurrentSkipListSet<Long> ids = idsByKey.get(value);
+            List<T> result = new ArrayList<>();
+            if (ids == null) {
+                return result;
+            }
+            for (Long id : ids) {
+                T row = rows.get(id);
+                if (row != null) {
+                    result.add(row);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 一组键下的全部实体（按键的遍历顺序，同一键内按 id 升序）
+         */
+        public List<T> findIn(Collection<Long> values) {
+            List<T> result = new ArrayList<>();
+            for (Long value : values) {
+                result.addAll(find(value));
+            }
+            return result;
+        }
+
+        public boolean containsAny(Collection<Long> values) {
+            for (Long value : values) {
+                ConcurrentSkipListSet<Long> ids = idsByKey.get(value);
+                if (ids != null && !ids.isEmpty()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void add(T entity, Long id) {
+            idsByKey.computeIfAbsent(key.apply(entity), k -> new ConcurrentSkipListSet<>()).add(id);
+        }
+
+        private void remove(T entity, Long id) {
+            ConcurrentSkipListSet<Long> ids = idsByKey.get(key.apply(entity));
+            if (ids != null) {
+                ids.remove(id);
+            }
+        }
+    }
+
+    private static final class UniqueConstraint<T> {
+
+        private final String name;
+        private final Function<T, Object> key;
+        private final ConcurrentHashMap<Object, Long> owners = new ConcurrentHashMap<>();
+
+        private UniqueConstraint(String name, Function<T, Object> key) {
+            this.name = name;
+            this.key = key;
+        }
+
+        /**
+         * 占用唯一键
+         * @return 原占用者 id（null 表示本次新占用）
+         */
+        private Long claim(T entity, Long id) {
+            return owners.putIfAbsent(key.apply(entity), id);
+        }
+
+        private void release(T entity, Long id) {
+            owners.remove(key.apply(entity), id);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package edu.xmu.gradpath.common.persistence;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * in-memory 持久化模式下的事务管理器
+ * 说明：
+ * - 不提供隔离与回滚：写入直接作用于内存仓库，回滚不会撤销
+ * - 保留事务边界与事务同步，@Transactional 传播语义、TransactionTemplate、
+ *   @TransactionalEventListener(AFTER_COMMIT) 等行为与 JPA 模式一致
+ * - 当前线程的事务以绑定在本管理器上的标记表示：REQUIRED 加入外层事务（事务同步到外层结束时才触发），
+ *   REQUIRES_NEW 挂起外层标记
+ */
+public class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+        return new InMemoryTransaction(TransactionSynchronizationManager.hasResource(this));
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((InMemoryTransaction) transaction).existing;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        return TransactionSynchronizationManager.unbindResource(this);
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        TransactionSynchronizationManager.bindResource(this, suspendedResources);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        // 写入已生效
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        // 不支持回滚
+    }
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        // 不支持回滚：参与外层事务时的回滚标记不传播
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(this);
+    }
+
+    private record InMemoryTransaction(boolean existing) {
+    }
+}
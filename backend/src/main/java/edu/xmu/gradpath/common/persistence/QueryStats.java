@@ -0,0 +1,133 @@
+package edu.xmu.gradpath.common.persistence;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单次请求（或一段代码）内的数据库访问统计
+ * 说明：
+ * - 通过 open() 在当前线程上开启统计，Scope 关闭时恢复之前的统计（可嵌套）
+ * - JPA 模式下由 Hibernate 的 StatementInspector / SessionEventListener / PostLoad 监听器记录；
+ *   in-memory 模式下按 Repository 方法调用记录（每次调用计为一条语句）
+ * - 计数字段为 LongAdder，读取时不需要与记录线程同步
+ * - 当前线程未开启统计时，record* 方法直接返回
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder jdbcNanos = new LongAdder();
+    private final LongAdder connectionAcquisitionNanos = new LongAdder();
+    private final LongAdder connectionAcquisitions = new LongAdder();
+    private final LongAdder entityLoads = new LongAdder();
+
+    /**
+     * 在当前线程上开启一份新的统计
+     * @return 统计作用域（关闭时恢复之前的统计）
+     */
+    public static Scope open() {
+        QueryStats previous = CURRENT.get();
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return new Scope(stats, previous);
+    }
+
+    /**
+     * 当前线程上开启的统计（未开启时为 null）
+     */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void recordStatement() {
+        QueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements.increment();
+        }
+    }
+
+    public static void recordJdbcTime(long nanos) {
+        QueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.jdbcNanos.add(nanos);
+        }
+    }
+
+    public static void recordConnectionAcquisition(long nanos) {
+        QueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.connectionAcquisitions.increment();
+            stats.connectionAcquisitionNanos.add(nanos);
+        }
+    }
+
+    public static void recordEntityLoads(long count) {
+        QueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoads.add(count);
+        }
+    }
+
+    /**
+     * 执行的 SQL 语句数（in-memory 模式下为 Repository 方法调用数）
+     */
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    /**
+     * JDBC 语句执行耗时（纳秒，不含结果集映射）
+     */
+    public long getJdbcNanos() {
+        return jdbcNanos.sum();
+    }
+
+    /**
+     * 获取数据库连接的耗时（纳秒）
+     */
+    public long getConnectionAcquisitionNanos() {
+        return connectionAcquisitionNanos.sum();
+    }
+
+    public long getConnectionAcquisitions() {
+        return connectionAcquisitions.sum();
+    }
+
+    /**
+     * 加载的实体数
+     */
+    public long getEntityLoads() {
+        return entityLoads.sum();
+    }
+
+    private static void restore(QueryStats previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * 统计作用域
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final QueryStats stats;
+        private final QueryStats previous;
+
+        private Scope(QueryStats stats, QueryStats previous) {
+            this.stats = stats;
+            this.previous = previous;
+        }
+
+        public QueryStats stats() {
+            return stats;
+        }
+
+        @Override
+        public void close() {
+            restore(previous);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package edu.xmu.gradpath.common.persistence;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * 注册实体加载计数监听器（JPA 模式）
+ * 说明：
+ * - 通过 hibernate.integrator_provider 注册，每加载一个实体（PostLoad）计数一次
+ */
+public class QueryStatsIntegrator implements Integrator {
+
+    private static final PostLoadEventListener ENTITY_LOAD_COUNTER = QueryStatsIntegrator::onPostLoad;
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        sessionFactory.getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, ENTITY_LOAD_COUNTER);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    private static void onPostLoad(PostLoadEvent event) {
+        QueryStats.recordEntityLoads(1);
+    }
+}
@@ -0,0 +1,85 @@
+package edu.xmu.gradpath.common.persistence;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按接口记录数据库访问指标
+ * 说明：
+ * - preHandle 开启 QueryStats，afterCompletion 以 method / uri（路由模板）为标签记录：
+ *   gradpath.db.statements（语句数）、gradpath.db.jdbc.time（JDBC 执行耗时）、
+ *   gradpath.db.connection.acquire.time（连接获取耗时）、gradpath.db.entity.loads（实体加载数）
+ * - 异步请求（流式导出、SSE）在处理线程交出时关闭统计，不记录指标：其主体在其他线程上执行，耗时与数据量相关
+ */
+public class QueryStatsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = QueryStatsInterceptor.class.getName() + ".scope";
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryStatsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && request.getAttribute(SCOPE_ATTRIBUTE) == null) {
+            request.setAttribute(SCOPE_ATTRIBUTE, QueryStats.open());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryStats.Scope scope = (QueryStats.Scope) request.getAttribute(SCOPE_ATTRIBUTE);
+        if (scope != null) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            scope.close();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryStats.Scope scope = (QueryStats.Scope) request.getAttribute(SCOPE_ATTRIBUTE);
+        if (scope == null) {
+            return;
+        }
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+        scope.close();
+        record(request, scope.stats());
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+        DistributionSummary.builder("gradpath.db.statements")
+                .description("每次请求执行的 SQL 语句数")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("gradpath.db.entity.loads")
+                .description("每次请求加载的实体数")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getEntityLoads());
+        Timer.builder("gradpath.db.jdbc.time")
+                .description("每次请求的 JDBC 执行耗时")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("gradpath.db.connection.acquire.time")
+                .description("每次请求获取数据库连接的耗时")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getConnectionAcquisitionNanos(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,46 @@
+package edu.xmu.gradpath.common.persistence;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 记录 JDBC 执行与连接获取耗时（JPA 模式）
+ * 说明：
+ * - 通过 hibernate.session.events.auto 为每个 Session 创建一个实例，Session 不跨线程使用，字段无需同步
+ * - 耗时写入 Session 所在线程上开启的 QueryStats
+ */
+public class QueryStatsSessionEventListener implements SessionEventListener {
+
+    private long executeStartedAt;
+    private long batchStartedAt;
+    private long acquisitionStartedAt;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        QueryStats.recordConnectionAcquisition(System.nanoTime() - acquisitionStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryStats.recordJdbcTime(System.nanoTime() - executeStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryStats.recordJdbcTime(System.nanoTime() - batchStartedAt);
+    }
+}
@@ -0,0 +1,17 @@
+package edu.xmu.gradpath.common.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 记录每条准备执行的 SQL（JPA 模式）
+ * 说明：
+ * - 只计数，原样返回 SQL
+ */
+public class QueryStatsStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryStats.recordStatement();
+        return sql;
+    }
+}
@@ -0,0 +1,56 @@
+package edu.xmu.gradpath.common.persistence;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 读写分离的路由判定
+ * 说明：
+ * - 只读事务（@Transactional(readOnly = true)）内的查询路由到只读副本，其余（写事务、无事务）路由到主库
+ * - pinPrimary 把当前只读事务固定到主库（副本延迟保护），需在事务内第一条查询之前调用
+ * - 路由只在启用只读副本（gradpath.datasource.replica.enabled）时生效，见 ReplicaRoutingDataSource
+ */
+public final class ReplicaRouting {
+
+    /**
+     * 路由目标
+     */
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final Object PRIMARY_PIN = new Object();
+
+    private ReplicaRouting() {
+    }
+
+    /**
+     * 当前线程的路由目标
+     */
+    public static Target currentTarget() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !TransactionSynchronizationManager.hasResource(PRIMARY_PIN)) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+
+    /**
+     * 将当前事务固定到主库（事务结束时自动解除；无事务时无需处理，查询本就路由到主库）
+     */
+    public static void pinPrimary() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(PRIMARY_PIN)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(PRIMARY_PIN, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PRIMARY_PIN);
+            }
+        });
+    }
+}
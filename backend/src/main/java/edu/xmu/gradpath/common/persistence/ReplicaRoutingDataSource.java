@@ -0,0 +1,30 @@
+package edu.xmu.gradpath.common.persistence;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 按 ReplicaRouting 在主库与只读副本之间选择连接池
+ * 说明：
+ * - 必须包在 LazyConnectionDataSourceProxy 内使用：事务开始时只拿到连接代理，
+ *   第一条语句执行时才按只读标记与主库固定标记选择实际连接池
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(
+                ReplicaRouting.Target.PRIMARY, primary,
+                ReplicaRouting.Target.REPLICA, replica
+        ));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ReplicaRouting.currentTarget();
+    }
+}
@@ -0,0 +1,38 @@
+package edu.xmu.gradpath.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.xmu.gradpath.application.service.ApplicationSummaryCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 进程内缓存配置（Caffeine）
+ * 缓存名称固定，启动时即注册，便于 Actuator 绑定 cache.gets / cache.evictions 等指标
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${gradpath.cache.summary.maximum-size:10000}") long maximumSize,
+            @Value("${gradpath.cache.summary.expire-after-write:10m}") Duration expireAfterWrite
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+        cacheManager.setCacheNames(java.util.List.of(
+                ApplicationSummaryCache.REVIEW_SUMMARY,
+                ApplicationSummaryCache.SCORE_SUMMARY,
+                ApplicationSummaryCache.LIFECYCLE_SUMMARY
+        ));
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,31 @@
+package edu.xmu.gradpath.config;
+
+import edu.xmu.gradpath.common.persistence.InMemoryQueryStatsPostProcessor;
+import edu.xmu.gradpath.common.persistence.InMemoryTransactionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * in-memory 持久化模式配置（Spring profile in-memory）
+ * 说明：
+ * - 数据源、Hibernate 与 Spring Data JPA 自动配置在 application-in-memory.yaml 中排除
+ * - 各模块的 InMemory*Repository 以同名接口注册，业务代码无需区分模式
+ * - Repository 调用经 InMemoryQueryStatsPostProcessor 计入 QueryStats，语句数预算测试在两种模式下都可运行
+ * - 用于测试与基准的快速启动，数据只存在于进程内，不提供事务隔离与回滚
+ */
+@Configuration
+@Profile("in-memory")
+public class InMemoryPersistenceConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new InMemoryTransactionManager();
+    }
+
+    @Bean
+    public static InMemoryQueryStatsPostProcessor inMemoryQueryStatsPostProcessor() {
+        return new InMemoryQueryStatsPostProcessor();
+    }
+}
@@ -0,0 +1,57 @@
+package edu.xmu.gradpath.config;
+
+import edu.xmu.gradpath.common.persistence.HibernateStatisticsMetrics;
+import edu.xmu.gradpath.common.persistence.QueryStatsIntegrator;
+import edu.xmu.gradpath.common.persistence.QueryStatsInterceptor;
+import edu.xmu.gradpath.common.persistence.QueryStatsSessionEventListener;
+import edu.xmu.gradpath.common.persistence.QueryStatsStatementInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 数据库访问指标配置
+ * 说明：
+ * - 按接口的语句数 / JDBC 耗时 / 连接获取耗时 / 实体加载数由 QueryStatsInterceptor 记录，经 /actuator/metrics 查看
+ * - JPA 模式下向 Hibernate 注册 StatementInspector、SessionEventListener 与 PostLoad 监听器，并开启 Hibernate Statistics
+ * - in-memory 模式下 Hibernate 自动配置被排除，这里的 Hibernate 配置不生效，改由 InMemoryQueryStatsPostProcessor 计数
+ */
+@Configuration
+public class QueryMetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryMetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryStatsInterceptor(meterRegistry));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryStatsStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryStatsSessionEventListener.class.getName());
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(new QueryStatsIntegrator()));
+        };
+    }
+
+    @Bean
+    public HibernateStatisticsMetrics hibernateStatisticsMetrics(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        return new HibernateStatisticsMetrics(entityManagerFactory);
+    }
+}
@@ -0,0 +1,76 @@
+package edu.xmu.gradpath.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import edu.xmu.gradpath.common.persistence.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 读写分离数据源配置（gradpath.datasource.replica.enabled=true 时生效）
+ * 说明：
+ * - 主库沿用 spring.datasource（含 spring.datasource.hikari），只读副本使用 gradpath.datasource.replica 下的
+ *   url / username / password 与 hikari 连接池配置，两个连接池分别暴露 hikaricp.* 指标
+ * - 对外的 DataSource 为 LazyConnectionDataSourceProxy(ReplicaRoutingDataSource)：
+ *   @Transactional(readOnly = true) 的查询走副本，写事务与无事务查询走主库
+ * - 副本延迟保护见 ReplicaLagGuard；本地可用 replica profile 以两个 MySQL 实例验证
+ * - 未启用时不注册任何 Bean，由 Spring Boot 按 spring.datasource 自动配置单一数据源
+ */
+@Configuration
+@Profile("!in-memory")
+@ConditionalOnProperty(prefix = "gradpath.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("gradpath.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("gradpath.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties replicaDataSourceProperties
+    ) {
+        HikariDataSource dataSource = replicaDataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource
+    ) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+}
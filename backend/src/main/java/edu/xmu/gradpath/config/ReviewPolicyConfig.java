@@ -0,0 +1,15 @@
+package edu.xmu.gradpath.config;
+
+import edu.xmu.gradpath.review.service.ReviewPolicyProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 审核聚合规则配置
+ * 说明：
+ * - 绑定 gradpath.review.policy，由 ReviewAggregationPolicyRegistry 在启动时构建规则
+ */
+@Configuration
+@EnableConfigurationProperties(ReviewPolicyProperties.class)
+public class ReviewPolicyConfig {
+}
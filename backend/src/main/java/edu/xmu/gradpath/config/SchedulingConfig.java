@@ -0,0 +1,13 @@
+package edu.xmu.gradpath.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 定时任务配置
+ * 当前用于 SSE 订阅心跳与审核结果评估发件箱轮询
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
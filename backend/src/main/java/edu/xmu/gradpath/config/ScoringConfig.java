@@ -0,0 +1,15 @@
+package edu.xmu.gradpath.config;
+
+import edu.xmu.gradpath.scoring.service.ScoringRuleProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 分值类别规则配置
+ * 说明：
+ * - 绑定 gradpath.scoring，由 ScoringEngine 在启动时构建规则表
+ */
+@Configuration
+@EnableConfigurationProperties(ScoringRuleProperties.class)
+public class ScoringConfig {
+}
@@ -16,6 +16,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .anyRequest().permitAll()
                 )
+                // 保留默认的 no-store 头；带 ETag 的读接口自行写出 Cache-Control: no-cache，默认头不覆盖已有的 Cache-Control
                 .formLogin(form -> form.disable())
                 .httpBasic(basic -> basic.disable());
 
@@ -0,0 +1,86 @@
+package edu.xmu.gradpath.datagen.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 多行 INSERT 缓冲写入器
+ * 说明：
+ * - 行先在内存中累积，满 rowsPerStatement 行后以一条 insert ... values (...), (...) 写入
+ * - 满批使用同一条 SQL，驱动侧可复用预编译语句；剩余不足一批的行在 flush 时单独写入
+ * - 不使用生成主键，主键由调用方显式赋值
+ * - 非线程安全，每张表一个实例
+ */
+class MultiRowInserter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String insertPrefix;
+    private final String rowPlaceholders;
+    private final int columnCount;
+    private final int rowsPerStatement;
+    private final String fullBatchSql;
+
+    private final List<Object> buffer;
+    private int bufferedRows;
+    private long insertedRows;
+
+    MultiRowInserter(JdbcTemplate jdbcTemplate, String table, List<String> columns, int rowsPerStatement) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertPrefix = "insert into " + table + " (" + String.join(", ", columns) + ") values ";
+        this.rowPlaceholders = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        this.columnCount = columns.size();
+        this.rowsPerStatement = rowsPerStatement;
+        this.fullBatchSql = sql(rowsPerStatement);
+        this.buffer = new ArrayList<>(rowsPerStatement * columnCount);
+    }
+
+    /**
+     * 追加一行，缓冲区满时立即写入
+     * @param values 与列顺序一致的列值
+     */
+    void add(Object... values) {
+        if (values.length != columnCount) {
+            throw new IllegalArgumentException("expected " + columnCount + " values but got " + values.length);
+        }
+        Collections.addAll(buffer, values);
+        bufferedRows++;
+        if (bufferedRows == rowsPerStatement) {
+            write(fullBatchSql);
+        }
+    }
+
+    /**
+     * 写入缓冲区中剩余的行
+     */
+    void flush() {
+        if (bufferedRows > 0) {
+            write(sql(bufferedRows));
+        }
+    }
+
+    long getInsertedRows() {
+        return insertedRows;
+    }
+
+    private void write(String sql) {
+        jdbcTemplate.update(sql, buffer.toArray());
+        insertedRows += bufferedRows;
+        buffer.clear();
+        bufferedRows = 0;
+    }
+
+    private String sql(int rows) {
+        StringBuilder sql = new StringBuilder(insertPrefix.length() + rows * (rowPlaceholders.length() + 2));
+        sql.append(insertPrefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowPlaceholders);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,416 @@
+package edu.xmu.gradpath.datagen.service;
+
+import edu.xmu.gradpath.application.domain.ApplicationStatus;
+import edu.xmu.gradpath.application.service.ApplicationOverviewProjector;
+import edu.xmu.gradpath.material.domain.ScoreMode;
+import edu.xmu.gradpath.review.domain.MaterialReviewAggregation;
+import edu.xmu.gradpath.review.domain.ReviewAggregationResult;
+import edu.xmu.gradpath.review.domain.ReviewDecision;
+import edu.xmu.gradpath.review.service.ReviewAggregationPolicy;
+import edu.xmu.gradpath.review.service.ReviewAggregationPolicyRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 合成数据生成器（仅在 datagen profile 下启用）
+ * 说明：
+ * - 启动：./mvnw spring-boot:run -Dspring-boot.run.profiles=datagen（参数见 application-datagen.yaml）
+ * - 直接以多行 INSERT 写入 gp_application、gp_material、gp_review_record、gp_material_review_aggregation、gp_material_score，
+ *   不经过 JPA 与业务服务，主键从各表当前最大 id 之后显式分配，生成期间不应有其他写入
+ * - 数据形态：每个 Application 的 Material 数量为截断的指数分布（少数 Application 材料很多），
+ *   每个 Material 有多名审核员，部分审核员改判（同一审核员多条记录，后写为准），
+ *   部分冲突由仲裁审核员裁决，部分 Material 在 HAS_REJECT 后被修订产生新版本
+ * - 审核聚合状态按各材料类别适用的 ReviewAggregationPolicy 推导，Application 状态按 evaluateAfterReview 的规则推导，
+ *   MaterialScore 只写给当前版本 ALL_PASS 的 DECLARED Material，与在线写入路径产生的数据一致
+ * - 同一 seed 生成相同的数据
+ * - 批量写入不发布变更事件，写入完成后全量重建 gp_application_overview 投影
+ */
+@Component
+@Profile("datagen")
+public class SyntheticDatasetGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDatasetGenerator.class);
+
+    private static final String[] SCORING_CATEGORIES = {"竞赛", "论文", "科研"};
+    private static final String NON_SCORING_CATEGORY = "资格";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReviewAggregationPolicyRegistry policyRegistry;
+    private final ApplicationOverviewProjector overviewProjector;
+    private final ConfigurableApplicationContext applicationContext;
+
+    private final int applications;
+    private final double meanMaterials;
+    private final int maxMaterials;
+    private final int maxReviewersPerMaterial;
+    private final int reviewerPoolSize;
+    private final long firstReviewerId;
+    private final long arbiterReviewerId;
+    private final double revisionRate;
+    private final double reReviewRate;
+    private final double arbiterRate;
+    private final double rejectRate;
+    private final double scoreRate;
+    private final long seed;
+    private final int rowsPerStatement;
+    private final boolean exitOnFinish;
+
+    private Random random;
+    private long[] reviewerIds;
+    private LocalDateTime clock;
+
+    private long nextApplicationId;
+    private long nextMaterialId;
+    private long nextReviewRecordId;
+    private long nextAggregationId;
+    private long nextScoreId;
+
+    private MultiRowInserter applicationInserter;
+    private MultiRowInserter materialInserter;
+    private MultiRowInserter reviewRecordInserter;
+    private MultiRowInserter aggregationInserter;
+    private MultiRowInserter scoreInserter;
+
+    public SyntheticDatasetGenerator(JdbcTemplate jdbcTemplate,
+                                     ReviewAggregationPolicyRegistry policyRegistry,
+                                     ApplicationOverviewProjector overviewProjector,
+                                     ConfigurableApplicationContext applicationContext,
+                                     @Value("${gradpath.datagen.applications:10000}") int applications,
+                                     @Value("${gradpath.datagen.mean-materials:4}") double meanMaterials,
+                                     @Value("${gradpath.datagen.max-materials:40}") int maxMaterials,
+                                     @Value("${gradpath.datagen.max-reviewers-per-material:4}") int maxReviewersPerMaterial,
+                                     @Value("${gradpath.datagen.reviewer-pool-size:200}") int reviewerPoolSize,
+                                     @Value("${gradpath.datagen.first-reviewer-id:1000}") long firstReviewerId,
+                                     @Value("${gradpath.datagen.arbiter-reviewer-id:1}") long arbiterReviewerId,
+                                     @Value("${gradpath.datagen.revision-rate:0.1}") double revisionRate,
+                                     @Value("${gradpath.datagen.re-review-rate:0.1}") double reReviewRate,
+                                     @Value("${gradpath.datagen.arbiter-rate:0.5}") double arbiterRate,
+                                     @Value("${gradpath.datagen.reject-rate:0.05}") double rejectRate,
+                                     @Value("${gradpath.datagen.score-rate:0.8}") double scoreRate,
+                                     @Value("${gradpath.datagen.seed:20260101}") long seed,
+                                     @Value("${gradpath.datagen.rows-per-statement:1000}") int rowsPerStatement,
+                                     @Value("${gradpath.datagen.exit-on-finish:true}") boolean exitOnFinish) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.policyRegistry = policyRegistry;
+        this.overviewProjector = overviewProjector;
+        this.applicationContext = applicationContext;
+        this.applications = applications;
+        this.meanMaterials = meanMaterials;
+        this.maxMaterials = maxMaterials;
+        this.maxReviewersPerMaterial = maxReviewersPerMaterial;
+        this.reviewerPoolSize = reviewerPoolSize;
+        this.firstReviewerId = firstReviewerId;
+        this.arbiterReviewerId = arbiterReviewerId;
+        this.revisionRate = revisionRate;
+        this.reReviewRate = reReviewRate;
+        this.arbiterRate = arbiterRate;
+        this.rejectRate = rejectRate;
+        this.scoreRate = scoreRate;
+        this.seed = seed;
+        this.rowsPerStatement = rowsPerStatement;
+        this.exitOnFinish = exitOnFinish;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        generate();
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    /**
+     * 生成并写入全部数据
+     */
+    public void generate() {
+        validate();
+        random = new Random(seed);
+        clock = LocalDateTime.now().minusDays(30);
+
+        nextApplicationId = maxId("gp_application") + 1;
+        nextMaterialId = maxId("gp_material") + 1;
+        nextReviewRecordId = maxId("gp_review_record") + 1;
+        nextAggregationId = maxId("gp_material_review_aggregation") + 1;
+        nextScoreId = maxId("gp_material_score") + 1;
+        long firstApplicationId = nextApplicationId;
+
+        applicationInserter = new MultiRowInserter(jdbcTemplate, "gp_application",
+                List.of("id", "user_id", "status", "created_at", "updated_at", "revision"), rowsPerStatement);
+        materialInserter = new MultiRowInserter(jdbcTemplate, "gp_material",
+                List.of("id", "application_id", "category", "content", "attachment_ref", "created_at", "updated_at",
+                        "version", "declared_score", "score_mode"), rowsPerStatement);
+        reviewRecordInserter = new MultiRowInserter(jdbcTemplate, "gp_review_record",
+                List.of("id", "material_id", "material_version", "reviewer_id", "decision", "comment", "created_at"),
+                rowsPerStatement);
+        aggregationInserter = new MultiRowInserter(jdbcTemplate, "gp_material_review_aggregation",
+                List.of("id", "material_id", "material_version", "reviewer_count", "pass_count", "reject_count",
+                        "arbiter_decision", "arbiter_decided_at", "result", "updated_at"), rowsPerStatement);
+        scoreInserter = new MultiRowInserter(jdbcTemplate, "gp_material_score",
+                List.of("id", "material_id", "material_version", "approved_score", "decided_at"), rowsPerStatement);
+
+        long startedAt = System.nanoTime();
+        int progressStep = Math.max(1, applications / 10);
+        for (int i = 1; i <= applications; i++) {
+            generateApplication();
+            if (i % progressStep == 0) {
+                log.info("datagen: {}/{} applications, {} review records", i, applications,
+                        reviewRecordInserter.getInsertedRows());
+            }
+        }
+        applicationInserter.flush();
+        materialInserter.flush();
+        reviewRecordInserter.flush();
+        aggregationInserter.flush();
+        scoreInserter.flush();
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        long totalRows = applicationInserter.getInsertedRows() + materialInserter.getInsertedRows()
+                + reviewRecordInserter.getInsertedRows() + aggregationInserter.getInsertedRows()
+                + scoreInserter.getInsertedRows();
+        log.info("datagen finished in {} ms ({} rows/s): applicationId {}-{}, {} materials, {} review records, {} aggregations, {} scores",
+                elapsedMillis, totalRows * 1000 / elapsedMillis, firstApplicationId, nextApplicationId - 1,
+                materialInserter.getInsertedRows(), reviewRecordInserter.getInsertedRows(),
+                aggregationInserter.getInsertedRows(), scoreInserter.getInsertedRows());
+
+        overviewProjector.rebuild();
+    }
+
+    private void validate() {
+        if (maxReviewersPerMaterial < 2 || reviewerPoolSize < maxReviewersPerMaterial) {
+            throw new IllegalStateException("gradpath.datagen.max-reviewers-per-material must be at least 2 and not exceed reviewer-pool-size");
+        }
+        reviewerIds = new long[reviewerPoolSize];
+        for (int i = 0; i < reviewerPoolSize; i++) {
+            reviewerIds[i] = firstReviewerId + i;
+        }
+        List<String> categories = new ArrayList<>(List.of(SCORING_CATEGORIES));
+        categories.add(NON_SCORING_CATEGORY);
+        for (String category : categories) {
+            ReviewAggregationPolicy policy = policyRegistry.policyFor(category);
+            if (!policy.isArbiter(arbiterReviewerId)) {
+                throw new IllegalStateException("gradpath.datagen.arbiter-reviewer-id " + arbiterReviewerId + " is not an arbiter for category " + category);
+            }
+            if (policy.getMinReviewers() > maxReviewersPerMaterial) {
+                throw new IllegalStateException("gradpath.datagen.max-reviewers-per-material is below min-reviewers of category " + category);
+            }
+            for (long reviewerId : reviewerIds) {
+                if (policy.isArbiter(reviewerId)) {
+                    throw new IllegalStateException("reviewer pool overlaps arbiter reviewer " + reviewerId + " of category " + category);
+                }
+            }
+        }
+    }
+
+    private long maxId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        return maxId == null ? 0L : maxId;
+    }
+
+    /**
+     * 生成一个 Application 及其全部 Material、审核记录、聚合状态与分值
+     * 说明：
+     * - 先决定所处阶段：草稿、已提交未审核、进入审核
+     * - 进入审核的 Application 的最终状态由各 Material 当前版本的聚合结果推导（与 evaluateAfterReview 一致）
+     */
+    private void generateApplication() {
+        long applicationId = nextApplicationId++;
+        LocalDateTime createdAt = tick(3600);
+
+        double phase = random.nextDouble();
+        boolean submitted = phase >= 0.1;
+        boolean reviewed = phase >= 0.25;
+
+        int materialCount = materialCount();
+        if (submitted && materialCount == 0) {
+            materialCount = 1;
+        }
+
+        boolean anyReview = false;
+        boolean anyReject = false;
+        boolean allPass = materialCount > 0;
+        List<Object[]> pendingScores = new ArrayList<>();
+
+        for (int m = 0; m < materialCount; m++) {
+            long materialId = nextMaterialId++;
+            boolean scoring = random.nextInt(5) != 0;
+            String category = scoring ? SCORING_CATEGORIES[random.nextInt(SCORING_CATEGORIES.length)] : NON_SCORING_CATEGORY;
+            BigDecimal declaredScore = scoring
+                    ? BigDecimal.valueOf(50 + random.nextInt(1950), 2)
+                    : BigDecimal.ZERO.setScale(2, RoundingMode.UNNECESSARY);
+
+            // 只有进入审核的 Application 才可能修订（修订前一版本为 HAS_REJECT）
+            ReviewAggregationPolicy policy = policyRegistry.policyFor(category);
+            int version = 1;
+            while (reviewed && version < 3 && random.nextDouble() < revisionRate) {
+                generateReviews(policy, materialId, version, true);
+                version++;
+            }
+
+            MaterialReviewAggregation current = reviewed
+                    ? generateReviews(policy, materialId, version, false)
+                    : writeAggregation(policy, MaterialReviewAggregation.empty(materialId, version), clock);
+            ReviewAggregationResult result = current.getResult();
+            anyReview |= current.getReviewerCount() > 0;
+            anyReject |= result == ReviewAggregationResult.HAS_REJECT;
+            allPass &= result == ReviewAggregationResult.ALL_PASS;
+
+            if (scoring && result == ReviewAggregationResult.ALL_PASS && random.nextDouble() < scoreRate) {
+                BigDecimal approvedScore = declaredScore
+                        .multiply(BigDecimal.valueOf(50 + random.nextInt(51), 2))
+                        .setScale(2, RoundingMode.HALF_UP);
+                pendingScores.add(new Object[]{nextScoreId++, materialId, version, approvedScore, timestamp(tick(60))});
+            }
+
+            Timestamp materialCreatedAt = timestamp(createdAt);
+            materialInserter.add(materialId, applicationId, category,
+                    "synthetic material " + materialId, "datagen/" + materialId + ".pdf",
+                    materialCreatedAt, timestamp(clock), version, declaredScore,
+                    scoring ? ScoreMode.DECLARED.name() : ScoreMode.NONE.name());
+        }
+
+        ApplicationStatus status;
+        if (!submitted) {
+            status = ApplicationStatus.DRAFT;
+        } else if (!anyReview) {
+            status = ApplicationStatus.SUBMITTED;
+        } else if (anyReject) {
+            status = ApplicationStatus.REJECTED;
+        } else if (allPass) {
+            status = ApplicationStatus.APPROVED;
+        } else {
+            status = ApplicationStatus.UNDER_REVIEW;
+        }
+
+        // 分值只能在 UNDER_REVIEW 期间裁决，终态 REJECTED 的 Application 不保留分值
+        if (status == ApplicationStatus.UNDER_REVIEW || status == ApplicationStatus.APPROVED) {
+            for (Object[] score : pendingScores) {
+                scoreInserter.add(score);
+            }
+        }
+
+        applicationInserter.add(applicationId, applicationId, status.name(), timestamp(createdAt), timestamp(clock), 0L);
+    }
+
+    /**
+     * 为某个材料版本生成审核记录并写入聚合状态
+     * @param policy 材料类别适用的审核聚合规则
+     * @param superseded 是否为已被修订的旧版本（此时生成的审核结论必为 HAS_REJECT）
+     * @return 写入的聚合状态（已设置 result）
+     */
+    private MaterialReviewAggregation generateReviews(ReviewAggregationPolicy policy, long materialId, int version, boolean superseded) {
+        // 旧版本的审核员人数不低于规则下限，保证其结论为 HAS_REJECT 而不是 INCOMPLETE
+        int minimum = Math.max(2, policy.getMinReviewers());
+        int reviewerCount = superseded ? minimum + random.nextInt(maxReviewersPerMaterial - minimum + 1) : reviewerCount();
+
+        int passCount = 0;
+        int rejectCount = 0;
+        int offset = random.nextInt(reviewerPoolSize);
+        // 步长不超过 pool / max，保证同一材料版本的审核员互不相同
+        int stride = 1 + random.nextInt(reviewerPoolSize / maxReviewersPerMaterial);
+        for (int r = 0; r < reviewerCount; r++) {
+            long reviewerId = reviewerIds[(offset + r * stride) % reviewerPoolSize];
+            ReviewDecision decision = superseded || random.nextDouble() < rejectRate
+                    ? ReviewDecision.REJECT
+                    : ReviewDecision.PASS;
+            // 改判：同一审核员先给出相反结论，后一条为准
+            if (random.nextDouble() < reReviewRate) {
+                writeReviewRecord(materialId, version, reviewerId, opposite(decision));
+            }
+            writeReviewRecord(materialId, version, reviewerId, decision);
+            if (decision == ReviewDecision.PASS) {
+                passCount++;
+            } else {
+                rejectCount++;
+            }
+        }
+
+        // 冲突时按比例由仲裁审核员裁决；仲裁审核员同样计入审核员人数
+        ReviewDecision arbiterDecision = null;
+        LocalDateTime arbiterDecidedAt = null;
+        if (passCount > 0 && rejectCount > 0 && random.nextDouble() < arbiterRate) {
+            arbiterDecision = random.nextInt(4) == 0 ? ReviewDecision.REJECT : ReviewDecision.PASS;
+            arbiterDecidedAt = writeReviewRecord(materialId, version, arbiterReviewerId, arbiterDecision);
+            reviewerCount++;
+            if (arbiterDecision == ReviewDecision.PASS) {
+                passCount++;
+            } else {
+                rejectCount++;
+            }
+        }
+
+        MaterialReviewAggregation state = MaterialReviewAggregation.folded(
+                materialId, version, reviewerCount, passCount, rejectCount, arbiterDecision, arbiterDecidedAt);
+        return writeAggregation(policy, state, clock);
+    }
+
+    private MaterialReviewAggregation writeAggregation(ReviewAggregationPolicy policy, MaterialReviewAggregation state, LocalDateTime updatedAt) {
+        state.setResult(policy.resolve(state));
+        aggregationInserter.add(nextAggregationId++, state.getMaterialId(), state.getMaterialVersion(),
+                state.getReviewerCount(), state.getPassCount(), state.getRejectCount(),
+                state.getArbiterDecision() == null ? null : state.getArbiterDecision().name(),
+                state.getArbiterDecidedAt() == null ? null : timestamp(state.getArbiterDecidedAt()),
+                state.getResult().name(), timestamp(updatedAt));
+        return state;
+    }
+
+    private LocalDateTime writeReviewRecord(long materialId, int version, long reviewerId, ReviewDecision decision) {
+        LocalDateTime createdAt = tick(120);
+        reviewRecordInserter.add(nextReviewRecordId++, materialId, version, reviewerId, decision.name(), null,
+                timestamp(createdAt));
+        return createdAt;
+    }
+
+    /**
+     * Material 数量：均值为 mean-materials 的指数分布，截断到 [0, max-materials]
+     */
+    private int materialCount() {
+        int count = (int) Math.round(-meanMaterials * Math.log(1.0 - random.nextDouble()));
+        return Math.min(count, maxMaterials);
+    }
+
+    /**
+     * 当前版本审核员人数：少量无人审核或人数不足，其余在 [2, max-reviewers-per-material] 内均匀分布
+     */
+    private int reviewerCount() {
+        double p = random.nextDouble();
+        if (p < 0.05) {
+            return 0;
+        }
+        if (p < 0.15) {
+            return 1;
+        }
+        return 2 + random.nextInt(maxReviewersPerMaterial - 1);
+    }
+
+    private static ReviewDecision opposite(ReviewDecision decision) {
+        return decision == ReviewDecision.PASS ? ReviewDecision.REJECT : ReviewDecision.PASS;
+    }
+
+    /**
+     * 推进生成时钟（严格递增，保证同一审核员多条记录的先后确定）
+     */
+    private LocalDateTime tick(int maxSeconds) {
+        clock = clock.plusSeconds(1 + random.nextInt(maxSeconds));
+        return clock;
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        return Timestamp.valueOf(time);
+    }
+}
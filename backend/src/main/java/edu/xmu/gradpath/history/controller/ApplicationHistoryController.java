@@ -0,0 +1,52 @@
+package edu.xmu.gradpath.history.controller;
+
+import edu.xmu.gradpath.common.response.ApiResponse;
+import edu.xmu.gradpath.history.controller.dto.ApplicationHistoryEventView;
+import edu.xmu.gradpath.history.controller.dto.ApplicationHistoryView;
+import edu.xmu.gradpath.history.service.ApplicationHistoryService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Application 历史控制器
+ * 提供时间点状态重建与历史事件审计的 HTTP 入口
+ */
+@RestController
+@RequestMapping(
+        value = "/applications/{id}/history",
+        produces = "application/json"
+)
+public class ApplicationHistoryController {
+
+    private final ApplicationHistoryService historyService;
+
+    public ApplicationHistoryController(ApplicationHistoryService historyService) {
+        this.historyService = historyService;
+    }
+
+    /**
+     * 重建 Application 在某个时间点的完整状态（at 为 ISO 本地时间，如 2026-03-01T10:00:00，缺省为当前时间）
+     */
+    @GetMapping
+    public ApiResponse<ApplicationHistoryView> getStateAt(
+            @PathVariable("id") Long applicationId,
+            @RequestParam(value = "at", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at
+    ) {
+        return ApiResponse.success(historyService.getStateAt(applicationId, at));
+    }
+
+    /**
+     * 分页查询 Application 的历史事件（keyset 分页）
+     */
+    @GetMapping("/events")
+    public ApiResponse<List<ApplicationHistoryEventView>> getEvents(
+            @PathVariable("id") Long applicationId,
+            @RequestParam(value = "afterId", required = false) Long afterId,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return ApiResponse.success(historyService.getEvents(applicationId, afterId, limit));
+    }
+}
@@ -0,0 +1,89 @@
+package edu.xmu.gradpath.history.controller.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import edu.xmu.gradpath.application.event.ApplicationChangeType;
+import edu.xmu.gradpath.history.domain.HistoryAction;
+import edu.xmu.gradpath.history.domain.HistoryEntityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application 历史事件视图（审计明细）
+ * 说明：
+ * - payload 为变更后的实体状态，格式同 ApplicationHistoryView 中对应的 Record，REMOVE 时为空
+ */
+public class ApplicationHistoryEventView {
+
+    private Long id;
+    private HistoryEntityType entityType;
+    private Long entityId;
+    private HistoryAction action;
+    private ApplicationChangeType cause;
+    private Long revision;
+    private LocalDateTime occurredAt;
+    private JsonNode payload;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public HistoryEntityType getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(HistoryEntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public HistoryAction getAction() {
+        return action;
+    }
+
+    public void setAction(HistoryAction action) {
+        this.action = action;
+    }
+
+    public ApplicationChangeType getCause() {
+        return cause;
+    }
+
+    public void setCause(ApplicationChangeType cause) {
+        this.cause = cause;
+    }
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public JsonNode getPayload() {
+        return payload;
+    }
+
+    public void setPayload(JsonNode payload) {
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,444 @@
+package edu.xmu.gradpath.history.controller.dto;
+
+import edu.xmu.gradpath.application.domain.Application;
+import edu.xmu.gradpath.application.domain.ApplicationStatus;
+import edu.xmu.gradpath.material.domain.Material;
+import edu.xmu.gradpath.material.domain.MaterialScore;
+import edu.xmu.gradpath.material.domain.ScoreMode;
+import edu.xmu.gradpath.review.domain.MaterialReviewAggregation;
+import edu.xmu.gradpath.review.domain.ReviewAggregationResult;
+import edu.xmu.gradpath.review.domain.ReviewDecision;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Application 在某个时间点的完整状态（由最近快照与其后的历史事件重放得到）
+ * 说明：
+ * - application / materials / reviewAggregations / scores 与对应实体的字段一一对应，也是历史事件 payload 的格式
+ * - 时间截断到微秒、分值统一为两位小数，与数据库列精度一致，保证同一状态在写入前后序列化结果相同
+ * - revision / lastEventId 为重放到的最后一条事件的修订号与 ID，replayedEvents 为快照之后重放的事件数
+ */
+public class ApplicationHistoryView {
+
+    private Long applicationId;
+    private LocalDateTime asOf;
+    private Long revision;
+    private Long lastEventId;
+    private int replayedEvents;
+    private ApplicationRecord application;
+    private List<MaterialRecord> materials;
+    private List<ReviewAggregationRecord> reviewAggregations;
+    private List<ScoreRecord> scores;
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public LocalDateTime getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(LocalDateTime asOf) {
+        this.asOf = asOf;
+    }
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
+
+    public Long getLastEventId() {
+        return lastEventId;
+    }
+
+    public void setLastEventId(Long lastEventId) {
+        this.lastEventId = lastEventId;
+    }
+
+    public int getReplayedEvents() {
+        return replayedEvents;
+    }
+
+    public void setReplayedEvents(int replayedEvents) {
+        this.replayedEvents = replayedEvents;
+    }
+
+    public ApplicationRecord getApplication() {
+        return application;
+    }
+
+    public void setApplication(ApplicationRecord application) {
+        this.application = application;
+    }
+
+    public List<MaterialRecord> getMaterials() {
+        return materials;
+    }
+
+    public void setMaterials(List<MaterialRecord> materials) {
+        this.materials = materials;
+    }
+
+    public List<ReviewAggregationRecord> getReviewAggregations() {
+        return reviewAggregations;
+    }
+
+    public void setReviewAggregations(List<ReviewAggregationRecord> reviewAggregations) {
+        this.reviewAggregations = reviewAggregations;
+    }
+
+    public List<ScoreRecord> getScores() {
+        return scores;
+    }
+
+    public void setScores(List<ScoreRecord> scores) {
+        this.scores = scores;
+    }
+
+    private static LocalDateTime micros(LocalDateTime time) {
+        return time == null ? null : time.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static BigDecimal scaled(BigDecimal value) {
+        return value == null ? null : value.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Application 状态（不含修订号，修订号随每次变更递增，记录在事件上）
+     */
+    public static class ApplicationRecord {
+
+        private Long id;
+        private Long userId;
+        private ApplicationStatus status;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        public static ApplicationRecord from(Application application) {
+            ApplicationRecord record = new ApplicationRecord();
+            record.id = application.getId();
+            record.userId = application.getUserId();
+            record.status = application.getStatus();
+            record.createdAt = micros(application.getCreatedAt());
+            record.updatedAt = micros(application.getUpdatedAt());
+            return record;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+
+        public ApplicationStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(ApplicationStatus status) {
+            this.status = status;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+
+        public void setUpdatedAt(LocalDateTime updatedAt) {
+            this.updatedAt = updatedAt;
+        }
+    }
+
+    /**
+     * Material 状态
+     */
+    public static class MaterialRecord {
+
+        private Long id;
+        private String category;
+        private String content;
+        private String attachmentRef;
+        private BigDecimal declaredScore;
+        private ScoreMode scoreMode;
+        private Integer version;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        public static MaterialRecord from(Material material) {
+            MaterialRecord record = new MaterialRecord();
+            record.id = material.getId();
+            record.category = material.getCategory();
+            record.content = material.getContent();
+            record.attachmentRef = material.getAttachmentRef();
+            record.declaredScore = scaled(material.getDeclaredScore());
+            record.scoreMode = material.getScoreMode();
+            record.version = material.getVersion();
+            record.createdAt = micros(material.getCreatedAt());
+            record.updatedAt = micros(material.getUpdatedAt());
+            return record;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public void setCategory(String category) {
+            this.category = category;
+        }
+
+        public String getContent() {
+            return content;
+        }
+
+        public void setContent(String content) {
+            this.content = content;
+        }
+
+        public String getAttachmentRef() {
+            return attachmentRef;
+        }
+
+        public void setAttachmentRef(String attachmentRef) {
+            this.attachmentRef = attachmentRef;
+        }
+
+        public BigDecimal getDeclaredScore() {
+            return declaredScore;
+        }
+
+        public void setDeclaredScore(BigDecimal declaredScore) {
+            this.declaredScore = declaredScore;
+        }
+
+        public ScoreMode getScoreMode() {
+            return scoreMode;
+        }
+
+        public void setScoreMode(ScoreMode scoreMode) {
+            this.scoreMode = scoreMode;
+        }
+
+        public Integer getVersion() {
+            return version;
+        }
+
+        public void setVersion(Integer version) {
+            this.version = version;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+
+        public void setUpdatedAt(LocalDateTime updatedAt) {
+            this.updatedAt = updatedAt;
+        }
+    }
+
+    /**
+     * Material 当前版本的审核聚合状态
+     */
+    public static class ReviewAggregationRecord {
+
+        private Long materialId;
+        private Integer materialVersion;
+        private int reviewerCount;
+        private int passCount;
+        private int rejectCount;
+        private ReviewDecision arbiterDecision;
+        private LocalDateTime arbiterDecidedAt;
+        private ReviewAggregationResult result;
+        private LocalDateTime updatedAt;
+
+        public static ReviewAggregationRecord from(MaterialReviewAggregation aggregation) {
+            ReviewAggregationRecord record = new ReviewAggregationRecord();
+            record.materialId = aggregation.getMaterialId();
+            record.materialVersion = aggregation.getMaterialVersion();
+            record.reviewerCount = aggregation.getReviewerCount();
+            record.passCount = aggregation.getPassCount();
+            record.rejectCount = aggregation.getRejectCount();
+            record.arbiterDecision = aggregation.getArbiterDecision();
+            record.arbiterDecidedAt = micros(aggregation.getArbiterDecidedAt());
+            record.result = aggregation.getResult();
+            record.updatedAt = micros(aggregation.getUpdatedAt());
+            return record;
+        }
+
+        public Long getMaterialId() {
+            return materialId;
+        }
+
+        public void setMaterialId(Long materialId) {
+            this.materialId = materialId;
+        }
+
+        public Integer getMaterialVersion() {
+            return materialVersion;
+        }
+
+        public void setMaterialVersion(Integer materialVersion) {
+            this.materialVersion = materialVersion;
+        }
+
+        public int getReviewerCount() {
+            return reviewerCount;
+        }
+
+        public void setReviewerCount(int reviewerCount) {
+            this.reviewerCount = reviewerCount;
+        }
+
+        public int getPassCount() {
+            return passCount;
+        }
+
+        public void setPassCount(int passCount) {
+            this.passCount = passCount;
+        }
+
+        public int getRejectCount() {
+            return rejectCount;
+        }
+
+        public void setRejectCount(int rejectCount) {
+            this.rejectCount = rejectCount;
+        }
+
+        public ReviewDecision getArbiterDecision() {
+            return arbiterDecision;
+        }
+
+        public void setArbiterDecision(ReviewDecision arbiterDecision) {
+            this.arbiterDecision = arbiterDecision;
+        }
+
+        public LocalDateTime getArbiterDecidedAt() {
+            return arbiterDecidedAt;
+        }
+
+        public void setArbiterDecidedAt(LocalDateTime arbiterDecidedAt) {
+            this.arbiterDecidedAt = arbiterDecidedAt;
+        }
+
+        public ReviewAggregationResult getResult() {
+            return result;
+        }
+
+        public void setResult(ReviewAggregationResult result) {
+            this.result = result;
+        }
+
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+
+        public void setUpdatedAt(LocalDateTime updatedAt) {
+            this.updatedAt = updatedAt;
+        }
+    }
+
+    /**
+     * MaterialScore 状态
+     */
+    public static class ScoreRecord {
+
+        private Long id;
+        private Long materialId;
+        private Integer materialVersion;
+        private BigDecimal approvedScore;
+        private LocalDateTime decidedAt;
+
+        public static ScoreRecord from(MaterialScore score) {
+            ScoreRecord record = new ScoreRecord();
+            record.id = score.getId();
+            record.materialId = score.getMaterialId();
+            record.materialVersion = score.getMaterialVersion();
+            record.approvedScore = scaled(score.getApprovedScore());
+            record.decidedAt = micros(score.getDecidedAt());
+            return record;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Long getMaterialId() {
+            return materialId;
+        }
+
+        public void setMaterialId(Long materialId) {
+            this.materialId = materialId;
+        }
+
+        public Integer getMaterialVersion() {
+            return materialVersion;
+        }
+
+        public void setMaterialVersion(Integer materialVersion) {
+            this.materialVersion = materialVersion;
+        }
+
+        public BigDecimal getApprovedScore() {
+            return approvedScore;
+        }
+
+        public void setApprovedScore(BigDecimal approvedScore) {
+            this.approvedScore = approvedScore;
+        }
+
+        public LocalDateTime getDecidedAt() {
+            return decidedAt;
+        }
+
+        public void setDecidedAt(LocalDateTime decidedAt) {
+            this.decidedAt = decidedAt;
+        }
+    }
+}
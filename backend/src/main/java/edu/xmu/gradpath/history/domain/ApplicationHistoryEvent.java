@@ -0,0 +1,137 @@
+package edu.xmu.gradpath.history.domain;
+
+import edu.xmu.gradpath.application.event.ApplicationChangeType;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application 历史事件实体（只追加，不修改、不删除）
+ * 表示一个实体在一次写入事务中的状态变化
+ * 说明：
+ * - 与触发变更的写入在同一事务内追加，提交即可靠
+ * - payload 为变更后的完整实体状态（JSON），重放时按 entityType + entityId 整体覆盖
+ * - 同一事务追加的事件共享 occurredAt 与 revision；cause 为该事务内最后一次变更的类型
+ */
+@Entity
+@Table(name = "gp_application_event")
+public class ApplicationHistoryEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 申请 ID
+     */
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    /**
+     * 实体类型
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private HistoryEntityType entityType;
+
+    /**
+     * 实体 ID（含义见 HistoryEntityType）
+     */
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    /**
+     * 动作
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private HistoryAction action;
+
+    /**
+     * 触发变更的业务操作
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ApplicationChangeType cause;
+
+    /**
+     * 变更后的 Application 修订号
+     */
+    @Column(nullable = false)
+    private Long revision;
+
+    /**
+     * 变更后的实体状态（JSON），REMOVE 时为空
+     */
+    @Column(columnDefinition = "text")
+    private String payload;
+
+    /**
+     * 发生时间（事务提交前）
+     */
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    protected ApplicationHistoryEvent() {
+        // JPA only
+    }
+
+    /**
+     * 构造器：创建 ApplicationHistoryEvent
+     */
+    public ApplicationHistoryEvent(Long applicationId,
+                                   HistoryEntityType entityType,
+                                   Long entityId,
+                                   HistoryAction action,
+                                   ApplicationChangeType cause,
+                                   Long revision,
+                                   String payload,
+                                   LocalDateTime occurredAt) {
+        this.applicationId = applicationId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.action = action;
+        this.cause = cause;
+        this.revision = revision;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+
+    // ===== getter =====
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public HistoryEntityType getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public HistoryAction getAction() {
+        return action;
+    }
+
+    public ApplicationChangeType getCause() {
+        return cause;
+    }
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,81 @@
+package edu.xmu.gradpath.history.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application 历史快照实体
+ * 表示某个 Application 在某条历史事件之后的完整状态
+ * 说明：
+ * - state 为全部实体状态（JSON），等价于从头重放到 lastEventId 的结果
+ * - takenAt 与 lastEventId 对应事件的 occurredAt 相同，时间点重建按 takenAt 选取快照
+ */
+@Entity
+@Table(name = "gp_application_snapshot")
+public class ApplicationHistorySnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 申请 ID
+     */
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    /**
+     * 快照包含的最后一条历史事件 ID
+     */
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+
+    /**
+     * 快照对应的时间点
+     */
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+
+    /**
+     * 完整状态（JSON）
+     */
+    @Column(nullable = false, columnDefinition = "mediumtext")
+    private String state;
+
+    protected ApplicationHistorySnapshot() {
+        // JPA only
+    }
+
+    /**
+     * 构造器：创建 ApplicationHistorySnapshot
+     */
+    public ApplicationHistorySnapshot(Long applicationId, Long lastEventId, LocalDateTime takenAt, String state) {
+        this.applicationId = applicationId;
+        this.lastEventId = lastEventId;
+        this.takenAt = takenAt;
+        this.state = state;
+    }
+
+    // ===== getter =====
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public Long getLastEventId() {
+        return lastEventId;
+    }
+
+    public LocalDateTime getTakenAt() {
+        return takenAt;
+    }
+
+    public String getState() {
+        return state;
+    }
+}
@@ -0,0 +1,17 @@
+package edu.xmu.gradpath.history.domain;
+
+/**
+ * 历史事件的动作
+ */
+public enum HistoryAction {
+
+    /**
+     * 新增或修改：payload 为变更后的完整实体状态
+     */
+    UPSERT,
+
+    /**
+     * 移除：payload 为空
+     */
+    REMOVE
+}
@@ -0,0 +1,21 @@
+package edu.xmu.gradpath.history.domain;
+
+/**
+ * 历史事件记录的实体类型
+ * 说明：
+ * - entityId 的含义随类型不同：APPLICATION 为 applicationId，MATERIAL / REVIEW_AGGREGATION 为 materialId，
+ *   MATERIAL_SCORE 为 MaterialScore 的 id
+ */
+public enum HistoryEntityType {
+
+    APPLICATION,
+
+    MATERIAL,
+
+    /**
+     * Material 当前版本的审核聚合状态
+     */
+    REVIEW_AGGREGATION,
+
+    MATERIAL_SCORE
+}
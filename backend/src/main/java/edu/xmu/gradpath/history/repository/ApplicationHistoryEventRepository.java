@@ -0,0 +1,26 @@
+package edu.xmu.gradpath.history.repository;
+
+import edu.xmu.gradpath.common.persistence.EntityRepository;
+import edu.xmu.gradpath.history.domain.ApplicationHistoryEvent;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Application 历史事件仓库
+ * 说明：
+ * - 查询均走 (application_id, id) 索引
+ */
+public interface ApplicationHistoryEventRepository extends EntityRepository<ApplicationHistoryEvent> {
+
+    /**
+     * keyset 分页：查询某个 Application 在 afterId 之后的事件，按 id 升序
+     */
+    List<ApplicationHistoryEvent> findByApplicationIdAndIdGreaterThanOrderByIdAsc(Long applicationId, Long afterId, Limit limit);
+
+    /**
+     * 查询某个 Application 在 afterId 之后、不晚于 at 的事件，按 id 升序（时间点重建的事件尾部）
+     */
+    List<ApplicationHistoryEvent> findByApplicationIdAndIdGreaterThanAndOccurredAtLessThanEqualOrderByIdAsc(Long applicationId, Long afterId, LocalDateTime at);
+}
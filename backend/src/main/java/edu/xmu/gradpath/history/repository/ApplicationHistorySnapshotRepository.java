@@ -0,0 +1,24 @@
+package edu.xmu.gradpath.history.repository;
+
+import edu.xmu.gradpath.common.persistence.EntityRepository;
+import edu.xmu.gradpath.history.domain.ApplicationHistorySnapshot;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Application 历史快照仓库
+ */
+public interface ApplicationHistorySnapshotRepository extends EntityRepository<ApplicationHistorySnapshot> {
+
+    /**
+     * 某个 Application 最近的快照（按 id 降序，配合 Limit.of(1) 使用）
+     */
+    List<ApplicationHistorySnapshot> findByApplicationIdOrderByIdDesc(Long applicationId, Limit limit);
+
+    /**
+     * 某个 Application 不晚于 at 的最近快照（按 id 降序，配合 Limit.of(1) 使用）
+     */
+    List<ApplicationHistorySnapshot> findByApplicationIdAndTakenAtLessThanEqualOrderByIdDesc(Long applicationId, LocalDateTime at, Limit limit);
+}
@@ -0,0 +1,53 @@
+package edu.xmu.gradpath.history.repository;
+
+import edu.xmu.gradpath.common.persistence.InMemoryRepository;
+import edu.xmu.gradpath.history.domain.ApplicationHistoryEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ApplicationHistoryEventRepository 的内存实现（in-memory 持久化模式）
+ * 说明：
+ * - 二级索引：applicationId（同一键下按 id 升序）
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryApplicationHistoryEventRepository extends InMemoryRepository<ApplicationHistoryEvent>
+        implements ApplicationHistoryEventRepository {
+
+    private final Index<ApplicationHistoryEvent> byApplicationId = index(ApplicationHistoryEvent::getApplicationId);
+
+    public InMemoryApplicationHistoryEventRepository() {
+        super(ApplicationHistoryEvent.class);
+    }
+
+    @Override
+    public List<ApplicationHistoryEvent> findByApplicationIdAndIdGreaterThanOrderByIdAsc(Long applicationId, Long afterId, Limit limit) {
+        List<ApplicationHistoryEvent> result = new ArrayList<>();
+        for (ApplicationHistoryEvent event : byApplicationId.find(applicationId)) {
+            if (limit.isLimited() && result.size() >= limit.max()) {
+                break;
+            }
+            if (event.getId() > afterId) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<ApplicationHistoryEvent> findByApplicationIdAndIdGreaterThanAndOccurredAtLessThanEqualOrderByIdAsc(Long applicationId, Long afterId, LocalDateTime at) {
+        List<ApplicationHistoryEvent> result = new ArrayList<>();
+        for (ApplicationHistoryEvent event : byApplicationId.find(applicationId)) {
+            if (event.getId() > afterId && !event.getOccurredAt().isAfter(at)) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+}
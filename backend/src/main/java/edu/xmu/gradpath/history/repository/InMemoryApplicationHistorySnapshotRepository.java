@@ -0,0 +1,53 @@
+package edu.xmu.gradpath.history.repository;
+
+import edu.xmu.gradpath.common.persistence.InMemoryRepository;
+import edu.xmu.gradpath.history.domain.ApplicationHistorySnapshot;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ApplicationHistorySnapshotRepository 的内存实现（in-memory 持久化模式）
+ * 说明：
+ * - 二级索引：applicationId（同一键下按 id 升序，查询时倒序遍历）
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryApplicationHistorySnapshotRepository extends InMemoryRepository<ApplicationHistorySnapshot>
+        implements ApplicationHistorySnapshotRepository {
+
+    private final Index<ApplicationHistorySnapshot> byApplicationId = index(ApplicationHistorySnapshot::getApplicationId);
+
+    public InMemoryApplicationHistorySnapshotRepository() {
+        super(ApplicationHistorySnapshot.class);
+    }
+
+    @Override
+    public List<ApplicationHistorySnapshot> findByApplicationIdOrderByIdDesc(Long applicationId, Limit limit) {
+        return latest(applicationId, null, limit);
+    }
+
+    @Override
+    public List<ApplicationHistorySnapshot> findByApplicationIdAndTakenAtLessThanEqualOrderByIdDesc(Long applicationId, LocalDateTime at, Limit limit) {
+        return latest(applicationId, at, limit);
+    }
+
+    private List<ApplicationHistorySnapshot> latest(Long applicationId, LocalDateTime at, Limit limit) {
+        List<ApplicationHistorySnapshot> snapshots = byApplicationId.find(applicationId);
+        List<ApplicationHistorySnapshot> result = new ArrayList<>();
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            if (limit.isLimited() && result.size() >= limit.max()) {
+                break;
+            }
+            ApplicationHistorySnapshot snapshot = snapshots.get(i);
+            if (at == null || !snapshot.getTakenAt().isAfter(at)) {
+                result.add(snapshot);
+            }
+        }
+        return result;
+    }
+}
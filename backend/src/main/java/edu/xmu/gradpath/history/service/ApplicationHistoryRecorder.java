@@ -0,0 +1,210 @@
+package edu.xmu.gradpath.history.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.xmu.gradpath.application.domain.Application;
+import edu.xmu.gradpath.application.event.ApplicationChangeType;
+import edu.xmu.gradpath.application.event.ApplicationChangedEvent;
+import edu.xmu.gradpath.application.repository.ApplicationRepository;
+import edu.xmu.gradpath.history.controller.dto.ApplicationHistoryView;
+import edu.xmu.gradpath.history.domain.ApplicationHistoryEvent;
+import edu.xmu.gradpath.history.domain.ApplicationHistorySnapshot;
+import edu.xmu.gradpath.history.domain.HistoryAction;
+import edu.xmu.gradpath.history.domain.HistoryEntityType;
+import edu.xmu.gradpath.history.repository.ApplicationHistoryEventRepository;
+import edu.xmu.gradpath.history.repository.ApplicationHistorySnapshotRepository;
+import edu.xmu.gradpath.material.domain.Material;
+import edu.xmu.gradpath.material.domain.MaterialScore;
+import edu.xmu.gradpath.material.repository.MaterialRepository;
+import edu.xmu.gradpath.material.repository.MaterialScoreRepository;
+import edu.xmu.gradpath.review.domain.MaterialReviewAggregation;
+import edu.xmu.gradpath.review.repository.MaterialReviewAggregationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Application 历史事件的写入端
+ * 说明：
+ * - 同步监听 ApplicationChangedEvent（Application 状态迁移与 Material / ReviewRecord / MaterialScore 写入都经过 markChanged 发布），
+ *   在发布方事务提交前对比实时状态与已记录的最新状态，为每个发生变化的实体追加一条事件，与写入一同提交或回滚
+ * - 写入路径不需要逐处构造事件：Material 原地覆盖的 content / attachmentRef / declaredScore、Application 覆盖的 status
+ *   都以变更后的完整状态保存，任意时间点的状态都可重放得到
+ * - 首次记录某个 Application（包括绕过业务服务写入的既有数据）时，追加其全部实体作为基线并立即保存快照
+ * - 自上次快照起累计 gradpath.history.snapshot-interval 条事件后保存新快照，时间点重建最多重放该数量的事件
+ */
+@Component
+public class ApplicationHistoryRecorder {
+
+    private final ApplicationRepository applicationRepository;
+    private final MaterialRepository materialRepository;
+    private final MaterialReviewAggregationRepository materialReviewAggregationRepository;
+    private final MaterialScoreRepository materialScoreRepository;
+    private final ApplicationHistoryEventRepository eventRepository;
+    private final ApplicationHistorySnapshotRepository snapshotRepository;
+    private final ObjectMapper objectMapper;
+    private final int snapshotInterval;
+
+    public ApplicationHistoryRecorder(ApplicationRepository applicationRepository,
+                                      MaterialRepository materialRepository,
+                                      MaterialReviewAggregationRepository materialReviewAggregationRepository,
+                                      MaterialScoreRepository materialScoreRepository,
+                                      ApplicationHistoryEventRepository eventRepository,
+                                      ApplicationHistorySnapshotRepository snapshotRepository,
+                                      ObjectMapper objectMapper,
+                                      @Value("${gradpath.history.snapshot-interval:50}") int snapshotInterval) {
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("gradpath.history.snapshot-interval must be positive");
+        }
+        this.applicationRepository = applicationRepository;
+        this.materialRepository = materialRepository;
+        this.materialReviewAggregationRepository = materialReviewAggregationRepository;
+        this.materialScoreRepository = materialScoreRepository;
+        this.eventRepository = eventRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.objectMapper = objectMapper;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * 记录本事务内发生变更的 Application，提交前统一追加历史事件
+     */
+    @EventListener
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(event.getApplicationId(), event.getType(), event.getRevision());
+            return;
+        }
+        PendingHistory pending = (PendingHistory) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingHistory();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.add(event);
+    }
+
+    /**
+     * 对比实时状态与已记录的最新状态，追加变化的实体，必要时保存快照（需在写事务内调用）
+     * 说明：
+     * - 先锁定 Application 行，同一 Application 的历史写入串行（写路径已在第一次读取前加锁时可重入）：
+     *   实时状态与已记录的事件尾部都包含前一个写事务已提交的变更，
+     *   快照的 lastEventId 之前不会缺少 id 更小、但被并发事务写入的变更
+     */
+    private void record(Long applicationId, ApplicationChangeType cause, Long eventRevision) {
+        if (applicationRepository.lockById(applicationId).isEmpty()) {
+            return;
+        }
+        Optional<Application> application = applicationRepository.findById(applicationId);
+        if (application.isEmpty()) {
+            return;
+        }
+        ApplicationHistoryState live = captureLive(application.get());
+
+        List<ApplicationHistorySnapshot> snapshots = snapshotRepository.findByApplicationIdOrderByIdDesc(applicationId, Limit.of(1));
+        ApplicationHistoryState recorded = snapshots.isEmpty()
+                ? new ApplicationHistoryState()
+                : ApplicationHistoryState.fromSnapshot(snapshots.get(0), objectMapper);
+        List<ApplicationHistoryEvent> tail = eventRepository.findByApplicationIdAndIdGreaterThanOrderByIdAsc(
+                applicationId, recorded.getLastEventId(), Limit.unlimited());
+        for (ApplicationHistoryEvent event : tail) {
+            recorded.apply(event, objectMapper);
+        }
+
+        List<ApplicationHistoryState.Change> changes = recorded.changesTo(live);
+        if (changes.isEmpty()) {
+            return;
+        }
+        Long revision = eventRevision != null
+                ? eventRevision
+                : applicationRepository.findRevisionById(applicationId).orElse(0L);
+        LocalDateTime occurredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<ApplicationHistoryEvent> events = new ArrayList<>(changes.size());
+        for (ApplicationHistoryState.Change change : changes) {
+            events.add(new ApplicationHistoryEvent(
+                    applicationId,
+                    change.getEntityType(),
+                    change.getEntityId(),
+                    change.getAction(),
+                    cause,
+                    revision,
+                    change.getAction() == HistoryAction.UPSERT ? change.getPayload().toString() : null,
+                    occurredAt
+            ));
+        }
+        events = eventRepository.saveAll(events);
+
+        if (snapshots.isEmpty() || tail.size() + events.size() >= snapshotInterval) {
+            Long lastEventId = events.get(events.size() - 1).getId();
+            snapshotRepository.save(new ApplicationHistorySnapshot(
+                    applicationId, lastEventId, occurredAt, live.toSnapshot(objectMapper, revision)));
+        }
+    }
+
+    private ApplicationHistoryState captureLive(Application application) {
+        ApplicationHistoryState live = new ApplicationHistoryState();
+        live.put(HistoryEntityType.APPLICATION, application.getId(),
+                ApplicationHistoryState.toTree(objectMapper, ApplicationHistoryView.ApplicationRecord.from(application)));
+
+        List<Material> materials = materialRepository.findByApplicationId(application.getId());
+        if (materials.isEmpty()) {
+            return live;
+        }
+        Map<Long, Integer> currentVersions = new HashMap<>();
+        for (Material material : materials) {
+            currentVersions.put(material.getId(), material.getVersion());
+            live.put(HistoryEntityType.MATERIAL, material.getId(),
+                    ApplicationHistoryState.toTree(objectMapper, ApplicationHistoryView.MaterialRecord.from(material)));
+        }
+        for (MaterialReviewAggregation aggregation : materialReviewAggregationRepository.findByMaterialIdIn(currentVersions.keySet())) {
+            if (Objects.equals(aggregation.getMaterialVersion(), currentVersions.get(aggregation.getMaterialId()))) {
+                live.put(HistoryEntityType.REVIEW_AGGREGATION, aggregation.getMaterialId(),
+                        ApplicationHistoryState.toTree(objectMapper, ApplicationHistoryView.ReviewAggregationRecord.from(aggregation)));
+            }
+        }
+        for (MaterialScore score : materialScoreRepository.findByMaterialIdIn(currentVersions.keySet())) {
+            live.put(HistoryEntityType.MATERIAL_SCORE, score.getId(),
+                    ApplicationHistoryState.toTree(objectMapper, ApplicationHistoryView.ScoreRecord.from(score)));
+        }
+        return live;
+    }
+
+    /**
+     * 单个事务内待记录的 Application（保留每个 Application 最后一次变更的类型与最大的修订号）
+     */
+    private final class PendingHistory implements TransactionSynchronization {
+
+        private final Map<Long, ApplicationChangeType> causes = new LinkedHashMap<>();
+        private final Map<Long, Long> revisions = new HashMap<>();
+
+        void add(ApplicationChangedEvent event) {
+            causes.put(event.getApplicationId(), event.getType());
+            Long previous = revisions.get(event.getApplicationId());
+            if (previous == null || (event.getRevision() != null && event.getRevision() > previous)) {
+                revisions.put(event.getApplicationId(), event.getRevision());
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            causes.forEach((applicationId, cause) -> record(applicationId, cause, revisions.get(applicationId)));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ApplicationHistoryRecorder.this);
+        }
+    }
+}
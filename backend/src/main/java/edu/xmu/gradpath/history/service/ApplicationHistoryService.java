@@ -0,0 +1,116 @@
+package edu.xmu.gradpath.history.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.xmu.gradpath.application.service.ApplicationService;
+import edu.xmu.gradpath.application.service.ReplicaLagGuard;
+import edu.xmu.gradpath.common.exception.BizException;
+import edu.xmu.gradpath.history.controller.dto.ApplicationHistoryEventView;
+import edu.xmu.gradpath.history.controller.dto.ApplicationHistoryView;
+import edu.xmu.gradpath.history.domain.ApplicationHistoryEvent;
+import edu.xmu.gradpath.history.domain.ApplicationHistorySnapshot;
+import edu.xmu.gradpath.history.domain.HistoryAction;
+import edu.xmu.gradpath.history.repository.ApplicationHistoryEventRepository;
+import edu.xmu.gradpath.history.repository.ApplicationHistorySnapshotRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Application 历史查询服务（时间点重建与审计明细）
+ * 说明：
+ * - 时间点重建固定两次索引查询：不晚于该时间的最近快照、快照之后不晚于该时间的事件（最多 snapshot-interval 条）
+ * - 历史只覆盖首次记录之后的时间；更早的时间点没有可重建的状态
+ */
+@Service
+public class ApplicationHistoryService {
+
+    private static final int DEFAULT_EVENT_PAGE_SIZE = 100;
+    private static final int MAX_EVENT_PAGE_SIZE = 500;
+
+    private final ApplicationService applicationService;
+    private final ApplicationHistoryEventRepository eventRepository;
+    private final ApplicationHistorySnapshotRepository snapshotRepository;
+    private final ReplicaLagGuard replicaLagGuard;
+    private final ObjectMapper objectMapper;
+
+    public ApplicationHistoryService(ApplicationService applicationService,
+                                     ApplicationHistoryEventRepository eventRepository,
+                                     ApplicationHistorySnapshotRepository snapshotRepository,
+                                     ReplicaLagGuard replicaLagGuard,
+                                     ObjectMapper objectMapper) {
+        this.applicationService = applicationService;
+        this.eventRepository = eventRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.replicaLagGuard = replicaLagGuard;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 重建 Application 在某个时间点的完整状态
+     * @param applicationId 申请 ID
+     * @param at 时间点（为空时取当前时间）
+     * @return 该时间点的 Application、Material、审核聚合状态与 MaterialScore
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ApplicationHistoryView getStateAt(Long applicationId, LocalDateTime at) {
+        replicaLagGuard.guardRead(applicationId);
+        applicationService.getById(applicationId);
+        LocalDateTime asOf = at == null ? LocalDateTime.now() : at;
+
+        List<ApplicationHistorySnapshot> snapshots = snapshotRepository
+                .findByApplicationIdAndTakenAtLessThanEqualOrderByIdDesc(applicationId, asOf, Limit.of(1));
+        ApplicationHistoryState state = snapshots.isEmpty()
+                ? new ApplicationHistoryState()
+                : ApplicationHistoryState.fromSnapshot(snapshots.get(0), objectMapper);
+        List<ApplicationHistoryEvent> tail = eventRepository
+                .findByApplicationIdAndIdGreaterThanAndOccurredAtLessThanEqualOrderByIdAsc(applicationId, state.getLastEventId(), asOf);
+        for (ApplicationHistoryEvent event : tail) {
+            state.apply(event, objectMapper);
+        }
+        if (state.isEmpty()) {
+            throw new BizException(404, "no history recorded for application at " + asOf);
+        }
+        return state.toView(applicationId, asOf, tail.size(), objectMapper);
+    }
+
+    /**
+     * 分页查询 Application 的历史事件（按事件 ID 升序，keyset 分页）
+     * @param applicationId 申请 ID
+     * @param afterId 上一页最后一个事件 ID（首页传 null）
+     * @param limit 每页条数（为空时使用默认值，超过上限时截断）
+     * @return 历史事件
+     */
+    @Transactional(readOnly = true)
+    public List<ApplicationHistoryEventView> getEvents(Long applicationId, Long afterId, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_EVENT_PAGE_SIZE : limit;
+        if (pageSize <= 0) {
+            throw new BizException(400, "limit must be positive");
+        }
+        pageSize = Math.min(pageSize, MAX_EVENT_PAGE_SIZE);
+        replicaLagGuard.guardRead(applicationId);
+        applicationService.getById(applicationId);
+
+        List<ApplicationHistoryEventView> views = new ArrayList<>();
+        for (ApplicationHistoryEvent event : eventRepository.findByApplicationIdAndIdGreaterThanOrderByIdAsc(
+                applicationId, afterId == null ? 0L : afterId, Limit.of(pageSize))) {
+            ApplicationHistoryEventView view = new ApplicationHistoryEventView();
+            view.setId(event.getId());
+            view.setEntityType(event.getEntityType());
+            view.setEntityId(event.getEntityId());
+            view.setAction(event.getAction());
+            view.setCause(event.getCause());
+            view.setRevision(event.getRevision());
+            view.setOccurredAt(event.getOccurredAt());
+            view.setPayload(event.getAction() == HistoryAction.UPSERT
+                    ? ApplicationHistoryState.readPayload(objectMapper, event.getPayload())
+                    : null);
+            views.add(view);
+        }
+        return views;
+    }
+}
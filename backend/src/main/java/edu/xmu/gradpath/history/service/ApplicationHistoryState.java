@@ -0,0 +1,216 @@
+package edu.xmu.gradpath.history.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import edu.xmu.gradpath.history.controller.dto.ApplicationHistoryView;
+import edu.xmu.gradpath.history.domain.ApplicationHistoryEvent;
+import edu.xmu.gradpath.history.domain.ApplicationHistorySnapshot;
+import edu.xmu.gradpath.history.domain.HistoryAction;
+import edu.xmu.gradpath.history.domain.HistoryEntityType;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 单个 Application 的历史状态（重放过程中的可变结构）
+ * 说明：
+ * - 按实体类型保存 entityId -> 实体状态（JSON 树），重放事件即按 entityType + entityId 覆盖或移除
+ * - 快照格式：{"revision": r, "entities": {"MATERIAL": {"12": {...}}, ...}}
+ * - 实体状态以 JSON 树比较：实时状态与事件 payload 都经由文本解析为树，字段精度已在 ApplicationHistoryView 的各 Record 中统一
+ */
+final class ApplicationHistoryState {
+
+    private final Map<HistoryEntityType, TreeMap<Long, JsonNode>> entities = new EnumMap<>(HistoryEntityType.class);
+    private long lastEventId;
+    private Long revision;
+
+    ApplicationHistoryState() {
+        for (HistoryEntityType type : HistoryEntityType.values()) {
+            entities.put(type, new TreeMap<>());
+        }
+    }
+
+    /**
+     * 从快照恢复
+     */
+    static ApplicationHistoryState fromSnapshot(ApplicationHistorySnapshot snapshot, ObjectMapper objectMapper) {
+        ApplicationHistoryState state = new ApplicationHistoryState();
+        JsonNode root = readTree(objectMapper, snapshot.getState());
+        state.lastEventId = snapshot.getLastEventId();
+        state.revision = root.path("revision").isNumber() ? root.path("revision").asLong() : null;
+        for (HistoryEntityType type : HistoryEntityType.values()) {
+            for (Map.Entry<String, JsonNode> field : root.path("entities").path(type.name()).properties()) {
+                state.entities.get(type).put(Long.valueOf(field.getKey()), field.getValue());
+            }
+        }
+        return state;
+    }
+
+    /**
+     * 重放一条历史事件
+     */
+    void apply(ApplicationHistoryEvent event, ObjectMapper objectMapper) {
+        if (event.getAction() == HistoryAction.UPSERT) {
+            entities.get(event.getEntityType()).put(event.getEntityId(), readTree(objectMapper, event.getPayload()));
+        } else {
+            entities.get(event.getEntityType()).remove(event.getEntityId());
+        }
+        lastEventId = event.getId();
+        revision = event.getRevision();
+    }
+
+    void put(HistoryEntityType type, Long entityId, JsonNode state) {
+        entities.get(type).put(entityId, state);
+    }
+
+    /**
+     * 从当前状态变为 target 所需的变更（按实体类型、entityId 升序）
+     */
+    List<Change> changesTo(ApplicationHistoryState target) {
+        List<Change> changes = new ArrayList<>();
+        for (HistoryEntityType type : HistoryEntityType.values()) {
+            TreeMap<Long, JsonNode> current = entities.get(type);
+            TreeMap<Long, JsonNode> next = target.entities.get(type);
+            for (Map.Entry<Long, JsonNode> entry : next.entrySet()) {
+                if (!entry.getValue().equals(current.get(entry.getKey()))) {
+                    changes.add(new Change(type, entry.getKey(), HistoryAction.UPSERT, entry.getValue()));
+                }
+            }
+            for (Long entityId : current.keySet()) {
+                if (!next.containsKey(entityId)) {
+                    changes.add(new Change(type, entityId, HistoryAction.REMOVE, null));
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * 序列化为快照
+     */
+    String toSnapshot(ObjectMapper objectMapper, Long snapshotRevision) {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("revision", snapshotRevision);
+        ObjectNode groups = root.putObject("entities");
+        for (HistoryEntityType type : HistoryEntityType.values()) {
+            ObjectNode group = groups.putObject(type.name());
+            entities.get(type).forEach((entityId, state) -> group.set(String.valueOf(entityId), state));
+        }
+        return root.toString();
+    }
+
+    /**
+     * 转换为对外的时间点状态视图
+     */
+    ApplicationHistoryView toView(Long applicationId, LocalDateTime asOf, int replayedEvents, ObjectMapper objectMapper) {
+        ApplicationHistoryView view = new ApplicationHistoryView();
+        view.setApplicationId(applicationId);
+        view.setAsOf(asOf);
+        view.setRevision(revision);
+        view.setLastEventId(lastEventId);
+        view.setReplayedEvents(replayedEvents);
+        JsonNode application = entities.get(HistoryEntityType.APPLICATION).get(applicationId);
+        view.setApplication(application == null ? null : convert(objectMapper, application, ApplicationHistoryView.ApplicationRecord.class));
+        view.setMaterials(convertAll(objectMapper, HistoryEntityType.MATERIAL, ApplicationHistoryView.MaterialRecord.class));
+        view.setReviewAggregations(convertAll(objectMapper, HistoryEntityType.REVIEW_AGGREGATION, ApplicationHistoryView.ReviewAggregationRecord.class));
+        view.setScores(convertAll(objectMapper, HistoryEntityType.MATERIAL_SCORE, ApplicationHistoryView.ScoreRecord.class));
+        return view;
+    }
+
+    boolean isEmpty() {
+        return lastEventId == 0L;
+    }
+
+    long getLastEventId() {
+        return lastEventId;
+    }
+
+    private <T> List<T> convertAll(ObjectMapper objectMapper, HistoryEntityType type, Class<T> recordType) {
+        List<T> records = new ArrayList<>();
+        for (JsonNode state : entities.get(type).values()) {
+            records.add(convert(objectMapper, state, recordType));
+        }
+        return records;
+    }
+
+    private static <T> T convert(ObjectMapper objectMapper, JsonNode state, Class<T> recordType) {
+        try {
+            return objectMapper.treeToValue(state, recordType);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 将实体状态转换为 JSON 树（经由文本，与从事件 payload 读回的树结构一致）
+     */
+    static JsonNode toTree(ObjectMapper objectMapper, Object record) {
+        try {
+            return readTree(objectMapper, objectMapper.writeValueAsString(record));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 读取事件 payload
+     */
+    static JsonNode readPayload(ObjectMapper objectMapper, String payload) {
+        return readTree(objectMapper, payload);
+    }
+
+    private static JsonNode readTree(ObjectMapper objectMapper, String json) {
+        try {
+            // 小数按 BigDecimal 原样读取（不去除末尾的 0），两位小数的分值重放后保持原格式
+            return objectMapper.reader()
+                    .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                    .without(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES)
+                    .readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 单个实体的状态变更
+     */
+    static final class Change {
+
+        private final HistoryEntityType entityType;
+        private final Long entityId;
+        private final HistoryAction action;
+        private final JsonNode payload;
+
+        private Change(HistoryEntityType entityType, Long entityId, HistoryAction action, JsonNode payload) {
+            this.entityType = entityType;
+            this.entityId = entityId;
+            this.action = action;
+            this.payload = payload;
+        }
+
+        HistoryEntityType getEntityType() {
+            return entityType;
+        }
+
+        Long getEntityId() {
+            return entityId;
+        }
+
+        HistoryAction getAction() {
+            return action;
+        }
+
+        JsonNode getPayload() {
+            return payload;
+        }
+    }
+}
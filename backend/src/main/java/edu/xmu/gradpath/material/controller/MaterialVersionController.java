@@ -0,0 +1,67 @@
+package edu.xmu.gradpath.material.controller;
+
+import edu.xmu.gradpath.common.response.ApiResponse;
+import edu.xmu.gradpath.material.controller.dto.MaterialVersionDiff;
+import edu.xmu.gradpath.material.controller.dto.MaterialVersionView;
+import edu.xmu.gradpath.material.service.MaterialVersionService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Material 版本历史控制器
+ * 提供历史版本查询与版本差异的 HTTP 入口（审核员可据 ReviewRecord.materialVersion 查看当时审核的内容）
+ */
+@RestController
+@RequestMapping(
+        value = "/applications/{applicationId}/materials/{materialId}/versions",
+        produces = "application/json"
+)
+public class MaterialVersionController {
+
+    private final MaterialVersionService materialVersionService;
+
+    public MaterialVersionController(MaterialVersionService materialVersionService) {
+        this.materialVersionService = materialVersionService;
+    }
+
+    /**
+     * 查询 Material 的全部历史版本（仅元数据）
+     */
+    @GetMapping
+    public ApiResponse<List<MaterialVersionView>> getVersions(
+            @PathVariable Long applicationId,
+            @PathVariable Long materialId
+    ) {
+        return ApiResponse.success(materialVersionService.getVersions(applicationId, materialId));
+    }
+
+    /**
+     * 读取 Material 的某个历史版本
+     */
+    @GetMapping("/{version}")
+    public ApiResponse<MaterialVersionView> getVersion(
+            @PathVariable Long applicationId,
+            @PathVariable Long materialId,
+            @PathVariable Integer version
+    ) {
+        return ApiResponse.success(materialVersionService.getVersion(applicationId, materialId, version));
+    }
+
+    /**
+     * 比较 Material 的两个历史版本
+     */
+    @GetMapping("/diff")
+    public ApiResponse<MaterialVersionDiff> diff(
+            @PathVariable Long applicationId,
+            @PathVariable Long materialId,
+            @RequestParam("from") Integer fromVersion,
+            @RequestParam("to") Integer toVersion
+    ) {
+        return ApiResponse.success(materialVersionService.diff(applicationId, materialId, fromVersion, toVersion));
+    }
+}
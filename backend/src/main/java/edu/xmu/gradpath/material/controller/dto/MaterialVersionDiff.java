@@ -0,0 +1,126 @@
+package edu.xmu.gradpath.material.controller.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Material 两个历史版本之间的差异
+ * 说明：
+ * - content 按行比较，segments 依次拼接 EQUAL + DELETE 即 from 版本内容，拼接 EQUAL + INSERT 即 to 版本内容
+ * - attachmentRef / declaredScore 同时给出两端的值
+ */
+public class MaterialVersionDiff {
+
+    private Long materialId;
+    private Integer fromVersion;
+    private Integer toVersion;
+    private boolean contentChanged;
+    private List<Segment> segments;
+    private String fromAttachmentRef;
+    private String toAttachmentRef;
+    private BigDecimal fromDeclaredScore;
+    private BigDecimal toDeclaredScore;
+
+    public Long getMaterialId() {
+        return materialId;
+    }
+
+    public void setMaterialId(Long materialId) {
+        this.materialId = materialId;
+    }
+
+    public Integer getFromVersion() {
+        return fromVersion;
+    }
+
+    public void setFromVersion(Integer fromVersion) {
+        this.fromVersion = fromVersion;
+    }
+
+    public Integer getToVersion() {
+        return toVersion;
+    }
+
+    public void setToVersion(Integer toVersion) {
+        this.toVersion = toVersion;
+    }
+
+    public boolean isContentChanged() {
+        return contentChanged;
+    }
+
+    public void setContentChanged(boolean contentChanged) {
+        this.contentChanged = contentChanged;
+    }
+
+    public List<Segment> getSegments() {
+        return segments;
+    }
+
+    public void setSegments(List<Segment> segments) {
+        this.segments = segments;
+    }
+
+    public String getFromAttachmentRef() {
+        return fromAttachmentRef;
+    }
+
+    public void setFromAttachmentRef(String fromAttachmentRef) {
+        this.fromAttachmentRef = fromAttachmentRef;
+    }
+
+    public String getToAttachmentRef() {
+        return toAttachmentRef;
+    }
+
+    public void setToAttachmentRef(String toAttachmentRef) {
+        this.toAttachmentRef = toAttachmentRef;
+    }
+
+    public BigDecimal getFromDeclaredScore() {
+        return fromDeclaredScore;
+    }
+
+    public void setFromDeclaredScore(BigDecimal fromDeclaredScore) {
+        this.fromDeclaredScore = fromDeclaredScore;
+    }
+
+    public BigDecimal getToDeclaredScore() {
+        return toDeclaredScore;
+    }
+
+    public void setToDeclaredScore(BigDecimal toDeclaredScore) {
+        this.toDeclaredScore = toDeclaredScore;
+    }
+
+    /**
+     * 差异片段类型
+     */
+    public enum SegmentType {
+        EQUAL,
+        DELETE,
+        INSERT
+    }
+
+    /**
+     * 差异片段（连续的若干行）
+     */
+    public static class Segment {
+
+        private final SegmentType type;
+        private final String text;
+
+        public Segment(SegmentType type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+
+        public SegmentType getType() {
+            return type;
+        }
+
+        public String getText() {
+            return text;
+        }
+    }
+}
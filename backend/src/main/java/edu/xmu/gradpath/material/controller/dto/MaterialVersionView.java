@@ -0,0 +1,83 @@
+package edu.xmu.gradpath.material.controller.dto;
+
+import edu.xmu.gradpath.material.domain.MaterialVersion;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Material 历史版本视图
+ * 说明：
+ * - 版本列表只返回元数据（content 为空），读取单个版本时返回重建后的 content
+ * - storedBytes 为该版本在历史表中占用的字节数（快照为压缩后的完整内容，增量为压缩后的差异）
+ */
+public class MaterialVersionView {
+
+    private Long materialId;
+    private Long applicationId;
+    private Integer version;
+    private boolean snapshot;
+    private int storedBytes;
+    private String content;
+    private String attachmentRef;
+    private BigDecimal declaredScore;
+    private LocalDateTime createdAt;
+
+    private MaterialVersionView() {
+    }
+
+    public static MaterialVersionView summaryOf(MaterialVersion row) {
+        MaterialVersionView view = new MaterialVersionView();
+        view.materialId = row.getMaterialId();
+        view.applicationId = row.getApplicationId();
+        view.version = row.getVersion();
+        view.snapshot = row.isSnapshot();
+        view.storedBytes = row.getContentDelta().length;
+        view.attachmentRef = row.getAttachmentRef();
+        view.declaredScore = row.getDeclaredScore();
+        view.createdAt = row.getCreatedAt();
+        return view;
+    }
+
+    public static MaterialVersionView of(MaterialVersion row, String content) {
+        MaterialVersionView view = summaryOf(row);
+        view.content = content;
+        return view;
+    }
+
+    public Long getMaterialId() {
+        return materialId;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    public int getStoredBytes() {
+        return storedBytes;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public String getAttachmentRef() {
+        return attachmentRef;
+    }
+
+    public BigDecimal getDeclaredScore() {
+        return declaredScore;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
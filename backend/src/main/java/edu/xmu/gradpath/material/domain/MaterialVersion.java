@@ -0,0 +1,145 @@
+package edu.xmu.gradpath.material.domain;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Material 版本历史实体（只追加，不修改、不删除）
+ * 表示某个 Material 的一个版本
+ * 说明：
+ * - contentDelta 为压缩编码后的 content：快照行为完整内容，增量行为相对上一条历史行的差异（见 MaterialContentDelta）
+ * - snapshotVersion 为本行所在增量链的快照版本号，snapshotVersion == version 即快照行
+ * - attachmentRef / declaredScore 体积固定，按版本原样保存
+ * - Material 删除后历史仍保留，ReviewRecord.materialVersion 始终可以追溯到被审核的内容
+ */
+@Entity
+@Table(
+        name = "gp_material_version",
+        uniqueConstraints = @UniqueConstraint(name = "uk_material_version_material_version", columnNames = {"material_id", "version"})
+)
+public class MaterialVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 材料 ID
+     */
+    @Column(name = "material_id", nullable = false)
+    private Long materialId;
+
+    /**
+     * 所属申请 ID
+     */
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    /**
+     * 材料版本号
+     */
+    @Column(nullable = false)
+    private Integer version;
+
+    /**
+     * 所在增量链的快照版本号
+     */
+    @Column(name = "snapshot_version", nullable = false)
+    private Integer snapshotVersion;
+
+    /**
+     * 压缩编码后的内容（完整内容或增量）
+     */
+    @Column(name = "content_delta", nullable = false, columnDefinition = "mediumblob")
+    private byte[] contentDelta;
+
+    /**
+     * 附件引用
+     */
+    @Column(name = "attachment_ref")
+    private String attachmentRef;
+
+    /**
+     * 学生申报分值
+     */
+    @Column(name = "declared_score", nullable = false)
+    private BigDecimal declaredScore;
+
+    /**
+     * 记录时间
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected MaterialVersion() {
+        // JPA only
+    }
+
+    /**
+     * 构造器：创建 MaterialVersion
+     */
+    public MaterialVersion(Long materialId,
+                           Long applicationId,
+                           Integer version,
+                           Integer snapshotVersion,
+                           byte[] contentDelta,
+                           String attachmentRef,
+                           BigDecimal declaredScore,
+                           LocalDateTime createdAt) {
+        this.materialId = materialId;
+        this.applicationId = applicationId;
+        this.version = version;
+        this.snapshotVersion = snapshotVersion;
+        this.contentDelta = contentDelta;
+        this.attachmentRef = attachmentRef;
+        this.declaredScore = declaredScore;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 是否为快照行
+     */
+    public boolean isSnapshot() {
+        return version.equals(snapshotVersion);
+    }
+
+    // ===== getter =====
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMaterialId() {
+        return materialId;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public Integer getSnapshotVersion() {
+        return snapshotVersion;
+    }
+
+    public byte[] getContentDelta() {
+        return contentDelta;
+    }
+
+    public String getAttachmentRef() {
+        return attachmentRef;
+    }
+
+    public BigDecimal getDeclaredScore() {
+        return declaredScore;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,53 @@
+package edu.xmu.gradpath.material.repository;
+
+import edu.xmu.gradpath.common.persistence.InMemoryRepository;
+import edu.xmu.gradpath.material.domain.Material;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * MaterialRepository 的内存实现（in-memory 持久化模式）
+ * 说明：
+ * - 二级索引：applicationId
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryMaterialRepository extends InMemoryRepository<Material> implements MaterialRepository {
+
+    private final Index<Material> byApplicationId = index(Material::getApplicationId);
+
+    public InMemoryMaterialRepository() {
+        super(Material.class);
+    }
+
+    @Override
+    public List<Material> findByApplicationId(Long applicationId) {
+        return byApplicationId.find(applicationId);
+    }
+
+    @Override
+    public List<Material> findByApplicationIdIn(Collection<Long> applicationIds) {
+        return byApplicationId.findIn(applicationIds);
+    }
+
+    @Override
+    public Optional<Long> findApplicationIdById(Long materialId) {
+        return findById(materialId).map(Material::getApplicationId);
+    }
+
+    @Override
+    public List<Long> findApplicationIdsByIdIn(Collection<Long> materialIds) {
+        Set<Long> applicationIds = new LinkedHashSet<>();
+        for (Material material : findAllById(materialIds)) {
+            applicationIds.add(material.getApplicationId());
+        }
+        return new ArrayList<>(applicationIds);
+    }
+}
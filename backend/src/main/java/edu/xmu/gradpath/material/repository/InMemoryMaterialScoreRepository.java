@@ -0,0 +1,117 @@
+package edu.xmu.gradpath.material.repository;
+
+import edu.xmu.gradpath.common.persistence.InMemoryRepository;
+import edu.xmu.gradpath.material.domain.Material;
+import edu.xmu.gradpath.material.domain.MaterialScore;
+import edu.xmu.gradpath.material.domain.ScoreMode;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * MaterialScoreRepository 的内存实现（in-memory 持久化模式）
+ * 说明：
+ * - 二级索引：materialId；唯一约束：(materialId, materialVersion)
+ * - 类别分值汇总与 JPQL 口径一致：只统计 DECLARED Material 当前版本的裁决分值
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryMaterialScoreRepository extends InMemoryRepository<MaterialScore> implements MaterialScoreRepository {
+
+    private final Index<MaterialScore> byMaterialId = index(MaterialScore::getMaterialId);
+    private final MaterialRepository materialRepository;
+
+    public InMemoryMaterialScoreRepository(MaterialRepository materialRepository) {
+        super(MaterialScore.class);
+        this.materialRepository = materialRepository;
+        unique("uk_material_score_material_version", score -> List.of(score.getMaterialId(), score.getMaterialVersion()));
+    }
+
+    @Override
+    public List<MaterialScore> findByMaterialId(Long materialId) {
+        return byMaterialId.find(materialId);
+    }
+
+    @Override
+    public List<MaterialScore> findByMaterialIdAndMaterialVersion(Long materialId, Integer materialVersion) {
+        List<MaterialScore> result = new ArrayList<>();
+        for (MaterialScore score : byMaterialId.find(materialId)) {
+            if (Objects.equals(score.getMaterialVersion(), materialVersion)) {
+                result.add(score);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<MaterialScore> findByMaterialIdIn(Collection<Long> materialIds) {
+        return byMaterialId.findIn(materialIds);
+    }
+
+    @Override
+    public List<CategoryScoreTotal> sumApprovedScoreGroupByApplicationIdAndCategory() {
+        Map<List<Object>, BigDecimal> totals = new LinkedHashMap<>();
+        for (MaterialScore score : rows.values()) {
+            Material material = currentDeclaredMaterial(score);
+            if (material != null) {
+                totals.merge(Arrays.asList(material.getApplicationId(), material.getCategory()), score.getApprovedScore(), BigDecimal::add);
+            }
+        }
+        return toCategoryTotals(totals);
+    }
+
+    @Override
+    public List<CategoryScoreTotal> sumApprovedScoreGroupByCategory(Long applicationId) {
+        Map<List<Object>, BigDecimal> totals = new LinkedHashMap<>();
+        for (Material material : materialRepository.findByApplicationId(applicationId)) {
+            if (material.getScoreMode() != ScoreMode.DECLARED) {
+                continue;
+            }
+            for (MaterialScore score : byMaterialId.find(material.getId())) {
+                if (Objects.equals(score.getMaterialVersion(), material.getVersion())) {
+                    totals.merge(Arrays.asList(applicationId, material.getCategory()), score.getApprovedScore(), BigDecimal::add);
+                }
+            }
+        }
+        return toCategoryTotals(totals);
+    }
+
+    private static List<CategoryScoreTotal> toCategoryTotals(Map<List<Object>, BigDecimal> totals) {
+        List<CategoryScoreTotal> result = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> result.add(new CategoryScoreTotal() {
+            @Override
+            public Long getApplicationId() {
+                return (Long) key.get(0);
+            }
+
+            @Override
+            public String getCategory() {
+                return (String) key.get(1);
+            }
+
+            @Override
+            public BigDecimal getTotalApprovedScore() {
+                return total;
+            }
+        }));
+        return result;
+    }
+
+    private Material currentDeclaredMaterial(MaterialScore score) {
+        Material material = materialRepository.findById(score.getMaterialId()).orElse(null);
+        if (material == null
+                || material.getScoreMode() != ScoreMode.DECLARED
+                || !Objects.equals(material.getVersion(), score.getMaterialVersion())) {
+            return null;
+        }
+        return material;
+    }
+}
@@ -0,0 +1,67 @@
+package edu.xmu.gradpath.material.repository;
+
+import edu.xmu.gradpath.common.persistence.InMemoryRepository;
+import edu.xmu.gradpath.material.domain.MaterialVersion;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MaterialVersionRepository 的内存实现（in-memory 持久化模式）
+ * 说明：
+ * - 二级索引：materialId；唯一约束：(materialId, version)
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryMaterialVersionRepository extends InMemoryRepository<MaterialVersion> implements MaterialVersionRepository {
+
+    private final Index<MaterialVersion> byMaterialId = index(MaterialVersion::getMaterialId);
+
+    public InMemoryMaterialVersionRepository() {
+        super(MaterialVersion.class);
+        unique("uk_material_version_material_version", row -> List.of(row.getMaterialId(), row.getVersion()));
+    }
+
+    @Override
+    public List<MaterialVersion> findByMaterialIdOrderByVersionAsc(Long materialId) {
+        return sortedByVersion(materialId, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<MaterialVersion> findByMaterialIdOrderByVersionDesc(Long materialId, Limit limit) {
+        List<MaterialVersion> rows = sortedByVersion(materialId, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        List<MaterialVersion> result = new ArrayList<>();
+        for (int i = rows.size() - 1; i >= 0 && (!limit.isLimited() || result.size() < limit.max()); i--) {
+            result.add(rows.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<MaterialVersion> findByMaterialIdAndVersion(Long materialId, Integer version) {
+        return byMaterialId.find(materialId).stream()
+                .filter(row -> row.getVersion().equals(version))
+                .findFirst();
+    }
+
+    @Override
+    public List<MaterialVersion> findByMaterialIdAndVersionBetweenOrderByVersionAsc(Long materialId, Integer fromVersion, Integer toVersion) {
+        return sortedByVersion(materialId, fromVersion, toVersion);
+    }
+
+    private List<MaterialVersion> sortedByVersion(Long materialId, int fromVersion, int toVersion) {
+        List<MaterialVersion> result = new ArrayList<>();
+        for (MaterialVersion row : byMaterialId.find(materialId)) {
+            if (row.getVersion() >= fromVersion && row.getVersion() <= toVersion) {
+                result.add(row);
+            }
+        }
+        result.sort(Comparator.comparing(MaterialVersion::getVersion));
+        return result;
+    }
+}
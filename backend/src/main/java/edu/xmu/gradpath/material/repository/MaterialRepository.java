@@ -1,15 +1,36 @@
 package edu.xmu.gradpath.material.repository;
 
+import edu.xmu.gradpath.common.persistence.EntityRepository;
 import edu.xmu.gradpath.material.domain.Material;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface MaterialRepository extends JpaRepository<Material, Long> {
+public interface MaterialRepository extends EntityRepository<Material> {
 
     /**
      * 根据 applicationId 查询材料列表
      */
     List<Material> findByApplicationId(Long applicationId);
 
+    /**
+     * 根据一组 applicationId 批量查询材料列表
+     */
+    List<Material> findByApplicationIdIn(Collection<Long> applicationIds);
+
+    /**
+     * 只查询 Material 所属的 applicationId（写路径加锁前使用，不把 Material 载入持久化上下文）
+     */
+    @Query("select m.applicationId from Material m where m.id = :materialId")
+    Optional<Long> findApplicationIdById(@Param("materialId") Long materialId);
+
+    /**
+     * 批量查询一组 Material 所属的 applicationId（去重）
+     */
+    @Query("select distinct m.applicationId from Material m where m.id in :materialIds")
+    List<Long> findApplicationIdsByIdIn(@Param("materialIds") Collection<Long> materialIds);
+
 }
\ No newline at end of file
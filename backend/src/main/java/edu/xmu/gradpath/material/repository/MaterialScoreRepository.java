@@ -1,13 +1,18 @@
 package edu.xmu.gradpath.material.repository;
 
+import edu.xmu.gradpath.common.persistence.EntityRepository;
 import edu.xmu.gradpath.material.domain.MaterialScore;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * 材料分值裁决记录仓库
  */
-public interface MaterialScoreRepository extends JpaRepository<MaterialScore, Long> {
+public interface MaterialScoreRepository extends EntityRepository<MaterialScore> {
 
     /**
      * 根据材料 ID 查询分值裁决记录
@@ -23,4 +28,49 @@ public interface MaterialScoreRepository extends JpaRepository<MaterialScore, Lo
      * @return 分值裁决记录列表
      */
     List<MaterialScore> findByMaterialIdAndMaterialVersion(Long materialId, Integer materialVersion);
+
+    /**
+     * 根据一组材料 ID 批量查询分值裁决记录（包含所有版本）
+     * 版本过滤与分组由调用方在内存中完成
+     * @param materialIds 材料 ID 集合
+     * @return 分值裁决记录列表
+     */
+    List<MaterialScore> findByMaterialIdIn(Collection<Long> materialIds);
+
+    /**
+     * 按 Application 与材料类别汇总审核确认分值（用于排名重建）
+     * 口径与 ApplicationScoreSummary 一致：
+     * 只统计 scoreMode = DECLARED 的 Material 在当前版本下的裁决分值
+     * 没有任何裁决分值的 Application 不出现在结果中；封顶与加权由 ScoringEngine 在内存中计算
+     * @return 每个 Application 每个类别的分值之和
+     */
+    @Query("select m.applicationId as applicationId, m.category as category, sum(s.approvedScore) as totalApprovedScore "
+            + "from MaterialScore s join Material m on m.id = s.materialId and m.version = s.materialVersion "
+            + "where m.scoreMode = edu.xmu.gradpath.material.domain.ScoreMode.DECLARED "
+            + "group by m.applicationId, m.category")
+    List<CategoryScoreTotal> sumApprovedScoreGroupByApplicationIdAndCategory();
+
+    /**
+     * 按材料类别汇总单个 Application 的审核确认分值（口径同上）
+     * @param applicationId 申请 ID
+     * @return 每个类别的分值之和，没有裁决分值时为空列表
+     */
+    @Query("select m.applicationId as applicationId, m.category as category, sum(s.approvedScore) as totalApprovedScore "
+            + "from MaterialScore s join Material m on m.id = s.materialId and m.version = s.materialVersion "
+            + "where m.applicationId = :applicationId "
+            + "and m.scoreMode = edu.xmu.gradpath.material.domain.ScoreMode.DECLARED "
+            + "group by m.applicationId, m.category")
+    List<CategoryScoreTotal> sumApprovedScoreGroupByCategory(@Param("applicationId") Long applicationId);
+
+    /**
+     * Application 类别分值投影
+     */
+    interface CategoryScoreTotal {
+
+        Long getApplicationId();
+
+        String getCategory();
+
+        BigDecimal getTotalApprovedScore();
+    }
 }
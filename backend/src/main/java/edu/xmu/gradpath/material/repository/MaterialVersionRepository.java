@@ -0,0 +1,34 @@
+package edu.xmu.gradpath.material.repository;
+
+import edu.xmu.gradpath.common.persistence.EntityRepository;
+import edu.xmu.gradpath.material.domain.MaterialVersion;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Material 版本历史仓库
+ */
+public interface MaterialVersionRepository extends EntityRepository<MaterialVersion> {
+
+    /**
+     * 某个 Material 的全部历史行（按 version 升序）
+     */
+    List<MaterialVersion> findByMaterialIdOrderByVersionAsc(Long materialId);
+
+    /**
+     * 某个 Material 最新的历史行（按 version 降序，配合 Limit.of(1) 使用）
+     */
+    List<MaterialVersion> findByMaterialIdOrderByVersionDesc(Long materialId, Limit limit);
+
+    /**
+     * 根据 materialId + version 查询历史行
+     */
+    Optional<MaterialVersion> findByMaterialIdAndVersion(Long materialId, Integer version);
+
+    /**
+     * 某个 Material 在 [fromVersion, toVersion] 内的历史行（按 version 升序，用于从快照重放增量）
+     */
+    List<MaterialVersion> findByMaterialIdAndVersionBetweenOrderByVersionAsc(Long materialId, Integer fromVersion, Integer toVersion);
+}
@@ -0,0 +1,314 @@
+package edu.xmu.gradpath.material.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Material 内容的增量编码（gp_material_version.content_delta）
+ * 说明：
+ * - 编码 = Deflate(标记字节 + 操作序列 + 结束符)：标记 0 表示 content 为 null；COPY(offset, length) 复制基准内容的一段字符，
+ *   INSERT(utf8) 插入新文本；整数均为无符号变长编码
+ * - 基准为 null 时只有一个 INSERT，即快照；快照不依赖基准，可在重放链的任意位置直接覆盖
+ * - 先去掉公共前缀 / 后缀，剩余部分按行匹配基准中的相同行（优先选择连续匹配最长的位置），因此编码体积与编辑量成正比，
+ *   与文档长度无关；过短的匹配直接作为 INSERT（COPY 的编码不比原文短）
+ */
+final class MaterialContentDelta {
+
+    private static final int OP_END = 0;
+    private static final int OP_COPY = 1;
+    private static final int OP_INSERT = 2;
+
+    /**
+     * 短于该字符数的匹配不值得编码为 COPY
+     */
+    private static final int MIN_COPY_LENGTH = 8;
+
+    /**
+     * 每行最多比较的候选位置（重复行很多时限制匹配开销）
+     */
+    private static final int MAX_CANDIDATES = 8;
+
+    private MaterialContentDelta() {
+    }
+
+    /**
+     * 编码 target 相对 base 的增量（base 为 null 时编码为快照）
+     */
+    static byte[] encode(String base, String target) {
+        Writer writer = new Writer();
+        if (target == null) {
+            writer.out.write(0);
+            return writer.finish();
+        }
+        writer.out.write(1);
+        if (base == null || base.isEmpty() || target.isEmpty()) {
+            writer.insert(target, 0, target.length());
+            return writer.finish();
+        }
+
+        int prefix = 0;
+        int maxPrefix = Math.min(base.length(), target.length());
+        while (prefix < maxPrefix && base.charAt(prefix) == target.charAt(prefix)) {
+            prefix++;
+        }
+        if (prefix > 0 && prefix < maxPrefix && Character.isHighSurrogate(target.charAt(prefix - 1))) {
+            prefix--;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix
+                && base.charAt(base.length() - 1 - suffix) == target.charAt(target.length() - 1 - suffix)) {
+            suffix++;
+        }
+        if (suffix > 0 && suffix < maxSuffix && Character.isLowSurrogate(target.charAt(target.length() - suffix))) {
+            suffix--;
+        }
+
+        writer.copy(0, prefix);
+        encodeMiddle(writer, base, prefix, base.length() - suffix, target, prefix, target.length() - suffix);
+        writer.copy(base.length() - suffix, suffix);
+        return writer.finish();
+    }
+
+    /**
+     * 将增量应用到 base 上，得到目标内容
+     */
+    static String apply(String base, byte[] delta) {
+        Reader reader = new Reader(inflate(delta));
+        if (reader.readByte() == 0) {
+            return null;
+        }
+        StringBuilder result = new StringBuilder();
+        while (true) {
+            int op = reader.readByte();
+            if (op == OP_END) {
+                return result.toString();
+            }
+            if (op == OP_COPY) {
+                int offset = reader.readVarInt();
+                int length = reader.readVarInt();
+                if (base == null || offset + length > base.length()) {
+                    throw new IllegalStateException("material version delta does not match its base content");
+                }
+                result.append(base, offset, offset + length);
+            } else if (op == OP_INSERT) {
+                result.append(reader.readUtf8(reader.readVarInt()));
+            } else {
+                throw new IllegalStateException("unknown material version delta op: " + op);
+            }
+        }
+    }
+
+    private static void encodeMiddle(Writer writer,
+                                     String base, int baseStart, int baseEnd,
+                                     String target, int targetStart, int targetEnd) {
+        if (targetStart >= targetEnd) {
+            return;
+        }
+        if (baseStart >= baseEnd) {
+            writer.insert(target, targetStart, targetEnd);
+            return;
+        }
+        List<Integer> baseLines = lineStarts(base, baseStart, baseEnd);
+        Map<String, List<Integer>> lineIndex = new HashMap<>();
+        for (int i = 0; i < baseLines.size() - 1; i++) {
+            lineIndex.computeIfAbsent(base.substring(baseLines.get(i), baseLines.get(i + 1)), key -> new ArrayList<>()).add(i);
+        }
+        List<Integer> targetLines = lineStarts(target, targetStart, targetEnd);
+
+        int t = 0;
+        while (t < targetLines.size() - 1) {
+            String line = target.substring(targetLines.get(t), targetLines.get(t + 1));
+            List<Integer> candidates = lineIndex.get(line);
+            int bestStart = -1;
+            int bestRun = 0;
+            if (candidates != null) {
+                for (int c = 0; c < candidates.size() && c < MAX_CANDIDATES; c++) {
+                    int b = candidates.get(c);
+                    int run = 1;
+                    while (b + run < baseLines.size() - 1
+                            && t + run < targetLines.size() - 1
+                            && sameLine(base, baseLines, b + run, target, targetLines, t + run)) {
+                        run++;
+                    }
+                    if (run > bestRun) {
+                        bestStart = b;
+                        bestRun = run;
+                    }
+                }
+            }
+            int length = bestRun == 0 ? 0 : targetLines.get(t + bestRun) - targetLines.get(t);
+            if (length >= MIN_COPY_LENGTH) {
+                writer.copy(baseLines.get(bestStart), length);
+                t += bestRun;
+            } else {
+                writer.insert(target, targetLines.get(t), targetLines.get(t + 1));
+                t++;
+            }
+        }
+    }
+
+    private static boolean sameLine(String base, List<Integer> baseLines, int b,
+                                    String target, List<Integer> targetLines, int t) {
+        int length = baseLines.get(b + 1) - baseLines.get(b);
+        return length == targetLines.get(t + 1) - targetLines.get(t)
+                && base.regionMatches(baseLines.get(b), target, targetLines.get(t), length);
+    }
+
+    /**
+     * [start, end) 内各行的起始位置（行包含结尾的换行符），末尾追加 end 作为哨兵
+     */
+    private static List<Integer> lineStarts(String text, int start, int end) {
+        List<Integer> starts = new ArrayList<>();
+        starts.add(start);
+        for (int i = start; i < end - 1; i++) {
+            if (text.charAt(i) == '\n') {
+                starts.add(i + 1);
+            }
+        }
+        starts.add(end);
+        return starts;
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        Inflater inflater = new Inflater(true);
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed), inflater)) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 操作序列写入器（合并相邻的 COPY 与相邻的 INSERT）
+     */
+    private static final class Writer {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private final StringBuilder pendingInsert = new StringBuilder();
+        private int pendingCopyOffset = -1;
+        private int pendingCopyLength;
+
+        void copy(int offset, int length) {
+            if (length == 0) {
+                return;
+            }
+            flushInsert();
+            if (pendingCopyOffset >= 0 && pendingCopyOffset + pendingCopyLength == offset) {
+                pendingCopyLength += length;
+                return;
+            }
+            flushCopy();
+            pendingCopyOffset = offset;
+            pendingCopyLength = length;
+        }
+
+        void insert(String text, int start, int end) {
+            if (start == end) {
+                return;
+            }
+            flushCopy();
+            pendingInsert.append(text, start, end);
+        }
+
+        byte[] finish() {
+            flushCopy();
+            flushInsert();
+            out.write(OP_END);
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (DeflaterOutputStream deflating = new DeflaterOutputStream(compressed, deflater)) {
+                out.writeTo(deflating);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                deflater.end();
+            }
+            return compressed.toByteArray();
+        }
+
+        private void flushCopy() {
+            if (pendingCopyOffset < 0) {
+                return;
+            }
+            out.write(OP_COPY);
+            writeVarInt(pendingCopyOffset);
+            writeVarInt(pendingCopyLength);
+            pendingCopyOffset = -1;
+            pendingCopyLength = 0;
+        }
+
+        private void flushInsert() {
+            if (pendingInsert.isEmpty()) {
+                return;
+            }
+            byte[] bytes = pendingInsert.toString().getBytes(StandardCharsets.UTF_8);
+            out.write(OP_INSERT);
+            writeVarInt(bytes.length);
+            out.writeBytes(bytes);
+            pendingInsert.setLength(0);
+        }
+
+        private void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                out.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write(value);
+        }
+    }
+
+    /**
+     * 操作序列读取器
+     */
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalStateException("truncated material version delta");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException("malformed varint in material version delta");
+        }
+
+        String readUtf8(int length) {
+            if (position + length > bytes.length) {
+                throw new IllegalStateException("truncated material version delta");
+            }
+            String text = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return text;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package edu.xmu.gradpath.material.service;
+
+import edu.xmu.gradpath.material.controller.dto.MaterialVersionDiff;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Material 内容的按行差异
+ * 说明：
+ * - 去掉公共的首尾行后，对剩余部分求最长公共子序列；剩余部分过大时退化为整体 DELETE + INSERT，避免单次请求占用过多内存
+ * - 行包含结尾的换行符，片段文本直接拼接即可还原原文
+ */
+final class MaterialContentDiff {
+
+    /**
+     * 最长公共子序列表的单元格上限
+     */
+    private static final long MAX_LCS_CELLS = 1_000_000L;
+
+    private MaterialContentDiff() {
+    }
+
+    static List<MaterialVersionDiff.Segment> diff(String from, String to) {
+        List<String> a = lines(from);
+        List<String> b = lines(to);
+        int prefix = 0;
+        while (prefix < a.size() && prefix < b.size() && a.get(prefix).equals(b.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < a.size() - prefix && suffix < b.size() - prefix
+                && a.get(a.size() - 1 - suffix).equals(b.get(b.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        Segments segments = new Segments();
+        segments.add(MaterialVersionDiff.SegmentType.EQUAL, a.subList(0, prefix));
+        List<String> middleA = a.subList(prefix, a.size() - suffix);
+        List<String> middleB = b.subList(prefix, b.size() - suffix);
+        if ((long) middleA.size() * middleB.size() > MAX_LCS_CELLS) {
+            segments.add(MaterialVersionDiff.SegmentType.DELETE, middleA);
+            segments.add(MaterialVersionDiff.SegmentType.INSERT, middleB);
+        } else {
+            diffMiddle(segments, middleA, middleB);
+        }
+        segments.add(MaterialVersionDiff.SegmentType.EQUAL, a.subList(a.size() - suffix, a.size()));
+        return segments.finish();
+    }
+
+    private static void diffMiddle(Segments segments, List<String> a, List<String> b) {
+        int n = a.size();
+        int m = b.size();
+        // lcs[i][j]：a[i..] 与 b[j..] 的最长公共子序列长度
+        int[][] lcs = new int[n + 1][m + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = m - 1; j >= 0; j--) {
+                lcs[i][j] = a.get(i).equals(b.get(j))
+                        ? lcs[i + 1][j + 1] + 1
+                        : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+            }
+        }
+        int i = 0;
+        int j = 0;
+        while (i < n && j < m) {
+            if (a.get(i).equals(b.get(j))) {
+                segments.add(MaterialVersionDiff.SegmentType.EQUAL, a.get(i));
+                i++;
+                j++;
+            } else if (lcs[i + 1][j] >= lcs[i][j + 1]) {
+                segments.add(MaterialVersionDiff.SegmentType.DELETE, a.get(i++));
+            } else {
+                segments.add(MaterialVersionDiff.SegmentType.INSERT, b.get(j++));
+            }
+        }
+        segments.add(MaterialVersionDiff.SegmentType.DELETE, a.subList(i, n));
+        segments.add(MaterialVersionDiff.SegmentType.INSERT, b.subList(j, m));
+    }
+
+    private static List<String> lines(String text) {
+        List<String> lines = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return lines;
+        }
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines.add(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length()) {
+            lines.add(text.substring(start));
+        }
+        return lines;
+    }
+
+    /**
+     * 片段收集器（合并相邻的同类型片段）
+     */
+    private static final class Segments {
+
+        private final List<MaterialVersionDiff.Segment> result = new ArrayList<>();
+        private MaterialVersionDiff.SegmentType pendingType;
+        private final StringBuilder pendingText = new StringBuilder();
+
+        void add(MaterialVersionDiff.SegmentType type, List<String> lines) {
+            for (String line : lines) {
+                add(type, line);
+            }
+        }
+
+        void add(MaterialVersionDiff.SegmentType type, String line) {
+            if (type != pendingType && pendingType != null) {
+                result.add(new MaterialVersionDiff.Segment(pendingType, pendingText.toString()));
+                pendingText.setLength(0);
+            }
+            pendingType = type;
+            pendingText.append(line);
+        }
+
+        List<MaterialVersionDiff.Segment> finish() {
+            if (pendingType != null) {
+                result.add(new MaterialVersionDiff.Segment(pendingType, pendingText.toString()));
+                pendingType = null;
+                pendingText.setLength(0);
+            }
+            return result;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package edu.xmu.gradpath.material.service;
 
+import edu.xmu.gradpath.application.event.ApplicationChangeType;
 import edu.xmu.gradpath.application.controller.dto.ApplicationReviewSummary;
+import edu.xmu.gradpath.application.domain.Application;
 import edu.xmu.gradpath.application.domain.ApplicationStatus;
 import edu.xmu.gradpath.application.service.ApplicationService;
 import edu.xmu.gradpath.common.exception.BizException;
@@ -9,6 +11,8 @@ import edu.xmu.gradpath.material.domain.MaterialScore;
 import edu.xmu.gradpath.material.repository.MaterialRepository;
 import edu.xmu.gradpath.material.repository.MaterialScoreRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 import edu.xmu.gradpath.material.domain.ScoreMode;
 import java.util.List;
 
@@ -30,8 +34,12 @@ public class MaterialScoreService {
      * @param materialId 材料 ID
      * @return 创建的 MaterialScore
      */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public MaterialScore createScore(Long materialId) {
-        // 1. 查询 Material
+        // 1. 锁定所属 Application 后再查询 Material（见 ApplicationService.getForUpdate）
+        Long applicationId = materialRepository.findApplicationIdById(materialId)
+                .orElseThrow(() -> new BizException(404, "material not found"));
+        Application application = applicationService.getForUpdate(applicationId);
         Material material = materialRepository.findById(materialId)
                 .orElseThrow(() -> new BizException(404, "material not found"));
 
@@ -40,9 +48,8 @@ public class MaterialScoreService {
             throw new BizException(400, "material is non-scoring");
         }
 
-        // 3. 查询 Application 并校验状态
-        Long applicationId = material.getApplicationId();
-        if (applicationService.getById(applicationId).getStatus() != ApplicationStatus.UNDER_REVIEW) {
+        // 3. 校验 Application 状态
+        if (application.getStatus() != ApplicationStatus.UNDER_REVIEW) {
             throw new BizException(400, "application must be under review");
         }
 
@@ -79,7 +86,9 @@ public class MaterialScoreService {
                 material.getDeclaredScore()
         );
 
-        // 保存并返回
-        return materialScoreRepository.save(materialScore);
+        // 保存，并标记 Application 已变更
+        MaterialScore saved = materialScoreRepository.save(materialScore);
+        applicationService.markChanged(applicationId, ApplicationChangeType.SCORE_RECORDED);
+        return saved;
     }
 }
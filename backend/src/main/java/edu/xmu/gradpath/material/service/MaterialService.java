@@ -1,10 +1,13 @@
 package edu.xmu.gradpath.material.service;
 
+import edu.xmu.gradpath.application.event.ApplicationChangeType;
 import edu.xmu.gradpath.application.service.ApplicationService;
 import edu.xmu.gradpath.common.exception.BizException;
 import edu.xmu.gradpath.material.domain.Material;
 import edu.xmu.gradpath.material.repository.MaterialRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 import edu.xmu.gradpath.application.domain.ApplicationStatus;
 import edu.xmu.gradpath.application.domain.Application;
 import edu.xmu.gradpath.application.controller.dto.ApplicationReviewSummary;
@@ -18,10 +21,14 @@ public class MaterialService {
 
     private final ApplicationService applicationService;
     private final MaterialRepository materialRepository;
+    private final MaterialVersionService materialVersionService;
 
-    public MaterialService(ApplicationService applicationService, MaterialRepository materialRepository) {
+    public MaterialService(ApplicationService applicationService,
+                           MaterialRepository materialRepository,
+                           MaterialVersionService materialVersionService) {
         this.applicationService = applicationService;
         this.materialRepository = materialRepository;
+        this.materialVersionService = materialVersionService;
     }
 
     /**
@@ -45,9 +52,10 @@ public class MaterialService {
      * @param scoreMode 计分模式
      * @return 保存后的 Material
      */
+    @Transactional
     public Material createMaterial(Long applicationId, String category, String content, String attachmentRef, BigDecimal declaredScore, ScoreMode scoreMode) {
-        // 校验 Application 是否存在
-        Application application = applicationService.getById(applicationId);
+        // 锁定并校验 Application 是否存在
+        Application application = applicationService.getForUpdate(applicationId);
 
         // 当 Application.status 为 SUBMITTED 或 UNDER_REVIEW 时，禁止新增 Material
         ApplicationStatus status = application.getStatus();
@@ -78,8 +86,12 @@ public class MaterialService {
         // 构造 Material
         Material material = new Material(applicationId, category, content, attachmentRef, declaredScore, scoreMode);
 
-        // 保存并返回
-        return materialRepository.save(material);
+        // 保存，记录首个版本，并为首个版本建立审核聚合状态
+        Material saved = materialRepository.save(material);
+        materialVersionService.record(saved);
+        applicationService.resetReviewAggregation(saved);
+        applicationService.markChanged(applicationId, ApplicationChangeType.MATERIAL_CHANGED);
+        return saved;
     }
 
     /**
@@ -87,9 +99,10 @@ public class MaterialService {
      * @param applicationId 申请 ID
      * @param materialId 材料 ID
      */
+    @Transactional
     public void deleteMaterial(Long applicationId, Long materialId) {
-        // 校验 Application 是否存在
-        Application application = applicationService.getById(applicationId);
+        // 锁定并校验 Application 是否存在
+        Application application = applicationService.getForUpdate(applicationId);
 
         // 当 Application.status 为 SUBMITTED 或 UNDER_REVIEW 时，禁止删除 Material
         ApplicationStatus status = application.getStatus();
@@ -107,8 +120,10 @@ public class MaterialService {
             throw new BizException(400, "material does not belong to this application");
         }
 
-        // 执行删除
+        // 执行删除，并清理其审核聚合状态
         materialRepository.delete(material);
+        applicationService.dropReviewAggregation(materialId);
+        applicationService.markChanged(applicationId, ApplicationChangeType.MATERIAL_CHANGED);
     }
 
     /**
@@ -119,9 +134,10 @@ public class MaterialService {
      * @param attachmentRef 附件引用
      * @return 更新后的 Material
      */
+    @Transactional
     public Material updateMaterialContent(Long applicationId, Long materialId, String content, String attachmentRef) {
-        // 校验 Application 是否存在
-        Application application = applicationService.getById(applicationId);
+        // 锁定并校验 Application 是否存在
+        Application application = applicationService.getForUpdate(applicationId);
 
         // 当 Application.status 为 SUBMITTED 或 UNDER_REVIEW 时，禁止修改 Material
         ApplicationStatus status = application.getStatus();
@@ -144,6 +160,9 @@ public class MaterialService {
             throw new BizException(400, "content and attachmentRef cannot be both null");
         }
 
+        // 原地覆盖前补记当前版本（历史表上线前创建的材料）
+        materialVersionService.record(material);
+
         // 更新 Material 内容
         material.setContent(content);
         material.setAttachmentRef(attachmentRef);
@@ -151,8 +170,12 @@ public class MaterialService {
         // 每次成功修改，必须触发 material.version++
         material.incrementVersion();
 
-        // 保存并返回
-        return materialRepository.save(material);
+        // 保存，记录新版本，并为新版本建立空的审核聚合状态
+        Material saved = materialRepository.save(material);
+        materialVersionService.record(saved);
+        applicationService.resetReviewAggregation(saved);
+        applicationService.markChanged(applicationId, ApplicationChangeType.MATERIAL_CHANGED);
+        return saved;
     }
 
     /**
@@ -161,15 +184,15 @@ public class MaterialService {
      * @param request 修订请求
      * @return 修订后的 Material
      */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public Material reviseMaterial(Long materialId, ReviseMaterialRequest request) {
-        // 查询 Material
+        // 锁定所属 Application 后再加载 Material（见 ApplicationService.getForUpdate）
+        Long applicationId = materialRepository.findApplicationIdById(materialId)
+                .orElseThrow(() -> new BizException(404, "material not found"));
+        Application application = applicationService.getForUpdate(applicationId);
         Material material = materialRepository.findById(materialId)
                 .orElseThrow(() -> new BizException(404, "material not found"));
 
-        // 获取 Application
-        Long applicationId = material.getApplicationId();
-        Application application = applicationService.getById(applicationId);
-
         // 状态守卫：仅允许 UNDER_REVIEW 状态
         ApplicationStatus status = application.getStatus();
         if (status != ApplicationStatus.UNDER_REVIEW) {
@@ -212,6 +235,9 @@ public class MaterialService {
             && request.getDeclaredScore() == null) {
             throw new BizException(400, "nothing to revise");
         }
+        // 原地覆盖前补记当前版本（历史表上线前创建的材料）
+        materialVersionService.record(material);
+
         // 修订行为：version++
         material.incrementVersion();
     
@@ -226,8 +252,12 @@ public class MaterialService {
             material.setAttachmentRef(request.getFilePath());
         }
 
-        // 保存并返回最新 Material
-        return materialRepository.save(material);
+        // 保存，记录新版本，并为新版本建立空的审核聚合状态
+        Material saved = materialRepository.save(material);
+        materialVersionService.record(saved);
+        applicationService.resetReviewAggregation(saved);
+        applicationService.markChanged(applicationId, ApplicationChangeType.MATERIAL_REVISED);
+        return saved;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,206 @@
+package edu.xmu.gradpath.material.service;
+
+import edu.xmu.gradpath.application.service.ApplicationService;
+import edu.xmu.gradpath.application.service.ReplicaLagGuard;
+import edu.xmu.gradpath.common.exception.BizException;
+import edu.xmu.gradpath.material.controller.dto.MaterialVersionDiff;
+import edu.xmu.gradpath.material.controller.dto.MaterialVersionView;
+import edu.xmu.gradpath.material.domain.Material;
+import edu.xmu.gradpath.material.domain.MaterialVersion;
+import edu.xmu.gradpath.material.repository.MaterialVersionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Material 版本历史服务
+ * 说明：
+ * - MaterialService 在创建材料、修改内容、修订材料的同一事务内调用 record，每个版本一行（gp_material_version）
+ * - content 以增量保存（见 MaterialContentDelta）；增量链自快照起最多 gradpath.material-version.snapshot-interval 行，
+ *   增量不比快照小时直接保存快照
+ * - 读取任意版本固定两次索引查询：该版本所在行（得到快照版本号）、快照到该版本之间的行；重放最多 snapshot-interval 行
+ */
+@Service
+public class MaterialVersionService {
+
+    private final ApplicationService applicationService;
+    private final MaterialVersionRepository materialVersionRepository;
+    private final ReplicaLagGuard replicaLagGuard;
+    private final int snapshotInterval;
+
+    public MaterialVersionService(ApplicationService applicationService,
+                                  MaterialVersionRepository materialVersionRepository,
+                                  ReplicaLagGuard replicaLagGuard,
+                                  @Value("${gradpath.material-version.snapshot-interval:10}") int snapshotInterval) {
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("gradpath.material-version.snapshot-interval must be positive");
+        }
+        this.applicationService = applicationService;
+        this.materialVersionRepository = materialVersionRepository;
+        this.replicaLagGuard = replicaLagGuard;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * 记录 Material 的当前版本（已记录过该版本时忽略）
+     * 说明：
+     * - 修改前调用一次可为历史表上线前创建的材料补齐修改前的版本
+     * @param material 已保存的 Material
+     */
+    @Transactional
+    public void record(Material material) {
+        List<MaterialVersion> latest = materialVersionRepository.findByMaterialIdOrderByVersionDesc(material.getId(), Limit.of(1));
+        if (!latest.isEmpty() && latest.get(0).getVersion() >= material.getVersion()) {
+            return;
+        }
+        byte[] snapshot = MaterialContentDelta.encode(null, material.getContent());
+        int snapshotVersion = material.getVersion();
+        byte[] contentDelta = snapshot;
+        if (!latest.isEmpty() && material.getVersion() - latest.get(0).getSnapshotVersion() < snapshotInterval) {
+            MaterialVersion previous = latest.get(0);
+            String previousContent = replay(materialVersionRepository.findByMaterialIdAndVersionBetweenOrderByVersionAsc(
+                    previous.getMaterialId(), previous.getSnapshotVersion(), previous.getVersion()));
+            byte[] delta = MaterialContentDelta.encode(previousContent, material.getContent());
+            if (delta.length < snapshot.length) {
+                contentDelta = delta;
+                snapshotVersion = previous.getSnapshotVersion();
+            }
+        }
+        materialVersionRepository.save(new MaterialVersion(
+                material.getId(),
+                material.getApplicationId(),
+                material.getVersion(),
+                snapshotVersion,
+                contentDelta,
+                material.getAttachmentRef(),
+                material.getDeclaredScore(),
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)
+        ));
+    }
+
+    /**
+     * 查询 Material 的全部历史版本（仅元数据，不含 content）
+     * @param applicationId 申请 ID
+     * @param materialId 材料 ID
+     * @return 按 version 升序的版本列表
+     */
+    @Transactional(readOnly = true)
+    public List<MaterialVersionView> getVersions(Long applicationId, Long materialId) {
+        replicaLagGuard.guardRead(applicationId);
+        applicationService.getById(applicationId);
+        List<MaterialVersion> rows = materialVersionRepository.findByMaterialIdOrderByVersionAsc(materialId);
+        if (rows.isEmpty()) {
+            throw new BizException(404, "material version not found");
+        }
+        checkOwnership(rows.get(0), applicationId);
+        List<MaterialVersionView> views = new ArrayList<>(rows.size());
+        for (MaterialVersion row : rows) {
+            views.add(MaterialVersionView.summaryOf(row));
+        }
+        return views;
+    }
+
+    /**
+     * 读取 Material 的某个历史版本
+     * @param applicationId 申请 ID
+     * @param materialId 材料 ID
+     * @param version 版本号
+     * @return 该版本的完整内容
+     */
+    @Transactional(readOnly = true)
+    public MaterialVersionView getVersion(Long applicationId, Long materialId, Integer version) {
+        replicaLagGuard.guardRead(applicationId);
+        applicationService.getById(applicationId);
+        MaterialVersion row = findVersion(applicationId, materialId, version);
+        String content = replay(materialVersionRepository.findByMaterialIdAndVersionBetweenOrderByVersionAsc(
+                materialId, row.getSnapshotVersion(), version));
+        return MaterialVersionView.of(row, content);
+    }
+
+    /**
+     * 比较 Material 的两个历史版本
+     * @param applicationId 申请 ID
+     * @param materialId 材料 ID
+     * @param fromVersion 起始版本号
+     * @param toVersion 目标版本号
+     * @return 按行的 content 差异与其他字段两端的值
+     */
+    @Transactional(readOnly = true)
+    public MaterialVersionDiff diff(Long applicationId, Long materialId, Integer fromVersion, Integer toVersion) {
+        replicaLagGuard.guardRead(applicationId);
+        applicationService.getById(applicationId);
+        MaterialVersion from = findVersion(applicationId, materialId, fromVersion);
+        MaterialVersion to = findVersion(applicationId, materialId, toVersion);
+
+        // 两个版本在同一次范围查询内重放：从较早的快照开始，依次经过两个版本
+        int start = Math.min(from.getSnapshotVersion(), to.getSnapshotVersion());
+        int end = Math.max(fromVersion, toVersion);
+        Map<Integer, String> contents = replay(
+                materialVersionRepository.findByMaterialIdAndVersionBetweenOrderByVersionAsc(materialId, start, end),
+                fromVersion, toVersion);
+        String fromContent = contents.get(fromVersion);
+        String toContent = contents.get(toVersion);
+
+        MaterialVersionDiff diff = new MaterialVersionDiff();
+        diff.setMaterialId(materialId);
+        diff.setFromVersion(fromVersion);
+        diff.setToVersion(toVersion);
+        diff.setContentChanged(!Objects.equals(fromContent, toContent));
+        diff.setSegments(MaterialContentDiff.diff(fromContent, toContent));
+        diff.setFromAttachmentRef(from.getAttachmentRef());
+        diff.setToAttachmentRef(to.getAttachmentRef());
+        diff.setFromDeclaredScore(from.getDeclaredScore());
+        diff.setToDeclaredScore(to.getDeclaredScore());
+        return diff;
+    }
+
+    private MaterialVersion findVersion(Long applicationId, Long materialId, Integer version) {
+        MaterialVersion row = materialVersionRepository.findByMaterialIdAndVersion(materialId, version)
+                .orElseThrow(() -> new BizException(404, "material version not found"));
+        checkOwnership(row, applicationId);
+        return row;
+    }
+
+    private static void checkOwnership(MaterialVersion row, Long applicationId) {
+        if (!row.getApplicationId().equals(applicationId)) {
+            throw new BizException(400, "material does not belong to this application");
+        }
+    }
+
+    /**
+     * 从快照开始依次应用各行，返回最后一行的内容
+     */
+    private static String replay(List<MaterialVersion> chain) {
+        String content = null;
+        for (MaterialVersion row : chain) {
+            content = MaterialContentDelta.apply(content, row.getContentDelta());
+        }
+        return content;
+    }
+
+    /**
+     * 从快照开始依次应用各行，返回指定版本的内容
+     */
+    private static Map<Integer, String> replay(List<MaterialVersion> chain, Integer... versions) {
+        Map<Integer, String> contents = new HashMap<>();
+        String content = null;
+        for (MaterialVersion row : chain) {
+            content = MaterialContentDelta.apply(content, row.getContentDelta());
+            for (Integer version : versions) {
+                if (row.getVersion().equals(version)) {
+                    contents.put(version, content);
+                }
+            }
+        }
+        return contents;
+    }
+}
@@ -0,0 +1,115 @@
+package edu.xmu.gradpath.outbox.domain;
+
+import edu.xmu.gradpath.application.event.ApplicationChangeType;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 发件箱死信实体
+ * 表示评估连续失败达到上限后移出发件箱的事件
+ * 说明：
+ * - 每条 OutboxEvent 对应一行，保留原事件的 applicationId、类型与创建时间，以及最后一次失败的原因
+ * - 不再自动重试；排查原因后可重新追加发件箱事件
+ */
+@Entity
+@Table(name = "gp_outbox_dead_letter")
+public class OutboxDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 原事件 ID
+     */
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    /**
+     * 申请 ID
+     */
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    /**
+     * 变更类型
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private ApplicationChangeType eventType;
+
+    /**
+     * 原事件创建时间
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 失败次数
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * 最后一次失败的原因
+     */
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    /**
+     * 移入死信的时间
+     */
+    @Column(name = "dead_lettered_at", nullable = false)
+    private LocalDateTime deadLetteredAt;
+
+    protected OutboxDeadLetter() {
+        // JPA only
+    }
+
+    /**
+     * 构造器：由发件箱事件创建死信
+     */
+    public OutboxDeadLetter(OutboxEvent event, int attempts, String lastError) {
+        this.eventId = event.getId();
+        this.applicationId = event.getApplicationId();
+        this.eventType = event.getEventType();
+        this.createdAt = event.getCreatedAt();
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.deadLetteredAt = LocalDateTime.now();
+    }
+
+    // ===== getter =====
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public ApplicationChangeType getEventType() {
+        return eventType;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public LocalDateTime getDeadLetteredAt() {
+        return deadLetteredAt;
+    }
+}
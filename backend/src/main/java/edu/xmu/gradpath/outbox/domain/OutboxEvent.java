@@ -0,0 +1,102 @@
+package edu.xmu.gradpath.outbox.domain;
+
+import edu.xmu.gradpath.application.event.ApplicationChangeType;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 发件箱事件实体
+ * 表示一次需要异步重新评估审核结果的 Application 变更
+ * 说明：
+ * - 与 ReviewRecord / MaterialScore 在同一事务内写入，提交即可靠
+ * - 由 ApplicationEvaluationOutboxWorker 按 applicationId 合并消费，消费成功后删除
+ * - 评估失败时同一 Application 的全部事件一起记录失败次数与下次重试时间；超过上限后移入 gp_outbox_dead_letter
+ */
+@Entity
+@Table(name = "gp_outbox_event")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 申请 ID
+     */
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    /**
+     * 变更类型
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private ApplicationChangeType eventType;
+
+    /**
+     * 创建时间
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 所属 Application 已失败的评估次数
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * 失败后的下次重试时间（未失败过为 null）
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    protected OutboxEvent() {
+        // JPA only
+    }
+
+    /**
+     * 构造器：创建 OutboxEvent
+     */
+    public OutboxEvent(Long applicationId, ApplicationChangeType eventType) {
+        this.applicationId = applicationId;
+        this.eventType = eventType;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 记录一次评估失败
+     * @param attempts 所属 Application 累计失败次数
+     * @param nextAttemptAt 下次重试时间
+     */
+    public void recordFailure(int attempts, LocalDateTime nextAttemptAt) {
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // ===== getter =====
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public ApplicationChangeType getEventType() {
+        return eventType;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+}
@@ -0,0 +1,29 @@
+package edu.xmu.gradpath.outbox.repository;
+
+import edu.xmu.gradpath.common.persistence.InMemoryRepository;
+import edu.xmu.gradpath.outbox.domain.OutboxDeadLetter;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * OutboxDeadLetterRepository 的内存实现（in-memory 持久化模式）
+ * 说明：
+ * - 二级索引：applicationId
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryOutboxDeadLetterRepository extends InMemoryRepository<OutboxDeadLetter> implements OutboxDeadLetterRepository {
+
+    private final Index<OutboxDeadLetter> byApplicationId = index(OutboxDeadLetter::getApplicationId);
+
+    public InMemoryOutboxDeadLetterRepository() {
+        super(OutboxDeadLetter.class);
+    }
+
+    @Override
+    public List<OutboxDeadLetter> findByApplicationIdOrderByIdAsc(Long applicationId) {
+        return byApplicationId.find(applicationId);
+    }
+}
@@ -0,0 +1,92 @@
+package edu.xmu.gradpath.outbox.repository;
+
+import edu.xmu.gradpath.common.persistence.InMemoryRepository;
+import edu.xmu.gradpath.outbox.domain.OutboxEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OutboxEventRepository 的内存实现（in-memory 持久化模式）
+ * 说明：
+ * - 二级索引：applicationId
+ * - 单进程内只有一个消费者，lockByApplicationId 不需要 SKIP LOCKED 语义
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryOutboxEventRepository extends InMemoryRepository<OutboxEvent> implements OutboxEventRepository {
+
+    private final Index<OutboxEvent> byApplicationId = index(OutboxEvent::getApplicationId);
+
+    public InMemoryOutboxEventRepository() {
+        super(OutboxEvent.class);
+    }
+
+    @Override
+    public List<Long> findDueApplicationIds(LocalDateTime cutoff, LocalDateTime now, Limit limit) {
+        // 主存储按 id 升序，首次出现的顺序即 min(id) 顺序
+        Map<Long, LocalDateTime> oldestByApplicationId = new LinkedHashMap<>();
+        Map<Long, LocalDateTime> nextAttemptByApplicationId = new HashMap<>();
+        for (OutboxEvent event : rows.values()) {
+            oldestByApplicationId.merge(event.getApplicationId(), event.getCreatedAt(),
+                    (a, b) -> a.isBefore(b) ? a : b);
+            if (event.getNextAttemptAt() != null) {
+                nextAttemptByApplicationId.merge(event.getApplicationId(), event.getNextAttemptAt(),
+                        (a, b) -> a.isAfter(b) ? a : b);
+            }
+        }
+        List<Long> result = new ArrayList<>();
+        for (Map.Entry<Long, LocalDateTime> entry : oldestByApplicationId.entrySet()) {
+            if (limit.isLimited() && result.size() >= limit.max()) {
+                break;
+            }
+            LocalDateTime nextAttemptAt = nextAttemptByApplicationId.get(entry.getKey());
+            if (!entry.getValue().isAfter(cutoff) && (nextAttemptAt == null || !nextAttemptAt.isAfter(now))) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<OutboxEvent> findByApplicationIdOrderByIdAsc(Long applicationId) {
+        return byApplicationId.find(applicationId);
+    }
+
+    @Override
+    public List<OutboxEvent> lockByApplicationId(Long applicationId) {
+        return byApplicationId.find(applicationId);
+    }
+
+    @Override
+    public OutboxStats getStats() {
+        long depth = 0;
+        LocalDateTime oldest = null;
+        for (OutboxEvent event : rows.values()) {
+            depth++;
+            if (oldest == null || event.getCreatedAt().isBefore(oldest)) {
+                oldest = event.getCreatedAt();
+            }
+        }
+        long finalDepth = depth;
+        LocalDateTime finalOldest = oldest;
+        return new OutboxStats() {
+            @Override
+            public long getDepth() {
+                return finalDepth;
+            }
+
+            @Override
+            public LocalDateTime getOldestCreatedAt() {
+                return finalOldest;
+            }
+        };
+    }
+}
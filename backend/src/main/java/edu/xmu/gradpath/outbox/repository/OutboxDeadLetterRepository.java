@@ -0,0 +1,17 @@
+package edu.xmu.gradpath.outbox.repository;
+
+import edu.xmu.gradpath.common.persistence.EntityRepository;
+import edu.xmu.gradpath.outbox.domain.OutboxDeadLetter;
+
+import java.util.List;
+
+/**
+ * 发件箱死信仓库
+ */
+public interface OutboxDeadLetterRepository extends EntityRepository<OutboxDeadLetter> {
+
+    /**
+     * 查询某个 Application 的死信（按 id 升序）
+     */
+    List<OutboxDeadLetter> findByApplicationIdOrderByIdAsc(Long applicationId);
+}
@@ -0,0 +1,62 @@
+package edu.xmu.gradpath.outbox.repository;
+
+import edu.xmu.gradpath.common.persistence.EntityRepository;
+import edu.xmu.gradpath.outbox.domain.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 发件箱事件仓库
+ */
+public interface OutboxEventRepository extends EntityRepository<OutboxEvent> {
+
+    /**
+     * 查询已到期的 applicationId：该 Application 最早一条未消费事件早于 cutoff，且不在失败后的退避期内
+     * 按最早事件顺序返回，先到先处理
+     * @param cutoff 合并窗口截止时间
+     * @param now 当前时间（与 next_attempt_at 比较）
+     * @param limit 最多返回条数
+     * @return applicationId 列表
+     */
+    @Query("select e.applicationId from OutboxEvent e "
+            + "group by e.applicationId "
+            + "having min(e.createdAt) <= :cutoff "
+            + "and (max(e.nextAttemptAt) is null or max(e.nextAttemptAt) <= :now) "
+            + "order by min(e.id)")
+    List<Long> findDueApplicationIds(@Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * 查询某个 Application 的全部未消费事件（不加锁，用于记录失败）
+     */
+    List<OutboxEvent> findByApplicationIdOrderByIdAsc(Long applicationId);
+
+    /**
+     * 锁定某个 Application 的全部未消费事件
+     * 已被其他实例锁定的事件直接跳过（SKIP LOCKED），多实例部署时同一 Application 只会被一个实例处理
+     * @param applicationId 申请 ID
+     * @return 本次锁定的事件
+     */
+    @Query(value = "select * from gp_outbox_event where application_id = :applicationId order by id for update skip locked",
+            nativeQuery = true)
+    List<OutboxEvent> lockByApplicationId(@Param("applicationId") Long applicationId);
+
+    /**
+     * 队列深度与最早事件时间（用于指标）
+     */
+    @Query("select count(e) as depth, min(e.createdAt) as oldestCreatedAt from OutboxEvent e")
+    OutboxStats getStats();
+
+    /**
+     * 队列统计投影
+     */
+    interface OutboxStats {
+
+        long getDepth();
+
+        LocalDateTime getOldestCreatedAt();
+    }
+}
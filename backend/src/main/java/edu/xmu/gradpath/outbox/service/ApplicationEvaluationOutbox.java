@@ -0,0 +1,57 @@
+package edu.xmu.gradpath.outbox.service;
+
+import edu.xmu.gradpath.application.event.ApplicationChangeType;
+import edu.xmu.gradpath.application.event.ApplicationChangedEvent;
+import edu.xmu.gradpath.application.service.ApplicationService;
+import edu.xmu.gradpath.outbox.domain.OutboxEvent;
+import edu.xmu.gradpath.outbox.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 审核结果评估发件箱（写入端）
+ * 说明：
+ * - 同步监听 ApplicationChangedEvent，在发布方（ReviewService / MaterialScoreService）的事务内追加 OutboxEvent
+ * - 写入回滚时事件一并回滚；提交后由 ApplicationEvaluationOutboxWorker 异步消费
+ * - gradpath.outbox.enabled=false 时不启动消费端，也不追加事件，改为在发布方事务内同步评估（与引入发件箱之前的行为一致），
+ *   审核结果不会因为缺少消费端而永远得不到评估
+ */
+@Component
+public class ApplicationEvaluationOutbox {
+
+    /**
+     * 需要重新评估审核结果的变更类型
+     */
+    private static final Set<ApplicationChangeType> EVALUATION_TRIGGERS = EnumSet.of(
+            ApplicationChangeType.REVIEW_RECORDED,
+            ApplicationChangeType.SCORE_RECORDED
+    );
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationService applicationService;
+    private final boolean enabled;
+
+    public ApplicationEvaluationOutbox(OutboxEventRepository outboxEventRepository,
+                                       ApplicationService applicationService,
+                                       @Value("${gradpath.outbox.enabled:true}") boolean enabled) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.applicationService = applicationService;
+        this.enabled = enabled;
+    }
+
+    @EventListener
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (!EVALUATION_TRIGGERS.contains(event.getType())) {
+            return;
+        }
+        if (enabled) {
+            outboxEventRepository.save(new OutboxEvent(event.getApplicationId(), event.getType()));
+        } else {
+            applicationService.evaluateAfterReview(event.getApplicationId());
+        }
+    }
+}
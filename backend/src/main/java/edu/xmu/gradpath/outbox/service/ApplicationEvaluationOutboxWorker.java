@@ -0,0 +1,225 @@
+package edu.xmu.gradpath.outbox.service;
+
+import edu.xmu.gradpath.application.repository.ApplicationRepository;
+import edu.xmu.gradpath.application.service.ApplicationService;
+import edu.xmu.gradpath.outbox.domain.OutboxDeadLetter;
+import edu.xmu.gradpath.outbox.domain.OutboxEvent;
+import edu.xmu.gradpath.outbox.repository.OutboxDeadLetterRepository;
+import edu.xmu.gradpath.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 审核结果评估发件箱（消费端）
+ * 说明：
+ * - 定时轮询发件箱，只处理最早一条事件已超过合并窗口的 Application
+ * - 同一 Application 在窗口内的多条事件合并为一次 evaluateAfterReview
+ * - 每个 Application 独立事务：锁定 Application 行（SKIP LOCKED）→ 锁定其全部事件 → 评估 → 删除事件
+ * - 评估失败时回滚，并在另一个事务内为该 Application 的事件记录失败次数与下次重试时间（指数退避，
+ *   gradpath.outbox.retry.*）；退避期内不再领取，持续失败的 Application 不会占满每一批；
+ *   连续失败 max-attempts 次后事件移入 gp_outbox_dead_letter，不再重试
+ * - Application 已不存在时其事件没有评估对象，直接删除
+ * - 多实例部署时锁的是 Application 而不是事件行：即使各实例领取到同一 Application 的不同事件，同一时刻也只有一个实例在评估它；
+ *   行已被锁定（其他实例正在评估，或有写事务进行中）时跳过，下次轮询重试
+ * - 事件持久化在 gp_outbox_event 中，进程重启后从表中继续消费
+ * - 指标：gradpath.outbox.depth（未消费事件数）、gradpath.outbox.lag（最早未消费事件的等待秒数）、
+ *   gradpath.outbox.events.dead-lettered（移入死信的事件数）、gradpath.outbox.events.discarded（Application 已不存在而丢弃的事件数）
+ */
+@Component
+@ConditionalOnProperty(prefix = "gradpath.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationEvaluationOutboxWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationEvaluationOutboxWorker.class);
+
+    /**
+     * 死信记录的失败原因最大长度（与 gp_outbox_dead_letter.last_error 一致）
+     */
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDeadLetterRepository outboxDeadLetterRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationService applicationService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration coalesceWindow;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter processedEvents;
+    private final Counter evaluations;
+    private final Counter failures;
+    private final Counter deadLettered;
+    private final Counter discarded;
+
+    public ApplicationEvaluationOutboxWorker(OutboxEventRepository outboxEventRepository,
+                                             OutboxDeadLetterRepository outboxDeadLetterRepository,
+                                             ApplicationRepository applicationRepository,
+                                             ApplicationService applicationService,
+                                             PlatformTransactionManager transactionManager,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${gradpath.outbox.coalesce-window:2s}") Duration coalesceWindow,
+                                             @Value("${gradpath.outbox.batch-size:100}") int batchSize,
+                                             @Value("${gradpath.outbox.retry.max-attempts:10}") int maxAttempts,
+                                             @Value("${gradpath.outbox.retry.initial-backoff:1s}") Duration initialBackoff,
+                                             @Value("${gradpath.outbox.retry.max-backoff:5m}") Duration maxBackoff) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("gradpath.outbox.retry.max-attempts must be positive");
+        }
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxDeadLetterRepository = outboxDeadLetterRepository;
+        this.applicationRepository = applicationRepository;
+        this.applicationService = applicationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.coalesceWindow = coalesceWindow;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+
+        Gauge.builder("gradpath.outbox.depth", depth, AtomicLong::get)
+                .description("pending evaluation outbox events")
+                .register(meterRegistry);
+        Gauge.builder("gradpath.outbox.lag", lagMillis, value -> value.get() / 1000.0)
+                .description("age of the oldest pending evaluation outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.processedEvents = Counter.builder("gradpath.outbox.events.processed")
+                .description("evaluation outbox events consumed")
+                .register(meterRegistry);
+        this.evaluations = Counter.builder("gradpath.outbox.evaluations")
+                .description("evaluateAfterReview runs triggered by the outbox")
+                .register(meterRegistry);
+        this.failures = Counter.builder("gradpath.outbox.failures")
+                .description("outbox evaluations rolled back and left for retry")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("gradpath.outbox.events.dead-lettered")
+                .description("evaluation outbox events moved to the dead letter table after repeated failures")
+                .register(meterRegistry);
+        this.discarded = Counter.builder("gradpath.outbox.events.discarded")
+                .description("evaluation outbox events dropped because their application no longer exists")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${gradpath.outbox.poll-interval:500ms}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> applicationIds = outboxEventRepository.findDueApplicationIds(
+                now.minus(coalesceWindow), now, Limit.of(batchSize));
+        for (Long applicationId : applicationIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> evaluate(applicationId));
+            } catch (RuntimeException e) {
+                failures.increment();
+                recordFailure(applicationId, e);
+            }
+        }
+        refreshStats();
+    }
+
+    private void evaluate(Long applicationId) {
+        if (applicationRepository.tryLockById(applicationId).isEmpty()) {
+            if (!applicationRepository.existsById(applicationId)) {
+                // Application 已不存在：事件没有评估对象，直接删除
+                List<OutboxEvent> orphaned = outboxEventRepository.lockByApplicationId(applicationId);
+                outboxEventRepository.deleteAllInBatch(orphaned);
+                discarded.increment(orphaned.size());
+            }
+            // 否则其他实例正在评估该 Application，下次轮询重试
+            return;
+        }
+        List<OutboxEvent> events = outboxEventRepository.lockByApplicationId(applicationId);
+        if (events.isEmpty()) {
+            // 已被其他实例锁定或处理
+            return;
+        }
+        applicationService.evaluateAfterReview(applicationId);
+        outboxEventRepository.deleteAllInBatch(events);
+        evaluations.increment();
+        processedEvents.increment(events.size());
+    }
+
+    /**
+     * 记录一次评估失败（评估事务已回滚，在新事务内执行）
+     * 说明：
+     * - 同样先锁定 Application 行：其他实例正在评估时不修改它的事件，由下次失败（如果有）再记录
+     * - 失败次数取该 Application 事件中的最大值加一；达到上限时事件移入死信，否则按指数退避设置下次重试时间
+     */
+    private void recordFailure(Long applicationId, RuntimeException failure) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (applicationRepository.tryLockById(applicationId).isEmpty()) {
+                    return;
+                }
+                List<OutboxEvent> events = outboxEventRepository.lockByApplicationId(applicationId);
+                if (events.isEmpty()) {
+                    return;
+                }
+                int attempts = events.stream().mapToInt(OutboxEvent::getAttempts).max().orElse(0) + 1;
+                if (attempts >= maxAttempts) {
+                    String lastError = truncate(String.valueOf(failure));
+                    List<OutboxDeadLetter> deadLetters = new ArrayList<>(events.size());
+                    for (OutboxEvent event : events) {
+                        deadLetters.add(new OutboxDeadLetter(event, attempts, lastError));
+                    }
+                    outboxDeadLetterRepository.saveAll(deadLetters);
+                    outboxEventRepository.deleteAllInBatch(events);
+                    deadLettered.increment(events.size());
+                    log.error("outbox evaluation for application {} failed {} times, moved {} events to dead letter",
+                            applicationId, attempts, events.size(), failure);
+                    return;
+                }
+                LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempts));
+                for (OutboxEvent event : events) {
+                    event.recordFailure(attempts, nextAttemptAt);
+                }
+                outboxEventRepository.saveAll(events);
+                log.warn("outbox evaluation failed for application {} (attempt {}), will retry at {}",
+                        applicationId, attempts, nextAttemptAt, failure);
+            });
+        } catch (RuntimeException e) {
+            log.warn("failed to record outbox evaluation failure for application {}", applicationId, e);
+        }
+    }
+
+    /**
+     * 第 attempts 次失败后的等待时长：initial-backoff * 2^(attempts - 1)，不超过 max-backoff
+     */
+    Duration backoff(int attempts) {
+        Duration backoff = initialBackoff;
+        for (int i = 1; i < attempts && backoff.compareTo(maxBackoff) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private void refreshStats() {
+        OutboxEventRepository.OutboxStats stats = outboxEventRepository.getStats();
+        depth.set(stats.getDepth());
+        LocalDateTime oldest = stats.getOldestCreatedAt();
+        lagMillis.set(oldest == null ? 0L : Math.max(0L, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+    }
+}
@@ -0,0 +1,55 @@
+package edu.xmu.gradpath.ranking.controller;
+
+import edu.xmu.gradpath.common.response.ApiResponse;
+import edu.xmu.gradpath.ranking.controller.dto.ApplicationRankView;
+import edu.xmu.gradpath.ranking.controller.dto.RankingPage;
+import edu.xmu.gradpath.ranking.service.RankingService;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 排名控制器
+ * 提供综合成绩排名查询与重建的 HTTP 入口
+ */
+@RestController
+@RequestMapping(
+        value = "/rankings",
+        produces = "application/json"
+)
+public class RankingController {
+
+    private final RankingService rankingService;
+
+    public RankingController(RankingService rankingService) {
+        this.rankingService = rankingService;
+    }
+
+    /**
+     * 分页查询排名（按名次 offset 分页，offset=0 即 top-k）
+     */
+    @GetMapping
+    public ApiResponse<RankingPage> getRanking(
+            @RequestParam(value = "offset", required = false) Integer offset,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return ApiResponse.success(rankingService.getRanking(offset, limit));
+    }
+
+    /**
+     * 查询指定 Application 的名次
+     */
+    @GetMapping("/applications/{id}")
+    public ApiResponse<ApplicationRankView> getRank(
+            @PathVariable("id") Long applicationId
+    ) {
+        return ApiResponse.success(rankingService.getRank(applicationId));
+    }
+
+    /**
+     * 从数据库全量重建排名
+     * 返回重建后的排名条目数
+     */
+    @PostMapping("/rebuild")
+    public ApiResponse<Integer> rebuild() {
+        return ApiResponse.success(rankingService.rebuild());
+    }
+}
@@ -0,0 +1,64 @@
+package edu.xmu.gradpath.ranking.controller.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 单个 Application 的排名视图
+ */
+public class ApplicationRankView {
+
+    private Long applicationId;
+    private int rank;
+    private int rankedCount;
+    private BigDecimal totalApprovedScore;
+    private BigDecimal weightedTotalScore;
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    /**
+     * 名次（从 1 开始）
+     */
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    /**
+     * 参与排名的 Application 总数
+     */
+    public int getRankedCount() {
+        return rankedCount;
+    }
+
+    public void setRankedCount(int rankedCount) {
+        this.rankedCount = rankedCount;
+    }
+
+    public BigDecimal getTotalApprovedScore() {
+        return totalApprovedScore;
+    }
+
+    public void setTotalApprovedScore(BigDecimal totalApprovedScore) {
+        this.totalApprovedScore = totalApprovedScore;
+    }
+
+    /**
+     * 按类别规则封顶、加权后的总分（排名依据）
+     */
+    public BigDecimal getWeightedTotalScore() {
+        return weightedTotalScore;
+    }
+
+    public void setWeightedTotalScore(BigDecimal weightedTotalScore) {
+        this.weightedTotalScore = weightedTotalScore;
+    }
+}
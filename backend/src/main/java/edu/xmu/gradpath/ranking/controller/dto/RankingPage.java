@@ -0,0 +1,37 @@
+package edu.xmu.gradpath.ranking.controller.dto;
+
+import java.util.List;
+
+/**
+ * 排名分页视图（按名次 offset 分页）
+ */
+public class RankingPage {
+
+    private List<ApplicationRankView> items;
+    private int offset;
+    private int total;
+
+    public List<ApplicationRankView> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ApplicationRankView> items) {
+        this.items = items;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+}
@@ -0,0 +1,198 @@
+package edu.xmu.gradpath.ranking.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 顺序统计树（基于 split / merge 的 treap）
+ * 说明：
+ * - 每个节点维护子树大小，插入、删除、按键求名次、按名次取键均为期望 O(log n)
+ * - 键由 comparator 定义全序，调用方保证树内不存在 compare 为 0 的两个键
+ * - 非线程安全，由 RankingService 加锁保护
+ */
+class OrderStatisticTree<K> {
+
+    private final Comparator<? super K> comparator;
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<K> root;
+
+    OrderStatisticTree(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(K key) {
+        Node<K>[] parts = split(root, key);
+        root = merge(merge(parts[0], new Node<>(key, random.nextInt())), parts[1]);
+    }
+
+    /**
+     * 删除键
+     * @return 键不存在时返回 false
+     */
+    boolean remove(K key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return false;
+        }
+        Node<K>[] left = splitAt(root, index);
+        Node<K>[] right = splitAt(left[1], 1);
+        root = merge(left[0], right[1]);
+        return true;
+    }
+
+    /**
+     * 键在全序中的下标（从 0 开始）
+     * @return 键不存在时返回 -1
+     */
+    int indexOf(K key) {
+        Node<K> node = root;
+        int before = 0;
+        while (node != null) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                before += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return before + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 按下标取键（从 0 开始）
+     */
+    K get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+        }
+        Node<K> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.key;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * 按下标区间取键，O(log n + count)
+     * @param fromIndex 起始下标（包含）
+     * @param count 最多返回条数
+     */
+    List<K> range(int fromIndex, int count) {
+        List<K> result = new ArrayList<>(Math.max(0, Math.min(count, size() - fromIndex)));
+        collect(root, 0, fromIndex, fromIndex + count, result);
+        return result;
+    }
+
+    private void collect(Node<K> node, int offset, int from, int to, List<K> out) {
+        if (node == null || offset >= to || offset + node.size <= from) {
+            return;
+        }
+        collect(node.left, offset, from, to, out);
+        int index = offset + size(node.left);
+        if (index >= from && index < to) {
+            out.add(node.key);
+        }
+        collect(node.right, index + 1, from, to, out);
+    }
+
+    /**
+     * 按键拆分：[0] 为小于 key 的部分，[1] 为大于等于 key 的部分
+     */
+    private Node<K>[] split(Node<K> node, K key) {
+        if (node == null) {
+            return pair(null, null);
+        }
+        if (comparator.compare(node.key, key) < 0) {
+            Node<K>[] parts = split(node.right, key);
+            node.right = parts[0];
+            update(node);
+            return pair(node, parts[1]);
+        }
+        Node<K>[] parts = split(node.left, key);
+        node.left = parts[1];
+        update(node);
+        return pair(parts[0], node);
+    }
+
+    /**
+     * 按下标拆分：[0] 为前 count 个键，[1] 为其余部分
+     */
+    private Node<K>[] splitAt(Node<K> node, int count) {
+        if (node == null) {
+            return pair(null, null);
+        }
+        int leftSize = size(node.left);
+        if (count <= leftSize) {
+            Node<K>[] parts = splitAt(node.left, count);
+            node.left = parts[1];
+            update(node);
+            return pair(parts[0], node);
+        }
+        Node<K>[] parts = splitAt(node.right, count - leftSize - 1);
+        node.right = parts[0];
+        update(node);
+        return pair(node, parts[1]);
+    }
+
+    /**
+     * 合并：left 中所有键均小于 right 中所有键
+     */
+    private Node<K> merge(Node<K> left, Node<K> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node<?> node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> Node<K>[] pair(Node<K> left, Node<K> right) {
+        return new Node[]{left, right};
+    }
+
+    private static final class Node<K> {
+        private final K key;
+        private final int priority;
+        private int size = 1;
+        private Node<K> left;
+        private Node<K> right;
+
+        private Node(K key, int priority) {
+            this.key = key;
+            this.priority = priority;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package edu.xmu.gradpath.ranking.service;
+
+import edu.xmu.gradpath.scoring.service.CategoryScores;
+import edu.xmu.gradpath.scoring.service.ScoringRuleSet;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 排名条目（不可变，作为顺序统计树的键）
+ * 说明：
+ * - 保留按类别汇总的原始分值，规则变更时直接据此重算加权总分，不回库
+ */
+final class RankingEntry {
+
+    private final Long applicationId;
+    private final CategoryScores categoryScores;
+    private final BigDecimal weightedTotalScore;
+    private final LocalDateTime createdAt;
+
+    RankingEntry(Long applicationId, CategoryScores categoryScores, ScoringRuleSet rules, LocalDateTime createdAt) {
+        this.applicationId = applicationId;
+        this.categoryScores = categoryScores;
+        this.weightedTotalScore = rules.weightedTotalScore(categoryScores);
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 按新规则重算加权总分
+     */
+    RankingEntry reweigh(ScoringRuleSet rules) {
+        return new RankingEntry(applicationId, categoryScores, rules, createdAt);
+    }
+
+    Long getApplicationId() {
+        return applicationId;
+    }
+
+    /**
+     * 未封顶、未加权的总分
+     */
+    BigDecimal getTotalApprovedScore() {
+        return categoryScores.getTotal();
+    }
+
+    /**
+     * 按类别规则封顶、加权后的总分（排名依据）
+     */
+    BigDecimal getWeightedTotalScore() {
+        return weightedTotalScore;
+    }
+
+    LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
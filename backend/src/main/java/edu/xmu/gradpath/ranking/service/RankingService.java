@@ -0,0 +1,399 @@
+package edu.xmu.gradpath.ranking.service;
+
+import edu.xmu.gradpath.application.domain.Application;
+import edu.xmu.gradpath.application.event.ApplicationChangeType;
+import edu.xmu.gradpath.application.event.ApplicationChangedEvent;
+import edu.xmu.gradpath.application.repository.ApplicationRepository;
+import edu.xmu.gradpath.common.exception.BizException;
+import edu.xmu.gradpath.material.repository.MaterialScoreRepository;
+import edu.xmu.gradpath.ranking.controller.dto.ApplicationRankView;
+import edu.xmu.gradpath.ranking.controller.dto.RankingPage;
+import edu.xmu.gradpath.scoring.event.ScoringRulesChangedEvent;
+import edu.xmu.gradpath.scoring.service.CategoryScores;
+import edu.xmu.gradpath.scoring.service.ScoringEngine;
+import edu.xmu.gradpath.scoring.service.ScoringRuleSet;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 批次排名服务（进程内）
+ * 说明：
+ * - 按 ApplicationScoreSummary.weightedTotalScore 口径（类别封顶、加权后的总分）对全部 Application 降序排名，同分按配置的规则排序
+ * - 内存中维护顺序统计树，名次查询与分页查询不重新计算任何分值汇总
+ * - 新建草稿与分值相关变更（MaterialScore 新增、Material 新增 / 修改 / 修订 / 删除）提交后，
+ *   只重新汇总该 Application 的类别分值（单条聚合查询），并在树中 O(log n) 更新
+ * - 启动时通过两条聚合查询全量重建；重建期间到达的变更在切换后补做
+ * - 每个条目保留按类别汇总的原始分值；分值类别规则替换后在内存中重算全部条目，不回库
+ */
+@Service
+public class RankingService {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingService.class);
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * 会影响排名条目的变更类型（新建草稿以零分进入排名）
+     */
+    private static final Set<ApplicationChangeType> SCORE_AFFECTING_CHANGES = EnumSet.of(
+            ApplicationChangeType.CREATED,
+            ApplicationChangeType.SCORE_RECORDED,
+            ApplicationChangeType.MATERIAL_CHANGED,
+            ApplicationChangeType.MATERIAL_REVISED
+    );
+
+    private final ApplicationRepository applicationRepository;
+    private final MaterialScoreRepository materialScoreRepository;
+    private final ScoringEngine scoringEngine;
+    private final Comparator<RankingEntry> comparator;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 串行化单个 Application 的重新汇总：后执行者总能读到更新的已提交数据，避免旧总分覆盖新总分
+     */
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /**
+     * 串行化全量重建与按新规则重算
+     */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private OrderStatisticTree<RankingEntry> tree;
+    private Map<Long, RankingEntry> entriesByApplicationId = new HashMap<>();
+
+    /**
+     * 重建期间发生变更的 applicationId，非 null 表示重建进行中
+     */
+    private Set<Long> changedDuringRebuild;
+
+    public RankingService(ApplicationRepository applicationRepository,
+                          MaterialScoreRepository materialScoreRepository,
+                          ScoringEngine scoringEngine,
+                          @Value("${gradpath.ranking.tie-breakers:CREATED_AT_ASC}") List<RankingTieBreaker> tieBreakers,
+                          MeterRegistry meterRegistry) {
+        this.applicationRepository = applicationRepository;
+        this.materialScoreRepository = materialScoreRepository;
+        this.scoringEngine = scoringEngine;
+        this.comparator = buildComparator(tieBreakers);
+        this.tree = new OrderStatisticTree<>(comparator);
+        Gauge.builder("gradpath.ranking.size", this, RankingService::size)
+                .description("applications in the in-memory ranking")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 启动完成后全量重建
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 从数据库全量重建排名
+     * 说明：
+     * - 一条查询取全部 Application（仅 ID 与创建时间），一条聚合查询取各 Application 的类别分值
+     * - 新结构在锁外构建，构建完成后整体替换；构建期间的增量变更在替换后重新汇总
+     * @return 重建后的排名条目数
+     */
+    public int rebuild() {
+        rebuildLock.lock();
+        try {
+            return doRebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private int doRebuild() {
+        long startedAt = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = ConcurrentHashMap.newKeySet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Set<Long> pending;
+        int size;
+        try {
+            ScoringRuleSet rules = scoringEngine.getRules();
+            Map<Long, CategoryScores> scoresByApplicationId = new HashMap<>();
+            for (MaterialScoreRepository.CategoryScoreTotal total
+                    : materialScoreRepository.sumApprovedScoreGroupByApplicationIdAndCategory()) {
+                scoresByApplicationId
+                        .computeIfAbsent(total.getApplicationId(), id -> scoringEngine.newScores())
+                        .add(total.getCategory(), total.getTotalApprovedScore());
+            }
+            CategoryScores noScores = scoringEngine.newScores();
+            List<ApplicationRepository.ApplicationCreatedAt> applications = applicationRepository.findAllCreatedAt();
+            Map<Long, RankingEntry> rebuiltEntries = new HashMap<>(Math.max(16, applications.size() * 4 / 3 + 1));
+            OrderStatisticTree<RankingEntry> rebuiltTree = new OrderStatisticTree<>(comparator);
+            for (ApplicationRepository.ApplicationCreatedAt application : applications) {
+                RankingEntry entry = new RankingEntry(
+                        application.getId(),
+                        scoresByApplicationId.getOrDefault(application.getId(), noScores),
+                        rules,
+                        application.getCreatedAt()
+                );
+                rebuiltEntries.put(entry.getApplicationId(), entry);
+                rebuiltTree.insert(entry);
+            }
+
+            lock.writeLock().lock();
+            try {
+                tree = rebuiltTree;
+                entriesByApplicationId = rebuiltEntries;
+                size = rebuiltTree.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pending = changedDuringRebuild;
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        for (Long applicationId : pending) {
+            refresh(applicationId);
+        }
+        log.info("ranking rebuilt: {} applications in {} ms", size, (System.nanoTime() - startedAt) / 1_000_000);
+        return size;
+    }
+
+    /**
+     * 新建草稿与分值相关变更提交后增量更新排名
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (SCORE_AFFECTING_CHANGES.contains(event.getType())) {
+            refresh(event.getApplicationId());
+        }
+    }
+
+    /**
+     * 重新汇总单个 Application 的类别分值并更新其排名
+     * @param applicationId 申请 ID
+     */
+    public void refresh(Long applicationId) {
+        refreshLock.lock();
+        try {
+            Optional<Application> application = applicationRepository.findById(applicationId);
+            CategoryScores scores = scoringEngine.newScores();
+            if (application.isPresent()) {
+                for (MaterialScoreRepository.CategoryScoreTotal total
+                        : materialScoreRepository.sumApprovedScoreGroupByCategory(applicationId)) {
+                    scores.add(total.getCategory(), total.getTotalApprovedScore());
+                }
+            }
+            apply(applicationId, application.map(Application::getCreatedAt).orElse(null), application.isPresent(), scores);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void apply(Long applicationId, LocalDateTime createdAt, boolean exists, CategoryScores scores) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(applicationId);
+            }
+            RankingEntry previous = entriesByApplicationId.remove(applicationId);
+            if (previous != null) {
+                tree.remove(previous);
+            }
+            if (exists) {
+                RankingEntry entry = new RankingEntry(applicationId, scores, scoringEngine.getRules(), createdAt);
+                entriesByApplicationId.put(applicationId, entry);
+                tree.insert(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 分值类别规则替换后按新规则重算全部条目
+     * 说明：
+     * - 与全量重建、单个 Application 重新汇总互斥，重算期间不会丢失增量变更
+     * - 只用条目中保存的类别分值做 long 运算，新结构在锁外构建后整体替换，查询只在替换瞬间被阻塞
+     */
+    @EventListener
+    public void onScoringRulesChanged(ScoringRulesChangedEvent event) {
+        rebuildLock.lock();
+        refreshLock.lock();
+        try {
+            long startedAt = System.nanoTime();
+            ScoringRuleSet rules = scoringEngine.getRules();
+            List<RankingEntry> current;
+            lock.readLock().lock();
+            try {
+                current = new ArrayList<>(entriesByApplicationId.values());
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            Map<Long, RankingEntry> reweighedEntries = new HashMap<>(Math.max(16, current.size() * 4 / 3 + 1));
+            OrderStatisticTree<RankingEntry> reweighedTree = new OrderStatisticTree<>(comparator);
+            for (RankingEntry entry : current) {
+                RankingEntry reweighed = entry.reweigh(rules);
+                reweighedEntries.put(reweighed.getApplicationId(), reweighed);
+                reweighedTree.insert(reweighed);
+            }
+
+            lock.writeLock().lock();
+            try {
+                tree = reweighedTree;
+                entriesByApplicationId = reweighedEntries;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("ranking reweighed for scoring rules generation {}: {} applications in {} ms",
+                    event.getGeneration(), current.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        } finally {
+            refreshLock.unlock();
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 查询单个 Application 的名次
+     * 说明：
+     * - 尚未进入排名的 Application（如新建草稿）会先汇总一次再返回
+     * @param applicationId 申请 ID
+     * @return 名次视图（名次从 1 开始）
+     */
+    public ApplicationRankView getRank(Long applicationId) {
+        ApplicationRankView view = findRank(applicationId);
+        if (view == null) {
+            refresh(applicationId);
+            view = findRank(applicationId);
+        }
+        if (view == null) {
+            throw new BizException(404, "application not found");
+        }
+        return view;
+    }
+
+    /**
+     * 分页查询排名
+     * @param offset 起始名次偏移（从 0 开始）
+     * @param limit 每页条数（为空时使用默认值，超过上限时截断）
+     * @return 排名分页
+     */
+    public RankingPage getRanking(Integer offset, Integer limit) {
+        int from = offset == null ? 0 : offset;
+        if (from < 0) {
+            throw new BizException(400, "offset must not be negative");
+        }
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (pageSize <= 0) {
+            throw new BizException(400, "limit must be positive");
+        }
+        pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
+
+        lock.readLock().lock();
+        try {
+            List<RankingEntry> entries = tree.range(from, pageSize);
+            List<ApplicationRankView> items = new ArrayList<>(entries.size());
+            int total = tree.size();
+            for (int i = 0; i < entries.size(); i++) {
+                items.add(toView(entries.get(i), from + i + 1, total));
+            }
+            RankingPage page = new RankingPage();
+            page.setItems(items);
+            page.setOffset(from);
+            page.setTotal(total);
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 当前排名条目数
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private ApplicationRankView findRank(Long applicationId) {
+        lock.readLock().lock();
+        try {
+            RankingEntry entry = entriesByApplicationId.get(applicationId);
+            if (entry == null) {
+                return null;
+            }
+            return toView(entry, tree.indexOf(entry) + 1, tree.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private ApplicationRankView toView(RankingEntry entry, int rank, int total) {
+        ApplicationRankView view = new ApplicationRankView();
+        view.setApplicationId(entry.getApplicationId());
+        view.setRank(rank);
+        view.setRankedCount(total);
+        view.setTotalApprovedScore(entry.getTotalApprovedScore());
+        view.setWeightedTotalScore(entry.getWeightedTotalScore());
+        return view;
+    }
+
+    /**
+     * 加权总分降序 → 配置的同分规则 → applicationId 升序
+     */
+    private static Comparator<RankingEntry> buildComparator(List<RankingTieBreaker> tieBreakers) {
+        Comparator<RankingEntry> comparator = Comparator.comparing(RankingEntry::getWeightedTotalScore).reversed();
+        for (RankingTieBreaker tieBreaker : tieBreakers) {
+            comparator = comparator.thenComparing(tieBreakerComparator(tieBreaker));
+        }
+        return comparator.thenComparing(RankingEntry::getApplicationId);
+    }
+
+    private static Comparator<RankingEntry> tieBreakerComparator(RankingTieBreaker tieBreaker) {
+        switch (tieBreaker) {
+            case CREATED_AT_ASC:
+                return Comparator.comparing(RankingEntry::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+            case CREATED_AT_DESC:
+                return Comparator.comparing(RankingEntry::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+            case APPLICATION_ID_ASC:
+                return Comparator.comparing(RankingEntry::getApplicationId);
+            case APPLICATION_ID_DESC:
+                return Comparator.comparing(RankingEntry::getApplicationId, Comparator.reverseOrder());
+            default:
+                throw new IllegalArgumentException("unsupported tie breaker: " + tieBreaker);
+        }
+    }
+}
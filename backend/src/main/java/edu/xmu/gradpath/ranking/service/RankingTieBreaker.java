@@ -0,0 +1,30 @@
+package edu.xmu.gradpath.ranking.service;
+
+/**
+ * 总分相同时的排序规则
+ * 说明：
+ * - 通过 gradpath.ranking.tie-breakers 按优先级配置
+ * - 列表末尾总会追加 APPLICATION_ID_ASC，保证排名为全序且稳定
+ */
+public enum RankingTieBreaker {
+
+    /**
+     * 先创建的申请排在前面
+     */
+    CREATED_AT_ASC,
+
+    /**
+     * 后创建的申请排在前面
+     */
+    CREATED_AT_DESC,
+
+    /**
+     * applicationId 小的排在前面
+     */
+    APPLICATION_ID_ASC,
+
+    /**
+     * applicationId 大的排在前面
+     */
+    APPLICATION_ID_DESC
+}
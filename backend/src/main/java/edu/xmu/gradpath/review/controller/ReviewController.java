@@ -1,6 +1,8 @@
 package edu.xmu.gradpath.review.controller;
 
 import edu.xmu.gradpath.common.response.ApiResponse;
+import edu.xmu.gradpath.review.controller.dto.BulkCreateReviewRequest;
+import edu.xmu.gradpath.review.controller.dto.BulkReviewResult;
 import edu.xmu.gradpath.review.controller.dto.CreateReviewRequest;
 import edu.xmu.gradpath.review.controller.dto.ReviewRecordQueryResponse;
 import edu.xmu.gradpath.review.domain.ReviewRecord;
@@ -40,6 +42,17 @@ public class ReviewController {
         return ApiResponse.success(responses);
     }
 
+    /**
+     * 批量创建 ReviewRecord
+     * 逐项返回结果，不合法的项不影响其余项
+     */
+    @PostMapping("/reviews/bulk")
+    public ApiResponse<BulkReviewResult> createReviewRecords(
+            @RequestBody List<BulkCreateReviewRequest> requests
+    ) {
+        return ApiResponse.success(reviewService.createReviewRecords(requests));
+    }
+
     /**
      * 为指定 Material 创建 ReviewRecord
      */
@@ -0,0 +1,52 @@
+package edu.xmu.gradpath.review.controller;
+
+import edu.xmu.gradpath.common.response.ApiResponse;
+import edu.xmu.gradpath.review.controller.dto.ReviewPolicyResponse;
+import edu.xmu.gradpath.review.service.ReviewAggregationPolicyRegistry;
+import edu.xmu.gradpath.review.service.ReviewPolicyProperties;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping(
+        value = "/review-policies",
+        produces = "application/json"
+)
+public class ReviewPolicyController {
+
+    private final ReviewAggregationPolicyRegistry policyRegistry;
+
+    public ReviewPolicyController(ReviewAggregationPolicyRegistry policyRegistry) {
+        this.policyRegistry = policyRegistry;
+    }
+
+    /**
+     * 查询当前生效的审核聚合规则
+     */
+    @GetMapping
+    public ApiResponse<ReviewPolicyResponse> getPolicies() {
+        return ApiResponse.success(currentPolicies());
+    }
+
+    /**
+     * 整体替换审核聚合规则（只在本进程内生效，重启后恢复为配置值）
+     * 请求体结构同 gradpath.review.policy 配置
+     */
+    @PutMapping
+    public ApiResponse<ReviewPolicyResponse> replacePolicies(@RequestBody ReviewPolicyProperties request) {
+        policyRegistry.update(request);
+        return ApiResponse.success(currentPolicies());
+    }
+
+    private ReviewPolicyResponse currentPolicies() {
+        ReviewPolicyResponse response = new ReviewPolicyResponse();
+        response.setGeneration(policyRegistry.getGeneration());
+        response.setDefaults(ReviewPolicyResponse.Rule.from(policyRegistry.getDefaultPolicy()));
+        Map<String, ReviewPolicyResponse.Rule> categories = new LinkedHashMap<>();
+        policyRegistry.getCategoryPolicies().forEach((category, policy) -> categories.put(category, ReviewPolicyResponse.Rule.from(policy)));
+        response.setCategories(categories);
+        return response;
+    }
+}
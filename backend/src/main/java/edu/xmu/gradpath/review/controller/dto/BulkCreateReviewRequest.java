@@ -0,0 +1,21 @@
+package edu.xmu.gradpath.review.controller.dto;
+
+/**
+ * 批量创建审核记录的单项请求 DTO
+ * 在 CreateReviewRequest 基础上携带材料 ID
+ */
+public class BulkCreateReviewRequest extends CreateReviewRequest {
+
+    /**
+     * 材料 ID
+     */
+    private Long materialId;
+
+    public Long getMaterialId() {
+        return materialId;
+    }
+
+    public void setMaterialId(Long materialId) {
+        this.materialId = materialId;
+    }
+}
@@ -0,0 +1,105 @@
+package edu.xmu.gradpath.review.controller.dto;
+
+import java.util.List;
+
+/**
+ * 批量创建审核记录的结果
+ * items 与请求列表一一对应（按 index）
+ */
+public class BulkReviewResult {
+
+    private int succeededCount;
+    private int failedCount;
+    private List<ItemResult> items;
+
+    public int getSucceededCount() {
+        return succeededCount;
+    }
+
+    public void setSucceededCount(int succeededCount) {
+        this.succeededCount = succeededCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public List<ItemResult> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ItemResult> items) {
+        this.items = items;
+    }
+
+    /**
+     * 单项结果
+     */
+    public static class ItemResult {
+
+        /**
+         * 请求列表中的下标（从 0 开始）
+         */
+        private int index;
+        private Long materialId;
+        private boolean success;
+
+        /**
+         * 成功时为新建 ReviewRecord 的 ID
+         */
+        private Long reviewRecordId;
+
+        /**
+         * 失败时的错误码与原因（与 BizException 一致）
+         */
+        private Integer code;
+        private String message;
+
+        public static ItemResult succeeded(int index, Long materialId, Long reviewRecordId) {
+            ItemResult result = new ItemResult();
+            result.index = index;
+            result.materialId = materialId;
+            result.success = true;
+            result.reviewRecordId = reviewRecordId;
+            return result;
+        }
+
+        public static ItemResult failed(int index, Long materialId, int code, String message) {
+            ItemResult result = new ItemResult();
+            result.index = index;
+            result.materialId = materialId;
+            result.success = false;
+            result.code = code;
+            result.message = message;
+            return result;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Long getMaterialId() {
+            return materialId;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public Long getReviewRecordId() {
+            return reviewRecordId;
+        }
+
+        public Integer getCode() {
+            return code;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
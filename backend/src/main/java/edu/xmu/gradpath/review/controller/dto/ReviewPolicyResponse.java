@@ -0,0 +1,84 @@
+package edu.xmu.gradpath.review.controller.dto;
+
+import edu.xmu.gradpath.review.domain.ConflictResolution;
+import edu.xmu.gradpath.review.service.ReviewAggregationPolicy;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 当前生效的审核聚合规则
+ * categories 中的规则已合并默认值，即为对应类别实际使用的规则
+ */
+public class ReviewPolicyResponse {
+
+    private long generation;
+    private Rule defaults;
+    private Map<String, Rule> categories;
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public void setGeneration(long generation) {
+        this.generation = generation;
+    }
+
+    public Rule getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Rule defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Rule> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(Map<String, Rule> categories) {
+        this.categories = categories;
+    }
+
+    /**
+     * 单条规则
+     */
+    public static class Rule {
+
+        private int minReviewers;
+        private List<Long> arbiterReviewerIds;
+        private ConflictResolution conflictResolution;
+
+        public static Rule from(ReviewAggregationPolicy policy) {
+            Rule rule = new Rule();
+            rule.setMinReviewers(policy.getMinReviewers());
+            rule.setArbiterReviewerIds(policy.getArbiterReviewerIds());
+            rule.setConflictResolution(policy.getConflictResolution());
+            return rule;
+        }
+
+        public int getMinReviewers() {
+            return minReviewers;
+        }
+
+        public void setMinReviewers(int minReviewers) {
+            this.minReviewers = minReviewers;
+        }
+
+        public List<Long> getArbiterReviewerIds() {
+            return arbiterReviewerIds;
+        }
+
+        public void setArbiterReviewerIds(List<Long> arbiterReviewerIds) {
+            this.arbiterReviewerIds = arbiterReviewerIds;
+        }
+
+        public ConflictResolution getConflictResolution() {
+            return conflictResolution;
+        }
+
+        public void setConflictResolution(ConflictResolution conflictResolution) {
+            this.conflictResolution = conflictResolution;
+        }
+    }
+}
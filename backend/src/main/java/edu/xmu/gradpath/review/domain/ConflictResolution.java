@@ -0,0 +1,25 @@
+package edu.xmu.gradpath.review.domain;
+
+/**
+ * 审核冲突裁决方式枚举
+ * 说明：
+ * - 仅在无仲裁决策、且审核员人数已达到下限时生效
+ * - 仲裁审核员的决策始终优先于此处的规则
+ */
+public enum ConflictResolution {
+
+    /**
+     * 等待仲裁：同时存在 PASS 与 REJECT 时结果为 CONFLICT，由仲裁审核员裁决
+     */
+    ARBITER,
+
+    /**
+     * 拒绝优先：存在任意 REJECT 即为 HAS_REJECT
+     */
+    REJECT_WINS,
+
+    /**
+     * 多数决：PASS 多于 REJECT 为 ALL_PASS，反之为 HAS_REJECT，票数相同仍为 CONFLICT
+     */
+    MAJORITY
+}
@@ -0,0 +1,209 @@
+package edu.xmu.gradpath.review.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 材料审核聚合状态实体
+ * 表示某一份材料（某一版本）的 ReviewRecord 折叠后的计数状态
+ * 说明：
+ * - 每次创建 ReviewRecord 时在同一事务内增量更新
+ * - 材料产生新版本时为新版本建立空状态，旧版本状态保留
+ * - 只记录计数，不承载聚合规则；result 由 ReviewAggregationPolicy 计算后写入
+ */
+@Entity
+@Table(name = "gp_material_review_aggregation", uniqueConstraints = @UniqueConstraint(columnNames = {"material_id", "material_version"}))
+public class MaterialReviewAggregation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 材料 ID
+     */
+    @Column(name = "material_id", nullable = false)
+    private Long materialId;
+
+    /**
+     * 材料版本
+     */
+    @Column(name = "material_version", nullable = false)
+    private Integer materialVersion;
+
+    /**
+     * 折叠后的审核员数量（同一审核员只计一次）
+     */
+    @Column(name = "reviewer_count", nullable = false)
+    private int reviewerCount;
+
+    /**
+     * 折叠后 decision = PASS 的审核员数量
+     */
+    @Column(name = "pass_count", nullable = false)
+    private int passCount;
+
+    /**
+     * 折叠后 decision = REJECT 的审核员数量
+     */
+    @Column(name = "reject_count", nullable = false)
+    private int rejectCount;
+
+    /**
+     * 最新一条仲裁审核决策（无仲裁时为空）
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "arbiter_decision")
+    private ReviewDecision arbiterDecision;
+
+    /**
+     * 最新一条仲裁审核时间
+     */
+    @Column(name = "arbiter_decided_at")
+    private LocalDateTime arbiterDecidedAt;
+
+    /**
+     * 聚合结果
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReviewAggregationResult result;
+
+    /**
+     * 更新时间
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected MaterialReviewAggregation() {
+        // JPA only
+    }
+
+    /**
+     * 工厂方法：创建某材料某版本的空聚合状态
+     */
+    public static MaterialReviewAggregation empty(Long materialId, Integer materialVersion) {
+        MaterialReviewAggregation aggregation = new MaterialReviewAggregation();
+        aggregation.materialId = materialId;
+        aggregation.materialVersion = materialVersion;
+        aggregation.result = ReviewAggregationResult.INCOMPLETE;
+        aggregation.updatedAt = LocalDateTime.now();
+        return aggregation;
+    }
+
+    /**
+     * 工厂方法：由已折叠好的计数直接创建聚合状态（用于从审核日志整体重建）
+     */
+    public static MaterialReviewAggregation folded(Long materialId,
+                                                   Integer materialVersion,
+                                                   int reviewerCount,
+                                                   int passCount,
+                                                   int rejectCount,
+                                                   ReviewDecision arbiterDecision,
+                                                   LocalDateTime arbiterDecidedAt) {
+        MaterialReviewAggregation aggregation = empty(materialId, materialVersion);
+        aggregation.reviewerCount = reviewerCount;
+        aggregation.passCount = passCount;
+        aggregation.rejectCount = rejectCount;
+        aggregation.arbiterDecision = arbiterDecision;
+        aggregation.arbiterDecidedAt = arbiterDecidedAt;
+        return aggregation;
+    }
+
+    /**
+     * 折叠一条审核员决策（last-write-wins）
+     * @param previousDecision 该审核员在此版本上一次的决策（首次审核为 null）
+     * @param decision 本次决策
+     */
+    public void foldDecision(ReviewDecision previousDecision, ReviewDecision decision) {
+        if (previousDecision == null) {
+            this.reviewerCount++;
+        } else {
+            adjustDecisionCount(previousDecision, -1);
+        }
+        adjustDecisionCount(decision, 1);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 记录一条仲裁审核决策（仅当其不早于已记录的仲裁决策时生效）
+     */
+    public void recordArbiterDecision(ReviewDecision decision, LocalDateTime decidedAt) {
+        if (this.arbiterDecision == null
+                || this.arbiterDecidedAt == null
+                || (decidedAt != null && !decidedAt.isBefore(this.arbiterDecidedAt))) {
+            this.arbiterDecision = decision;
+            this.arbiterDecidedAt = decidedAt;
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 以按当前规则从审核日志重新折叠的结果覆盖本状态（审核聚合规则替换后使用）
+     * @param folded 同一材料版本重新折叠后的状态
+     */
+    public void replaceWith(MaterialReviewAggregation folded) {
+        this.reviewerCount = folded.reviewerCount;
+        this.passCount = folded.passCount;
+        this.rejectCount = folded.rejectCount;
+        this.arbiterDecision = folded.arbiterDecision;
+        this.arbiterDecidedAt = folded.arbiterDecidedAt;
+        this.result = folded.result;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void setResult(ReviewAggregationResult result) {
+        this.result = result;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    private void adjustDecisionCount(ReviewDecision decision, int delta) {
+        if (decision == ReviewDecision.PASS) {
+            this.passCount += delta;
+        } else if (decision == ReviewDecision.REJECT) {
+            this.rejectCount += delta;
+        }
+    }
+
+    // ===== getter =====
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMaterialId() {
+        return materialId;
+    }
+
+    public Integer getMaterialVersion() {
+        return materialVersion;
+    }
+
+    public int getReviewerCount() {
+        return reviewerCount;
+    }
+
+    public int getPassCount() {
+        return passCount;
+    }
+
+    public int getRejectCount() {
+        return rejectCount;
+    }
+
+    public ReviewDecision getArbiterDecision() {
+        return arbiterDecision;
+    }
+
+    public LocalDateTime getArbiterDecidedAt() {
+        return arbiterDecidedAt;
+    }
+
+    public ReviewAggregationResult getResult() {
+        return result;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
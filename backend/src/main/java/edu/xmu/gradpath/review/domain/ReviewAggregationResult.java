@@ -0,0 +1,28 @@
+package edu.xmu.gradpath.review.domain;
+
+/**
+ * 材料级审核聚合结果枚举
+ * 由 ReviewAggregationPolicy 产出，随 MaterialReviewAggregation 落库
+ */
+public enum ReviewAggregationResult {
+
+    /**
+     * 不完整：当前审核事实不足以支持确定性结论
+     */
+    INCOMPLETE,
+
+    /**
+     * 全部通过：至少存在一条 ReviewRecord，且所有 decision = PASS
+     */
+    ALL_PASS,
+
+    /**
+     * 存在拒绝：存在任意一条 decision = REJECT
+     */
+    HAS_REJECT,
+
+    /**
+     * 冲突：同时存在 PASS 与 REJECT，且当前规则未定义裁决方式
+     */
+    CONFLICT
+}
@@ -0,0 +1,30 @@
+package edu.xmu.gradpath.review.event;
+
+import java.util.Set;
+
+/**
+ * 审核聚合规则变更事件
+ * 说明：
+ * - 由 ReviewAggregationPolicyRegistry 在规则替换后发布
+ * - 解释模型依赖规则计算，收到事件后应丢弃按旧规则生成的缓存
+ * - changedArbiterReviewerIds 为在任一类别中仲裁身份发生变化的审核员，其审核过的材料需按新规则重新折叠
+ */
+public class ReviewAggregationPolicyChangedEvent {
+
+    private final long generation;
+
+    private final Set<Long> changedArbiterReviewerIds;
+
+    public ReviewAggregationPolicyChangedEvent(long generation, Set<Long> changedArbiterReviewerIds) {
+        this.generation = generation;
+        this.changedArbiterReviewerIds = Set.copyOf(changedArbiterReviewerIds);
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public Set<Long> getChangedArbiterReviewerIds() {
+        return changedArbiterReviewerIds;
+    }
+}
@@ -0,0 +1,63 @@
+package edu.xmu.gradpath.review.repository;
+
+import edu.xmu.gradpath.common.persistence.InMemoryRepository;
+import edu.xmu.gradpath.review.domain.MaterialReviewAggregation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * MaterialReviewAggregationRepository 的内存实现（in-memory 持久化模式）
+ * 说明：
+ * - 二级索引：materialId；唯一约束：(materialId, materialVersion)
+ * - findForUpdate* 不加锁（in-memory 模式不提供事务隔离），只保持与 JPA 实现相同的返回顺序
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryMaterialReviewAggregationRepository extends InMemoryRepository<MaterialReviewAggregation>
+        implements MaterialReviewAggregationRepository {
+
+    private final Index<MaterialReviewAggregation> byMaterialId = index(MaterialReviewAggregation::getMaterialId);
+
+    public InMemoryMaterialReviewAggregationRepository() {
+        super(MaterialReviewAggregation.class);
+        unique("uk_material_version", state -> List.of(state.getMaterialId(), state.getMaterialVersion()));
+    }
+
+    @Override
+    public Optional<MaterialReviewAggregation> findForUpdateByMaterialIdAndMaterialVersion(Long materialId, Integer materialVersion) {
+        return findByMaterialIdAndMaterialVersion(materialId, materialVersion);
+    }
+
+    @Override
+    public List<MaterialReviewAggregation> findForUpdateByMaterialIdInOrderByIdAsc(Collection<Long> materialIds) {
+        List<MaterialReviewAggregation> states = byMaterialId.findIn(materialIds);
+        states.sort(Comparator.comparing(MaterialReviewAggregation::getId));
+        return states;
+    }
+
+    @Override
+    public Optional<MaterialReviewAggregation> findByMaterialIdAndMaterialVersion(Long materialId, Integer materialVersion) {
+        for (MaterialReviewAggregation state : byMaterialId.find(materialId)) {
+            if (Objects.equals(state.getMaterialVersion(), materialVersion)) {
+                return Optional.of(state);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<MaterialReviewAggregation> findByMaterialIdIn(Collection<Long> materialIds) {
+        return byMaterialId.findIn(materialIds);
+    }
+
+    @Override
+    public void deleteByMaterialId(Long materialId) {
+        deleteAll(byMaterialId.find(materialId));
+    }
+}
@@ -0,0 +1,78 @@
+package edu.xmu.gradpath.review.repository;
+
+import edu.xmu.gradpath.common.persistence.InMemoryRepository;
+import edu.xmu.gradpath.review.domain.ReviewRecord;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ReviewRecordRepository 的内存实现（in-memory 持久化模式）
+ * 说明：
+ * - 二级索引：materialId（同一材料内按 id 升序，即写入顺序）、reviewerId
+ * - batchInsert 逐条分配 id，返回顺序与入参一致
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryReviewRecordRepository extends InMemoryRepository<ReviewRecord> implements ReviewRecordRepository {
+
+    private final Index<ReviewRecord> byMaterialId = index(ReviewRecord::getMaterialId);
+    private final Index<ReviewRecord> byReviewerId = index(ReviewRecord::getReviewerId);
+
+    public InMemoryReviewRecordRepository() {
+        super(ReviewRecord.class);
+    }
+
+    @Override
+    public List<ReviewRecord> findByMaterialId(Long materialId) {
+        return byMaterialId.find(materialId);
+    }
+
+    @Override
+    public List<ReviewRecord> findByMaterialIdIn(Collection<Long> materialIds) {
+        return byMaterialId.findIn(materialIds);
+    }
+
+    @Override
+    public Optional<ReviewRecord> findFirstByMaterialIdAndMaterialVersionAndReviewerIdOrderByIdDesc(Long materialId, Integer materialVersion, Long reviewerId) {
+        List<ReviewRecord> records = byMaterialId.find(materialId);
+        for (int i = records.size() - 1; i >= 0; i--) {
+            ReviewRecord record = records.get(i);
+            if (Objects.equals(record.getMaterialVersion(), materialVersion)
+                    && Objects.equals(record.getReviewerId(), reviewerId)) {
+                return Optional.of(record);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Long> findMaterialIdsByReviewerIdIn(Collection<Long> reviewerIds) {
+        Set<Long> materialIds = new LinkedHashSet<>();
+        for (ReviewRecord record : byReviewerId.findIn(reviewerIds)) {
+            materialIds.add(record.getMaterialId());
+        }
+        return new ArrayList<>(materialIds);
+    }
+
+    @Override
+    public boolean existsByMaterialIdIn(Collection<Long> materialIds) {
+        return byMaterialId.containsAny(materialIds);
+    }
+
+    @Override
+    public List<Long> batchInsert(List<ReviewRecord> reviewRecords) {
+        List<Long> ids = new ArrayList<>(reviewRecords.size());
+        for (ReviewRecord record : reviewRecords) {
+            ids.add(idOf(save(record)));
+        }
+        return ids;
+    }
+}
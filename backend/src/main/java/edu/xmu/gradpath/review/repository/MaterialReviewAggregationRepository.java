@@ -0,0 +1,46 @@
+package edu.xmu.gradpath.review.repository;
+
+import edu.xmu.gradpath.common.persistence.EntityRepository;
+import edu.xmu.gradpath.review.domain.MaterialReviewAggregation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 材料审核聚合状态仓库
+ */
+public interface MaterialReviewAggregationRepository extends EntityRepository<MaterialReviewAggregation> {
+
+    /**
+     * 查询某材料某版本的聚合状态，并加写锁（用于增量更新，串行化同一材料版本的并发审核）
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<MaterialReviewAggregation> findForUpdateByMaterialIdAndMaterialVersion(Long materialId, Integer materialVersion);
+
+    /**
+     * 批量加写锁读取一组材料全部版本的聚合状态（按 id 顺序加锁）
+     * @param materialIds 材料 ID 集合
+     * @return 聚合状态列表
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<MaterialReviewAggregation> findForUpdateByMaterialIdInOrderByIdAsc(Collection<Long> materialIds);
+
+    /**
+     * 查询某材料某版本的聚合状态（只读）
+     */
+    Optional<MaterialReviewAggregation> findByMaterialIdAndMaterialVersion(Long materialId, Integer materialVersion);
+
+    /**
+     * 根据一组材料 ID 批量查询聚合状态（包含所有版本）
+     * 版本过滤由调用方在内存中完成
+     */
+    List<MaterialReviewAggregation> findByMaterialIdIn(Collection<Long> materialIds);
+
+    /**
+     * 删除某材料全部版本的聚合状态
+     */
+    void deleteByMaterialId(Long materialId);
+}
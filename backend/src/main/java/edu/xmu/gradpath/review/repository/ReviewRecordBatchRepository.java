@@ -0,0 +1,21 @@
+package edu.xmu.gradpath.review.repository;
+
+import edu.xmu.gradpath.review.domain.ReviewRecord;
+
+import java.util.List;
+
+/**
+ * ReviewRecord 批量写入仓库片段
+ * 说明：
+ * - ReviewRecord 使用 IDENTITY 主键，Hibernate 无法对其做 JDBC 批量插入
+ * - 批量审核通过 JDBC batch 一次写入，并取回数据库生成的主键
+ */
+public interface ReviewRecordBatchRepository {
+
+    /**
+     * 批量插入 ReviewRecord（ReviewRecord 只追加，不做更新）
+     * @param reviewRecords 待插入的 ReviewRecord（未持久化）
+     * @return 与入参顺序一致的主键列表
+     */
+    List<Long> batchInsert(List<ReviewRecord> reviewRecords);
+}
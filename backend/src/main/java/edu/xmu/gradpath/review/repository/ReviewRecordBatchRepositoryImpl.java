@@ -0,0 +1,69 @@
+package edu.xmu.gradpath.review.repository;
+
+import edu.xmu.gradpath.review.domain.ReviewRecord;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ReviewRecordBatchRepository 的 JDBC 实现
+ * 说明：
+ * - 与 JPA 共用同一事务与连接
+ * - MySQL 连接参数 rewriteBatchedStatements=true 时，驱动会改写为多行 INSERT
+ */
+class ReviewRecordBatchRepositoryImpl implements ReviewRecordBatchRepository {
+
+    private static final String INSERT_SQL =
+            "insert into gp_review_record (material_id, material_version, reviewer_id, decision, comment, created_at) "
+                    + "values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ReviewRecordBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> batchInsert(List<ReviewRecord> reviewRecords) {
+        if (reviewRecords.isEmpty()) {
+            return new ArrayList<>();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ReviewRecord record = reviewRecords.get(i);
+                        ps.setLong(1, record.getMaterialId());
+                        ps.setInt(2, record.getMaterialVersion());
+                        ps.setLong(3, record.getReviewerId());
+                        ps.setString(4, record.getDecision().name());
+                        ps.setString(5, record.getComment());
+                        ps.setTimestamp(6, Timestamp.valueOf(record.getCreatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return reviewRecords.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Long> ids = new ArrayList<>(reviewRecords.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+}
@@ -1,15 +1,41 @@
 package edu.xmu.gradpath.review.repository;
 
+import edu.xmu.gradpath.common.persistence.EntityRepository;
 import edu.xmu.gradpath.review.domain.ReviewRecord;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface ReviewRecordRepository extends JpaRepository<ReviewRecord, Long> {
+public interface ReviewRecordRepository extends EntityRepository<ReviewRecord>, ReviewRecordBatchRepository {
 
     /**
      * 根据 materialId 查询 ReviewRecord 列表
      */
     List<ReviewRecord> findByMaterialId(Long materialId);
 
+    /**
+     * 根据一组 materialId 批量查询 ReviewRecord 列表
+     * 用于读模型一次性取数，分组在内存中完成
+     */
+    List<ReviewRecord> findByMaterialIdIn(Collection<Long> materialIds);
+
+    /**
+     * 查询同一审核员在某材料某版本下最近一条 ReviewRecord（用于 last-write-wins 增量折叠）
+     */
+    Optional<ReviewRecord> findFirstByMaterialIdAndMaterialVersionAndReviewerIdOrderByIdDesc(Long materialId, Integer materialVersion, Long reviewerId);
+
+    /**
+     * 查询一组审核员审核过的材料 ID（去重，用于审核聚合规则替换后重新折叠）
+     */
+    @Query("select distinct r.materialId from ReviewRecord r where r.reviewerId in :reviewerIds")
+    List<Long> findMaterialIdsByReviewerIdIn(@Param("reviewerIds") Collection<Long> reviewerIds);
+
+    /**
+     * 判断一组材料下是否存在任意 ReviewRecord
+     */
+    boolean existsByMaterialIdIn(Collection<Long> materialIds);
+
 }
@@ -0,0 +1,166 @@
+package edu.xmu.gradpath.review.service;
+
+import edu.xmu.gradpath.common.exception.BizException;
+import edu.xmu.gradpath.review.domain.ConflictResolution;
+import edu.xmu.gradpath.review.domain.MaterialReviewAggregation;
+import edu.xmu.gradpath.review.domain.ReviewAggregationResult;
+import edu.xmu.gradpath.review.domain.ReviewDecision;
+import edu.xmu.gradpath.review.domain.ReviewRecord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * 材料级审核聚合规则（不可变）
+ * 说明：
+ * - 包含审核员人数下限、仲裁审核员集合与冲突裁决方式，由 ReviewAggregationPolicyRegistry 按材料类别提供
+ * - 仲裁审核员集合保存为去重排序后的 long[]，判断时二分查找，不装箱
+ * - resolve 只读计数并返回枚举，每次解释模型读取都会调用，不产生任何对象
+ * - 同一审核员多条决策按 last-write-wins 折叠，见 ReviewRecordFolder
+ */
+public final class ReviewAggregationPolicy {
+
+    /**
+     * 未配置时的审核员人数下限
+     */
+    public static final int DEFAULT_MIN_REVIEWERS = 2;
+
+    /**
+     * 未配置时的仲裁审核员集合
+     */
+    public static final List<Long> DEFAULT_ARBITER_REVIEWER_IDS = List.of(1L);
+
+    private final int minReviewers;
+    private final long[] arbiterReviewerIds;
+    private final ConflictResolution conflictResolution;
+    private final LongPredicate arbiterPredicate = this::isArbiter;
+
+    private ReviewAggregationPolicy(int minReviewers, long[] arbiterReviewerIds, ConflictResolution conflictResolution) {
+        this.minReviewers = minReviewers;
+        this.arbiterReviewerIds = arbiterReviewerIds;
+        this.conflictResolution = conflictResolution;
+    }
+
+    /**
+     * 创建聚合规则
+     * @param minReviewers 审核员人数下限（至少为 1）
+     * @param arbiterReviewerIds 仲裁审核员 ID（可为空集合，表示不设仲裁）
+     * @param conflictResolution 冲突裁决方式
+     * @return ReviewAggregationPolicy
+     */
+    public static ReviewAggregationPolicy of(int minReviewers,
+                                             Collection<Long> arbiterReviewerIds,
+                                             ConflictResolution conflictResolution) {
+        if (minReviewers < 1) {
+            throw new BizException(400, "minReviewers must be at least 1");
+        }
+        if (conflictResolution == null) {
+            throw new BizException(400, "conflictResolution is required");
+        }
+        long[] ids = new long[arbiterReviewerIds.size()];
+        int size = 0;
+        for (Long id : arbiterReviewerIds) {
+            if (id == null) {
+                throw new BizException(400, "arbiter reviewer id must not be null");
+            }
+            ids[size++] = id;
+        }
+        Arrays.sort(ids);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return new ReviewAggregationPolicy(minReviewers, Arrays.copyOf(ids, distinct), conflictResolution);
+    }
+
+    /**
+     * 内置默认规则：至少 2 位审核员，审核员 1 为仲裁，冲突等待仲裁
+     */
+    public static ReviewAggregationPolicy defaults() {
+        return of(DEFAULT_MIN_REVIEWERS, DEFAULT_ARBITER_REVIEWER_IDS, ConflictResolution.ARBITER);
+    }
+
+    public int getMinReviewers() {
+        return minReviewers;
+    }
+
+    public ConflictResolution getConflictResolution() {
+        return conflictResolution;
+    }
+
+    /**
+     * 仲裁审核员 ID 列表（升序，供展示使用）
+     */
+    public List<Long> getArbiterReviewerIds() {
+        List<Long> ids = new ArrayList<>(arbiterReviewerIds.length);
+        for (long id : arbiterReviewerIds) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    /**
+     * 判断审核员是否为仲裁审核员
+     * @param reviewerId 审核员 ID
+     * @return 是否为仲裁审核员
+     */
+    public boolean isArbiter(long reviewerId) {
+        return Arrays.binarySearch(arbiterReviewerIds, reviewerId) >= 0;
+    }
+
+    /**
+     * 将某个 Material 的完整审核日志折叠为聚合状态，并按本规则计算结果（不落库）
+     * @param materialId 材料 ID
+     * @param materialVersion 需要折叠的材料版本
+     * @param reviewRecords 该材料的 ReviewRecord 列表（可包含其他版本）
+     * @return 折叠后的聚合状态
+     */
+    public MaterialReviewAggregation fold(Long materialId, Integer materialVersion, List<ReviewRecord> reviewRecords) {
+        MaterialReviewAggregation state = ReviewRecordFolder.fold(materialId, materialVersion, reviewRecords, arbiterPredicate);
+        state.setResult(resolve(state));
+        return state;
+    }
+
+    /**
+     * 基于聚合状态计算材料级聚合结果
+     * 说明：
+     * - 这是材料级审核规则的唯一实现，读写两条路径共用
+     * - 仲裁存在时直接裁决，不再进入人数下限与冲突判定
+     * @param state 材料审核聚合状态
+     * @return 材料级聚合结果
+     */
+    public ReviewAggregationResult resolve(MaterialReviewAggregation state) {
+        if (state.getArbiterDecision() != null) {
+            return state.getArbiterDecision() == ReviewDecision.REJECT
+                    ? ReviewAggregationResult.HAS_REJECT
+                    : ReviewAggregationResult.ALL_PASS;
+        }
+
+        if (state.getReviewerCount() == 0 || state.getReviewerCount() < minReviewers) {
+            return ReviewAggregationResult.INCOMPLETE;
+        }
+
+        int passCount = state.getPassCount();
+        int rejectCount = state.getRejectCount();
+        if (passCount > 0 && rejectCount > 0) {
+            switch (conflictResolution) {
+                case REJECT_WINS:
+                    return ReviewAggregationResult.HAS_REJECT;
+                case MAJORITY:
+                    if (passCount != rejectCount) {
+                        return passCount > rejectCount ? ReviewAggregationResult.ALL_PASS : ReviewAggregationResult.HAS_REJECT;
+                    }
+                    return ReviewAggregationResult.CONFLICT;
+                default:
+                    return ReviewAggregationResult.CONFLICT;
+            }
+        }
+
+        return rejectCount > 0 ? ReviewAggregationResult.HAS_REJECT : ReviewAggregationResult.ALL_PASS;
+    }
+}
@@ -0,0 +1,164 @@
+package edu.xmu.gradpath.review.service;
+
+import edu.xmu.gradpath.common.exception.BizException;
+import edu.xmu.gradpath.review.event.ReviewAggregationPolicyChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 审核聚合规则注册表
+ * 说明：
+ * - 启动时由 gradpath.review.policy 构建，按材料类别提供 ReviewAggregationPolicy，未配置的类别使用默认规则
+ * - 全部规则保存在一个不可变快照中，通过 volatile 引用整体替换：读取方总是看到某一代完整的规则，不加锁
+ * - 每次替换递增 generation 并发布 ReviewAggregationPolicyChangedEvent，用于失效解释模型缓存与 ETag
+ * - 运行时替换只在本进程内生效，不写回配置文件，重启后恢复为配置值
+ * - 仲裁审核员集合在折叠审核记录时生效：替换后仲裁身份变化的审核员随事件发布，
+ *   由 ApplicationService 在事件处理中按审核日志重新折叠其审核过的材料；人数下限与冲突裁决方式在每次读取时按当前规则重新计算
+ */
+@Component
+public class ReviewAggregationPolicyRegistry {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public ReviewAggregationPolicyRegistry(ReviewPolicyProperties properties, ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        this.snapshot = build(properties, 1L);
+    }
+
+    /**
+     * 获取某材料类别适用的规则
+     * @param category 材料类别（为空时使用默认规则）
+     * @return ReviewAggregationPolicy
+     */
+    public ReviewAggregationPolicy policyFor(String category) {
+        Snapshot current = snapshot;
+        if (category == null) {
+            return current.defaults;
+        }
+        ReviewAggregationPolicy policy = current.byCategory.get(category);
+        return policy != null ? policy : current.defaults;
+    }
+
+    /**
+     * 默认规则
+     */
+    public ReviewAggregationPolicy getDefaultPolicy() {
+        return snapshot.defaults;
+    }
+
+    /**
+     * 按类别覆盖的规则（类别名升序，只读）
+     */
+    public Map<String, ReviewAggregationPolicy> getCategoryPolicies() {
+        return Collections.unmodifiableMap(new TreeMap<>(snapshot.byCategory));
+    }
+
+    /**
+     * 当前规则代号（每次替换加一）
+     */
+    public long getGeneration() {
+        return snapshot.generation;
+    }
+
+    /**
+     * 以新配置整体替换全部规则
+     * 说明：
+     * - 先完整构建并校验新快照，校验失败时旧规则保持不变
+     * - 并发替换串行执行，generation 严格递增
+     * @param properties 新的规则配置
+     * @return 替换后的规则代号
+     */
+    public long update(ReviewPolicyProperties properties) {
+        updateLock.lock();
+        try {
+            Snapshot previous = snapshot;
+            Snapshot next = build(properties, previous.generation + 1);
+            snapshot = next;
+            eventPublisher.publishEvent(new ReviewAggregationPolicyChangedEvent(next.generation, changedArbiters(previous, next)));
+            return next.generation;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 新旧两代规则中仲裁身份不同的审核员（逐类别比较，未覆盖的类别按默认规则比较）
+     */
+    private static Set<Long> changedArbiters(Snapshot previous, Snapshot next) {
+        Set<String> categories = new HashSet<>(previous.byCategory.keySet());
+        categories.addAll(next.byCategory.keySet());
+        Set<Long> changed = new HashSet<>();
+        collectChangedArbiters(previous.defaults, next.defaults, changed);
+        for (String category : categories) {
+            collectChangedArbiters(
+                    previous.byCategory.getOrDefault(category, previous.defaults),
+                    next.byCategory.getOrDefault(category, next.defaults),
+                    changed);
+        }
+        return changed;
+    }
+
+    private static void collectChangedArbiters(ReviewAggregationPolicy before, ReviewAggregationPolicy after, Set<Long> changed) {
+        for (Long reviewerId : before.getArbiterReviewerIds()) {
+            if (!after.isArbiter(reviewerId)) {
+                changed.add(reviewerId);
+            }
+        }
+        for (Long reviewerId : after.getArbiterReviewerIds()) {
+            if (!before.isArbiter(reviewerId)) {
+                changed.add(reviewerId);
+            }
+        }
+    }
+
+    private static Snapshot build(ReviewPolicyProperties properties, long generation) {
+        if (properties == null) {
+            throw new BizException(400, "review policy must not be empty");
+        }
+        ReviewAggregationPolicy defaults = resolve(properties.getDefaults(), ReviewAggregationPolicy.defaults());
+        Map<String, ReviewAggregationPolicy> byCategory = new HashMap<>();
+        if (properties.getCategories() != null) {
+            properties.getCategories().forEach((category, rule) -> {
+                if (category == null || category.isEmpty()) {
+                    throw new BizException(400, "review policy category must not be empty");
+                }
+                byCategory.put(category, resolve(rule, defaults));
+            });
+        }
+        return new Snapshot(generation, defaults, Map.copyOf(byCategory));
+    }
+
+    /**
+     * 规则配置中为空的字段继承 parent
+     */
+    private static ReviewAggregationPolicy resolve(ReviewPolicyProperties.Rule rule, ReviewAggregationPolicy parent) {
+        if (rule == null) {
+            return parent;
+        }
+        return ReviewAggregationPolicy.of(
+                rule.getMinReviewers() != null ? rule.getMinReviewers() : parent.getMinReviewers(),
+                rule.getArbiterReviewerIds() != null ? rule.getArbiterReviewerIds() : parent.getArbiterReviewerIds(),
+                rule.getConflictResolution() != null ? rule.getConflictResolution() : parent.getConflictResolution()
+        );
+    }
+
+    /**
+     * 不可变规则快照
+     */
+    private record Snapshot(long generation,
+                            ReviewAggregationPolicy defaults,
+                            Map<String, ReviewAggregationPolicy> byCategory) {
+    }
+}
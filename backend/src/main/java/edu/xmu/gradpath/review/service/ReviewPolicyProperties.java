@@ -0,0 +1,84 @@
+package edu.xmu.gradpath.review.service;
+
+import edu.xmu.gradpath.review.domain.ConflictResolution;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 审核聚合规则配置（gradpath.review.policy）
+ * 说明：
+ * - defaults 为全局规则，未配置的字段使用 ReviewAggregationPolicy 的内置默认值
+ * - categories 按材料类别覆盖规则，未配置的字段继承 defaults
+ * - 同时作为运行时替换规则（PUT /review-policies）的请求体
+ */
+@ConfigurationProperties(prefix = "gradpath.review.policy")
+public class ReviewPolicyProperties {
+
+    private Rule defaults = new Rule();
+
+    private Map<String, Rule> categories = new LinkedHashMap<>();
+
+    public Rule getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Rule defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Rule> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(Map<String, Rule> categories) {
+        this.categories = categories;
+    }
+
+    /**
+     * 单条规则配置（字段为空表示继承）
+     */
+    public static class Rule {
+
+        /**
+         * 审核员人数下限
+         */
+        private Integer minReviewers;
+
+        /**
+         * 仲裁审核员 ID 列表（空列表表示不设仲裁）
+         */
+        private List<Long> arbiterReviewerIds;
+
+        /**
+         * 冲突裁决方式
+         */
+        private ConflictResolution conflictResolution;
+
+        public Integer getMinReviewers() {
+            return minReviewers;
+        }
+
+        public void setMinReviewers(Integer minReviewers) {
+            this.minReviewers = minReviewers;
+        }
+
+        public List<Long> getArbiterReviewerIds() {
+            return arbiterReviewerIds;
+        }
+
+        public void setArbiterReviewerIds(List<Long> arbiterReviewerIds) {
+            this.arbiterReviewerIds = arbiterReviewerIds;
+        }
+
+        public ConflictResolution getConflictResolution() {
+            return conflictResolution;
+        }
+
+        public void setConflictResolution(ConflictResolution conflictResolution) {
+            this.conflictResolution = conflictResolution;
+        }
+    }
+}
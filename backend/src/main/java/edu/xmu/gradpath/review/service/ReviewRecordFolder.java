@@ -0,0 +1,117 @@
+package edu.xmu.gradpath.review.service;
+
+import edu.xmu.gradpath.common.exception.BizException;
+import edu.xmu.gradpath.review.domain.MaterialReviewAggregation;
+import edu.xmu.gradpath.review.domain.ReviewDecision;
+import edu.xmu.gradpath.review.domain.ReviewRecord;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongPredicate;
+
+/**
+ * 审核日志折叠（单次遍历）
+ * 说明：
+ * - 将某材料某版本的 ReviewRecord 折叠为聚合计数：同一审核员只保留 createdAt 最新的一条（last-write-wins）
+ * - 单次遍历完成版本过滤、按审核员去重与仲裁记录选取；
+ *   每个审核员的最新记录保存在按 reviewerId 排序的 long[] / ReviewRecord[] 中（审核员通常只有几位，二分查找即可）
+ * - 不产生装箱键、中间集合与比较器对象
+ * - createdAt 相同时保留先出现的记录，null 视为最新（与 Comparator.nullsLast 一致）
+ */
+public final class ReviewRecordFolder {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private ReviewRecordFolder() {
+    }
+
+    /**
+     * 折叠审核日志（不计算聚合结果）
+     * @param materialId 材料 ID
+     * @param materialVersion 需要折叠的材料版本
+     * @param reviewRecords 该材料的 ReviewRecord 列表（可包含其他版本）
+     * @param isArbiter 判断审核员是否为仲裁者
+     * @return 折叠后的聚合状态（result 为 INCOMPLETE，由调用方按规则计算）
+     */
+    public static MaterialReviewAggregation fold(Long materialId,
+                                                 Integer materialVersion,
+                                                 List<ReviewRecord> reviewRecords,
+                                                 LongPredicate isArbiter) {
+        int capacity = Math.min(Math.max(reviewRecords.size(), 1), INITIAL_CAPACITY);
+        long[] reviewerIds = new long[capacity];
+        ReviewRecord[] latest = new ReviewRecord[capacity];
+        int size = 0;
+
+        for (int i = 0, n = reviewRecords.size(); i < n; i++) {
+            ReviewRecord record = reviewRecords.get(i);
+            if (!Objects.equals(record.getMaterialVersion(), materialVersion)) {
+                continue;
+            }
+            Long reviewerId = record.getReviewerId();
+            if (reviewerId == null) {
+                throw new BizException(400, "reviewerId missing in review record");
+            }
+            long key = reviewerId;
+            int index = Arrays.binarySearch(reviewerIds, 0, size, key);
+            if (index >= 0) {
+                if (compareCreatedAt(record, latest[index]) > 0) {
+                    latest[index] = record;
+                }
+                continue;
+            }
+            int insertAt = -index - 1;
+            if (size == reviewerIds.length) {
+                reviewerIds = Arrays.copyOf(reviewerIds, size * 2);
+                latest = Arrays.copyOf(latest, size * 2);
+            }
+            System.arraycopy(reviewerIds, insertAt, reviewerIds, insertAt + 1, size - insertAt);
+            System.arraycopy(latest, insertAt, latest, insertAt + 1, size - insertAt);
+            reviewerIds[insertAt] = key;
+            latest[insertAt] = record;
+            size++;
+        }
+
+        int passCount = 0;
+        int rejectCount = 0;
+        ReviewRecord arbiterRecord = null;
+        for (int i = 0; i < size; i++) {
+            ReviewDecision decision = latest[i].getDecision();
+            if (decision == ReviewDecision.PASS) {
+                passCount++;
+            } else if (decision == ReviewDecision.REJECT) {
+                rejectCount++;
+            }
+            if (isArbiter.test(reviewerIds[i])
+                    && (arbiterRecord == null || compareCreatedAt(latest[i], arbiterRecord) > 0)) {
+                arbiterRecord = latest[i];
+            }
+        }
+
+        return MaterialReviewAggregation.folded(
+                materialId,
+                materialVersion,
+                size,
+                passCount,
+                rejectCount,
+                arbiterRecord == null ? null : arbiterRecord.getDecision(),
+                arbiterRecord == null ? null : arbiterRecord.getCreatedAt()
+        );
+    }
+
+    /**
+     * 按 createdAt 比较，null 视为最大
+     */
+    private static int compareCreatedAt(ReviewRecord left, ReviewRecord right) {
+        LocalDateTime l = left.getCreatedAt();
+        LocalDateTime r = right.getCreatedAt();
+        if (l == null) {
+            return r == null ? 0 : 1;
+        }
+        if (r == null) {
+            return -1;
+        }
+        return l.compareTo(r);
+    }
+}
@@ -1,21 +1,36 @@
 package edu.xmu.gradpath.review.service;
 
+import edu.xmu.gradpath.application.event.ApplicationChangeType;
 import edu.xmu.gradpath.application.service.ApplicationService;
 import edu.xmu.gradpath.application.domain.Application;
 import edu.xmu.gradpath.application.domain.ApplicationStatus;
 import edu.xmu.gradpath.common.exception.BizException;
 import edu.xmu.gradpath.material.domain.Material;
 import edu.xmu.gradpath.material.repository.MaterialRepository;
+import edu.xmu.gradpath.review.controller.dto.BulkCreateReviewRequest;
+import edu.xmu.gradpath.review.controller.dto.BulkReviewResult;
 import edu.xmu.gradpath.review.domain.ReviewDecision;
 import edu.xmu.gradpath.review.domain.ReviewRecord;
 import edu.xmu.gradpath.review.repository.ReviewRecordRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class ReviewService {
 
+    /**
+     * 单次批量审核的最大条数
+     */
+    private static final int MAX_BULK_REVIEW_SIZE = 500;
+
     private final ApplicationService applicationService;
     private final MaterialRepository materialRepository;
     private final ReviewRecordRepository reviewRecordRepository;
@@ -57,9 +72,12 @@ public class ReviewService {
      * @param materialVersion 材料版本（可选，不传则使用当前版本）
      * @return 保存后的 ReviewRecord
      */
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public ReviewRecord createReviewRecord(Long materialId, Long reviewerId, ReviewDecision decision, String comment, Integer materialVersion) {
-        // 校验 Material 是否存在
+        // 校验 Material 是否存在，锁定所属 Application 后再加载 Material（见 ApplicationService.getForUpdate）
+        Long applicationId = materialRepository.findApplicationIdById(materialId)
+                .orElseThrow(() -> new BizException(404, "material not found"));
+        Application application = applicationService.getForUpdate(applicationId);
         Material material = materialRepository.findById(materialId)
                 .orElseThrow(() -> new BizException(404, "material not found"));
 
@@ -72,10 +90,6 @@ public class ReviewService {
         // 确定使用的版本
         Integer versionToUse = materialVersion != null ? materialVersion : currentVersion;
 
-        // 校验 Application 是否存在
-        Long applicationId = material.getApplicationId();
-        Application application = applicationService.getById(applicationId);
-
         // 当 Application.status 为 DRAFT、APPROVED 或 REJECTED 时，禁止创建 ReviewRecord
         ApplicationStatus status = application.getStatus();
         if (status == ApplicationStatus.DRAFT || 
@@ -89,9 +103,144 @@ public class ReviewService {
             applicationService.startReview(applicationId);
         }
 
-        // 创建并保存 ReviewRecord
+        // 创建 ReviewRecord，并在同一事务内增量更新材料审核聚合状态
         ReviewRecord reviewRecord = new ReviewRecord(materialId, versionToUse, reviewerId, decision, comment);
-        return reviewRecordRepository.save(reviewRecord);
+        applicationService.foldReviewIntoAggregation(material, reviewRecord);
+
+        // 保存 ReviewRecord，并标记 Application 已变更
+        ReviewRecord saved = reviewRecordRepository.save(reviewRecord);
+        applicationService.markChanged(applicationId, ApplicationChangeType.REVIEW_RECORDED);
+        return saved;
+    }
+
+    /**
+     * 批量创建 ReviewRecord
+     * 说明：
+     * - 校验规则与 createReviewRecord 一致，但逐项给出结果：不合法的项被跳过，其余项在同一事务内写入
+     * - Material 与 Application 各用一次查询批量校验；先按 id 升序锁定涉及的 Application，再加载 Material
+     * - ReviewRecord 通过 JDBC batch 一次插入，审核聚合状态按材料批量折叠
+     * - 每个涉及的 Application 只启动一次审核流程、只标记一次变更（即只产生一次审核结果评估）
+     * @param requests 审核请求列表（按提交顺序）
+     * @return 逐项结果
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public BulkReviewResult createReviewRecords(List<BulkCreateReviewRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BizException(400, "review list must not be empty");
+        }
+        if (requests.size() > MAX_BULK_REVIEW_SIZE) {
+            throw new BizException(400, "too many reviews in one request, max: " + MAX_BULK_REVIEW_SIZE);
+        }
+
+        // 1. 锁定涉及的 Application，再批量加载 Application 与 Material
+        Set<Long> materialIds = new HashSet<>();
+        for (BulkCreateReviewRequest request : requests) {
+            if (request != null && request.getMaterialId() != null) {
+                materialIds.add(request.getMaterialId());
+            }
+        }
+        Map<Long, Application> applicationsById = materialIds.isEmpty()
+                ? new HashMap<>()
+                : applicationService.getAllForUpdate(materialRepository.findApplicationIdsByIdIn(materialIds));
+        Map<Long, Material> materialsById = new HashMap<>();
+        for (Material material : materialRepository.findAllById(materialIds)) {
+            materialsById.put(material.getId(), material);
+        }
+
+        // 2. 逐项校验（规则同 createReviewRecord）
+        List<BulkReviewResult.ItemResult> results = new ArrayList<>(requests.size());
+        List<ReviewRecord> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        Set<Long> touchedApplicationIds = new LinkedHashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            BulkCreateReviewRequest request = requests.get(i);
+            Long materialId = request == null ? null : request.getMaterialId();
+            try {
+                ReviewRecord reviewRecord = validateReview(request, materialsById, applicationsById);
+                accepted.add(reviewRecord);
+                acceptedIndexes.add(i);
+                touchedApplicationIds.add(materialsById.get(materialId).getApplicationId());
+                results.add(null);
+            } catch (BizException e) {
+                results.add(BulkReviewResult.ItemResult.failed(i, materialId, e.getCode(), e.getMessage()));
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            // 3. 处于 SUBMITTED 的 Application 启动审核流程（每个 Application 一次）
+            for (Long applicationId : touchedApplicationIds) {
+                if (applicationsById.get(applicationId).getStatus() == ApplicationStatus.SUBMITTED) {
+                    applicationService.startReview(applicationId);
+                }
+            }
+
+            // 4. 折叠审核聚合状态，并批量插入 ReviewRecord
+            applicationService.foldReviewsIntoAggregations(accepted, materialsById);
+            List<Long> ids = reviewRecordRepository.batchInsert(accepted);
+            for (int j = 0; j < acceptedIndexes.size(); j++) {
+                int index = acceptedIndexes.get(j);
+                results.set(index, BulkReviewResult.ItemResult.succeeded(
+                        index, accepted.get(j).getMaterialId(), j < ids.size() ? ids.get(j) : null));
+            }
+
+            // 5. 每个 Application 标记一次变更（同时写入一条发件箱事件，由后台合并评估审核结果）
+            for (Long applicationId : touchedApplicationIds) {
+                applicationService.markChanged(applicationId, ApplicationChangeType.REVIEW_RECORDED);
+            }
+        }
+
+        BulkReviewResult result = new BulkReviewResult();
+        result.setItems(results);
+        result.setSucceededCount(accepted.size());
+        result.setFailedCount(requests.size() - accepted.size());
+        return result;
+    }
+
+    /**
+     * 校验批量审核中的单项，并构建待保存的 ReviewRecord
+     * @throws BizException 校验不通过
+     */
+    private ReviewRecord validateReview(BulkCreateReviewRequest request,
+                                        Map<Long, Material> materialsById,
+                                        Map<Long, Application> applicationsById) {
+        if (request == null || request.getMaterialId() == null) {
+            throw new BizException(400, "materialId is required");
+        }
+        if (request.getReviewerId() == null) {
+            throw new BizException(400, "reviewerId is required");
+        }
+        if (request.getDecision() == null) {
+            throw new BizException(400, "decision is required");
+        }
+
+        // 校验 Material 是否存在
+        Material material = materialsById.get(request.getMaterialId());
+        if (material == null) {
+            throw new BizException(404, "material not found");
+        }
+
+        // 校验材料版本
+        Integer currentVersion = material.getVersion();
+        Integer materialVersion = request.getMaterialVersion();
+        if (materialVersion != null && !materialVersion.equals(currentVersion)) {
+            throw new BizException(400, "material version mismatch, expected: " + currentVersion + ", provided: " + materialVersion);
+        }
+
+        // 校验 Application 是否存在
+        Application application = applicationsById.get(material.getApplicationId());
+        if (application == null) {
+            throw new BizException(404, "application not found");
+        }
+
+        // 当 Application.status 为 DRAFT、APPROVED 或 REJECTED 时，禁止创建 ReviewRecord
+        ApplicationStatus status = application.getStatus();
+        if (status == ApplicationStatus.DRAFT ||
+            status == ApplicationStatus.APPROVED ||
+            status == ApplicationStatus.REJECTED) {
+            throw new BizException(400, "cannot create review record when application is in " + status.name() + " status");
+        }
+
+        return new ReviewRecord(material.getId(), currentVersion, request.getReviewerId(), request.getDecision(), request.getComment());
     }
 
     /**
@@ -0,0 +1,42 @@
+package edu.xmu.gradpath.scoring.controller;
+
+import edu.xmu.gradpath.common.response.ApiResponse;
+import edu.xmu.gradpath.scoring.controller.dto.ScoringRulesResponse;
+import edu.xmu.gradpath.scoring.service.ScoringEngine;
+import edu.xmu.gradpath.scoring.service.ScoringRuleProperties;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 分值类别规则控制器
+ * 提供类别封顶分与权重的查询与替换入口
+ */
+@RestController
+@RequestMapping(
+        value = "/scoring-rules",
+        produces = "application/json"
+)
+public class ScoringRuleController {
+
+    private final ScoringEngine scoringEngine;
+
+    public ScoringRuleController(ScoringEngine scoringEngine) {
+        this.scoringEngine = scoringEngine;
+    }
+
+    /**
+     * 查询当前生效的分值类别规则
+     */
+    @GetMapping
+    public ApiResponse<ScoringRulesResponse> getRules() {
+        return ApiResponse.success(ScoringRulesResponse.from(scoringEngine.getRules()));
+    }
+
+    /**
+     * 整体替换分值类别规则（只在本进程内生效，重启后恢复为配置值）
+     * 请求体结构同 gradpath.scoring 配置；返回前排名已按新规则重算
+     */
+    @PutMapping
+    public ApiResponse<ScoringRulesResponse> replaceRules(@RequestBody ScoringRuleProperties request) {
+        return ApiResponse.success(ScoringRulesResponse.from(scoringEngine.update(request)));
+    }
+}
@@ -0,0 +1,88 @@
+package edu.xmu.gradpath.scoring.controller.dto;
+
+import edu.xmu.gradpath.scoring.service.ScoringRule;
+import edu.xmu.gradpath.scoring.service.ScoringRuleSet;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 当前生效的分值类别规则
+ * categories 中的规则已合并默认值，未列出的类别使用 defaults
+ */
+public class ScoringRulesResponse {
+
+    private long generation;
+    private Rule defaults;
+    private Map<String, Rule> categories;
+
+    public static ScoringRulesResponse from(ScoringRuleSet rules) {
+        ScoringRulesResponse response = new ScoringRulesResponse();
+        response.setGeneration(rules.getGeneration());
+        response.setDefaults(Rule.from(rules.getDefaultRule()));
+        Map<String, Rule> categories = new LinkedHashMap<>();
+        rules.getCategoryRules().forEach((category, rule) -> categories.put(category, Rule.from(rule)));
+        response.setCategories(categories);
+        return response;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public void setGeneration(long generation) {
+        this.generation = generation;
+    }
+
+    public Rule getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Rule defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Rule> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(Map<String, Rule> categories) {
+        this.categories = categories;
+    }
+
+    /**
+     * 单条类别规则
+     */
+    public static class Rule {
+
+        /**
+         * 封顶分（为空表示不封顶）
+         */
+        private BigDecimal cap;
+        private BigDecimal weight;
+
+        public static Rule from(ScoringRule rule) {
+            Rule view = new Rule();
+            view.setCap(rule.cap());
+            view.setWeight(rule.weight());
+            return view;
+        }
+
+        public BigDecimal getCap() {
+            return cap;
+        }
+
+        public void setCap(BigDecimal cap) {
+            this.cap = cap;
+        }
+
+        public BigDecimal getWeight() {
+            return weight;
+        }
+
+        public void setWeight(BigDecimal weight) {
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package edu.xmu.gradpath.scoring.event;
+
+/**
+ * 分值类别规则变更事件
+ * 说明：
+ * - 由 ScoringEngine 在规则替换后同步发布
+ * - 排名据此按新规则重算全部加权总分，解释模型缓存据此清空
+ */
+public class ScoringRulesChangedEvent {
+
+    private final long generation;
+
+    public ScoringRulesChangedEvent(long generation) {
+        this.generation = generation;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+}
@@ -0,0 +1,18 @@
+package edu.xmu.gradpath.scoring.service;
+
+import java.math.BigDecimal;
+
+/**
+ * 单个类别的计分明细
+ * @param category 材料类别（未填写类别为 null）
+ * @param approvedScore 类别内审核确认分值之和
+ * @param cappedScore 封顶后的分值
+ * @param weight 权重
+ * @param weightedScore 加权后的分值（2 位小数，四舍五入；总分按未舍入值累加）
+ */
+public record CategoryScoreResult(String category,
+                                  BigDecimal approvedScore,
+                                  BigDecimal cappedScore,
+                                  BigDecimal weight,
+                                  BigDecimal weightedScore) {
+}
@@ -0,0 +1,91 @@
+package edu.xmu.gradpath.scoring.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * 单个 Application 按材料类别汇总的审核确认分值
+ * 说明：
+ * - 分值以「分」为单位的 long 保存（小数位 2，与 approved_score 列一致），按类别编码下标累加，不做 BigDecimal 累加
+ * - 由 ScoringEngine.newScores 创建；汇总完成后视为不可变，供 ScoringRuleSet 反复按新规则计算加权总分
+ * - 不做线程安全保证
+ */
+public final class CategoryScores {
+
+    private final ScoreCategoryDictionary dictionary;
+
+    private long[] cents = new long[4];
+    private int[] counts = new int[4];
+    private long totalCents;
+
+    CategoryScores(ScoreCategoryDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * 累加一条审核确认分值
+     * @param category 材料类别
+     * @param approvedScore 审核确认分值
+     */
+    public void add(String category, BigDecimal approvedScore) {
+        addCents(category, toCents(approvedScore));
+    }
+
+    /**
+     * 累加某类别的分值（单位：分）
+     * @param category 材料类别
+     * @param amountCents 分值（单位：分）
+     */
+    public void addCents(String category, long amountCents) {
+        int code = dictionary.codeOf(category);
+        if (code >= cents.length) {
+            int capacity = Math.max(code + 1, cents.length * 2);
+            cents = Arrays.copyOf(cents, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+        }
+        cents[code] = Math.addExact(cents[code], amountCents);
+        counts[code]++;
+        totalCents = Math.addExact(totalCents, amountCents);
+    }
+
+    /**
+     * 未加权、未封顶的总分
+     */
+    public BigDecimal getTotal() {
+        return BigDecimal.valueOf(totalCents, ScoringRuleSet.SCORE_SCALE);
+    }
+
+    long getTotalCents() {
+        return totalCents;
+    }
+
+    /**
+     * 编码上限（不含），编码小于该值的类别才可能有分值
+     */
+    int codeLimit() {
+        return cents.length;
+    }
+
+    long centsOf(int code) {
+        return code < cents.length ? cents[code] : 0L;
+    }
+
+    /**
+     * 某类别是否至少有一条分值
+     */
+    boolean hasScores(int code) {
+        return code < counts.length && counts[code] > 0;
+    }
+
+    String categoryOf(int code) {
+        return dictionary.nameOf(code);
+    }
+
+    /**
+     * 转换为以「分」为单位的 long（approved_score 列小数位为 2，超出部分四舍五入）
+     */
+    static long toCents(BigDecimal score) {
+        return score.setScale(ScoringRuleSet.SCORE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,65 @@
+package edu.xmu.gradpath.scoring.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 材料类别字典（进程内）
+ * 说明：
+ * - 将 Material.category 编码为从 0 开始的小整数，分值汇总与规则表均按编码下标存取
+ * - 编码只增不减，进程生命周期内稳定；编码 0 固定表示未填写类别（category 为空）
+ * - 查询已有类别不加锁，新类别登记时加锁追加
+ */
+final class ScoreCategoryDictionary {
+
+    static final int UNCATEGORIZED = 0;
+
+    private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+    private final ReentrantLock registerLock = new ReentrantLock();
+    private volatile String[] names = new String[]{null};
+
+    /**
+     * 获取类别编码（首次出现时登记）
+     * @param category 材料类别（可为空）
+     * @return 类别编码
+     */
+    int codeOf(String category) {
+        if (category == null || category.isEmpty()) {
+            return UNCATEGORIZED;
+        }
+        Integer code = codes.get(category);
+        if (code != null) {
+            return code;
+        }
+        registerLock.lock();
+        try {
+            code = codes.get(category);
+            if (code == null) {
+                String[] current = names;
+                code = current.length;
+                String[] next = Arrays.copyOf(current, code + 1);
+                next[code] = category;
+                names = next;
+                codes.put(category, code);
+            }
+            return code;
+        } finally {
+            registerLock.unlock();
+        }
+    }
+
+    /**
+     * 获取编码对应的类别（未填写类别为 null）
+     */
+    String nameOf(int code) {
+        return names[code];
+    }
+
+    /**
+     * 已登记的编码数量（含未填写类别）
+     */
+    int size() {
+        return names.length;
+    }
+}
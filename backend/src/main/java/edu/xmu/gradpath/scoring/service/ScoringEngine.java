@@ -0,0 +1,63 @@
+package edu.xmu.gradpath.scoring.service;
+
+import edu.xmu.gradpath.scoring.event.ScoringRulesChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 分值计算引擎
+ * 说明：
+ * - 持有类别字典与当前生效的 ScoringRuleSet，规则表通过 volatile 引用整体替换，读取方不加锁
+ * - 调用方用 newScores 按类别汇总审核确认分值，再用 getRules 计算封顶、加权后的总分
+ * - 规则替换只在本进程内生效，不写回配置文件；替换后同步发布 ScoringRulesChangedEvent
+ */
+@Component
+public class ScoringEngine {
+
+    private final ScoreCategoryDictionary dictionary = new ScoreCategoryDictionary();
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile ScoringRuleSet rules;
+
+    public ScoringEngine(ScoringRuleProperties properties, ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        this.rules = ScoringRuleSet.build(properties, dictionary, 1L);
+    }
+
+    /**
+     * 创建空的类别分值汇总
+     */
+    public CategoryScores newScores() {
+        return new CategoryScores(dictionary);
+    }
+
+    /**
+     * 当前生效的规则表
+     */
+    public ScoringRuleSet getRules() {
+        return rules;
+    }
+
+    /**
+     * 以新配置整体替换规则表
+     * 说明：
+     * - 先完整构建并校验新规则表，校验失败时旧规则保持不变
+     * - 并发替换串行执行，generation 严格递增
+     * @param properties 新的规则配置
+     * @return 替换后的规则表
+     */
+    public ScoringRuleSet update(ScoringRuleProperties properties) {
+        updateLock.lock();
+        try {
+            ScoringRuleSet next = ScoringRuleSet.build(properties, dictionary, rules.getGeneration() + 1);
+            rules = next;
+            eventPublisher.publishEvent(new ScoringRulesChangedEvent(next.getGeneration()));
+            return next;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package edu.xmu.gradpath.scoring.service;
+
+import java.math.BigDecimal;
+
+/**
+ * 生效中的单条类别规则
+ * @param cap 封顶分（为空表示不封顶）
+ * @param weight 权重
+ */
+public record ScoringRule(BigDecimal cap, BigDecimal weight) {
+}
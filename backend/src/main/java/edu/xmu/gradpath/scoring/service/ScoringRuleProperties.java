@@ -0,0 +1,70 @@
+package edu.xmu.gradpath.scoring.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 分值类别规则配置（gradpath.scoring）
+ * 说明：
+ * - defaults 适用于未单独配置的类别，未配置时不封顶、权重为 1
+ * - categories 按材料类别配置封顶分与权重，未配置的字段继承 defaults
+ * - 同时作为运行时替换规则（PUT /scoring-rules）的请求体
+ */
+@ConfigurationProperties(prefix = "gradpath.scoring")
+public class ScoringRuleProperties {
+
+    private Rule defaults = new Rule();
+
+    private Map<String, Rule> categories = new LinkedHashMap<>();
+
+    public Rule getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Rule defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Rule> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(Map<String, Rule> categories) {
+        this.categories = categories;
+    }
+
+    /**
+     * 单条类别规则（字段为空表示继承）
+     */
+    public static class Rule {
+
+        /**
+         * 类别封顶分（按类别内审核确认分值之和封顶，最多 2 位小数）
+         */
+        private BigDecimal cap;
+
+        /**
+         * 类别权重（作用于封顶后的分值，最多 4 位小数）
+         */
+        private BigDecimal weight;
+
+        public BigDecimal getCap() {
+            return cap;
+        }
+
+        public void setCap(BigDecimal cap) {
+            this.cap = cap;
+        }
+
+        public BigDecimal getWeight() {
+            return weight;
+        }
+
+        public void setWeight(BigDecimal weight) {
+            this.weight = weight;
+        }
+    }
+}
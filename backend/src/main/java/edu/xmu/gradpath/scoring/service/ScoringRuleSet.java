@@ -0,0 +1,219 @@
+package edu.xmu.gradpath.scoring.service;
+
+import edu.xmu.gradpath.common.exception.BizException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 分值类别规则表（不可变）
+ * 说明：
+ * - 总分 = Σ 类别权重 × min(类别内审核确认分值之和, 类别封顶分)
+ * - 封顶分与权重按类别编码展开为 long[]：封顶分以「分」为单位，权重小数位为 4；
+ *   加权结果小数位为 6，全部类别累加后只在最终转换时四舍五入到 2 位小数
+ * - 计算过程只有 long 运算，溢出时抛出 ArithmeticException，不会静默回绕
+ * - 未单独配置的类别（包括规则生效后才出现的新类别）使用默认规则
+ */
+public final class ScoringRuleSet {
+
+    /**
+     * 分值小数位
+     */
+    static final int SCORE_SCALE = 2;
+
+    /**
+     * 权重小数位
+     */
+    static final int WEIGHT_SCALE = 4;
+
+    /**
+     * 加权分值小数位
+     */
+    static final int WEIGHTED_SCALE = SCORE_SCALE + WEIGHT_SCALE;
+
+    private static final long NO_CAP = Long.MAX_VALUE;
+    private static final BigDecimal MAX_WEIGHT = BigDecimal.valueOf(1000);
+
+    private final long generation;
+    private final long defaultCapCents;
+    private final long defaultWeight;
+    private final long[] capCents;
+    private final long[] weights;
+    private final ScoringRule defaultRule;
+    private final Map<String, ScoringRule> categoryRules;
+
+    private ScoringRuleSet(long generation, long defaultCapCents, long defaultWeight, long[] capCents, long[] weights,
+                           ScoringRule defaultRule, Map<String, ScoringRule> categoryRules) {
+        this.generation = generation;
+        this.defaultCapCents = defaultCapCents;
+        this.defaultWeight = defaultWeight;
+        this.capCents = capCents;
+        this.weights = weights;
+        this.defaultRule = defaultRule;
+        this.categoryRules = categoryRules;
+    }
+
+    /**
+     * 由配置构建规则表（配置的类别在字典中登记编码）
+     * @param properties 规则配置
+     * @param dictionary 类别字典
+     * @param generation 规则代号
+     * @return ScoringRuleSet
+     */
+    static ScoringRuleSet build(ScoringRuleProperties properties, ScoreCategoryDictionary dictionary, long generation) {
+        if (properties == null) {
+            throw new BizException(400, "scoring rules must not be empty");
+        }
+        ScoringRule defaultRule = resolve(properties.getDefaults(), new ScoringRule(null, BigDecimal.ONE));
+
+        Map<String, ScoringRule> categoryRules = new TreeMap<>();
+        if (properties.getCategories() != null) {
+            properties.getCategories().forEach((category, rule) -> {
+                if (category == null || category.isEmpty()) {
+                    throw new BizException(400, "scoring rule category must not be empty");
+                }
+                categoryRules.put(category, resolve(rule, defaultRule));
+            });
+        }
+
+        long defaultCap = capCents(defaultRule);
+        long defaultWeight = weight(defaultRule);
+        int[] codes = new int[categoryRules.size()];
+        int index = 0;
+        for (String category : categoryRules.keySet()) {
+            codes[index++] = dictionary.codeOf(category);
+        }
+        long[] capCents = new long[dictionary.size()];
+        long[] weights = new long[capCents.length];
+        Arrays.fill(capCents, defaultCap);
+        Arrays.fill(weights, defaultWeight);
+        index = 0;
+        for (ScoringRule rule : categoryRules.values()) {
+            capCents[codes[index]] = capCents(rule);
+            weights[codes[index]] = weight(rule);
+            index++;
+        }
+        return new ScoringRuleSet(generation, defaultCap, defaultWeight, capCents, weights,
+                defaultRule, Collections.unmodifiableMap(categoryRules));
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public ScoringRule getDefaultRule() {
+        return defaultRule;
+    }
+
+    /**
+     * 单独配置的类别规则（类别名升序，已合并默认值）
+     */
+    public Map<String, ScoringRule> getCategoryRules() {
+        return categoryRules;
+    }
+
+    /**
+     * 计算加权总分（小数位 6 的 long）
+     * 说明：
+     * - 只读取 CategoryScores 中的 long 计数，不产生任何对象，适合批量重算
+     * @param scores 按类别汇总的审核确认分值
+     * @return 加权总分
+     */
+    public long weightedTotal(CategoryScores scores) {
+        long total = 0L;
+        for (int code = 0, limit = scores.codeLimit(); code < limit; code++) {
+            long cents = scores.centsOf(code);
+            if (cents != 0L) {
+                total = Math.addExact(total, weighted(code, cents));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 计算加权总分
+     * @param scores 按类别汇总的审核确认分值
+     * @return 加权总分（2 位小数，四舍五入）
+     */
+    public BigDecimal weightedTotalScore(CategoryScores scores) {
+        return toScore(weightedTotal(scores));
+    }
+
+    /**
+     * 逐类别的计分明细（只包含至少有一条分值的类别，按类别编码顺序）
+     * @param scores 按类别汇总的审核确认分值
+     * @return 计分明细
+     */
+    public List<CategoryScoreResult> breakdown(CategoryScores scores) {
+        List<CategoryScoreResult> results = new ArrayList<>();
+        for (int code = 0, limit = scores.codeLimit(); code < limit; code++) {
+            if (!scores.hasScores(code)) {
+                continue;
+            }
+            long cents = scores.centsOf(code);
+            results.add(new CategoryScoreResult(
+                    scores.categoryOf(code),
+                    BigDecimal.valueOf(cents, SCORE_SCALE),
+                    BigDecimal.valueOf(Math.min(cents, capOf(code)), SCORE_SCALE),
+                    BigDecimal.valueOf(weightOf(code), WEIGHT_SCALE),
+                    toScore(weighted(code, cents))
+            ));
+        }
+        return results;
+    }
+
+    /**
+     * 将小数位 6 的加权分值转换为 2 位小数（四舍五入）
+     */
+    public static BigDecimal toScore(long weightedUnits) {
+        return BigDecimal.valueOf(weightedUnits, WEIGHTED_SCALE).setScale(SCORE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private long weighted(int code, long cents) {
+        return Math.multiplyExact(Math.min(cents, capOf(code)), weightOf(code));
+    }
+
+    private long capOf(int code) {
+        return code < capCents.length ? capCents[code] : defaultCapCents;
+    }
+
+    private long weightOf(int code) {
+        return code < weights.length ? weights[code] : defaultWeight;
+    }
+
+    /**
+     * 规则配置中为空的字段继承 parent，并校验取值范围与小数位
+     */
+    private static ScoringRule resolve(ScoringRuleProperties.Rule rule, ScoringRule parent) {
+        if (rule == null) {
+            return parent;
+        }
+        BigDecimal cap = rule.getCap() != null ? rule.getCap() : parent.cap();
+        BigDecimal weight = rule.getWeight() != null ? rule.getWeight() : parent.weight();
+        if (cap != null && (cap.signum() < 0 || cap.stripTrailingZeros().scale() > SCORE_SCALE)) {
+            throw new BizException(400, "scoring cap must be non-negative with at most " + SCORE_SCALE + " decimal places: " + cap);
+        }
+        if (weight.signum() < 0 || weight.compareTo(MAX_WEIGHT) > 0 || weight.stripTrailingZeros().scale() > WEIGHT_SCALE) {
+            throw new BizException(400, "scoring weight must be between 0 and " + MAX_WEIGHT
+                    + " with at most " + WEIGHT_SCALE + " decimal places: " + weight);
+        }
+        return new ScoringRule(cap, weight);
+    }
+
+    private static long capCents(ScoringRule rule) {
+        if (rule.cap() == null) {
+            return NO_CAP;
+        }
+        return rule.cap().setScale(SCORE_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    private static long weight(ScoringRule rule) {
+        return rule.weight().setScale(WEIGHT_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+}
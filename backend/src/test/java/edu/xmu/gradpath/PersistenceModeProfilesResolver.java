@@ -0,0 +1,18 @@
+package edu.xmu.gradpath;
+
+import org.springframework.test.context.ActiveProfilesResolver;
+
+/**
+ * 按系统属性 gradpath.test.persistence 选择测试使用的持久化模式
+ * 说明：
+ * - 默认 in-memory：不依赖数据库，启动快
+ * - -Dgradpath.test.persistence=jpa：使用 application.yaml 中的 MySQL，同一组测试验证 JPA 实现
+ */
+public class PersistenceModeProfilesResolver implements ActiveProfilesResolver {
+
+    @Override
+    public String[] resolve(Class<?> testClass) {
+        String mode = System.getProperty("gradpath.test.persistence", "in-memory");
+        return "jpa".equals(mode) ? new String[0] : new String[]{"in-memory"};
+    }
+}
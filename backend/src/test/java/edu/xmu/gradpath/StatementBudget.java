@@ -0,0 +1,50 @@
+package edu.xmu.gradpath;
+
+import edu.xmu.gradpath.common.persistence.QueryStats;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 语句数预算断言
+ * 说明：
+ * - 在独立的 QueryStats 作用域中执行一段代码，断言其执行的语句数不超过预算
+ * - JPA 模式下计数的是 SQL 语句，in-memory 模式下计数的是 Repository 方法调用；两者对 N+1 的判定一致
+ * - 预算按「与数据量无关的固定次数」设定，配合不同数据量下的计数相等断言，N+1 回归会直接导致测试失败
+ */
+public final class StatementBudget {
+
+    private StatementBudget() {
+    }
+
+    /**
+     * 执行并返回完整统计（语句数、连接获取次数等）
+     */
+    public static QueryStats measure(Runnable action) {
+        try (QueryStats.Scope scope = QueryStats.open()) {
+            action.run();
+            return scope.stats();
+        }
+    }
+
+    /**
+     * 执行并返回语句数
+     */
+    public static long count(Runnable action) {
+        return measure(action).getStatements();
+    }
+
+    /**
+     * 执行并断言语句数不超过预算
+     * @param budget 语句数预算
+     * @param description 断言失败时的描述
+     * @param action 被测代码
+     * @return 实际语句数
+     */
+    public static long assertWithin(long budget, String description, Runnable action) {
+        long statements = count(action);
+        assertTrue(statements > 0, () -> description + " recorded no statements, QueryStats instrumentation is not active");
+        assertTrue(statements <= budget,
+                () -> description + " issued " + statements + " statements, budget is " + budget);
+        return statements;
+    }
+}
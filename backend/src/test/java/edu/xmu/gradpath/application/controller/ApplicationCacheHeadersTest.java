@@ -0,0 +1,55 @@
+package edu.xmu.gradpath.application.controller;
+
+import edu.xmu.gradpath.PersistenceModeProfilesResolver;
+import edu.xmu.gradpath.application.service.ApplicationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 缓存响应头测试
+ * 说明：
+ * - 带 ETag 的读接口为 Cache-Control: no-cache（每次回源校验），其余接口保留 Spring Security 默认的 no-store
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles(resolver = PersistenceModeProfilesResolver.class)
+class ApplicationCacheHeadersTest {
+
+    private static final AtomicLong USER_IDS = new AtomicLong(System.currentTimeMillis() * 1000 + 700_000);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Test
+    void etagReadsAreRevalidatedAndOtherEndpointsAreNotStored() throws Exception {
+        Long applicationId = applicationService.createDraft(USER_IDS.incrementAndGet());
+
+        MvcResult dashboard = mockMvc.perform(get("/applications/{id}/dashboard", applicationId))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals("no-cache", dashboard.getResponse().getHeader(HttpHeaders.CACHE_CONTROL));
+        assertNull(dashboard.getResponse().getHeader(HttpHeaders.PRAGMA));
+
+        MvcResult drift = mockMvc.perform(get("/applications/overview/drift"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertTrue(drift.getResponse().getHeader(HttpHeaders.CACHE_CONTROL).contains("no-store"));
+    }
+}
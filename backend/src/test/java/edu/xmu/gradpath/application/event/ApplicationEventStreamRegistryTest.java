@@ -0,0 +1,71 @@
+package edu.xmu.gradpath.application.event;
+
+import edu.xmu.gradpath.application.domain.ApplicationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SSE 订阅注册表测试
+ * 说明：
+ * - 阻塞在写入上的订阅不影响其他订阅的送达，超过 send-timeout 后被移除
+ */
+class ApplicationEventStreamRegistryTest {
+
+    private final ApplicationEventStreamRegistry registry = new ApplicationEventStreamRegistry(
+            Duration.ofMinutes(30), Duration.ofMillis(200), 2, 100, new SimpleMeterRegistry());
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        registry.shutdown();
+    }
+
+    @Test
+    void stalledSubscriberDoesNotDelayOthersAndIsDroppedAfterSendTimeout() throws InterruptedException {
+        CountDownLatch stalled = new CountDownLatch(1);
+        ApplicationEventStreamRegistry.Subscriber slow = registry.register(1L, new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                stalled.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        CountDownLatch delivered = new CountDownLatch(2);
+        ApplicationEventStreamRegistry.Subscriber fast = registry.register(2L, new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                delivered.countDown();
+            }
+        });
+
+        registry.onApplicationChanged(new ApplicationChangedEvent(1L, ApplicationChangeType.STATUS_CHANGED, 2L, ApplicationStatus.SUBMITTED));
+        assertTrue(stalled.await(1, TimeUnit.SECONDS));
+        // 慢订阅占住一个发送线程后，其他订阅仍能连续收到事件
+        registry.onApplicationChanged(new ApplicationChangedEvent(2L, ApplicationChangeType.STATUS_CHANGED, 2L, ApplicationStatus.SUBMITTED));
+        registry.onApplicationChanged(new ApplicationChangedEvent(2L, ApplicationChangeType.STATUS_CHANGED, 3L, ApplicationStatus.UNDER_REVIEW));
+        assertTrue(delivered.await(1, TimeUnit.SECONDS));
+
+        Thread.sleep(300);
+        registry.dropStalledSubscribers();
+        assertTrue(slow.isClosed());
+        assertFalse(fast.isClosed());
+        assertEquals(1, registry.getSubscriberCount());
+    }
+}
@@ -0,0 +1,144 @@
+package edu.xmu.gradpath.application.service;
+
+import edu.xmu.gradpath.PersistenceModeProfilesResolver;
+import edu.xmu.gradpath.StatementBudget;
+import edu.xmu.gradpath.common.persistence.QueryStats;
+import edu.xmu.gradpath.material.domain.Material;
+import edu.xmu.gradpath.material.domain.ScoreMode;
+import edu.xmu.gradpath.material.service.MaterialScoreService;
+import edu.xmu.gradpath.material.service.MaterialService;
+import edu.xmu.gradpath.review.domain.ReviewDecision;
+import edu.xmu.gradpath.review.service.ReviewService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 组合读模型的语句数预算测试
+ * 说明：
+ * - 每个读模型分别在 1 份与多份 Material（或 1 个与多个 Application）的数据上执行，断言语句数相同且不超过预算
+ * - 每次测量都针对新建的 Application，解释模型缓存未命中，测到的是完整加载路径
+ * - 组合读模型在一个快照事务内执行，JPA 模式下整个调用只获取一次连接（in-memory 模式没有连接，该断言恒成立）
+ * - 关闭发件箱，审核结果在审核事务内同步评估，避免异步评估在测量期间写入
+ */
+@SpringBootTest(properties = "gradpath.outbox.enabled=false")
+@ActiveProfiles(resolver = PersistenceModeProfilesResolver.class)
+class ApplicationReadStatementBudgetTest {
+
+    private static final AtomicLong USER_IDS = new AtomicLong(System.currentTimeMillis() * 1000 + 500_000);
+    private static final int MANY = 12;
+
+    /**
+     * Application、Material、审核聚合状态、MaterialScore
+     */
+    private static final long REVIEW_SUMMARY_BUDGET = 4;
+
+    /**
+     * 与审核解释结果相同：快照事务内无需复核修订号
+     */
+    private static final long DASHBOARD_BUDGET = 4;
+
+    /**
+     * gp_application_overview 投影的一次 keyset 查询
+     */
+    private static final long OVERVIEW_PAGE_BUDGET = 1;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private MaterialService materialService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private MaterialScoreService materialScoreService;
+
+    @Test
+    void reviewSummaryStatementsDoNotGrowWithMaterials() {
+        Long one = reviewedApplication(1);
+        Long many = reviewedApplication(MANY);
+
+        long single = StatementBudget.assertWithin(REVIEW_SUMMARY_BUDGET, "getReviewSummary(1 material)",
+                () -> applicationService.getReviewSummary(one));
+        long multiple = StatementBudget.assertWithin(REVIEW_SUMMARY_BUDGET, "getReviewSummary(" + MANY + " materials)",
+                () -> applicationService.getReviewSummary(many));
+        assertEquals(single, multiple);
+    }
+
+    @Test
+    void dashboardStatementsDoNotGrowWithMaterials() {
+        Long one = reviewedApplication(1);
+        Long many = reviewedApplication(MANY);
+
+        long single = StatementBudget.assertWithin(DASHBOARD_BUDGET, "getDashboard(1 material)",
+                () -> applicationService.getDashboard(one));
+        long multiple = StatementBudget.assertWithin(DASHBOARD_BUDGET, "getDashboard(" + MANY + " materials)",
+                () -> applicationService.getDashboard(many));
+        assertEquals(single, multiple);
+    }
+
+    @Test
+    void overviewPageStatementsDoNotGrowWithPageSize() {
+        Long first = reviewedApplication(2);
+        for (int i = 1; i < MANY; i++) {
+            reviewedApplication(2);
+        }
+
+        long single = StatementBudget.assertWithin(OVERVIEW_PAGE_BUDGET, "getApplicationOverviews(limit 1)",
+                () -> applicationService.getApplicationOverviews(first - 1, 1, null, null));
+        long multiple = StatementBudget.assertWithin(OVERVIEW_PAGE_BUDGET, "getApplicationOverviews(limit " + MANY + ")",
+                () -> applicationService.getApplicationOverviews(first - 1, MANY, null, null));
+        assertEquals(single, multiple);
+    }
+
+    @Test
+    void compositeReadsAcquireOneConnection() {
+        Long applicationId = reviewedApplication(MANY);
+
+        assertSingleConnection("getDashboard", () -> applicationService.getDashboard(applicationId));
+        assertSingleConnection("getLifecycleSummary", () -> applicationService.getLifecycleSummary(applicationId));
+        assertSingleConnection("getApplicationOverviews",
+                () -> applicationService.getApplicationOverviews(applicationId - 1, MANY, null, null));
+    }
+
+    private static void assertSingleConnection(String description, Runnable action) {
+        QueryStats stats = StatementBudget.measure(action);
+        assertTrue(stats.getConnectionAcquisitions() <= 1,
+                () -> description + " acquired " + stats.getConnectionAcquisitions() + " connections");
+    }
+
+    /**
+     * 新建已提交的 Application，每份 Material 两名审核员通过并确认分值
+     * 说明：
+     * - 另有一份不计分材料最后审核：审核结果同步评估，全部通过后 Application 即为 APPROVED，之后不能再确认分值
+     */
+    private Long reviewedApplication(int materials) {
+        Long userId = USER_IDS.incrementAndGet();
+        Long applicationId = applicationService.createDraft(userId);
+        Material[] created = new Material[materials];
+        for (int i = 0; i < materials; i++) {
+            created[i] = materialService.createMaterial(applicationId, i % 2 == 0 ? "论文" : "竞赛", "材料 " + i,
+                    "path/to/material-" + i + ".pdf", new BigDecimal("2.50"), ScoreMode.DECLARED);
+        }
+        Material certificate = materialService.createMaterial(applicationId, "资格", "英语六级",
+                "path/to/cet6.pdf", BigDecimal.ZERO, ScoreMode.NONE);
+        applicationService.submit(userId, applicationId);
+        for (Material material : created) {
+            reviewService.createReviewRecord(material.getId(), 2001L, ReviewDecision.PASS, null, null);
+            reviewService.createReviewRecord(material.getId(), 2002L, ReviewDecision.PASS, null, null);
+            materialScoreService.createScore(material.getId());
+        }
+        reviewService.createReviewRecord(certificate.getId(), 2001L, ReviewDecision.PASS, null, null);
+        reviewService.createReviewRecord(certificate.getId(), 2002L, ReviewDecision.PASS, null, null);
+        return applicationId;
+    }
+}
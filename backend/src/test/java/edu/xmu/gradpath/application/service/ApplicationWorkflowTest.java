@@ -0,0 +1,270 @@
+package edu.xmu.gradpath.application.service;
+
+import edu.xmu.gradpath.PersistenceModeProfilesResolver;
+import edu.xmu.gradpath.application.controller.dto.ApplicationOverview;
+import edu.xmu.gradpath.application.controller.dto.ApplicationOverviewDriftReport;
+import edu.xmu.gradpath.application.controller.dto.ApplicationReviewSummary;
+import edu.xmu.gradpath.application.domain.ApplicationOverviewProjection;
+import edu.xmu.gradpath.application.domain.ApplicationStatus;
+import edu.xmu.gradpath.application.repository.ApplicationOverviewProjectionRepository;
+import edu.xmu.gradpath.common.exception.BizException;
+import edu.xmu.gradpath.material.domain.Material;
+import edu.xmu.gradpath.material.domain.ScoreMode;
+import edu.xmu.gradpath.material.service.MaterialScoreService;
+import edu.xmu.gradpath.material.service.MaterialService;
+import edu.xmu.gradpath.ranking.service.RankingService;
+import edu.xmu.gradpath.review.domain.ReviewDecision;
+import edu.xmu.gradpath.review.service.ReviewAggregationPolicyRegistry;
+import edu.xmu.gradpath.review.service.ReviewPolicyProperties;
+import edu.xmu.gradpath.review.service.ReviewService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 申请主流程的服务层测试：草稿 → 提交 → 审核 → 评分 → 审核结果评估
+ * 说明：
+ * - 持久化模式由 PersistenceModeProfilesResolver 选择，in-memory 与 JPA 两种模式运行同一组用例
+ * - 审核结果评估经由发件箱异步完成，测试中把合并窗口设为 0 并轮询等待状态迁移
+ * - userId 按进程内递增生成，JPA 模式下重复运行不会与已有草稿冲突
+ */
+@SpringBootTest(
+        properties = {
+                "gradpath.outbox.coalesce-window=0s",
+                "gradpath.outbox.poll-interval=50ms"
+        }
+)
+@ActiveProfiles(resolver = PersistenceModeProfilesResolver.class)
+class ApplicationWorkflowTest {
+
+    private static final AtomicLong USER_IDS = new AtomicLong(System.currentTimeMillis() * 1000);
+    private static final Duration EVALUATION_TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private MaterialService materialService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private MaterialScoreService materialScoreService;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private ApplicationOverviewProjector overviewProjector;
+
+    @Autowired
+    private ReviewAggregationPolicyRegistry policyRegistry;
+
+    @Autowired
+    private ReviewPolicyProperties reviewPolicyProperties;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationOverviewProjectionRepository overviewProjectionRepository;
+
+    @Test
+    void approvedApplicationCarriesScoreIntoRanking() throws InterruptedException {
+        Long applicationId = applicationService.createDraft(USER_IDS.incrementAndGet());
+        Material paper = materialService.createMaterial(applicationId, "论文", "核心期刊论文", "path/to/paper.pdf", new BigDecimal("10.00"), ScoreMode.DECLARED);
+        Material certificate = materialService.createMaterial(applicationId, "资格", "英语六级", "path/to/cet6.pdf", BigDecimal.ZERO, ScoreMode.NONE);
+        applicationService.submit(applicationService.getById(applicationId).getUserId(), applicationId);
+        assertEquals(ApplicationStatus.SUBMITTED, applicationService.getById(applicationId).getStatus());
+
+        reviewService.createReviewRecord(paper.getId(), 2001L, ReviewDecision.PASS, null, null);
+        reviewService.createReviewRecord(paper.getId(), 2002L, ReviewDecision.PASS, null, null);
+        assertEquals(ApplicationStatus.UNDER_REVIEW, applicationService.getById(applicationId).getStatus());
+
+        materialScoreService.createScore(paper.getId());
+        assertEquals(0, new BigDecimal("10.00").compareTo(applicationService.getScoreSummary(applicationId).getTotalApprovedScore()));
+
+        reviewService.createReviewRecord(certificate.getId(), 2001L, ReviewDecision.PASS, null, null);
+        reviewService.createReviewRecord(certificate.getId(), 2002L, ReviewDecision.PASS, null, null);
+        awaitStatus(applicationId, ApplicationStatus.APPROVED);
+
+        assertEquals(ApplicationReviewSummary.ApplicationConclusion.APPROVED,
+                applicationService.getReviewSummary(applicationId).getOverallConclusion());
+        assertEquals(0, new BigDecimal("10.00").compareTo(rankingService.getRank(applicationId).getTotalApprovedScore()));
+    }
+
+    @Test
+    void arbiterRejectionRejectsApplication() throws InterruptedException {
+        Long userId = USER_IDS.incrementAndGet();
+        Long applicationId = applicationService.createDraft(userId);
+        Material competition = materialService.createMaterial(applicationId, "竞赛", "数学建模竞赛", "path/to/award.pdf", new BigDecimal("15.50"), ScoreMode.DECLARED);
+        applicationService.submit(userId, applicationId);
+
+        // 同一审核员改判：后一条为准
+        reviewService.createReviewRecord(competition.getId(), 2001L, ReviewDecision.REJECT, null, null);
+        reviewService.createReviewRecord(competition.getId(), 2001L, ReviewDecision.PASS, null, null);
+        reviewService.createReviewRecord(competition.getId(), 2002L, ReviewDecision.REJECT, null, null);
+        assertEquals(ApplicationReviewSummary.AggregationResult.CONFLICT,
+                applicationService.getReviewSummary(applicationId).getMaterials().get(0).getAggregationResult());
+        assertEquals(ApplicationStatus.UNDER_REVIEW, applicationService.getById(applicationId).getStatus());
+
+        reviewService.createReviewRecord(competition.getId(), 1L, ReviewDecision.REJECT, null, null);
+        awaitStatus(applicationId, ApplicationStatus.REJECTED);
+    }
+
+    @Test
+    void arbiterChangesApplyToPastReviews() {
+        Long userId = USER_IDS.incrementAndGet();
+        Long applicationId = applicationService.createDraft(userId);
+        Material patent = materialService.createMaterial(applicationId, "专利", "发明专利", "path/to/patent.pdf", new BigDecimal("8.00"), ScoreMode.DECLARED);
+        applicationService.submit(userId, applicationId);
+        reviewService.createReviewRecord(patent.getId(), 2001L, ReviewDecision.PASS, null, null);
+        reviewService.createReviewRecord(patent.getId(), 2002L, ReviewDecision.REJECT, null, null);
+        assertEquals(ApplicationReviewSummary.AggregationResult.CONFLICT, aggregationResultOf(applicationId));
+
+        try {
+            // 新增仲裁者：其过去的审核立即计入
+            policyRegistry.update(patentArbiters(List.of(2002L)));
+            assertEquals(ApplicationReviewSummary.AggregationResult.HAS_REJECT, aggregationResultOf(applicationId));
+
+            // 移除仲裁者：其决策不再覆盖结果
+            policyRegistry.update(patentArbiters(List.of()));
+            assertEquals(ApplicationReviewSummary.AggregationResult.CONFLICT, aggregationResultOf(applicationId));
+        } finally {
+            policyRegistry.update(reviewPolicyProperties);
+        }
+    }
+
+    @Test
+    void concurrentReviewersOnOneApplicationAreSerialized() throws Exception {
+        Long userId = USER_IDS.incrementAndGet();
+        Long applicationId = applicationService.createDraft(userId);
+        Material paper = materialService.createMaterial(applicationId, "论文", "期刊论文", "path/to/journal.pdf", new BigDecimal("9.00"), ScoreMode.DECLARED);
+        Material certificate = materialService.createMaterial(applicationId, "资格", "英语四级", "path/to/cet4.pdf", BigDecimal.ZERO, ScoreMode.NONE);
+        applicationService.submit(userId, applicationId);
+        reviewService.createReviewRecord(paper.getId(), 2001L, ReviewDecision.PASS, null, null);
+        reviewService.createReviewRecord(certificate.getId(), 2001L, ReviewDecision.PASS, null, null);
+
+        // 第一位审核员的事务写完后暂不提交，第二位审核员审核另一份材料
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch firstReviewed = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> transaction.executeWithoutResult(status -> {
+                reviewService.createReviewRecord(paper.getId(), 2002L, ReviewDecision.PASS, null, null);
+                firstReviewed.countDown();
+                try {
+                    releaseFirst.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(firstReviewed.await(10, TimeUnit.SECONDS));
+            Future<?> second = executor.submit(() ->
+                    reviewService.createReviewRecord(certificate.getId(), 2002L, ReviewDecision.PASS, null, null));
+
+            // 第二个写事务在 Application 行锁上等待，直到第一个事务提交
+            assertThrows(TimeoutException.class, () -> second.get(300, TimeUnit.MILLISECONDS));
+            releaseFirst.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+        } finally {
+            releaseFirst.countDown();
+            executor.shutdownNow();
+        }
+
+        // 后提交的投影包含先提交的审核：两份材料都已通过
+        awaitStatus(applicationId, ApplicationStatus.APPROVED);
+        assertEquals(ApplicationReviewSummary.ApplicationConclusion.APPROVED, overviewOf(applicationId).getOverallConclusion());
+        assertFalse(overviewProjector.checkDrift(false).getSampleApplicationIds().contains(applicationId));
+    }
+
+    @Test
+    void overviewProjectionFollowsWritesAndRepairsDrift() {
+        Long userId = USER_IDS.incrementAndGet();
+        Long applicationId = applicationService.createDraft(userId);
+        materialService.createMaterial(applicationId, "论文", "会议论文", "path/to/conference.pdf", new BigDecimal("6.00"), ScoreMode.DECLARED);
+        applicationService.submit(userId, applicationId);
+
+        ApplicationOverview overview = overviewOf(applicationId);
+        assertEquals(ApplicationStatus.SUBMITTED, overview.getApplicationStatus());
+        assertEquals(1, overview.getMissingScoringMaterialsCount());
+
+        // 绕过业务服务改写投影，模拟偏差
+        ApplicationOverviewProjection projection = overviewProjectionRepository.findById(applicationId).orElseThrow();
+        ApplicationOverview stale = projection.toOverview();
+        stale.setApplicationStatus(ApplicationStatus.DRAFT);
+        projection.apply(stale, projection.getRevision());
+        overviewProjectionRepository.save(projection);
+
+        ApplicationOverviewDriftReport report = overviewProjector.checkDrift(true);
+        assertTrue(report.getSampleApplicationIds().contains(applicationId));
+        assertEquals(ApplicationStatus.SUBMITTED, overviewOf(applicationId).getApplicationStatus());
+        assertFalse(overviewProjector.checkDrift(false).getSampleApplicationIds().contains(applicationId));
+    }
+
+    @Test
+    void secondDraftForSameUserIsRejected() {
+        Long userId = USER_IDS.incrementAndGet();
+        applicationService.createDraft(userId);
+
+        BizException e = assertThrows(BizException.class, () -> applicationService.createDraft(userId));
+        assertEquals(400, e.getCode());
+    }
+
+    @Test
+    void submittingWithoutMaterialIsRejected() {
+        Long userId = USER_IDS.incrementAndGet();
+        Long applicationId = applicationService.createDraft(userId);
+
+        assertThrows(BizException.class, () -> applicationService.submit(userId, applicationId));
+        assertEquals(ApplicationStatus.DRAFT, applicationService.getById(applicationId).getStatus());
+    }
+
+    private ApplicationReviewSummary.AggregationResult aggregationResultOf(Long applicationId) {
+        return applicationService.getReviewSummary(applicationId).getMaterials().get(0).getAggregationResult();
+    }
+
+    private ReviewPolicyProperties patentArbiters(List<Long> arbiterReviewerIds) {
+        ReviewPolicyProperties.Rule rule = new ReviewPolicyProperties.Rule();
+        rule.setArbiterReviewerIds(arbiterReviewerIds);
+        ReviewPolicyProperties properties = new ReviewPolicyProperties();
+        properties.setDefaults(reviewPolicyProperties.getDefaults());
+        properties.getCategories().putAll(reviewPolicyProperties.getCategories());
+        properties.getCategories().put("专利", rule);
+        return properties;
+    }
+
+    private ApplicationOverview overviewOf(Long applicationId) {
+        return applicationService.getApplicationOverviews(applicationId - 1, 1, null, null).getItems().get(0);
+    }
+
+    private void awaitStatus(Long applicationId, ApplicationStatus expected) throws InterruptedException {
+        long deadline = System.nanoTime() + EVALUATION_TIMEOUT.toNanos();
+        while (applicationService.getById(applicationId).getStatus() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(expected, applicationService.getById(applicationId).getStatus());
+    }
+}
@@ -0,0 +1,54 @@
+package edu.xmu.gradpath.common.persistence;
+
+import edu.xmu.gradpath.material.domain.Material;
+import edu.xmu.gradpath.material.domain.ScoreMode;
+import edu.xmu.gradpath.material.repository.InMemoryMaterialRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * InMemoryRepository 排序与分页测试
+ */
+class InMemoryRepositoryTest {
+
+    private final InMemoryMaterialRepository repository = new InMemoryMaterialRepository();
+
+    @Test
+    void sortsByPropertiesWithNullsAndIdAsTieBreaker() {
+        Material paper = repository.save(material("论文", new BigDecimal("3.00")));
+        Material contest = repository.save(material("竞赛", null));
+        Material secondPaper = repository.save(material("论文", new BigDecimal("5.00")));
+
+        assertEquals(List.of(secondPaper, paper, contest),
+                repository.findAll(Sort.by(Sort.Order.desc("declaredScore"))));
+        assertEquals(List.of(contest, paper, secondPaper),
+                repository.findAll(Sort.by(Sort.Order.asc("category"))));
+        assertEquals(List.of(contest, paper, secondPaper),
+                repository.findAll(Sort.by("declaredScore")));
+        assertEquals(List.of(paper, secondPaper, contest),
+                repository.findAll(Sort.by(Sort.Order.asc("declaredScore").nullsLast())));
+
+        Page<Material> page = repository.findAll(PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "id")));
+        assertEquals(List.of(paper), page.getContent());
+        assertEquals(3, page.getTotalElements());
+    }
+
+    @Test
+    void rejectsUnknownSortProperty() {
+        repository.save(material("论文", BigDecimal.ONE));
+        assertThrows(PropertyReferenceException.class, () -> repository.findAll(Sort.by("missing")));
+    }
+
+    private static Material material(String category, BigDecimal declaredScore) {
+        return new Material(1L, category, "内容", "path/to/file.pdf", declaredScore, ScoreMode.DECLARED);
+    }
+}
@@ -0,0 +1,96 @@
+package edu.xmu.gradpath.common.persistence;
+
+import edu.xmu.gradpath.application.event.ApplicationChangeType;
+import edu.xmu.gradpath.application.event.ApplicationChangedEvent;
+import edu.xmu.gradpath.application.service.ReplicaLagGuard;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReplicaRoutingDataSource 路由与 ReplicaLagGuard 副本延迟保护测试
+ * 说明：
+ * - 主库与副本用 Mockito 的 DataSource 代替，按拿到的连接判断路由
+ * - 事务边界由 InMemoryTransactionManager 提供，只读标记与事务同步行为与 JPA 模式一致
+ */
+class ReplicaRoutingTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final ReplicaRoutingDataSource dataSource;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readOnlyTransaction;
+
+    ReplicaRoutingTest() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        dataSource = new ReplicaRoutingDataSource(primary, replica);
+
+        InMemoryTransactionManager transactionManager = new InMemoryTransactionManager();
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Test
+    void onlyReadOnlyTransactionsUseReplica() throws SQLException {
+        assertSame(primaryConnection, dataSource.getConnection());
+        assertSame(primaryConnection, writeTransaction.execute(status -> connection()));
+        assertSame(replicaConnection, readOnlyTransaction.execute(status -> connection()));
+    }
+
+    @Test
+    void recentWritePinsReadsToPrimaryUntilWindowPasses() throws InterruptedException {
+        ReplicaLagGuard guard = new ReplicaLagGuard(true, Duration.ofMillis(200));
+        guard.onApplicationChanged(new ApplicationChangedEvent(1L, ApplicationChangeType.REVIEW_RECORDED, 2L, null));
+
+        assertSame(primaryConnection, readOnlyTransaction.execute(status -> {
+            guard.guardRead(1L);
+            return connection();
+        }));
+        assertSame(replicaConnection, readOnlyTransaction.execute(status -> {
+            guard.guardRead(2L);
+            return connection();
+        }));
+        assertSame(primaryConnection, readOnlyTransaction.execute(status -> {
+            guard.guardListRead();
+            return connection();
+        }));
+
+        Thread.sleep(300);
+        assertSame(replicaConnection, readOnlyTransaction.execute(status -> {
+            guard.guardRead(1L);
+            guard.guardListRead();
+            return connection();
+        }));
+    }
+
+    @Test
+    void disabledGuardNeverPins() {
+        ReplicaLagGuard guard = new ReplicaLagGuard(false, Duration.ofSeconds(10));
+        guard.onApplicationChanged(new ApplicationChangedEvent(1L, ApplicationChangeType.REVIEW_RECORDED, 2L, null));
+
+        assertSame(replicaConnection, readOnlyTransaction.execute(status -> {
+            guard.guardRead(1L);
+            return connection();
+        }));
+    }
+
+    private Connection connection() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
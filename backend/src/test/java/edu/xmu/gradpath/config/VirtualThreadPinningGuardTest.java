@@ -0,0 +1,51 @@
+package edu.xmu.gradpath.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 虚拟线程固定（pinning）守卫
+ * 说明：
+ * - Java 21 中，虚拟线程在 synchronized 块 / 方法内阻塞时会固定其载体线程
+ * - 业务代码中需要互斥的地方统一使用 java.util.concurrent.locks（见 RankingService）
+ */
+class VirtualThreadPinningGuardTest {
+
+    private static final Pattern SYNCHRONIZED = Pattern.compile("\\bsynchronized\\b");
+
+    @Test
+    void mainSourcesDoNotUseSynchronized() throws IOException {
+        Path sourceRoot = Paths.get("src", "main", "java");
+        List<String> offenders;
+        try (Stream<Path> files = Files.walk(sourceRoot)) {
+            offenders = files
+                    .filter(path -> path.toString().endsWith(".java"))
+                    .filter(VirtualThreadPinningGuardTest::usesSynchronized)
+                    .map(Path::toString)
+                    .collect(Collectors.toList());
+        }
+        assertTrue(offenders.isEmpty(),
+                "use java.util.concurrent.locks instead of synchronized (virtual thread pinning): " + offenders);
+    }
+
+    private static boolean usesSynchronized(Path path) {
+        try {
+            return Files.readAllLines(path).stream()
+                    .map(String::trim)
+                    .filter(line -> !line.startsWith("*") && !line.startsWith("//") && !line.startsWith("/*"))
+                    .anyMatch(line -> SYNCHRONIZED.matcher(line).find());
+        } catch (IOException e) {
+            throw new IllegalStateException("cannot read " + path, e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package edu.xmu.gradpath.history.service;
+
+import edu.xmu.gradpath.PersistenceModeProfilesResolver;
+import edu.xmu.gradpath.application.domain.ApplicationStatus;
+import edu.xmu.gradpath.application.event.ApplicationChangeType;
+import edu.xmu.gradpath.application.service.ApplicationService;
+import edu.xmu.gradpath.common.exception.BizException;
+import edu.xmu.gradpath.history.controller.dto.ApplicationHistoryEventView;
+import edu.xmu.gradpath.history.controller.dto.ApplicationHistoryView;
+import edu.xmu.gradpath.history.domain.HistoryEntityType;
+import edu.xmu.gradpath.material.domain.Material;
+import edu.xmu.gradpath.material.domain.ScoreMode;
+import edu.xmu.gradpath.material.service.MaterialService;
+import edu.xmu.gradpath.review.domain.ReviewDecision;
+import edu.xmu.gradpath.review.service.ReviewService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Application 历史记录与时间点重建测试
+ * 说明：
+ * - 快照间隔设为 3，重建同时覆盖“快照 + 事件尾部”与“仅事件尾部”两种路径
+ * - 每次写入之间间隔若干毫秒，保证各时间点落在不同的事务提交之间
+ */
+@SpringBootTest(properties = {
+        "gradpath.history.snapshot-interval=3",
+        "gradpath.outbox.enabled=false"
+})
+@ActiveProfiles(resolver = PersistenceModeProfilesResolver.class)
+class ApplicationHistoryServiceTest {
+
+    private static final AtomicLong USER_IDS = new AtomicLong(System.currentTimeMillis() * 1000 + 700_000);
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private MaterialService materialService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ApplicationHistoryService historyService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void reconstructsOverwrittenStateAtEachPointInTime() throws InterruptedException {
+        LocalDateTime beforeCreation = LocalDateTime.now();
+        Thread.sleep(5);
+        Long userId = USER_IDS.incrementAndGet();
+        Long applicationId = applicationService.createDraft(userId);
+        Material material = materialService.createMaterial(applicationId, "论文", "初稿", "path/to/v1.pdf", new BigDecimal("8"), ScoreMode.DECLARED);
+        LocalDateTime afterCreate = pause();
+
+        materialService.updateMaterialContent(applicationId, material.getId(), "终稿", "path/to/v2.pdf");
+        LocalDateTime afterUpdate = pause();
+
+        applicationService.submit(userId, applicationId);
+        LocalDateTime afterSubmit = pause();
+
+        ApplicationHistoryView created = historyService.getStateAt(applicationId, afterCreate);
+        assertEquals(ApplicationStatus.DRAFT, created.getApplication().getStatus());
+        assertEquals("初稿", created.getMaterials().get(0).getContent());
+        assertEquals(1, created.getMaterials().get(0).getVersion());
+        assertEquals(new BigDecimal("8.00"), created.getMaterials().get(0).getDeclaredScore());
+
+        ApplicationHistoryView updated = historyService.getStateAt(applicationId, afterUpdate);
+        assertEquals(ApplicationStatus.DRAFT, updated.getApplication().getStatus());
+        assertEquals("终稿", updated.getMaterials().get(0).getContent());
+        assertEquals("path/to/v2.pdf", updated.getMaterials().get(0).getAttachmentRef());
+        assertEquals(2, updated.getMaterials().get(0).getVersion());
+        assertEquals(2, updated.getReviewAggregations().get(0).getMaterialVersion());
+
+        ApplicationHistoryView submitted = historyService.getStateAt(applicationId, afterSubmit);
+        assertEquals(ApplicationStatus.SUBMITTED, submitted.getApplication().getStatus());
+        assertEquals("终稿", submitted.getMaterials().get(0).getContent());
+        assertTrue(submitted.getReplayedEvents() < 3);
+
+        assertThrows(BizException.class, () -> historyService.getStateAt(applicationId, beforeCreation));
+    }
+
+    @Test
+    void eventsRecordOnlyChangedEntities() {
+        Long userId = USER_IDS.incrementAndGet();
+        Long applicationId = applicationService.createDraft(userId);
+        materialService.createMaterial(applicationId, "竞赛", "省级一等奖", "path/to/award.pdf", new BigDecimal("5.00"), ScoreMode.DECLARED);
+        applicationService.submit(userId, applicationId);
+
+        List<ApplicationHistoryEventView> events = historyService.getEvents(applicationId, null, null);
+        assertEquals(HistoryEntityType.APPLICATION, events.get(0).getEntityType());
+        assertEquals(ApplicationChangeType.CREATED, events.get(0).getCause());
+
+        ApplicationHistoryEventView last = events.get(events.size() - 1);
+        assertEquals(ApplicationChangeType.STATUS_CHANGED, last.getCause());
+        assertEquals(HistoryEntityType.APPLICATION, last.getEntityType());
+        assertEquals("SUBMITTED", last.getPayload().path("status").asText());
+        // 创建草稿 1 条；新增材料 2 条（Material、审核聚合状态）；提交 1 条（Application）
+        assertEquals(4, events.size());
+    }
+
+    @Test
+    void concurrentReviewersKeepEachOthersChangesInSnapshots() throws Exception {
+        Long userId = USER_IDS.incrementAndGet();
+        Long applicationId = applicationService.createDraft(userId);
+        Material paper = materialService.createMaterial(applicationId, "论文", "期刊论文", "path/to/journal.pdf", new BigDecimal("9.00"), ScoreMode.DECLARED);
+        Material certificate = materialService.createMaterial(applicationId, "资格", "英语四级", "path/to/cet4.pdf", BigDecimal.ZERO, ScoreMode.NONE);
+        applicationService.submit(userId, applicationId);
+
+        // 第一位审核员的事务写完后暂不提交，第二位审核员审核另一份材料
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch firstReviewed = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> transaction.executeWithoutResult(status -> {
+                reviewService.createReviewRecord(paper.getId(), 3001L, ReviewDecision.PASS, null, null);
+                firstReviewed.countDown();
+                try {
+                    releaseFirst.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(firstReviewed.await(10, TimeUnit.SECONDS));
+            Future<?> second = executor.submit(() ->
+                    reviewService.createReviewRecord(certificate.getId(), 3002L, ReviewDecision.PASS, null, null));
+            assertThrows(TimeoutException.class, () -> second.get(300, TimeUnit.MILLISECONDS));
+            releaseFirst.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+        } finally {
+            releaseFirst.countDown();
+            executor.shutdownNow();
+        }
+        reviewService.createReviewRecord(certificate.getId(), 3003L, ReviewDecision.PASS, null, null);
+
+        // 之后的时间点由快照重建，两位审核员的变更都在
+        ApplicationHistoryView now = historyService.getStateAt(applicationId, pause());
+        Map<Long, Integer> passCounts = new HashMap<>();
+        for (ApplicationHistoryView.ReviewAggregationRecord aggregation : now.getReviewAggregations()) {
+            passCounts.put(aggregation.getMaterialId(), aggregation.getPassCount());
+        }
+        assertEquals(Map.of(paper.getId(), 1, certificate.getId(), 2), passCounts);
+    }
+
+    private static LocalDateTime pause() throws InterruptedException {
+        Thread.sleep(5);
+        LocalDateTime now = LocalDateTime.now();
+        Thread.sleep(5);
+        return now;
+    }
+}
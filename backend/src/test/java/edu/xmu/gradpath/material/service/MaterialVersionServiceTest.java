@@ -0,0 +1,105 @@
+package edu.xmu.gradpath.material.service;
+
+import edu.xmu.gradpath.PersistenceModeProfilesResolver;
+import edu.xmu.gradpath.application.service.ApplicationService;
+import edu.xmu.gradpath.material.controller.dto.MaterialVersionDiff;
+import edu.xmu.gradpath.material.controller.dto.MaterialVersionView;
+import edu.xmu.gradpath.material.domain.Material;
+import edu.xmu.gradpath.material.domain.ScoreMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Material 版本历史测试
+ * 说明：
+ * - 快照间隔设为 3，读取同时覆盖快照行、链中增量行与跨快照的版本差异
+ */
+@SpringBootTest(properties = {
+        "gradpath.material-version.snapshot-interval=3",
+        "gradpath.outbox.enabled=false"
+})
+@ActiveProfiles(resolver = PersistenceModeProfilesResolver.class)
+class MaterialVersionServiceTest {
+
+    private static final AtomicLong USER_IDS = new AtomicLong(System.currentTimeMillis() * 1000 + 800_000);
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private MaterialService materialService;
+
+    @Autowired
+    private MaterialVersionService materialVersionService;
+
+    @Test
+    void everyOverwrittenVersionIsStoredAsDeltaAndReadable() {
+        Long applicationId = applicationService.createDraft(USER_IDS.incrementAndGet());
+        List<String> contents = new ArrayList<>();
+        StringBuilder document = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            document.append("第 ").append(i).append(" 段：研究方法与实验结果说明 😀 line-").append(i * 7919 % 1000).append('\n');
+        }
+        contents.add(document.toString());
+        Material material = materialService.createMaterial(applicationId, "论文", contents.get(0), null, new BigDecimal("6"), ScoreMode.DECLARED);
+
+        for (int v = 2; v <= 6; v++) {
+            String previous = contents.get(contents.size() - 1);
+            int at = previous.indexOf("第 " + (v * 30) + " 段");
+            contents.add(previous.substring(0, at) + "修订 " + v + " 新增一行\n" + previous.substring(at).replaceFirst("line-" + v, "LINE-" + v));
+            materialService.updateMaterialContent(applicationId, material.getId(), contents.get(contents.size() - 1), "path/v" + v + ".pdf");
+        }
+
+        List<MaterialVersionView> versions = materialVersionService.getVersions(applicationId, material.getId());
+        assertEquals(6, versions.size());
+        assertTrue(versions.get(0).isSnapshot());
+        assertFalse(versions.get(1).isSnapshot());
+        assertTrue(versions.get(3).isSnapshot());
+        for (MaterialVersionView version : versions) {
+            if (!version.isSnapshot()) {
+                // 增量只与编辑量相关，远小于完整内容的快照
+                assertTrue(version.getStoredBytes() * 5 < versions.get(0).getStoredBytes(),
+                        "delta of version " + version.getVersion() + " is " + version.getStoredBytes() + " bytes");
+            }
+        }
+        for (int v = 1; v <= 6; v++) {
+            MaterialVersionView view = materialVersionService.getVersion(applicationId, material.getId(), v);
+            assertEquals(contents.get(v - 1), view.getContent());
+            assertEquals(v == 1 ? null : "path/v" + v + ".pdf", view.getAttachmentRef());
+        }
+    }
+
+    @Test
+    void diffReportsChangedLinesBetweenVersions() {
+        Long applicationId = applicationService.createDraft(USER_IDS.incrementAndGet());
+        Material material = materialService.createMaterial(applicationId, "竞赛", "赛事：省赛\n名次：二等奖\n年份：2025\n", "a.pdf", new BigDecimal("3"), ScoreMode.DECLARED);
+        materialService.updateMaterialContent(applicationId, material.getId(), "赛事：省赛\n名次：一等奖\n年份：2025\n", "a.pdf");
+        materialService.updateMaterialContent(applicationId, material.getId(), null, "b.pdf");
+
+        MaterialVersionDiff diff = materialVersionService.diff(applicationId, material.getId(), 1, 2);
+        assertTrue(diff.isContentChanged());
+        assertEquals(4, diff.getSegments().size());
+        assertEquals(MaterialVersionDiff.SegmentType.EQUAL, diff.getSegments().get(0).getType());
+        assertEquals("名次：二等奖\n", diff.getSegments().get(1).getText());
+        assertEquals(MaterialVersionDiff.SegmentType.DELETE, diff.getSegments().get(1).getType());
+        assertEquals("名次：一等奖\n", diff.getSegments().get(2).getText());
+        assertEquals(MaterialVersionDiff.SegmentType.INSERT, diff.getSegments().get(2).getType());
+
+        MaterialVersionDiff cleared = materialVersionService.diff(applicationId, material.getId(), 2, 3);
+        assertEquals("b.pdf", cleared.getToAttachmentRef());
+        assertEquals(1, cleared.getSegments().size());
+        assertEquals(MaterialVersionDiff.SegmentType.DELETE, cleared.getSegments().get(0).getType());
+        assertEquals(null, materialVersionService.getVersion(applicationId, material.getId(), 3).getContent());
+    }
+}
@@ -0,0 +1,59 @@
+package edu.xmu.gradpath.outbox.service;
+
+import edu.xmu.gradpath.PersistenceModeProfilesResolver;
+import edu.xmu.gradpath.application.domain.ApplicationStatus;
+import edu.xmu.gradpath.application.service.ApplicationService;
+import edu.xmu.gradpath.material.domain.Material;
+import edu.xmu.gradpath.material.domain.ScoreMode;
+import edu.xmu.gradpath.material.service.MaterialService;
+import edu.xmu.gradpath.outbox.repository.OutboxEventRepository;
+import edu.xmu.gradpath.review.domain.ReviewDecision;
+import edu.xmu.gradpath.review.service.ReviewService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 发件箱关闭时的同步评估测试
+ * 说明：
+ * - 不启动消费端时，审核结果在审核事务内评估完成，且不追加发件箱事件
+ */
+@SpringBootTest(properties = "gradpath.outbox.enabled=false")
+@ActiveProfiles(resolver = PersistenceModeProfilesResolver.class)
+class ApplicationEvaluationOutboxTest {
+
+    private static final AtomicLong USER_IDS = new AtomicLong(System.currentTimeMillis() * 1000 + 900_000);
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private MaterialService materialService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void disabledOutboxEvaluatesReviewsSynchronously() {
+        Long userId = USER_IDS.incrementAndGet();
+        Long applicationId = applicationService.createDraft(userId);
+        Material certificate = materialService.createMaterial(applicationId, "资格", "英语六级", "path/to/cet6.pdf", BigDecimal.ZERO, ScoreMode.NONE);
+        applicationService.submit(userId, applicationId);
+        long pendingBefore = outboxEventRepository.count();
+
+        reviewService.createReviewRecord(certificate.getId(), 2001L, ReviewDecision.PASS, null, null);
+        reviewService.createReviewRecord(certificate.getId(), 2002L, ReviewDecision.PASS, null, null);
+
+        assertEquals(ApplicationStatus.APPROVED, applicationService.getById(applicationId).getStatus());
+        assertEquals(pendingBefore, outboxEventRepository.count());
+    }
+}
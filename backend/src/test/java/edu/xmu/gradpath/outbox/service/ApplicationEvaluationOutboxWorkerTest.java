@@ -0,0 +1,118 @@
+package edu.xmu.gradpath.outbox.service;
+
+import edu.xmu.gradpath.application.domain.Application;
+import edu.xmu.gradpath.application.event.ApplicationChangeType;
+import edu.xmu.gradpath.application.repository.InMemoryApplicationRepository;
+import edu.xmu.gradpath.application.service.ApplicationService;
+import edu.xmu.gradpath.common.persistence.InMemoryTransactionManager;
+import edu.xmu.gradpath.outbox.domain.OutboxDeadLetter;
+import edu.xmu.gradpath.outbox.domain.OutboxEvent;
+import edu.xmu.gradpath.outbox.repository.InMemoryOutboxDeadLetterRepository;
+import edu.xmu.gradpath.outbox.repository.InMemoryOutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 发件箱消费端的失败重试、死信与孤立事件测试
+ * 说明：
+ * - 使用内存仓库与 InMemoryTransactionManager，ApplicationService 用 Mockito 代替
+ */
+class ApplicationEvaluationOutboxWorkerTest {
+
+    private final InMemoryOutboxEventRepository outboxEventRepository = new InMemoryOutboxEventRepository();
+    private final InMemoryOutboxDeadLetterRepository deadLetterRepository = new InMemoryOutboxDeadLetterRepository();
+    private final InMemoryApplicationRepository applicationRepository = new InMemoryApplicationRepository();
+    private final ApplicationService applicationService = mock(ApplicationService.class);
+
+    @Test
+    void repeatedFailuresBackOffAndEndInDeadLetter() {
+        Long failing = applicationRepository.save(Application.createDraft(1L)).getId();
+        Long healthy = applicationRepository.save(Application.createDraft(2L)).getId();
+        doThrow(new IllegalStateException("boom")).when(applicationService).evaluateAfterReview(failing);
+        outboxEventRepository.save(new OutboxEvent(failing, ApplicationChangeType.REVIEW_RECORDED));
+        outboxEventRepository.save(new OutboxEvent(failing, ApplicationChangeType.SCORE_RECORDED));
+        outboxEventRepository.save(new OutboxEvent(healthy, ApplicationChangeType.REVIEW_RECORDED));
+        ApplicationEvaluationOutboxWorker worker = worker(3, Duration.ZERO);
+
+        worker.poll();
+        verify(applicationService).evaluateAfterReview(healthy);
+        assertEquals(List.of(1, 1), attemptsOf(failing));
+
+        worker.poll();
+        assertEquals(List.of(2, 2), attemptsOf(failing));
+
+        worker.poll();
+        verify(applicationService, times(3)).evaluateAfterReview(failing);
+        assertTrue(outboxEventRepository.findAll().isEmpty());
+        List<OutboxDeadLetter> deadLetters = deadLetterRepository.findByApplicationIdOrderByIdAsc(failing);
+        assertEquals(2, deadLetters.size());
+        assertEquals(3, deadLetters.get(0).getAttempts());
+        assertTrue(deadLetters.get(0).getLastError().contains("boom"));
+
+        worker.poll();
+        verify(applicationService, times(3)).evaluateAfterReview(failing);
+    }
+
+    @Test
+    void failedApplicationIsNotPolledDuringBackoff() {
+        Long failing = applicationRepository.save(Application.createDraft(1L)).getId();
+        doThrow(new IllegalStateException("boom")).when(applicationService).evaluateAfterReview(failing);
+        outboxEventRepository.save(new OutboxEvent(failing, ApplicationChangeType.REVIEW_RECORDED));
+        ApplicationEvaluationOutboxWorker worker = worker(10, Duration.ofHours(1));
+
+        worker.poll();
+        worker.poll();
+
+        verify(applicationService, times(1)).evaluateAfterReview(failing);
+        LocalDateTime now = LocalDateTime.now();
+        assertTrue(outboxEventRepository.findDueApplicationIds(now, now, Limit.of(10)).isEmpty());
+        assertEquals(Duration.ofHours(4), worker.backoff(3));
+    }
+
+    @Test
+    void eventsOfMissingApplicationsAreDiscarded() {
+        outboxEventRepository.save(new OutboxEvent(999L, ApplicationChangeType.REVIEW_RECORDED));
+
+        worker(3, Duration.ZERO).poll();
+
+        verify(applicationService, never()).evaluateAfterReview(anyLong());
+        assertTrue(outboxEventRepository.findAll().isEmpty());
+        assertTrue(deadLetterRepository.findAll().isEmpty());
+    }
+
+    private ApplicationEvaluationOutboxWorker worker(int maxAttempts, Duration initialBackoff) {
+        return new ApplicationEvaluationOutboxWorker(
+                outboxEventRepository,
+                deadLetterRepository,
+                applicationRepository,
+                applicationService,
+                new InMemoryTransactionManager(),
+                new SimpleMeterRegistry(),
+                Duration.ZERO,
+                100,
+                maxAttempts,
+                initialBackoff,
+                Duration.ofDays(1)
+        );
+    }
+
+    private List<Integer> attemptsOf(Long applicationId) {
+        return outboxEventRepository.findByApplicationIdOrderByIdAsc(applicationId).stream()
+                .map(OutboxEvent::getAttempts)
+                .toList();
+    }
+}
@@ -0,0 +1,37 @@
+package edu.xmu.gradpath.ranking.service;
+
+import edu.xmu.gradpath.PersistenceModeProfilesResolver;
+import edu.xmu.gradpath.application.service.ApplicationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 排名增量更新测试
+ */
+@SpringBootTest
+@ActiveProfiles(resolver = PersistenceModeProfilesResolver.class)
+class RankingServiceTest {
+
+    private static final AtomicLong USER_IDS = new AtomicLong(System.currentTimeMillis() * 1000 + 800_000);
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Test
+    void newDraftEntersRankingWithoutRebuild() {
+        int before = rankingService.getRanking(0, 1).getTotal();
+
+        applicationService.createDraft(USER_IDS.incrementAndGet());
+
+        assertEquals(before + 1, rankingService.getRanking(0, 1).getTotal());
+    }
+}
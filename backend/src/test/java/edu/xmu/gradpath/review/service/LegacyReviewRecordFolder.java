@@ -0,0 +1,61 @@
+package edu.xmu.gradpath.review.service;
+
+import edu.xmu.gradpath.common.exception.BizException;
+import edu.xmu.gradpath.review.domain.MaterialReviewAggregation;
+import edu.xmu.gradpath.review.domain.ReviewRecord;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * 审核日志折叠的原始实现（多次 stream 遍历），保留用于等价性测试与基准对比
+ */
+final class LegacyReviewRecordFolder {
+
+    private LegacyReviewRecordFolder() {
+    }
+
+    static MaterialReviewAggregation fold(Long materialId,
+                                          Integer materialVersion,
+                                          List<ReviewRecord> reviewRecords,
+                                          LongPredicate isArbiter) {
+        // 过滤出 materialVersion == material.version 的记录
+        List<ReviewRecord> filteredRecords = reviewRecords.stream()
+                .filter(record -> Objects.equals(record.getMaterialVersion(), materialVersion))
+                .toList();
+
+        // 对同一审核员在同一 MaterialVersion 下的多条 ReviewRecord 做折叠（last-write-wins）
+        List<ReviewRecord> foldedRecords = filteredRecords.stream()
+                .filter(record -> {
+                    if (record.getReviewerId() == null) {
+                        throw new BizException(400, "reviewerId missing in review record");
+                    }
+                    return true;
+                })
+                .collect(Collectors.groupingBy(ReviewRecord::getReviewerId))
+                .values().stream()
+                .flatMap(group -> group.stream()
+                        .max(Comparator.comparing(ReviewRecord::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder())))
+                        .stream())
+                .toList();
+
+        MaterialReviewAggregation state = MaterialReviewAggregation.empty(materialId, materialVersion);
+        for (ReviewRecord record : foldedRecords) {
+            state.foldDecision(null, record.getDecision());
+        }
+
+        // 仲裁：取仲裁审核员折叠结果中 createdAt 最新的一条
+        foldedRecords.stream()
+                .filter(record -> isArbiter.test(record.getReviewerId()))
+                .max(Comparator.comparing(
+                        ReviewRecord::getCreatedAt,
+                        Comparator.nullsLast(Comparator.naturalOrder())
+                ))
+                .ifPresent(record -> state.recordArbiterDecision(record.getDecision(), record.getCreatedAt()));
+
+        return state;
+    }
+}
@@ -0,0 +1,102 @@
+package edu.xmu.gradpath.review.service;
+
+import edu.xmu.gradpath.common.exception.BizException;
+import edu.xmu.gradpath.review.domain.ConflictResolution;
+import edu.xmu.gradpath.review.domain.MaterialReviewAggregation;
+import edu.xmu.gradpath.review.domain.ReviewAggregationResult;
+import edu.xmu.gradpath.review.domain.ReviewDecision;
+import edu.xmu.gradpath.review.event.ReviewAggregationPolicyChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ReviewAggregationPolicy 规则计算与 ReviewAggregationPolicyRegistry 按类别解析 / 整体替换测试
+ */
+class ReviewAggregationPolicyTest {
+
+    @Test
+    void defaultPolicyKeepsBuiltInRules() {
+        ReviewAggregationPolicy policy = ReviewAggregationPolicy.defaults();
+
+        assertEquals(ReviewAggregationResult.INCOMPLETE, policy.resolve(state(0, 0, null)));
+        assertEquals(ReviewAggregationResult.INCOMPLETE, policy.resolve(state(1, 0, null)));
+        assertEquals(ReviewAggregationResult.ALL_PASS, policy.resolve(state(2, 0, null)));
+        assertEquals(ReviewAggregationResult.HAS_REJECT, policy.resolve(state(0, 2, null)));
+        assertEquals(ReviewAggregationResult.CONFLICT, policy.resolve(state(2, 1, null)));
+        assertEquals(ReviewAggregationResult.ALL_PASS, policy.resolve(state(1, 2, ReviewDecision.PASS)));
+        assertEquals(ReviewAggregationResult.HAS_REJECT, policy.resolve(state(1, 0, ReviewDecision.REJECT)));
+        assertTrue(policy.isArbiter(1L));
+        assertFalse(policy.isArbiter(2L));
+    }
+
+    @Test
+    void conflictResolutionAppliesOnlyWithoutArbiter() {
+        ReviewAggregationPolicy rejectWins = ReviewAggregationPolicy.of(2, List.of(), ConflictResolution.REJECT_WINS);
+        ReviewAggregationPolicy majority = ReviewAggregationPolicy.of(3, List.of(9L, 7L, 9L), ConflictResolution.MAJORITY);
+
+        assertEquals(ReviewAggregationResult.HAS_REJECT, rejectWins.resolve(state(3, 1, null)));
+        assertEquals(ReviewAggregationResult.INCOMPLETE, majority.resolve(state(1, 1, null)));
+        assertEquals(ReviewAggregationResult.ALL_PASS, majority.resolve(state(2, 1, null)));
+        assertEquals(ReviewAggregationResult.HAS_REJECT, majority.resolve(state(1, 2, null)));
+        assertEquals(ReviewAggregationResult.CONFLICT, majority.resolve(state(2, 2, null)));
+        assertEquals(ReviewAggregationResult.ALL_PASS, majority.resolve(state(1, 3, ReviewDecision.PASS)));
+        assertEquals(List.of(7L, 9L), majority.getArbiterReviewerIds());
+        assertFalse(rejectWins.isArbiter(1L));
+    }
+
+    @Test
+    void categoryRulesInheritDefaultsAndAreReplacedAtomically() {
+        List<Object> events = new ArrayList<>();
+        ReviewPolicyProperties properties = new ReviewPolicyProperties();
+        properties.getCategories().put("论文", rule(3, null, null));
+        ReviewAggregationPolicyRegistry registry = new ReviewAggregationPolicyRegistry(properties, events::add);
+
+        ReviewAggregationPolicy paper = registry.policyFor("论文");
+        assertEquals(3, paper.getMinReviewers());
+        assertTrue(paper.isArbiter(1L));
+        assertEquals(ConflictResolution.ARBITER, paper.getConflictResolution());
+        assertEquals(2, registry.policyFor("竞赛").getMinReviewers());
+        assertEquals(2, registry.policyFor(null).getMinReviewers());
+        assertEquals(1L, registry.getGeneration());
+
+        ReviewPolicyProperties replacement = new ReviewPolicyProperties();
+        replacement.setDefaults(rule(null, List.of(5L), ConflictResolution.MAJORITY));
+        assertEquals(2L, registry.update(replacement));
+        assertEquals(2, registry.policyFor("论文").getMinReviewers());
+        assertTrue(registry.policyFor("论文").isArbiter(5L));
+        assertFalse(registry.policyFor("论文").isArbiter(1L));
+        assertEquals(1, events.size());
+        assertEquals(2L, ((ReviewAggregationPolicyChangedEvent) events.get(0)).getGeneration());
+        assertEquals(Set.of(1L, 5L), ((ReviewAggregationPolicyChangedEvent) events.get(0)).getChangedArbiterReviewerIds());
+
+        ReviewPolicyProperties invalid = new ReviewPolicyProperties();
+        invalid.getCategories().put("竞赛", rule(0, null, null));
+        assertThrows(BizException.class, () -> registry.update(invalid));
+        assertEquals(2L, registry.getGeneration());
+        assertTrue(registry.policyFor("竞赛").isArbiter(5L));
+        assertEquals(1, events.size());
+    }
+
+    private static ReviewPolicyProperties.Rule rule(Integer minReviewers, List<Long> arbiterReviewerIds, ConflictResolution conflictResolution) {
+        ReviewPolicyProperties.Rule rule = new ReviewPolicyProperties.Rule();
+        rule.setMinReviewers(minReviewers);
+        rule.setArbiterReviewerIds(arbiterReviewerIds);
+        rule.setConflictResolution(conflictResolution);
+        return rule;
+    }
+
+    private static MaterialReviewAggregation state(int passCount, int rejectCount, ReviewDecision arbiterDecision) {
+        return MaterialReviewAggregation.folded(
+                1L, 1, passCount + rejectCount, passCount, rejectCount,
+                arbiterDecision, arbiterDecision == null ? null : LocalDateTime.of(2026, 1, 1, 9, 0));
+    }
+}
@@ -0,0 +1,85 @@
+package edu.xmu.gradpath.review.service;
+
+import edu.xmu.gradpath.common.exception.BizException;
+import edu.xmu.gradpath.review.domain.MaterialReviewAggregation;
+import edu.xmu.gradpath.review.domain.ReviewDecision;
+import edu.xmu.gradpath.review.domain.ReviewRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ReviewRecordFolder 与原始实现的等价性测试
+ * 以固定种子生成随机审核日志（多版本、重复审核员、相同 / 缺失 createdAt、仲裁者、缺失 reviewerId），
+ * 逐项比较两种实现的折叠结果或异常
+ */
+class ReviewRecordFolderTest {
+
+    private static final int CASES = 5000;
+    private static final LongPredicate IS_ARBITER = reviewerId -> reviewerId == 1L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Test
+    void singlePassFoldMatchesLegacyImplementation() {
+        for (long seed = 0; seed < CASES; seed++) {
+            Random random = new Random(seed);
+            Integer version = 1 + random.nextInt(3);
+            List<ReviewRecord> records = randomRecords(random);
+
+            String expected = describe(() -> LegacyReviewRecordFolder.fold(42L, version, records, IS_ARBITER));
+            String actual = describe(() -> ReviewRecordFolder.fold(42L, version, records, IS_ARBITER));
+            assertEquals(expected, actual, "seed " + seed);
+        }
+    }
+
+    @Test
+    void emptyLogFoldsToEmptyState() {
+        MaterialReviewAggregation state = ReviewRecordFolder.fold(1L, 1, new ArrayList<>(), IS_ARBITER);
+        assertEquals(0, state.getReviewerCount());
+        assertEquals(null, state.getArbiterDecision());
+    }
+
+    static List<ReviewRecord> randomRecords(Random random) {
+        int count = random.nextInt(4) == 0 ? random.nextInt(200) : random.nextInt(12);
+        boolean allowNullReviewer = random.nextInt(20) == 0;
+        List<ReviewRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Long reviewerId;
+            int pick = random.nextInt(10);
+            if (allowNullReviewer && pick == 0) {
+                reviewerId = null;
+            } else if (pick < 7) {
+                reviewerId = 1L + random.nextInt(6);
+            } else {
+                reviewerId = 1000L + random.nextInt(100);
+            }
+            ReviewDecision decision = random.nextBoolean() ? ReviewDecision.PASS : ReviewDecision.REJECT;
+            ReviewRecord record = new ReviewRecord(7L, 1 + random.nextInt(3), reviewerId, decision, null);
+            LocalDateTime createdAt = random.nextInt(15) == 0 ? null : BASE_TIME.plusMinutes(random.nextInt(8));
+            ReflectionTestUtils.setField(record, "id", (long) i + 1);
+            ReflectionTestUtils.setField(record, "createdAt", createdAt);
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static String describe(java.util.function.Supplier<MaterialReviewAggregation> fold) {
+        try {
+            MaterialReviewAggregation state = fold.get();
+            return "reviewers=" + state.getReviewerCount()
+                    + ", pass=" + state.getPassCount()
+                    + ", reject=" + state.getRejectCount()
+                    + ", arbiter=" + state.getArbiterDecision()
+                    + "@" + state.getArbiterDecidedAt();
+        } catch (BizException e) {
+            return "BizException(" + e.getCode() + ", " + e.getMessage() + ")";
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package edu.xmu.gradpath.scoring.service;
+
+import edu.xmu.gradpath.common.exception.BizException;
+import edu.xmu.gradpath.scoring.event.ScoringRulesChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * ScoringRuleSet 封顶 / 加权计算与 ScoringEngine 规则替换测试
+ * 随机用例与直接用 BigDecimal 按定义计算的结果逐项比较
+ */
+class ScoringRuleSetTest {
+
+    private static final String[] CATEGORIES = {"竞赛", "论文", "科研", "志愿服务", null};
+
+    @Test
+    void defaultRulesKeepPlainSum() {
+        ScoringEngine engine = new ScoringEngine(new ScoringRuleProperties(), event -> {
+        });
+        CategoryScores scores = engine.newScores();
+        scores.add("竞赛", new BigDecimal("3.25"));
+        scores.add("论文", new BigDecimal("6.75"));
+        scores.add(null, new BigDecimal("1.00"));
+
+        assertEquals(new BigDecimal("11.00"), scores.getTotal());
+        assertEquals(new BigDecimal("11.00"), engine.getRules().weightedTotalScore(scores));
+        assertEquals(3, engine.getRules().breakdown(scores).size());
+    }
+
+    @Test
+    void capsAndWeightsMatchBigDecimalDefinition() {
+        ScoringRuleProperties properties = new ScoringRuleProperties();
+        properties.setDefaults(rule(null, "0.5"));
+        properties.getCategories().put("竞赛", rule("20", "1.2"));
+        properties.getCategories().put("论文", rule("15.50", null));
+        properties.getCategories().put("科研", rule(null, "1.3333"));
+        ScoringEngine engine = new ScoringEngine(properties, event -> {
+        });
+        Map<String, BigDecimal[]> rules = new HashMap<>();
+        rules.put("竞赛", new BigDecimal[]{new BigDecimal("20"), new BigDecimal("1.2")});
+        rules.put("论文", new BigDecimal[]{new BigDecimal("15.50"), new BigDecimal("0.5")});
+        rules.put("科研", new BigDecimal[]{null, new BigDecimal("1.3333")});
+
+        Random random = new Random(20260101L);
+        for (int round = 0; round < 2000; round++) {
+            CategoryScores scores = engine.newScores();
+            Map<String, BigDecimal> sums = new HashMap<>();
+            int count = random.nextInt(12);
+            for (int i = 0; i < count; i++) {
+                String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+                BigDecimal score = BigDecimal.valueOf(random.nextInt(2000), 2);
+                scores.add(category, score);
+                sums.merge(String.valueOf(category), score, BigDecimal::add);
+            }
+
+            BigDecimal expected = BigDecimal.ZERO;
+            for (Map.Entry<String, BigDecimal> sum : sums.entrySet()) {
+                BigDecimal[] rule = rules.getOrDefault(sum.getKey(), new BigDecimal[]{null, new BigDecimal("0.5")});
+                BigDecimal capped = rule[0] == null ? sum.getValue() : sum.getValue().min(rule[0]);
+                expected = expected.add(capped.multiply(rule[1]));
+            }
+            assertEquals(expected.setScale(2, RoundingMode.HALF_UP), engine.getRules().weightedTotalScore(scores), "round " + round);
+        }
+    }
+
+    @Test
+    void breakdownReportsCappedAndWeightedScore() {
+        ScoringRuleProperties properties = new ScoringRuleProperties();
+        properties.getCategories().put("竞赛", rule("20", "1.5"));
+        ScoringEngine engine = new ScoringEngine(properties, event -> {
+        });
+        CategoryScores scores = engine.newScores();
+        scores.add("竞赛", new BigDecimal("18"));
+        scores.add("竞赛", new BigDecimal("7.5"));
+
+        List<CategoryScoreResult> breakdown = engine.getRules().breakdown(scores);
+        assertEquals(1, breakdown.size());
+        CategoryScoreResult result = breakdown.get(0);
+        assertEquals("竞赛", result.category());
+        assertEquals(new BigDecimal("25.50"), result.approvedScore());
+        assertEquals(new BigDecimal("20.00"), result.cappedScore());
+        assertEquals(new BigDecimal("1.5000"), result.weight());
+        assertEquals(new BigDecimal("30.00"), result.weightedScore());
+        assertNull(engine.getRules().getDefaultRule().cap());
+    }
+
+    @Test
+    void invalidReplacementKeepsCurrentRules() {
+        List<Object> events = new ArrayList<>();
+        ScoringEngine engine = new ScoringEngine(new ScoringRuleProperties(), events::add);
+
+        ScoringRuleProperties replacement = new ScoringRuleProperties();
+        replacement.getCategories().put("论文", rule("10", "2"));
+        assertEquals(2L, engine.update(replacement).getGeneration());
+        assertEquals(2L, ((ScoringRulesChangedEvent) events.get(0)).getGeneration());
+
+        ScoringRuleProperties invalid = new ScoringRuleProperties();
+        invalid.getCategories().put("论文", rule("10.001", null));
+        assertThrows(BizException.class, () -> engine.update(invalid));
+        ScoringRuleProperties negative = new ScoringRuleProperties();
+        negative.setDefaults(rule(null, "-1"));
+        assertThrows(BizException.class, () -> engine.update(negative));
+
+        assertEquals(2L, engine.getRules().getGeneration());
+        assertEquals(1, events.size());
+        CategoryScores scores = engine.newScores();
+        scores.add("论文", new BigDecimal("12"));
+        assertEquals(new BigDecimal("20.00"), engine.getRules().weightedTotalScore(scores));
+    }
+
+    private static ScoringRuleProperties.Rule rule(String cap, String weight) {
+        ScoringRuleProperties.Rule rule = new ScoringRuleProperties.Rule();
+        rule.setCap(cap == null ? null : new BigDecimal(cap));
+        rule.setWeight(weight == null ? null : new BigDecimal(weight));
+        return rule;
+    }
+}